@@ -0,0 +1,96 @@
+package org.cpswt;
+
+import edu.vanderbilt.vuisis.cpswt.hla.MessagingCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the "text" and "binary" messaging codecs on the values of a typical interaction
+ * (a few doubles, an int, a long, a boolean and a short string).
+ * <p/>
+ * If a codec decodes a value only to a String, the decode benchmark includes parsing the String to
+ * the parameter's type, as InteractionRoot/ObjectRoot must then do on receipt.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessagingCodecBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MessagingCodecBenchmark.class.getSimpleName())
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"text", "binary"})
+    public String codecName;
+
+    private MessagingCodec messagingCodec;
+
+    private final Object[] values = { 1234.5678, -0.001, 3.0e10, 42, 1L << 40, true, "SimLog message" };
+
+    private byte[][] encodedValues;
+
+    @Setup
+    public void setup() {
+        messagingCodec = MessagingCodec.get_messaging_codec(codecName);
+        encodedValues = new byte[values.length][];
+        for(int ix = 0 ; ix < values.length ; ++ix) {
+            encodedValues[ix] = messagingCodec.encode(values[ix]);
+        }
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) {
+        for(Object value: values) {
+            blackhole.consume(messagingCodec.encode(value));
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        for(int ix = 0 ; ix < values.length ; ++ix) {
+            byte[] bytes = encodedValues[ix];
+            Class<?> type = values[ix].getClass();
+            Object value = messagingCodec.decode(bytes, 0, bytes.length, type);
+            if (value instanceof String && type != String.class) {
+                value = parse((String)value, type);
+            }
+            blackhole.consume(value);
+        }
+    }
+
+    private static Object parse(String value, Class<?> type) {
+        if (type == Double.class) {
+            return Double.valueOf(value);
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Boolean.class) {
+            return Double.parseDouble(value) != 0;
+        }
+        return value;
+    }
+}
@@ -34,26 +34,46 @@ import java.util.Comparator;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot;
 
 public class InteractionRootComparator implements Comparator<InteractionRoot> {
-    public int compare(InteractionRoot interactionRoot1, InteractionRoot interactionRoot2) {
 
-        final int timeCompare = Double.compare(interactionRoot1.getTime(), interactionRoot2.getTime());
-        if (timeCompare != 0) {
-            return timeCompare;
-        }
-
-        if (
-                interactionRoot1.isInstanceHlaClassDerivedFromHlaClass(C2WInteractionRoot.get_hla_class_name()) &&
-                        interactionRoot2.isInstanceHlaClassDerivedFromHlaClass(C2WInteractionRoot.get_hla_class_name())
-        ) {
-            final int actualLogicalGenerationTimeCompare = Double.compare(
-                    (double)interactionRoot1.getParameter("actualLogicalGenerationTime"),
-                    (double)interactionRoot2.getParameter("actualLogicalGenerationTime")
+    private static final InteractionRoot.ClassAndPropertyName actualLogicalGenerationTimeKey =
+            new InteractionRoot.ClassAndPropertyName(
+                    C2WInteractionRoot.get_hla_class_name(), "actualLogicalGenerationTime"
             );
-            if (actualLogicalGenerationTimeCompare != 0) {
-                return actualLogicalGenerationTimeCompare;
-            }
-        }
 
-        return Integer.compare(interactionRoot1.getUniqueID(), interactionRoot2.getUniqueID());
+    private static final HlaClassDescriptor c2wInteractionRootDescriptor =
+            InteractionRoot.get_hla_class_descriptor(C2WInteractionRoot.get_hla_class_name());
+
+    private static double get_generation_time(InteractionRoot interactionRoot) {
+        return interactionRoot.isInstanceHlaClassDerivedFromHlaClass(c2wInteractionRootDescriptor) ?
+                interactionRoot.getDouble(actualLogicalGenerationTimeKey) : 0;
+    }
+
+    /**
+     * Sets the sort key of interactionRoot (see InteractionRoot.setSortKey).  Its generation time is the
+     * value of its "actualLogicalGenerationTime" parameter if it is a C2WInteractionRoot, and 0 otherwise.
+     *
+     * @param interactionRoot interaction whose sort key to set
+     * @param sequence order in which the queue received interactionRoot
+     */
+    public static void set_sort_key(InteractionRoot interactionRoot, long sequence) {
+        interactionRoot.setSortKey(get_generation_time(interactionRoot), sequence);
+    }
+
+    /**
+     * Sets the sort key of interactionRoot as for set_sort_key(interactionRoot, sequence), with the unique id
+     * of interactionRoot as the sequence.
+     *
+     * @param interactionRoot interaction whose sort key to set
+     */
+    public static void set_sort_key(InteractionRoot interactionRoot) {
+        interactionRoot.setSortKey(get_generation_time(interactionRoot));
+    }
+
+    // INTERACTIONS ARE NORMALLY GIVEN THEIR SORT KEYS WHEN THEY ARE QUEUED, BEFORE THEY ARE COMPARED
+    public int compare(InteractionRoot interactionRoot1, InteractionRoot interactionRoot2) {
+        if (!interactionRoot1.hasSortKey()) set_sort_key(interactionRoot1);
+        if (!interactionRoot2.hasSortKey()) set_sort_key(interactionRoot2);
+
+        return InteractionRoot.compare_sort_keys(interactionRoot1, interactionRoot2);
     }
 }
@@ -209,16 +209,22 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
         // IN InteractionRoot
         _allClassNamePropertyNameSetMap.put(get_hla_class_name(), allClassAndPropertyNameSet);
 
+        // THE INITIAL VALUES ARE ADDED TO _classAndPropertyNameInitialValueMap DEFINED IN InteractionRoot WITH ONE
+        // putAll, AS EACH WRITE TO THAT COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
+
         ClassAndPropertyName key;
 
         key = new ClassAndPropertyName(get_hla_class_name(), "actualLogicalGenerationTime");
-        _classAndPropertyNameInitialValueMap.put(key, (double)0);
+        classAndPropertyNameInitialValueMap.put(key, (double)0);
 
         key = new ClassAndPropertyName(get_hla_class_name(), "federateFilter");
-        _classAndPropertyNameInitialValueMap.put(key, "");
+        classAndPropertyNameInitialValueMap.put(key, "");
 
         key = new ClassAndPropertyName(get_hla_class_name(), "federateSequence");
-        _classAndPropertyNameInitialValueMap.put(key, "[]");
+        classAndPropertyNameInitialValueMap.put(key, "[]");
+
+        _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
 
         commonInit(get_hla_class_name());
 
@@ -433,14 +439,26 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
     //------------------------------
 
 
+    private static final ClassAndPropertyName _actualLogicalGenerationTime_key =
+      new ClassAndPropertyName(get_hla_class_name(), "actualLogicalGenerationTime");
+
     /**
      * Set the value of the "actualLogicalGenerationTime" parameter to "value" for this parameter.
      *
      * @param value the new value for the "actualLogicalGenerationTime" parameter
      */
+    public void set_actualLogicalGenerationTime(double value) {
+        setDouble(_actualLogicalGenerationTime_key, value);
+    }
+
+    /**
+     * Set the value of the "actualLogicalGenerationTime" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_actualLogicalGenerationTime(double) does not box it.
+     *
+     * @param value the new value for the "actualLogicalGenerationTime" parameter
+     */
     public void set_actualLogicalGenerationTime(Double value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "actualLogicalGenerationTime");
-        classAndPropertyNameValueMap.put(key, value);
+        set_actualLogicalGenerationTime(value.doubleValue());
     }
 
     /**
@@ -449,8 +467,7 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
      * @return the value of the "actualLogicalGenerationTime" parameter
      */
     public double get_actualLogicalGenerationTime() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "actualLogicalGenerationTime");
-        return (double)classAndPropertyNameValueMap.get(key);
+        return getDouble(_actualLogicalGenerationTime_key);
     }
 
 
@@ -650,7 +667,7 @@ public class C2WInteractionRoot extends edu.vanderbilt.vuisis.cpswt.hla.Interact
     public C2WInteractionRoot(C2WInteractionRoot messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
     }
 }
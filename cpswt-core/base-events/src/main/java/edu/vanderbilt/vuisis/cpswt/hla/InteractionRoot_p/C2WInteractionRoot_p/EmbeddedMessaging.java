@@ -31,6 +31,7 @@
 package edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
@@ -210,16 +211,22 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
         // IN InteractionRoot
         _allClassNamePropertyNameSetMap.put(get_hla_class_name(), allClassAndPropertyNameSet);
 
+        // THE INITIAL VALUES ARE ADDED TO _classAndPropertyNameInitialValueMap DEFINED IN InteractionRoot WITH ONE
+        // putAll, AS EACH WRITE TO THAT COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
+
         ClassAndPropertyName key;
 
         key = new ClassAndPropertyName(get_hla_class_name(), "command");
-        _classAndPropertyNameInitialValueMap.put(key, "");
+        classAndPropertyNameInitialValueMap.put(key, "");
 
         key = new ClassAndPropertyName(get_hla_class_name(), "hlaClassName");
-        _classAndPropertyNameInitialValueMap.put(key, "");
+        classAndPropertyNameInitialValueMap.put(key, "");
 
         key = new ClassAndPropertyName(get_hla_class_name(), "messagingJson");
-        _classAndPropertyNameInitialValueMap.put(key, "");
+        classAndPropertyNameInitialValueMap.put(key, "");
+
+        _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
 
         commonInit(get_hla_class_name());
 
@@ -528,7 +535,7 @@ public class EmbeddedMessaging extends edu.vanderbilt.vuisis.cpswt.hla.Interacti
     public EmbeddedMessaging(EmbeddedMessaging messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
     }
 }
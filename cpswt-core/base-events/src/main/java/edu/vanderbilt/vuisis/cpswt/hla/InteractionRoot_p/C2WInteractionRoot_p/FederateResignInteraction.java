@@ -31,6 +31,7 @@
 package edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
@@ -210,16 +211,22 @@ public class FederateResignInteraction extends edu.vanderbilt.vuisis.cpswt.hla.I
         // IN InteractionRoot
         _allClassNamePropertyNameSetMap.put(get_hla_class_name(), allClassAndPropertyNameSet);
 
+        // THE INITIAL VALUES ARE ADDED TO _classAndPropertyNameInitialValueMap DEFINED IN InteractionRoot WITH ONE
+        // putAll, AS EACH WRITE TO THAT COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
+
         ClassAndPropertyName key;
 
         key = new ClassAndPropertyName(get_hla_class_name(), "FederateId");
-        _classAndPropertyNameInitialValueMap.put(key, "");
+        classAndPropertyNameInitialValueMap.put(key, "");
 
         key = new ClassAndPropertyName(get_hla_class_name(), "FederateType");
-        _classAndPropertyNameInitialValueMap.put(key, "");
+        classAndPropertyNameInitialValueMap.put(key, "");
 
         key = new ClassAndPropertyName(get_hla_class_name(), "IsLateJoiner");
-        _classAndPropertyNameInitialValueMap.put(key, false);
+        classAndPropertyNameInitialValueMap.put(key, false);
+
+        _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
 
         commonInit(get_hla_class_name());
 
@@ -476,14 +483,26 @@ public class FederateResignInteraction extends edu.vanderbilt.vuisis.cpswt.hla.I
     }
 
 
+    private static final ClassAndPropertyName _IsLateJoiner_key =
+      new ClassAndPropertyName(get_hla_class_name(), "IsLateJoiner");
+
     /**
      * Set the value of the "IsLateJoiner" parameter to "value" for this parameter.
      *
      * @param value the new value for the "IsLateJoiner" parameter
      */
+    public void set_IsLateJoiner(boolean value) {
+        setBoolean(_IsLateJoiner_key, value);
+    }
+
+    /**
+     * Set the value of the "IsLateJoiner" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_IsLateJoiner(boolean) does not box it.
+     *
+     * @param value the new value for the "IsLateJoiner" parameter
+     */
     public void set_IsLateJoiner(Boolean value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IsLateJoiner");
-        classAndPropertyNameValueMap.put(key, value);
+        set_IsLateJoiner(value.booleanValue());
     }
 
     /**
@@ -492,8 +511,7 @@ public class FederateResignInteraction extends edu.vanderbilt.vuisis.cpswt.hla.I
      * @return the value of the "IsLateJoiner" parameter
      */
     public boolean get_IsLateJoiner() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IsLateJoiner");
-        return (boolean)classAndPropertyNameValueMap.get(key);
+        return getBoolean(_IsLateJoiner_key);
     }
 
     //----------------------------------
@@ -528,7 +546,7 @@ public class FederateResignInteraction extends edu.vanderbilt.vuisis.cpswt.hla.I
     public FederateResignInteraction(FederateResignInteraction messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
     }
 }
@@ -433,7 +433,7 @@ public class OutcomeBase extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot
     public OutcomeBase(OutcomeBase messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
     }
 }
@@ -31,6 +31,7 @@
 package edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
@@ -210,16 +211,22 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
         // IN InteractionRoot
         _allClassNamePropertyNameSetMap.put(get_hla_class_name(), allClassAndPropertyNameSet);
 
+        // THE INITIAL VALUES ARE ADDED TO _classAndPropertyNameInitialValueMap DEFINED IN InteractionRoot WITH ONE
+        // putAll, AS EACH WRITE TO THAT COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
+
         ClassAndPropertyName key;
 
         key = new ClassAndPropertyName(get_hla_class_name(), "Comment");
-        _classAndPropertyNameInitialValueMap.put(key, "");
+        classAndPropertyNameInitialValueMap.put(key, "");
 
         key = new ClassAndPropertyName(get_hla_class_name(), "FedName");
-        _classAndPropertyNameInitialValueMap.put(key, "");
+        classAndPropertyNameInitialValueMap.put(key, "");
 
         key = new ClassAndPropertyName(get_hla_class_name(), "Time");
-        _classAndPropertyNameInitialValueMap.put(key, (double)0);
+        classAndPropertyNameInitialValueMap.put(key, (double)0);
+
+        _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
 
         commonInit(get_hla_class_name());
 
@@ -476,14 +483,26 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
     }
 
 
+    private static final ClassAndPropertyName _Time_key =
+      new ClassAndPropertyName(get_hla_class_name(), "Time");
+
     /**
      * Set the value of the "Time" parameter to "value" for this parameter.
      *
      * @param value the new value for the "Time" parameter
      */
+    public void set_Time(double value) {
+        setDouble(_Time_key, value);
+    }
+
+    /**
+     * Set the value of the "Time" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_Time(double) does not box it.
+     *
+     * @param value the new value for the "Time" parameter
+     */
     public void set_Time(Double value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "Time");
-        classAndPropertyNameValueMap.put(key, value);
+        set_Time(value.doubleValue());
     }
 
     /**
@@ -492,8 +511,7 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
      * @return the value of the "Time" parameter
      */
     public double get_Time() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "Time");
-        return (double)classAndPropertyNameValueMap.get(key);
+        return getDouble(_Time_key);
     }
 
     //----------------------------------
@@ -528,7 +546,7 @@ public class SimLog extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2
     public SimLog(SimLog messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
     }
 }
@@ -445,7 +445,7 @@ public class MediumPrio extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_
     public MediumPrio(MediumPrio messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
     }
 }
@@ -433,7 +433,7 @@ public class SimResume extends edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p
     public SimResume(SimResume messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
     }
 }
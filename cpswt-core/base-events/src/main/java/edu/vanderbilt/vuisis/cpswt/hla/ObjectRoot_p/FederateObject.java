@@ -31,6 +31,7 @@
 package edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot_p;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
@@ -199,16 +200,22 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         // IN ObjectRoot
         _allClassNamePropertyNameSetMap.put(get_hla_class_name(), allClassAndPropertyNameSet);
 
+        // THE INITIAL VALUES ARE ADDED TO _classAndPropertyNameInitialValueMap DEFINED IN ObjectRoot WITH ONE
+        // putAll, AS EACH WRITE TO THAT COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
+
         ClassAndPropertyName key;
 
         key = new ClassAndPropertyName(get_hla_class_name(), "FederateHandle");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "FederateHost");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "FederateType");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
+
+        _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
 
         commonInit(get_hla_class_name());
 
@@ -463,16 +470,26 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
     //------------------------------
 
 
+    private static final ClassAndPropertyName _FederateHandle_key =
+      new ClassAndPropertyName(get_hla_class_name(), "FederateHandle");
+
     /**
      * Set the value of the "FederateHandle" parameter to "value" for this parameter.
      *
      * @param value the new value for the "FederateHandle" parameter
      */
+    public void set_FederateHandle(int value) {
+        setInt(_FederateHandle_key, value);
+    }
+
+    /**
+     * Set the value of the "FederateHandle" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_FederateHandle(int) does not box it.
+     *
+     * @param value the new value for the "FederateHandle" parameter
+     */
     public void set_FederateHandle(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateHandle");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_FederateHandle(value.intValue());
     }
 
     /**
@@ -481,8 +498,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "FederateHandle" parameter
      */
     public int get_FederateHandle() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FederateHandle");
-        return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getInt(_FederateHandle_key);
     }
 
     /**
@@ -491,9 +507,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "FederateHandle" attribute
      */
     public double get_FederateHandle_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "FederateHandle")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_FederateHandle_key)).getTime();
     }
 
 
@@ -860,7 +874,7 @@ public class FederateObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
     public FederateObject(FederateObject messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
         // DEEP(ER) COPY FOR OBJECTS
         for(ClassAndPropertyName key: classAndPropertyNameValueMap.keySet()) {
@@ -489,4 +489,37 @@ public class InteractionTests {
 
         Assert.assertEquals(federateNameList, federateSequenceList3);
     }
+
+    @Test
+    public void interactionRootComparatorTest() {
+        SimLog simLog1 = new SimLog();
+        simLog1.setTime(2.0);
+        simLog1.set_actualLogicalGenerationTime(1.5);
+
+        SimLog simLog2 = new SimLog();
+        simLog2.setTime(2.0);
+        simLog2.set_actualLogicalGenerationTime(1.0);
+
+        SimLog simLog3 = new SimLog();
+        simLog3.setTime(1.0);
+        simLog3.set_actualLogicalGenerationTime(0.5);
+
+        SimLog simLog4 = new SimLog();
+        simLog4.setTime(2.0);
+        simLog4.set_actualLogicalGenerationTime(1.0);
+
+        InteractionRootComparator interactionRootComparator = new InteractionRootComparator();
+
+        // ORDERED BY TIME, THEN GENERATION TIME, THEN UNIQUE ID
+        List<InteractionRoot> interactionRootList = new ArrayList<>(Arrays.asList(simLog1, simLog4, simLog2, simLog3));
+        for(InteractionRoot interactionRoot: interactionRootList) {
+            InteractionRootComparator.set_sort_key(interactionRoot);
+        }
+        interactionRootList.sort(interactionRootComparator);
+        Assert.assertEquals(Arrays.asList(simLog3, simLog2, simLog4, simLog1), interactionRootList);
+
+        // THE SORT KEY IS NOT CHANGED BY CHANGES TO THE INTERACTION AFTER IT IS SET
+        simLog3.setTime(3.0);
+        Assert.assertTrue(interactionRootComparator.compare(simLog3, simLog2) < 0);
+    }
 }
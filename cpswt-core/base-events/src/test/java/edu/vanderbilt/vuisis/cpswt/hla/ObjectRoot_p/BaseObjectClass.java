@@ -31,6 +31,7 @@
 package edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot_p;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
@@ -192,13 +193,19 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
         // IN ObjectRoot
         _allClassNamePropertyNameSetMap.put(get_hla_class_name(), allClassAndPropertyNameSet);
 
+        // THE INITIAL VALUES ARE ADDED TO _classAndPropertyNameInitialValueMap DEFINED IN ObjectRoot WITH ONE
+        // putAll, AS EACH WRITE TO THAT COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
+
         ClassAndPropertyName key;
 
         key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "string_attribute1");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
+
+        _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
 
         commonInit(get_hla_class_name());
 
@@ -453,16 +460,26 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
     //------------------------------
 
 
+    private static final ClassAndPropertyName _int_attribute1_key =
+      new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
+
     /**
      * Set the value of the "int_attribute1" parameter to "value" for this parameter.
      *
      * @param value the new value for the "int_attribute1" parameter
      */
+    public void set_int_attribute1(int value) {
+        setInt(_int_attribute1_key, value);
+    }
+
+    /**
+     * Set the value of the "int_attribute1" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_int_attribute1(int) does not box it.
+     *
+     * @param value the new value for the "int_attribute1" parameter
+     */
     public void set_int_attribute1(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_int_attribute1(value.intValue());
     }
 
     /**
@@ -471,8 +488,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
      * @return the value of the "int_attribute1" parameter
      */
     public int get_int_attribute1() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "int_attribute1");
-        return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getInt(_int_attribute1_key);
     }
 
     /**
@@ -481,9 +497,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
      * @return the current timestamp of the "int_attribute1" attribute
      */
     public double get_int_attribute1_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "int_attribute1")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_int_attribute1_key)).getTime();
     }
 
 
@@ -744,7 +758,7 @@ public class BaseObjectClass extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot
     public BaseObjectClass(BaseObjectClass messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
         // DEEP(ER) COPY FOR OBJECTS
         for(ClassAndPropertyName key: classAndPropertyNameValueMap.keySet()) {
@@ -59,6 +59,8 @@ dependencies {
     implementation(group="edu.vanderbilt.vuisis.cpswt", name="root", version=version)
     implementation(group="edu.vanderbilt.vuisis.cpswt", name="utils", version=version)
     implementation(group="edu.vanderbilt.vuisis.cpswt", name="base-events", version=version)
+
+    testImplementation(group="junit", name="junit", version="4.13.2")
 }
 
 publishing {
@@ -50,6 +50,7 @@ import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.Si
 
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.DoubleSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -320,6 +321,37 @@ public class COAExecutor {
         clearUnusedArrivedInteractionsForOutcomes();
     }
 
+    /**
+     * Returns the earliest time at which a node of the COA graph that waits on time, i.e. a SyncPoint or a
+     * Duration, can execute, so that the federation manager can advance directly to it.  Nodes that wait on
+     * interactions (Outcomes) have no known time, and are not considered.
+     *
+     * @return the earliest time at which a SyncPoint or Duration node can execute, or
+     * Double.POSITIVE_INFINITY if no such node remains
+     */
+    public double getNextEventTime() {
+        return get_next_event_time(_coaGraph.getCurrentRootNodes(), () -> synchronizedFederate.getCurrentTime());
+    }
+
+    // SEE getNextEventTime.  currentTime IS ONLY EVALUATED IF A DURATION NODE HAS NOT STARTED
+    static double get_next_event_time(Collection<COANode> currentRootNodes, DoubleSupplier currentTime) {
+        double nextEventTime = Double.POSITIVE_INFINITY;
+        for (COANode coaNode : currentRootNodes) {
+            COANodeType nodeType = coaNode.getNodeType();
+            if (nodeType == COANodeType.SyncPoint) {
+                nextEventTime = Math.min(nextEventTime, ((COASyncPoint) coaNode).getSyncTime());
+            } else if (nodeType == COANodeType.Dur || nodeType == COANodeType.RandomDur) {
+                // A DURATION THAT HAS NOT STARTED STARTS AT THE NEXT CALL TO executeCOAGraph
+                COADuration nodeDuration = (COADuration) coaNode;
+                nextEventTime = Math.min(
+                        nextEventTime,
+                        nodeDuration.isEndTimeSet() ? nodeDuration.getEndTime() : currentTime.getAsDouble()
+                );
+            }
+        }
+        return nextEventTime;
+    }
+
     private boolean checkIfOutcomeExecutableAndUpdateArrivedInteraction(COAOutcome nodeOutcome) {
         // Check if the outcome can be executed
         boolean outcomeExecutable = false;
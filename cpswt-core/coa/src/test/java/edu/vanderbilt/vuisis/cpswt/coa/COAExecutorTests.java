@@ -0,0 +1,146 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.coa;
+
+import edu.vanderbilt.vuisis.cpswt.coa.edge.COAEdge;
+import edu.vanderbilt.vuisis.cpswt.coa.edge.COAEdgeType;
+import edu.vanderbilt.vuisis.cpswt.coa.node.COADuration;
+import edu.vanderbilt.vuisis.cpswt.coa.node.COANode;
+import edu.vanderbilt.vuisis.cpswt.coa.node.COANodeType;
+import edu.vanderbilt.vuisis.cpswt.coa.node.COARandomDuration;
+import edu.vanderbilt.vuisis.cpswt.coa.node.COASyncPoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+
+public class COAExecutorTests {
+
+    private static final double delta = 0;
+
+    // FAILS THE TEST IF THE CURRENT TIME IS NEEDED
+    private static double fail_current_time() {
+        Assert.fail("current time should not be needed");
+        return 0;
+    }
+
+    @Test
+    public void noEventTest() {
+        Assert.assertEquals(
+                Double.POSITIVE_INFINITY,
+                COAExecutor.get_next_event_time(Collections.emptyList(), COAExecutorTests::fail_current_time),
+                delta
+        );
+
+        // NODES THAT DO NOT WAIT ON TIME HAVE NO KNOWN EVENT TIME
+        COANode fork = new COANode("fork", "fork", COANodeType.Fork);
+        COANode outcome = new COANode("outcome", "outcome", COANodeType.Outcome);
+        Assert.assertEquals(
+                Double.POSITIVE_INFINITY,
+                COAExecutor.get_next_event_time(Arrays.asList(fork, outcome), COAExecutorTests::fail_current_time),
+                delta
+        );
+    }
+
+    @Test
+    public void syncPointTest() {
+        COASyncPoint syncPoint1 = new COASyncPoint("syncPoint1", "syncPoint1", 7.5, 1);
+        COASyncPoint syncPoint2 = new COASyncPoint("syncPoint2", "syncPoint2", 4.25, 1);
+
+        Assert.assertEquals(
+                4.25,
+                COAExecutor.get_next_event_time(
+                        Arrays.asList(syncPoint1, syncPoint2), COAExecutorTests::fail_current_time
+                ),
+                delta
+        );
+    }
+
+    @Test
+    public void durationTest() {
+        // A STARTED DURATION ENDS AT ITS END TIME
+        COADuration startedDuration = new COADuration("startedDuration", "startedDuration", 3.0);
+        startedDuration.setEndTime(2.0);
+        Assert.assertEquals(
+                5.0,
+                COAExecutor.get_next_event_time(
+                        Collections.singletonList(startedDuration), COAExecutorTests::fail_current_time
+                ),
+                delta
+        );
+
+        COASyncPoint syncPoint = new COASyncPoint("syncPoint", "syncPoint", 4.0, 1);
+        Assert.assertEquals(
+                4.0,
+                COAExecutor.get_next_event_time(
+                        Arrays.asList(startedDuration, syncPoint), COAExecutorTests::fail_current_time
+                ),
+                delta
+        );
+
+        // A DURATION THAT HAS NOT STARTED, INCLUDING A RANDOM ONE, STARTS AT THE CURRENT TIME
+        COADuration duration = new COADuration("duration", "duration", 3.0);
+        Assert.assertEquals(
+                1.5,
+                COAExecutor.get_next_event_time(Arrays.asList(startedDuration, duration), () -> 1.5),
+                delta
+        );
+
+        COARandomDuration randomDuration = new COARandomDuration(
+                "randomDuration", "randomDuration", 1.0, 2.0, new Random(0)
+        );
+        Assert.assertEquals(
+                0.5,
+                COAExecutor.get_next_event_time(Arrays.asList(syncPoint, randomDuration), () -> 0.5),
+                delta
+        );
+    }
+
+    @Test
+    public void coaGraphTest() {
+        // ONLY THE CURRENT ROOT NODES OF THE GRAPH ARE CONSIDERED
+        COASyncPoint rootSyncPoint = new COASyncPoint("rootSyncPoint", "rootSyncPoint", 6.0, 1);
+        COASyncPoint nextSyncPoint = new COASyncPoint("nextSyncPoint", "nextSyncPoint", 2.0, 1);
+
+        COAGraph coaGraph = new COAGraph();
+        coaGraph.addNode(rootSyncPoint);
+        coaGraph.addNode(nextSyncPoint);
+        coaGraph.addEdge(new COAEdge(COAEdgeType.COAFlow, rootSyncPoint, nextSyncPoint, "edge", new HashSet<>()));
+
+        COAExecutor coaExecutor = new COAExecutor("federation", "federate", 0.1, false, null);
+        coaExecutor.setCOAGraph(coaGraph);
+
+        Assert.assertEquals(6.0, coaExecutor.getNextEventTime(), delta);
+    }
+}
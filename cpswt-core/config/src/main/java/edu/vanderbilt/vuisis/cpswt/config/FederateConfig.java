@@ -111,6 +111,179 @@ public class FederateConfig {
     @FederateParameterOptional
     public String federateDynamicMessagingJsonFileName;
 
+    /**
+     * Optional 'messagingCodec' parameter that names the codec used to encode interaction parameters
+     * and object attributes sent through the RTI:  "text" (the default) or "binary".
+     * All federates in a federation must use the same codec.  The codec is shared by all of the federates in
+     * a JVM, so creating a federate that names a different codec than another federate in the JVM fails.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public String messagingCodec;
+
+    /**
+     * Optional 'interactionPoolSize' parameter that enables the reuse of received interactions:  at most this
+     * many released interactions (see InteractionRoot.release()) are kept for reuse per interaction class.
+     * The pools are shared by all of the federates in a JVM:  the default, 0, leaves their size as set by
+     * another federate, and so pooling is disabled only if no federate in the JVM sets this parameter.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public int interactionPoolSize = 0;
+
+    /**
+     * Optional 'decodeThreadCount' parameter that sets the number of threads that decode received interactions.
+     * When it is greater than 0, the RTI callback only copies a received interaction and returns, and the
+     * interaction is decoded on one of these threads before it is queued for the federate, still in the order
+     * in which it was received.  The default, 0, decodes received interactions in the RTI callback.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public int decodeThreadCount = 0;
+
+    /**
+     * Optional 'useVirtualThreads' parameter that, when true, runs the threads the federate creates (e.g. the thread
+     * that advances its time, and the threads that decode received interactions) as virtual threads, if the JDK
+     * supports them (JDK 21 and later), so that many federates can run in one JVM.  NOTE:  the thread that advances
+     * the federate's time blocks in the RTI's tick, and waits for received interactions to be decoded, while holding
+     * the RTI's monitor, and, before JDK 24 (JEP 491), a virtual thread that blocks while holding a monitor pins its
+     * carrier thread.  So JDK 24 or later is needed for the federates to share carrier threads.  The default, false,
+     * uses platform threads.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public boolean useVirtualThreads = false;
+
+    /**
+     * Optional 'fixedStepWindow' parameter:  if greater than 0, a fixed-step federate that supports it (e.g. the
+     * federation manager) advances its time through FixedStepAdvance, i.e. without an AdvanceTimeRequest per step,
+     * and the time of up to this many steps may be granted before the federate completes them.  With a window greater
+     * than 1, the federate's time may be granted up to (window - 1) * stepSize past the step it is processing, so
+     * every message it sends during a step must be timestamped at least (window - 1) * stepSize + lookahead past
+     * the time of that step.  The federation manager, whose messages are timestamped at the time of the step plus the
+     * lookahead, uses a window of 1 when this is greater than 1, and ignores it when 'eventDrivenAdvance' is true.
+     * The default, 0, uses AdvanceTimeRequests.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public int fixedStepWindow = 0;
+
+    /**
+     * Optional 'stepLatencyHistograms' parameter that, when true, makes the federate record histograms of the
+     * latencies of the phases of its time steps:  from time-advance request to grant, from grant to federate
+     * wake-up, and from wake-up to the end of the federate's processing for the step.  The default, false,
+     * records nothing.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public boolean stepLatencyHistograms = false;
+
+    /**
+     * Optional 'stepLatencyDumpIntervalMs' parameter:  if greater than 0, and 'stepLatencyHistograms' is true,
+     * the interval, in milliseconds, at which the step latency histograms are logged.  The default, 0, only logs
+     * them when the federate exits.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public int stepLatencyDumpIntervalMs = 0;
+
+    /**
+     * Optional 'queueRTICommands' parameter that, when true, makes the federate's threads queue the interactions
+     * and attribute updates they send while the AdvanceTimeThread is advancing the federate's time (i.e. ticking
+     * the RTI), rather than wait for the RTI, and serve queries of the federate's time and LBTS from the values
+     * cached by the AdvanceTimeThread.  The AdvanceTimeThread sends the queued messages before each tick and
+     * before each time-advance request.  The default, false, sends every message directly to the RTI.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public boolean queueRTICommands = false;
+
+    /**
+     * Optional 'coalesceObjectReflections' parameter that, when true, merges a received attribute reflection
+     * into a reflection for the same object that is still waiting in the federate's queue, if the two
+     * have the same timestamp (see 'objectReflectionCoalescingWindow'), so that the federate only sees the
+     * latest value of each attribute.  The default, false, queues every received reflection.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public boolean coalesceObjectReflections = false;
+
+    /**
+     * Optional 'objectReflectionCoalescingWindow' parameter:  if greater than 0, and 'coalesceObjectReflections'
+     * is true, timestamp-order reflections for the same object are merged if their timestamps fall into the same
+     * window of this length (i.e. have the same value of floor(timestamp/window)).  The merged reflection keeps
+     * the timestamp of the first of them.  The default, 0, only merges reflections with equal timestamps.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public double objectReflectionCoalescingWindow = 0;
+
+    /**
+     * Optional 'interactionQueueCapacity' parameter that limits the number of received interactions queued for the
+     * federate.  The default, 0, leaves the queue unbounded.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public int interactionQueueCapacity = 0;
+
+    /**
+     * Optional 'interactionQueueOverflowPolicy' parameter that names what is done with an interaction received when
+     * the interaction queue is full:  "DropOldest", "DropNewest" (the default), "Coalesce" or "BlockTick".
+     * "Coalesce" merges the interaction into the latest queued interaction of the same class with the same
+     * timestamp, if there is one, so that its values are not delivered at another logical time.
+     * "BlockTick" stops ticking the RTI while the queue is full, until the federate takes interactions from it, but
+     * for at most 'maxBlockedTickTimeMs' per time advance:  after that, the queue exceeds its capacity.  As the
+     * interactions that precede a time advance grant are received before the grant, a federate that only takes
+     * interactions while it processes a step should take them from another thread as well (e.g. a fixed-step
+     * federate with a 'fixedStepWindow' greater than 1), or it will wait for 'maxBlockedTickTimeMs' in each advance.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public String interactionQueueOverflowPolicy;
+
+    /**
+     * Optional 'objectReflectionQueueCapacity' parameter that limits the number of received attribute reflections
+     * queued for the federate.  The default, 0, leaves the queue unbounded.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public int objectReflectionQueueCapacity = 0;
+
+    /**
+     * Optional 'objectReflectionQueueOverflowPolicy' parameter that names what is done with an attribute reflection
+     * received when the reflection queue is full:  "DropOldest", "DropNewest" (the default), "Coalesce" or
+     * "BlockTick".  As for 'interactionQueueOverflowPolicy', "Coalesce" only merges reflections of the same object
+     * with the same timestamp, and "BlockTick" stops ticking the RTI for at most 'maxBlockedTickTimeMs' per time
+     * advance.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public String objectReflectionQueueOverflowPolicy;
+
+    /**
+     * Optional 'maxBlockedTickTimeMs' parameter:  the maximum time, in milliseconds, for which the federate stops
+     * ticking the RTI during one time advance because a queue with the "BlockTick" overflow policy is full.  The
+     * default is 5000.
+     * Use {@link FederateParameterOptional} to exclude the field from "isSet" check
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public int maxBlockedTickTimeMs = 5000;
+
     /**
      * Default constructor for FederateConfig.
      */
@@ -0,0 +1,102 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import hla.rti.ArrayIndexOutOfBounds;
+import hla.rti.ReceivedInteraction;
+import hla.rti.Region;
+
+/**
+ * A copy of the parameters of a ReceivedInteraction, which can be decoded after the RTI callback that
+ * received the interaction has returned, e.g. on another thread.
+ */
+class CopiedReceivedInteraction implements ReceivedInteraction {
+
+    private final int[] _parameterHandleArray;
+    private final byte[][] _valueArray;
+    private final int _orderType;
+    private final int _transportType;
+
+    CopiedReceivedInteraction(ReceivedInteraction receivedInteraction) throws ArrayIndexOutOfBounds {
+        int size = receivedInteraction.size();
+        _parameterHandleArray = new int[size];
+        _valueArray = new byte[size][];
+        for(int ix = 0 ; ix < size ; ++ix) {
+            _parameterHandleArray[ix] = receivedInteraction.getParameterHandle(ix);
+            _valueArray[ix] = receivedInteraction.getValue(ix);
+        }
+        _orderType = receivedInteraction.getOrderType();
+        _transportType = receivedInteraction.getTransportType();
+    }
+
+    public int size() {
+        return _parameterHandleArray.length;
+    }
+
+    private void checkIndex(int index) throws ArrayIndexOutOfBounds {
+        if (index < 0 || index >= _parameterHandleArray.length) {
+            throw new ArrayIndexOutOfBounds("index " + index + " out of range [0, " + size() + ")");
+        }
+    }
+
+    public int getParameterHandle(int index) throws ArrayIndexOutOfBounds {
+        checkIndex(index);
+        return _parameterHandleArray[index];
+    }
+
+    public byte[] getValue(int index) throws ArrayIndexOutOfBounds {
+        checkIndex(index);
+        return _valueArray[index].clone();
+    }
+
+    public int getValueLength(int index) throws ArrayIndexOutOfBounds {
+        checkIndex(index);
+        return _valueArray[index].length;
+    }
+
+    public byte[] getValueReference(int index) throws ArrayIndexOutOfBounds {
+        checkIndex(index);
+        return _valueArray[index];
+    }
+
+    public int getOrderType() {
+        return _orderType;
+    }
+
+    public int getTransportType() {
+        return _transportType;
+    }
+
+    // REGIONS ARE NOT USED
+    public Region getRegion() {
+        return null;
+    }
+}
@@ -33,8 +33,16 @@ package edu.vanderbilt.vuisis.cpswt.hla;
 import hla.rti.*;
 import edu.vanderbilt.vuisis.cpswt.hla.base.AdvanceTimeRequest;
 import edu.vanderbilt.vuisis.cpswt.hla.base.AdvanceTimeThread;
+import edu.vanderbilt.vuisis.cpswt.hla.base.FixedStepAdvance;
 import edu.vanderbilt.vuisis.cpswt.hla.base.ATRComparator;
 import edu.vanderbilt.vuisis.cpswt.hla.base.ATRQueue;
+import edu.vanderbilt.vuisis.cpswt.hla.base.HlaClassDispatcher;
+import edu.vanderbilt.vuisis.cpswt.hla.base.MessageInbox;
+import edu.vanderbilt.vuisis.cpswt.hla.base.OrderedDecodePipeline;
+import edu.vanderbilt.vuisis.cpswt.hla.base.OverflowPolicy;
+import edu.vanderbilt.vuisis.cpswt.hla.base.RTICommandQueue;
+import edu.vanderbilt.vuisis.cpswt.hla.base.StepLatencyRecorder;
+import edu.vanderbilt.vuisis.cpswt.hla.base.StepPhase;
 import edu.vanderbilt.vuisis.cpswt.hla.base.TimeAdvanceMode;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot;
 import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.EmbeddedMessaging;
@@ -55,7 +63,15 @@ import java.io.File;
 import java.io.PrintWriter;
 
 import java.util.*;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -90,12 +106,12 @@ import org.portico.impl.hla13.types.DoubleTimeInterval;
  * ability to indicate when your federate has achieved them
  * ( {@link #readyToPopulate()}, {@link #readyToRun()}, {@link #readyToResign()} )</li>
  * <li>Current federate time ( {@link #getCurrentTime()} )</li>
- * <li>Queuing mechanism for incoming RTI-interactions ( {@link #getNextInteraction()},
- * {@link #getNextInteractionNoWait()} ), which simplifies receiving these
+ * <li>Queuing mechanism for incoming RTI-interactions ( {@link #nextInteraction()},
+ * {@link #nextInteractionNoWait()} ), which simplifies receiving these
  * interactions and avoids the possibility of a ConcurrentAccessAttempted exception.</li>
  * <li>Mechanism for discovering new object-class instances, as well as a queuing
- * mechanism for incoming attribute-reflections ( {@link #getNextObjectReflector()},
- * {@link #getNextObjectReflectorNoWait()} ), which simplifies discovering objects
+ * mechanism for incoming attribute-reflections ( {@link #nextObjectReflector()},
+ * {@link #nextObjectReflectorNoWait()} ), which simplifies discovering objects
  * and reflecting their attributes, as well as avoid ConcurrentAccessAttempted
  * exceptions.</li>
  * <li>A means for requesting specific federation times and synchronizing with the
@@ -114,123 +130,24 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         SimEnd.load();
     }
 
-    private static class UniquePriorityBlockingQueue<T> extends PriorityBlockingQueue<T> {
-
-        private static int _unique_num = 0;
-
-        private static int get_unique_num() {
-            return _unique_num++;
-        }
-
-        public UniquePriorityBlockingQueue() {
-            super();
-        }
-
-        public UniquePriorityBlockingQueue(Collection<? extends T> c) {
-            super(c);
-        }
-
-        public UniquePriorityBlockingQueue(int initialCapacity) {
-            super(initialCapacity);
-        }
-
-        public UniquePriorityBlockingQueue(int initialCapacity, Comparator<T> comparator) {
-            super(initialCapacity, comparator);
-        }
-
-        private final int _uniqueNum = get_unique_num();
-
-        public int getUniqueNum() {
-            return _uniqueNum;
-        }
-    }
-
-    private static class UniquePriorityBlockingQueueComparator<T> implements Comparator<UniquePriorityBlockingQueue<T>> {
-
-        @Override
-        public int compare(
-                UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue1,
-                UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue2
-        ) {
-            return uniquePriorityBlockingQueue1.getUniqueNum() - uniquePriorityBlockingQueue2.getUniqueNum();
-        }
-    }
-
-    private static class PriorityBlockingMultiQueue<T> {
-        private final Set<Integer> _uniqueNumSet = new HashSet<>();
-        private final PriorityBlockingQueue<UniquePriorityBlockingQueue<T>> _priorityBlockingQueue =
-                new PriorityBlockingQueue<>(2, new UniquePriorityBlockingQueueComparator<T>());
-
-        public int size() {
-            int size = 0;
-            for (UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue : _priorityBlockingQueue) {
-                size += uniquePriorityBlockingQueue.size();
-            }
-            return size;
-        }
-
-        public boolean isEmpty() {
-            for (UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue : _priorityBlockingQueue) {
-                if (!uniquePriorityBlockingQueue.isEmpty()) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-        public synchronized boolean add(UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue) {
-            if (_uniqueNumSet.contains(uniquePriorityBlockingQueue.getUniqueNum())) {
-                return true;
-            }
-            _uniqueNumSet.add(uniquePriorityBlockingQueue.getUniqueNum());
-            return _priorityBlockingQueue.add(uniquePriorityBlockingQueue);
-        }
-
-        public T poll() {
-            for (UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue : _priorityBlockingQueue) {
-                T item = uniquePriorityBlockingQueue.poll();
-                if (item != null) {
-                    return item;
-                }
-            }
-            return null;
-        }
-
-        public T peek() {
-            for (UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue : _priorityBlockingQueue) {
-                T item = uniquePriorityBlockingQueue.peek();
-                if (item != null) {
-                    return item;
-                }
-            }
-            return null;
-        }
-
-        public synchronized T take() {
+    private static final Logger logger = LogManager.getLogger(SynchronizedFederate.class);
 
-            while(true) {
-                boolean notTaken = true;
-                while(notTaken) {
-                    try {
-                        UniquePriorityBlockingQueue<T> uniquePriorityBlockingQueue = _priorityBlockingQueue.take();
-                        notTaken = false;
-                        T item = uniquePriorityBlockingQueue.poll();
-                        if (item != null) {
-                            _priorityBlockingQueue.add(uniquePriorityBlockingQueue);
-                            return item;
-                        }
-                        _uniqueNumSet.remove(uniquePriorityBlockingQueue.getUniqueNum());
-                    } catch (Exception ignored) {
-                    }
-                }
-            }
-        }
-    }
+    private static final HlaClassDescriptor c2wInteractionRootDescriptor =
+            InteractionRoot.get_hla_class_descriptor(C2WInteractionRoot.get_hla_class_name());
 
+    private static final HlaClassDescriptor embeddedMessagingDescriptor =
+            InteractionRoot.get_hla_class_descriptor(EmbeddedMessaging.get_hla_class_name());
 
-    private static final Logger logger = LogManager.getLogger(SynchronizedFederate.class);
     public static final int internalThreadWaitTimeMs = 250;
 
+    /**
+     * Minimum and maximum time, in seconds, that the AdvanceTimeThread ticks the RTI for in one call while it waits
+     * for a time advance grant (see RTIambassador.tick(double, double)).  The RTI returns from the tick as soon as
+     * the minimum has elapsed and no callbacks are pending, so the grant is seen within the minimum of its arrival.
+     */
+    public static final double timeAdvanceTickMinSeconds = 0.001;
+    public static final double timeAdvanceTickMaxSeconds = 0.25;
+
     public static void load() { }
 
     /**
@@ -300,7 +217,10 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     private boolean _timeConstrainedNotEnabled = true;
     private boolean _timeRegulationNotEnabled = true;
 
-    private boolean _timeAdvanceNotGranted = true;
+    private volatile boolean _timeAdvanceNotGranted = true;
+
+    // THREADS WAITING FOR A TIME ADVANCE GRANT (SEE awaitTimeAdvanceGrant)
+    private final Queue<Thread> _timeAdvanceGrantThreadQueue = new ConcurrentLinkedQueue<>();
     /**
      * DO NOT USE -- Should only be used directly by the SynchronizedFederate class.
      * Returns the value of the "timeAdvanceNotGranted" flag.
@@ -321,6 +241,44 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      */
     public void setTimeAdvanceNotGranted(boolean timeAdvanceNotGranted) {
         _timeAdvanceNotGranted = timeAdvanceNotGranted;
+        if (!timeAdvanceNotGranted) {
+            signalTimeAdvanceGrant();
+        }
+    }
+
+    /**
+     * DO NOT USE -- Should only be used directly by the SynchronizedFederate and AdvanceTimeThread classes.
+     * Parks the calling thread until the requested time advance is granted, i.e. until
+     * {@link #getTimeAdvanceNotGranted()} returns false, or for at most timeoutMillis milliseconds.
+     *
+     * @param timeoutMillis maximum time to wait, in milliseconds
+     * @return true if the requested time advance has been granted, false otherwise
+     */
+    public boolean awaitTimeAdvanceGrant(long timeoutMillis) {
+        if (!_timeAdvanceNotGranted) {
+            return true;
+        }
+
+        Thread currentThread = Thread.currentThread();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        _timeAdvanceGrantThreadQueue.add(currentThread);
+        try {
+            long remainingNanos;
+            while(_timeAdvanceNotGranted && (remainingNanos = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+        } finally {
+            _timeAdvanceGrantThreadQueue.remove(currentThread);
+        }
+        return !_timeAdvanceNotGranted;
+    }
+
+    private void signalTimeAdvanceGrant() {
+        if (!_timeAdvanceGrantThreadQueue.isEmpty()) {
+            for(Thread thread: _timeAdvanceGrantThreadQueue) {
+                LockSupport.unpark(thread);
+            }
+        }
     }
 
     private boolean _simEndNotPubsub = true;
@@ -338,6 +296,29 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     public double getStepSize() { return this.stepSize; }
     private void setStepSize(double stepSize) { this.stepSize = stepSize; }
 
+    private final int fixedStepWindow;
+
+    /**
+     * Returns the value of the "fixedStepWindow" federate parameter:  if greater than 0, the window of steps with
+     * which the federate advances its time through a {@link FixedStepAdvance} (see
+     * {@link #startFixedStepAdvanceThread(int)}), and 0 if it uses AdvanceTimeRequests.
+     *
+     * @return the value of the "fixedStepWindow" federate parameter
+     */
+    public int getFixedStepWindow() { return this.fixedStepWindow; }
+
+    private final long maxBlockedTickTimeMs;
+
+    /**
+     * Returns the value of the "maxBlockedTickTimeMs" federate parameter:  the maximum time, in milliseconds, for
+     * which the AdvanceTimeThread puts off ticking the RTI during one time advance because an inbox with the
+     * BlockTick overflow policy is full.  After this, it ticks the RTI anyway, and the inbox queues messages past
+     * its capacity.
+     *
+     * @return the value of the "maxBlockedTickTimeMs" federate parameter
+     */
+    public long getMaxBlockedTickTimeMs() { return this.maxBlockedTickTimeMs; }
+
     private boolean _advanceTimeThreadNotStarted = true;
     private InteractionRoot _receivedSimEnd = null;
 
@@ -345,6 +326,179 @@ public class SynchronizedFederate extends NullFederateAmbassador {
 
     protected final int federateRTIInitWaitTime;
 
+    //-----------------------------------------------------------------------------------------------------------
+    // IF THE "useVirtualThreads" FEDERATE PARAMETER IS true, AND THE JDK SUPPORTS THEM, THE THREADS THAT THE
+    // FEDERATE CREATES (E.G. FOR ITS AdvanceTimeThread AND ITS InteractionDecoder WORKERS) ARE VIRTUAL THREADS.
+    // BEFORE JDK 24 (JEP 491), A VIRTUAL THREAD THAT BLOCKS INSIDE synchronized (E.G. ON THE RTI, WHICH THE
+    // AdvanceTimeThread TICKS WHILE HOLDING ITS MONITOR) PINS ITS CARRIER THREAD.
+    //-----------------------------------------------------------------------------------------------------------
+    private final boolean _useVirtualThreads;
+
+    public boolean getUseVirtualThreads() {
+        return _useVirtualThreads;
+    }
+
+    /**
+     * Creates a new, unstarted thread, which is a virtual thread if the "useVirtualThreads" federate
+     * parameter is true and the JDK supports virtual threads, and a platform thread otherwise.
+     *
+     * @param name name of the thread
+     * @param runnable what the thread runs
+     * @return the new thread
+     */
+    protected Thread newThread(String name, Runnable runnable) {
+        return CpswtUtils.newThread(name, runnable, _useVirtualThreads);
+    }
+
+    //-----------------------------------------------------------------------------------------------------------
+    // IF THE "decodeThreadCount" FEDERATE PARAMETER IS GREATER THAN 0, RECEIVED INTERACTIONS ARE DECODED BY THIS
+    // PIPELINE, OFF OF THE RTI CALLBACK THREAD, AND QUEUED IN THE ORDER IN WHICH THEY WERE RECEIVED.  OTHERWISE,
+    // IT IS null, AND RECEIVED INTERACTIONS ARE DECODED IN THE RTI CALLBACK.
+    //-----------------------------------------------------------------------------------------------------------
+    private final OrderedDecodePipeline<InteractionRoot> _interactionDecodePipeline;
+
+    // PACKAGE-PRIVATE FOR TESTING
+    OrderedDecodePipeline<InteractionRoot> getInteractionDecodePipeline() {
+        return _interactionDecodePipeline;
+    }
+
+    //-----------------------------------------------------------------------------------------------------------
+    // IF THE "queueRTICommands" FEDERATE PARAMETER IS true, THE INTERACTIONS AND ATTRIBUTE UPDATES THAT THE
+    // FEDERATE SENDS WHILE THE AdvanceTimeThread TICKS THE RTI ("_rtiCommandQueueActive") ARE QUEUED HERE, AND SENT
+    // BY THE AdvanceTimeThread, SO THAT THE FEDERATE'S THREADS DO NOT WAIT FOR THE RTI'S MONITOR WHILE CALLBACKS ARE
+    // PROCESSED.  OTHERWISE, IT IS null, AND EVERY MESSAGE IS SENT DIRECTLY.
+    //-----------------------------------------------------------------------------------------------------------
+    private final RTICommandQueue _rtiCommandQueue;
+    private volatile boolean _rtiCommandQueueActive = false;
+
+    /**
+     * Returns true if messages sent by this federate are currently queued, i.e. if the "queueRTICommands" federate
+     * parameter is true and the AdvanceTimeThread is advancing the time of the federate.  While it is true,
+     * {@link #getCurrentTime()}, {@link #getLBTS()} and {@link #getMinTSOTimestamp()} return cached values.
+     *
+     * @return true if messages sent by this federate are currently queued
+     */
+    public boolean isRTICommandQueueActive() {
+        return _rtiCommandQueueActive;
+    }
+
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread class.
+     * Called when the AdvanceTimeThread starts to advance the time of the federate:  from now on, until
+     * {@link #stopQueuingRTICommands()}, messages sent by the federate are queued.
+     */
+    public void startQueuingRTICommands() {
+        if (_rtiCommandQueue == null) {
+            return;
+        }
+        // THE CACHED VALUES ARE SERVED WHILE THE QUEUE IS ACTIVE
+        queryCurrentTime();
+        queryLBTS();
+        _rtiCommandQueueActive = true;
+    }
+
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread class.
+     * Called when the AdvanceTimeThread has advanced the time of the federate:  sends the queued messages, and
+     * from now on, messages sent by the federate are sent directly.
+     */
+    public void stopQueuingRTICommands() {
+        if (_rtiCommandQueue == null) {
+            return;
+        }
+        _rtiCommandQueueActive = false;
+        flushRTICommands();
+    }
+
+    /**
+     * Sends the messages that this federate has queued (see {@link #isRTICommandQueueActive()}) to the RTI.
+     * The AdvanceTimeThread calls it before it ticks the RTI, and before it requests a time advance.
+     */
+    public void flushRTICommands() {
+        if (_rtiCommandQueue == null) {
+            return;
+        }
+        synchronized (getRTI()) {
+            _rtiCommandQueue.flush(getRTI());
+        }
+    }
+
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread class.
+     * Updates the cached LBTS (see {@link #getCachedLBTS()}) from the RTI.
+     */
+    public void refreshCachedLBTS() {
+        queryLBTS();
+    }
+
+    private void submitRTICommand(Consumer<RTIambassador> command) {
+        if (command == null) {
+            return;
+        }
+        if (_rtiCommandQueueActive) {
+            _rtiCommandQueue.submit(command);
+            // THE AdvanceTimeThread MAY HAVE SENT THE QUEUED MESSAGES FOR THE LAST TIME BEFORE THIS ONE WAS QUEUED
+            if (!_rtiCommandQueueActive) {
+                flushRTICommands();
+            }
+            return;
+        }
+
+        synchronized (getRTI()) {
+            if (_rtiCommandQueue != null) {
+                _rtiCommandQueue.flush(getRTI());
+            }
+            command.accept(getRTI());
+        }
+    }
+
+    //-----------------------------------------------------------------------------------------------------------
+    // IF THE "stepLatencyHistograms" FEDERATE PARAMETER IS true, THE LATENCIES OF THE PHASES OF THE FEDERATE'S
+    // TIME STEPS ARE RECORDED HERE, AND LOGGED EVERY "stepLatencyDumpIntervalMs" MILLISECONDS (IF GREATER THAN 0)
+    // AND WHEN THE FEDERATE EXITS.  OTHERWISE, IT IS null, AND NOTHING IS RECORDED.
+    //-----------------------------------------------------------------------------------------------------------
+    private final StepLatencyRecorder _stepLatencyRecorder;
+    private final int _stepLatencyDumpIntervalMs;
+    private ScheduledExecutorService _stepLatencyDumpExecutor = null;
+
+    /**
+     * Returns the recorder of the latencies of the phases of this federate's time steps (see {@link StepPhase}),
+     * or null if the "stepLatencyHistograms" federate parameter is not true.
+     *
+     * @return the recorder of this federate's step latencies, or null
+     */
+    public StepLatencyRecorder getStepLatencyRecorder() {
+        return _stepLatencyRecorder;
+    }
+
+    private void logStepLatencies() {
+        logger.info("Step latencies of federate \"{}\":\n{}", getFederateId(), _stepLatencyRecorder);
+    }
+
+    private void startStepLatencyDump() {
+        if (_stepLatencyRecorder == null || _stepLatencyDumpIntervalMs <= 0 || _stepLatencyDumpExecutor != null) {
+            return;
+        }
+        _stepLatencyDumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = newThread("StepLatencyDump-" + getFederateId(), runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        _stepLatencyDumpExecutor.scheduleAtFixedRate(
+                this::logStepLatencies, _stepLatencyDumpIntervalMs, _stepLatencyDumpIntervalMs, TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void stopStepLatencyDump() {
+        if (_stepLatencyRecorder == null) {
+            return;
+        }
+        if (_stepLatencyDumpExecutor != null) {
+            _stepLatencyDumpExecutor.shutdownNow();
+        }
+        logStepLatencies();
+    }
+
     public SynchronizedFederate(FederateConfig federateConfig) {
         this.federationId = federateConfig.federationId;
         this.federateType = federateConfig.federateType;
@@ -358,8 +512,73 @@ public class SynchronizedFederate extends NullFederateAmbassador {
 
         this.lookahead = federateConfig.lookahead;
         this.stepSize = federateConfig.stepSize;
+        this.fixedStepWindow = federateConfig.fixedStepWindow;
+        this.maxBlockedTickTimeMs = Math.max(0, federateConfig.maxBlockedTickTimeMs);
 
         this.federateRTIInitWaitTime = federateConfig.federateRTIInitWaitTimeMs;
+
+        setMessagingCodec(federateConfig.messagingCodec);
+        // THE POOLS ARE SHARED BY ALL OF THE FEDERATES IN THE JVM, SO A FEDERATE THAT DOES NOT SET
+        // "interactionPoolSize" LEAVES THEM AS THEY ARE
+        if (
+          federateConfig.interactionPoolSize > 0 &&
+          federateConfig.interactionPoolSize != InteractionRoot.get_max_pool_size()
+        ) {
+            InteractionRoot.set_max_pool_size(federateConfig.interactionPoolSize);
+        }
+
+        _interactionDecodePipeline = federateConfig.decodeThreadCount > 0 ?
+          new OrderedDecodePipeline<>(
+            "InteractionDecoder", federateConfig.decodeThreadCount, federateConfig.useVirtualThreads,
+            this::receiveDecodedInteraction
+          ) : null;
+
+        _rtiCommandQueue = federateConfig.queueRTICommands ? new RTICommandQueue() : null;
+
+        _stepLatencyRecorder = federateConfig.stepLatencyHistograms ? new StepLatencyRecorder() : null;
+        _stepLatencyDumpIntervalMs = federateConfig.stepLatencyDumpIntervalMs;
+
+        _useVirtualThreads = federateConfig.useVirtualThreads;
+        if (_useVirtualThreads && !CpswtUtils.virtualThreadsSupported()) {
+            logger.warn("virtual threads are not supported by this JDK:  using platform threads");
+        }
+
+        _coalesceObjectReflections = federateConfig.coalesceObjectReflections;
+        _objectReflectionCoalescingWindow = federateConfig.objectReflectionCoalescingWindow;
+
+        initInboxes(federateConfig);
+
+        _federateCount.incrementAndGet();
+        _defaultFederate = this;
+    }
+
+    // THE MESSAGING CODEC IS SHARED BY ALL OF THE FEDERATES IN THE JVM.  THIS IS THE CODEC SET BY THE FIRST FEDERATE
+    // THAT CONFIGURED ONE, OR null IF NO FEDERATE HAS
+    private static MessagingCodec _configuredMessagingCodec = null;
+
+    private static synchronized void setMessagingCodec(String messagingCodecName) {
+        if (messagingCodecName == null || messagingCodecName.isEmpty()) {
+            return;
+        }
+        MessagingCodec messagingCodec = MessagingCodec.get_messaging_codec(messagingCodecName);
+        if (messagingCodec == null) {
+            logger.error(
+              "unknown messaging codec \"{}\": using \"{}\" codec", messagingCodecName,
+              InteractionRoot.get_messaging_codec().getName()
+            );
+            return;
+        }
+        // A SECOND FEDERATE THAT CONFIGURED A DIFFERENT CODEC WOULD CHANGE THE CODEC OF THE FIRST ONE AS WELL
+        if (_configuredMessagingCodec != null && _configuredMessagingCodec != messagingCodec) {
+            throw new IllegalStateException(
+              "messaging codec \"" + messagingCodec.getName() + "\" conflicts with the \"" +
+                _configuredMessagingCodec.getName() + "\" codec configured by another federate in this JVM:  " +
+                "all federates in a JVM use the same codec"
+            );
+        }
+        _configuredMessagingCodec = messagingCodec;
+        InteractionRoot.set_messaging_codec(messagingCodec);
+        ObjectRoot.set_messaging_codec(messagingCodec);
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -527,7 +746,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
             InteractionRoot interactionRoot, Set<String> federateNameSet, double time
     ) throws Exception {
 
-        if (!interactionRoot.isInstanceHlaClassDerivedFromHlaClass(EmbeddedMessaging.get_hla_class_name())) {
+        if (!interactionRoot.isInstanceHlaClassDerivedFromHlaClass(embeddedMessagingDescriptor)) {
 
             String interactionJson = interactionRoot.toJson();
 
@@ -536,7 +755,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
                 InteractionRoot embeddedMessagingForNetworkFederate = new InteractionRoot(
                         embeddedMessagingHlaClassName
                 );
-                if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass(C2WInteractionRoot.get_hla_class_name())) {
+                if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass(c2wInteractionRootDescriptor)) {
                     embeddedMessagingForNetworkFederate.setParameter(
                             "federateSequence",
                             interactionRoot.getParameter("federateSequence")
@@ -568,7 +787,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         C2WInteractionRoot.update_federate_sequence(interactionRoot, getFederateType());
 
         if (interactionRoot.getIsPublished()) {
-            interactionRoot.sendInteraction(getRTI(), time);
+            submitRTICommand(interactionRoot.createSendInteractionCommand(time));
         }
 
         sendInteraction(interactionRoot, interactionRoot.getFederateNameSoftPublishSet(), time);
@@ -578,7 +797,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         C2WInteractionRoot.update_federate_sequence(interactionRoot, getFederateType());
 
         if (interactionRoot.getIsPublished()) {
-            interactionRoot.sendInteraction(getRTI());
+            submitRTICommand(interactionRoot.createSendInteractionCommand());
         }
 
         sendInteraction(interactionRoot, interactionRoot.getFederateNameSoftPublishSet(),-1);
@@ -675,7 +894,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         Set<ObjectRootInterface.ClassAndPropertyName> attributesToBeUpdatedClassAndPropertyNameSet =
                 objectRoot.getAttributesToBeUpdatedClassAndPropertyNameSet();
 
-        objectRoot.updateAttributeValues(getRTI(), time, force);
+        submitRTICommand(objectRoot.createUpdateAttributeValuesCommand(time, force));
 
         objectRoot.restoreAttributesToBeUpdated(attributesToBeUpdatedClassAndPropertyNameSet);
         sendInteraction(objectRoot, objectRoot.getFederateNameSoftPublishSet(), time, force);
@@ -689,7 +908,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         Set<ObjectRootInterface.ClassAndPropertyName> attributesToBeUpdatedClassAndPropertyNameSet =
                 objectRoot.getAttributesToBeUpdatedClassAndPropertyNameSet();
 
-        objectRoot.updateAttributeValues(getRTI(), force);
+        submitRTICommand(objectRoot.createUpdateAttributeValuesCommand(force));
 
         objectRoot.restoreAttributesToBeUpdated(attributesToBeUpdatedClassAndPropertyNameSet);
         sendInteraction(objectRoot, objectRoot.getFederateNameSoftPublishSet(), -1, true);
@@ -705,6 +924,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      */
     @Override
     public void timeConstrainedEnabled(LogicalTime t) {
+        setCachedCurrentTime(t);
         _timeConstrainedNotEnabled = false;
     }
 
@@ -809,6 +1029,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      */
     @Override
     public void timeRegulationEnabled(LogicalTime t) {
+        setCachedCurrentTime(t);
         _timeRegulationNotEnabled = false;
     }
 
@@ -1091,15 +1312,76 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      */
     @Override
     public void timeAdvanceGrant(LogicalTime t) {
-        _timeAdvanceNotGranted = false;
+        // ALL INTERACTIONS RECEIVED BEFORE THE GRANT MUST BE QUEUED BEFORE THE FEDERATE SEES THE GRANT
+        if (_interactionDecodePipeline != null) {
+            _interactionDecodePipeline.awaitDelivery();
+        }
+        setCachedCurrentTime(t);
+        // A TIME-CONSTRAINED FEDERATE IS ONLY GRANTED A TIME THAT IS NOT GREATER THAN ITS LBTS
+        if (_cachedLBTS < _cachedCurrentTime) {
+            _cachedLBTS = _cachedCurrentTime;
+        }
+        setTimeAdvanceNotGranted(false);
+    }
+
+    //-----------------------------------------------------------------------------------------------
+    // SNAPSHOT OF THE FEDERATE'S TIME AND LBTS, UPDATED BY THE TIME-MANAGEMENT CALLBACKS AND BY EVERY
+    // CALL TO getCurrentTime() AND getLBTS(), SO THAT THE RTI NEED NOT BE QUERIED FOR THEM IN CALLBACKS
+    //-----------------------------------------------------------------------------------------------
+    private volatile double _cachedCurrentTime = 0;
+    private volatile double _cachedLBTS = 0;
+
+    private void setCachedCurrentTime(LogicalTime logicalTime) {
+        DoubleTime doubleTime = new DoubleTime();
+        doubleTime.setTo(logicalTime);
+        _cachedCurrentTime = doubleTime.getTime();
+    }
+
+    /**
+     * Returns the current time for this federate as of its last time advance grant, without querying the RTI.
+     *
+     * @return the current time for this federate as of its last time advance grant
+     */
+    public double getCachedCurrentTime() {
+        return _cachedCurrentTime;
+    }
+
+    /**
+     * Returns the Lower Bound on Time-Stamps (LBTS) for this federate as of its last time advance grant
+     * or call to {@link #getLBTS()}, whichever is later, without querying the RTI.
+     *
+     * @return the LBTS time for this federate as of its last time advance grant or call to getLBTS()
+     */
+    public double getCachedLBTS() {
+        return _cachedLBTS;
     }
 
     /**
      * Returns the current time for this federate.
      *
+     * @param useCachedTime if true, return the time as of the last time advance grant (see
+     *                      {@link #getCachedCurrentTime()}) instead of querying the RTI
+     * @return the current time for this federate
+     */
+    public double getCurrentTime(boolean useCachedTime) {
+        return useCachedTime ? getCachedCurrentTime() : getCurrentTime();
+    }
+
+    /**
+     * Returns the current time for this federate.  While {@link #isRTICommandQueueActive()} is true, this is
+     * the cached time (see {@link #getCachedCurrentTime()}), and the RTI is not queried.
+     *
      * @return the current time for this federate
      */
     public double getCurrentTime() {
+        // WHILE THE AdvanceTimeThread TICKS THE RTI, THE TIME ONLY CHANGES THROUGH A GRANT, WHICH UPDATES THE CACHE
+        if (_rtiCommandQueueActive) {
+            return _cachedCurrentTime;
+        }
+        return queryCurrentTime();
+    }
+
+    private double queryCurrentTime() {
         LogicalTime logicalTime = null;
         boolean timeNotAcquired = true;
         while (timeNotAcquired) {
@@ -1121,15 +1403,26 @@ public class SynchronizedFederate extends NullFederateAmbassador {
 
         DoubleTime doubleTime = new DoubleTime();
         doubleTime.setTo(logicalTime);
-        return doubleTime.getTime();
+        _cachedCurrentTime = doubleTime.getTime();
+        return _cachedCurrentTime;
     }
 
     /**
-     * Returns the current Lower Bound on Time-Stamps (LBTS) for this federate.
+     * Returns the current Lower Bound on Time-Stamps (LBTS) for this federate.  While
+     * {@link #isRTICommandQueueActive()} is true, this is the LBTS as of the last tick of the RTI (see
+     * {@link #getCachedLBTS()}), and the RTI is not queried.
      *
      * @return the current LBTS time for this federate
      */
     public double getLBTS() {
+        // WHILE THE AdvanceTimeThread TICKS THE RTI, IT UPDATES THE CACHED LBTS AFTER EVERY TICK
+        if (_rtiCommandQueueActive) {
+            return _cachedLBTS;
+        }
+        return queryLBTS();
+    }
+
+    private double queryLBTS() {
         LogicalTime lbtsTime = null;
         boolean timeNotAcquired = true;
         while (timeNotAcquired) {
@@ -1151,7 +1444,8 @@ public class SynchronizedFederate extends NullFederateAmbassador {
 
         DoubleTime doubleTime = new DoubleTime();
         doubleTime.setTo(lbtsTime);
-        return doubleTime.getTime();
+        _cachedLBTS = doubleTime.getTime();
+        return _cachedLBTS;
     }
 
     /**
@@ -1163,6 +1457,10 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * @return the timestamp to use for outgoing TSO interactions
      */
     public double getMinTSOTimestamp() {
+        if (_rtiCommandQueueActive) {
+            return Math.max(_cachedLBTS, _cachedCurrentTime + getLookahead());
+        }
+
         LogicalTime lbtsTime = null;
         LogicalTime logicalTime = null;
         boolean timeNotAcquired = true;
@@ -1192,6 +1490,9 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         dtLogicalTime.setTo(logicalTime);
         double dblLogicalTime = dtLogicalTime.getTime();
 
+        _cachedLBTS = dblLBTSTime;
+        _cachedCurrentTime = dblLogicalTime;
+
         double timestampWithLogicalTime = dblLogicalTime + getLookahead();
 
         return Math.max(dblLBTSTime, timestampWithLogicalTime);
@@ -1200,6 +1501,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     private final ATRQueue _atrQueue = new ATRQueue(100, new ATRComparator());
 
     private AdvanceTimeThread _advanceTimeThread = null;
+    private Thread _advanceTimeThreadRunner = null;
 
     /**
      * DO NOT USE -- Should only be used directly by the SynchronizedFederate class.
@@ -1232,8 +1534,10 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     protected void startAdvanceTimeThread() {
         if (_advanceTimeThreadNotStarted) {
             _advanceTimeThread = new AdvanceTimeThread(this, this._atrQueue, TimeAdvanceMode.TimeAdvanceRequest);
-            _advanceTimeThread.start();
+            _advanceTimeThreadRunner = newThread("AdvanceTimeThread-" + getFederateId(), _advanceTimeThread);
+            _advanceTimeThreadRunner.start();
             _advanceTimeThreadNotStarted = false;
+            startStepLatencyDump();
         }
     }
 
@@ -1249,16 +1553,54 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     protected void startAdvanceTimeThread(TimeAdvanceMode timeAdvanceMode) {
         if (_advanceTimeThreadNotStarted) {
             _advanceTimeThread = new AdvanceTimeThread(this, this._atrQueue, timeAdvanceMode);
-            _advanceTimeThread.start();
+            _advanceTimeThreadRunner = newThread("AdvanceTimeThread-" + getFederateId(), _advanceTimeThread);
+            _advanceTimeThreadRunner.start();
+            _advanceTimeThreadNotStarted = false;
+            startStepLatencyDump();
+        }
+    }
+
+    private FixedStepAdvance _fixedStepAdvance = null;
+
+    /**
+     * Start the {@link AdvanceTimeThread} in pipelined fixed-step mode:  it advances this federate
+     * through steps of {@link #getStepSize()}, starting at its current time, using
+     * {@link hla.rti.RTIambassador#timeAdvanceRequest(LogicalTime)}, and requests the advance to
+     * a step as soon as it falls into the window (see {@link FixedStepAdvance}).  Use the returned
+     * {@link FixedStepAdvance} instead of {@link AdvanceTimeRequest}s to wait for and end steps.
+     *
+     * @param window number of steps that may be granted before the federate has completed them
+     * @return the FixedStepAdvance through which the federate waits for and ends its steps
+     */
+    protected FixedStepAdvance startFixedStepAdvanceThread(int window) {
+        return startFixedStepAdvanceThread(window, TimeAdvanceMode.TimeAdvanceRequest);
+    }
+
+    /**
+     * Start the {@link AdvanceTimeThread} in pipelined fixed-step mode (see {@link #startFixedStepAdvanceThread(int)})
+     *
+     * @param window number of steps that may be granted before the federate has completed them
+     * @param timeAdvanceMode time-advance mode with which the AdvanceTimeThread requests each step
+     * @return the FixedStepAdvance through which the federate waits for and ends its steps
+     */
+    protected FixedStepAdvance startFixedStepAdvanceThread(int window, TimeAdvanceMode timeAdvanceMode) {
+        if (_advanceTimeThreadNotStarted) {
+            _fixedStepAdvance = new FixedStepAdvance(getCurrentTime(), getStepSize(), window);
+            _fixedStepAdvance.setStepLatencyRecorder(_stepLatencyRecorder);
+            _advanceTimeThread = new AdvanceTimeThread(this, _fixedStepAdvance, timeAdvanceMode);
+            _advanceTimeThreadRunner = newThread("AdvanceTimeThread-" + getFederateId(), _advanceTimeThread);
+            _advanceTimeThreadRunner.start();
             _advanceTimeThreadNotStarted = false;
+            startStepLatencyDump();
         }
+        return _fixedStepAdvance;
     }
 
     private void waitForAdvanceTimeThreadToTerminate() {
         boolean advanceTimeThreadNotExited = true;
         while(advanceTimeThreadNotExited) {
             try {
-                _advanceTimeThread.join();
+                _advanceTimeThreadRunner.join();
                 advanceTimeThreadNotExited = false;
             } catch(InterruptedException interruptedException) {
                 CpswtUtils.sleep(500);
@@ -1275,130 +1617,473 @@ public class SynchronizedFederate extends NullFederateAmbassador {
         waitForAdvanceTimeThreadToTerminate();
     }
 
-    private static final UniquePriorityBlockingQueue<InteractionRoot> _interactionQueueWithoutTime =
-            new UniquePriorityBlockingQueue<>(10, new InteractionRootComparator());
-
-    private static final UniquePriorityBlockingQueue<InteractionRoot> _interactionQueueWithTime =
-            new UniquePriorityBlockingQueue<>(10, new InteractionRootComparator());
+    protected void terminateFixedStepAdvanceThread() {
+        _fixedStepAdvance.terminate();
+        waitForAdvanceTimeThreadToTerminate();
+    }
 
-    private static final PriorityBlockingMultiQueue<InteractionRoot> _fullInteractionQueue =
-            new PriorityBlockingMultiQueue<>();
+    //--------------------------------------------------------------------------------------------------
+    // RECEIVED INTERACTIONS:  RECEIVE-ORDER INTERACTIONS (WHICH HAVE A TIME OF -1) IN FIFO ORDER, FOLLOWED
+    // BY TIMESTAMP-ORDER INTERACTIONS ORDERED BY InteractionRootComparator.
+    //
+    // EACH FEDERATE HAS ITS OWN INBOX, SO THAT SEVERAL FEDERATES CAN RUN IN ONE JVM.
+    //--------------------------------------------------------------------------------------------------
+    private final MessageInbox<InteractionRoot> _interactionInbox =
+            new MessageInbox<>(new InteractionRootComparator());
 
     /**
      * DO NOT USE -- Should only be used directly by the SynchronizedFederate class.
-     * This method places an interaction on a queue internal to the {@link InteractionRoot}
-     * class.  Usu. this interaction has just been received from the RTI using
-     * the {@link #receiveInteraction(int, ReceivedInteraction, byte[])} or
+     * This method places an interaction on this federate's internal queue.  Usu. this
+     * interaction has just been received from the RTI using the
+     * {@link #receiveInteraction(int, ReceivedInteraction, byte[])} or
      * {@link #receiveInteraction(int, ReceivedInteraction, byte[], LogicalTime, EventRetractionHandle)}
      * callback method.
      *
+     * <p>
+     * interactionRoot remains owned by the caller:  if the queue is full and it is dropped, this
+     * federate does not release it (see {@link InteractionRoot#release()}).
+     *
      * @param interactionRoot reference to an interaction.  This could be an
      *                        instance of any interaction in the federation, as InteractionRoot will
      *                        always be its highest super class.
      */
-    public static void addInteraction(InteractionRoot interactionRoot) {
+    public void queueInteraction(InteractionRoot interactionRoot) {
+        interactionRoot.setReleaseWhenDropped(false);
+        queueReceivedInteraction(interactionRoot);
+    }
+
+    // QUEUES AN INTERACTION THAT THIS FEDERATE CREATED (OR THAT queueInteraction MARKED AS OWNED BY ITS CALLER)
+    private void queueReceivedInteraction(InteractionRoot interactionRoot) {
         logger.trace("Received: {}", interactionRoot);
+        boolean queued;
         if (interactionRoot.getTime() >= 0) {
-            _interactionQueueWithTime.add(interactionRoot);
-            _fullInteractionQueue.add(_interactionQueueWithTime);
+            // THE INBOX SETS THE SORT KEY (SEE initInboxes), RATHER THAN EACH COMPARISON IN THE QUEUE
+            queued = _interactionInbox.addTimestampOrder(interactionRoot);
         } else {
-            _interactionQueueWithoutTime.add(interactionRoot);
-            _fullInteractionQueue.add(_interactionQueueWithoutTime);
+            queued = _interactionInbox.addReceiveOrder(interactionRoot);
+        }
+
+        // DROPPED, OR MERGED INTO A QUEUED INTERACTION, BECAUSE THE QUEUE IS FULL
+        if (!queued) {
+            release_dropped_interaction(interactionRoot);
         }
     }
 
+    // ONLY INTERACTIONS THAT THIS FEDERATE CREATED ARE RELEASED:  OTHERS BELONG TO THE CODE THAT QUEUED THEM
+    private static void release_dropped_interaction(InteractionRoot interactionRoot) {
+        if (interactionRoot.getReleaseWhenDropped()) {
+            interactionRoot.release();
+        }
+    }
+
+    //--------------------------------------------------------------------------------------------------
+    // INBOX CAPACITIES:  SET FOR EACH INBOX BY THE FEDERATE PARAMETERS, AND FOR EACH HLA CLASS BY THE
+    // setInteractionClassCapacity AND setObjectClassCapacity METHODS.  THE CLASS OF A MESSAGE IS ITS
+    // HlaClassDescriptor.
+    //--------------------------------------------------------------------------------------------------
+    private void initInboxes(FederateConfig federateConfig) {
+        _interactionInbox.setClassifier(InteractionRoot::getInstanceHlaClassDescriptor);
+        _interactionInbox.setCoalescer(
+                SynchronizedFederate::can_coalesce_interaction, InteractionRoot::copyFrom
+        );
+        _interactionInbox.setDropHandler(SynchronizedFederate::release_dropped_interaction);
+        // INTERACTIONS WITH THE SAME TIMESTAMP AND GENERATION TIME ARE ORDERED AS THEY WERE QUEUED, I.E. AS THE RTI
+        // DELIVERED THEM (receiveDecodedInteraction QUEUES THEM IN THAT ORDER)
+        _interactionInbox.setSequencer(InteractionRootComparator::set_sort_key);
+        if (federateConfig.interactionQueueCapacity > 0) {
+            _interactionInbox.setCapacity(
+                    federateConfig.interactionQueueCapacity,
+                    get_overflow_policy(federateConfig.interactionQueueOverflowPolicy)
+            );
+        }
+
+        _objectReflectorInbox.setClassifier(
+                objectReflector -> HlaClassDescriptor.find_hla_class_descriptor(objectReflector.getHlaClassName())
+        );
+        _objectReflectorInbox.setCoalescer(
+                SynchronizedFederate::can_coalesce_object_reflector, ObjectReflector::merge
+        );
+        // A DROPPED ObjectReflector MUST NOT BE COALESCED INTO
+        _objectReflectorInbox.setDropHandler(this::claimObjectReflector);
+        if (federateConfig.objectReflectionQueueCapacity > 0) {
+            _objectReflectorInbox.setCapacity(
+                    federateConfig.objectReflectionQueueCapacity,
+                    get_overflow_policy(federateConfig.objectReflectionQueueOverflowPolicy)
+            );
+        }
+    }
+
+    private static OverflowPolicy get_overflow_policy(String overflowPolicyName) {
+        if (overflowPolicyName == null || overflowPolicyName.isEmpty()) {
+            return OverflowPolicy.DropNewest;
+        }
+        for(OverflowPolicy overflowPolicy: OverflowPolicy.values()) {
+            if (overflowPolicy.getName().equalsIgnoreCase(overflowPolicyName)) {
+                return overflowPolicy;
+            }
+        }
+        logger.error(
+                "unknown overflow policy \"{}\": using \"{}\"", overflowPolicyName, OverflowPolicy.DropNewest
+        );
+        return OverflowPolicy.DropNewest;
+    }
+
+    // interactionRoot CAN BE MERGED INTO queuedInteractionRoot IF THEY ARE OF THE SAME CLASS AND HAVE THE SAME
+    // TIMESTAMP (-1 FOR RECEIVE-ORDER), SO THAT ITS VALUES ARE NOT DELIVERED AT AN EARLIER LOGICAL TIME
+    static boolean can_coalesce_interaction(InteractionRoot queuedInteractionRoot, InteractionRoot interactionRoot) {
+        return queuedInteractionRoot.getInstanceHlaClassDescriptor() == interactionRoot.getInstanceHlaClassDescriptor() &&
+                Double.compare(queuedInteractionRoot.getTime(), interactionRoot.getTime()) == 0;
+    }
+
+    // LIKE can_coalesce_interaction, BUT FOR THE SAME OBJECT
+    static boolean can_coalesce_object_reflector(
+            ObjectReflector queuedObjectReflector, ObjectReflector objectReflector
+    ) {
+        return queuedObjectReflector.getObjectHandle() == objectReflector.getObjectHandle() &&
+                Double.compare(queuedObjectReflector.getTime(), objectReflector.getTime()) == 0;
+    }
+
     /**
-     * Gets the next interaction that was received from the RTI, waiting for an
+     * Limits the number of received interactions of class hlaClassName (not including its subclasses) that
+     * are queued for this federate to capacity.  Should be called before subscribing to the class.
+     *
+     * @param hlaClassName fully-qualified name of an interaction class
+     * @param capacity maximum number of queued interactions of the class
+     * @param overflowPolicy what to do with an interaction of the class received when the limit is reached
+     */
+    public void setInteractionClassCapacity(String hlaClassName, int capacity, OverflowPolicy overflowPolicy) {
+        _interactionInbox.setClassCapacity(
+                InteractionRoot.get_hla_class_descriptor(hlaClassName), capacity, overflowPolicy
+        );
+    }
+
+    /**
+     * Like {@link #setInteractionClassCapacity(String, int, OverflowPolicy)}, but for attribute reflections
+     * of objects of class hlaClassName.
+     *
+     * @param hlaClassName fully-qualified name of an object class
+     * @param capacity maximum number of queued reflections for objects of the class
+     * @param overflowPolicy what to do with a reflection received when the limit is reached
+     */
+    public void setObjectClassCapacity(String hlaClassName, int capacity, OverflowPolicy overflowPolicy) {
+        _objectReflectorInbox.setClassCapacity(
+                ObjectRoot.get_hla_class_descriptor(hlaClassName), capacity, overflowPolicy
+        );
+    }
+
+    /**
+     * Returns the number of received interactions that were handled according to overflowPolicy
+     * because the interaction queue, or their class, was full.
+     *
+     * @param overflowPolicy overflow policy
+     * @return the number of received interactions handled according to overflowPolicy
+     */
+    public long getInteractionOverflowCount(OverflowPolicy overflowPolicy) {
+        return _interactionInbox.getOverflowCount(overflowPolicy);
+    }
+
+    /**
+     * Like {@link #getInteractionOverflowCount(OverflowPolicy)}, but for attribute reflections.
+     *
+     * @param overflowPolicy overflow policy
+     * @return the number of received reflections handled according to overflowPolicy
+     */
+    public long getObjectReflectionOverflowCount(OverflowPolicy overflowPolicy) {
+        return _objectReflectorInbox.getOverflowCount(overflowPolicy);
+    }
+
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread class.
+     * Returns true if an inbox with the BlockTick overflow policy is full, in which case the RTI should
+     * not be ticked until this federate has removed messages from it.
+     *
+     * @return true if the RTI should not be ticked, false otherwise
+     */
+    public boolean isTickBlocked() {
+        return _interactionInbox.isBlockingTick() || _objectReflectorInbox.isBlockingTick();
+    }
+
+    private final LongAdder _blockedTickCount = new LongAdder();
+
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread class.
+     * Counts a tick of the RTI that was put off because {@link #isTickBlocked()} returned true.
+     */
+    public void countBlockedTick() {
+        _blockedTickCount.increment();
+    }
+
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread class.
+     * Parks the calling thread until {@link #isTickBlocked()} returns false, i.e. until this federate
+     * has removed messages from its full inbox(es), or for at most timeoutMillis milliseconds.
+     *
+     * @param timeoutMillis maximum time to wait, in milliseconds
+     */
+    public void awaitTickUnblocked(long timeoutMillis) {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        if (_interactionInbox.awaitTickUnblocked(timeoutNanos)) {
+            _objectReflectorInbox.awaitTickUnblocked(timeoutNanos);
+        }
+    }
+
+    /**
+     * Returns the number of times that ticking the RTI was put off because an inbox with the BlockTick
+     * overflow policy was full.
+     *
+     * @return the number of times ticking the RTI was put off
+     */
+    public long getBlockedTickCount() {
+        return _blockedTickCount.sum();
+    }
+
+    /**
+     * Gets the next interaction that this federate received from the RTI, waiting for an
      * interaction if none are currently available.  The interaction is retrieved
-     * from a queue that is internal to the {@link InteractionRoot} class.  The
-     * queue is ordered by the timestamp of the interactions, with "receive-order"
-     * interactions being placed at the front of the queue (they are given a
-     * timestamp of -1).
+     * from a queue that is internal to this federate.  The queue is ordered by the
+     * timestamp of the interactions, with "receive-order" interactions being placed
+     * at the front of the queue (they are given a timestamp of -1).
      * <p>
      * Note that the type of the reference returned by this method is always
      * "InteractionRoot", as this is the highest super-class for all interactions.
      * If a reference to the actual class of the interaction is desired, then
      * this InteractionRoot reference will have to be cast up the inheritance
      * hierarchy.
+     * <p>
+     * If interaction pooling is enabled (the "interactionPoolSize" federate
+     * parameter), call {@link InteractionRoot#release()} on the interaction
+     * once it has been processed, so that it can be reused.
      *
      * @return the next interaction received from the RTI in order of timestamp,
      * where receive-order interactions have a timestamp of -1.
      */
-    public static InteractionRoot getNextInteraction() {
-        return _fullInteractionQueue.take();
+    public InteractionRoot nextInteraction() {
+        return _interactionInbox.take();
     }
 
     /**
      * Returns a boolean value indicating that there are interactions from the
-     * RTI that can be retrieved via the {@link #getNextInteraction()} or
-     * {@link #getNextInteractionNoWait()} methods.
+     * RTI that can be retrieved via the {@link #nextInteraction()} or
+     * {@link #nextInteractionNoWait()} methods.
      *
-     * @return true if there are interactions available on the queue internal
-     * to the {@link InteractionRoot} class.  False, otherwise.
+     * @return true if there are interactions available on this federate's
+     * internal queue.  False, otherwise.
      */
-    public static boolean isNotEmpty() {
-        return !_fullInteractionQueue.isEmpty();
+    public boolean hasInteractions() {
+        return !_interactionInbox.isEmpty();
     }
 
     /**
-     * Like {@link #getNextInteraction()}, but returns immediately with a null
+     * Like {@link #nextInteraction()}, but returns immediately with a null
      * value if no interaction is available.
      *
      * @return the next interaction received from the RTI in order of timestamp,
      * where receive-order interactions have a timestamp of -1, or null if there
      * are no interactions currently available
      */
-    public static InteractionRoot getNextInteractionNoWait() {
-        InteractionRoot interactionRoot = _fullInteractionQueue.poll();
-        logger.trace("Removed interaction from queue (poll), size now = {}", _fullInteractionQueue.size());
+    public InteractionRoot nextInteractionNoWait() {
+        InteractionRoot interactionRoot = _interactionInbox.poll();
+        if (logger.isTraceEnabled()) {
+            logger.trace("Removed interaction from queue (poll), size now = {}", _interactionInbox.size());
+        }
         return interactionRoot;
     }
 
-    public static InteractionRoot getNextInteractionWithTime() {
-        InteractionRoot interactionRoot = null;
-        boolean takeNotComplete = true;
-        while (takeNotComplete) {
-            try {
-                interactionRoot = _interactionQueueWithTime.take();
-                takeNotComplete = false;
-            } catch (InterruptedException ignored) {
-            }
+    /**
+     * Removes up to maxInteractions interactions from this federate's queue, in the order in which
+     * {@link #nextInteractionNoWait()} would return them, and adds them to collection.  This is much
+     * faster than calling nextInteractionNoWait() for each of them.
+     *
+     * @param collection collection to which to add the interactions
+     * @param maxInteractions maximum number of interactions to remove
+     * @return the number of interactions removed
+     */
+    public int drainInteractions(Collection<? super InteractionRoot> collection, int maxInteractions) {
+        return _interactionInbox.drainTo(collection, maxInteractions);
+    }
+
+    /**
+     * Like {@link #drainInteractions(Collection, int)}, but removes all of the receive-order interactions,
+     * and only the timestamp-order interactions whose timestamp is at most time.
+     *
+     * @param collection collection to which to add the interactions
+     * @param time latest timestamp of a timestamp-order interaction to remove
+     * @return the number of interactions removed
+     */
+    public int drainInteractionsUpToTime(Collection<? super InteractionRoot> collection, double time) {
+        return _interactionInbox.drainTo(
+                collection, Integer.MAX_VALUE, interactionRoot -> interactionRoot.getTime() <= time
+        );
+    }
+
+    //-----------------------------------------------------------------------------------------------
+    // INTERACTION HANDLERS:  INSTEAD OF TESTING THE CLASS OF EACH RECEIVED INTERACTION, A FEDERATE CAN
+    // REGISTER A HANDLER PER INTERACTION CLASS, AND DISPATCH RECEIVED INTERACTIONS TO THEM
+    //-----------------------------------------------------------------------------------------------
+    private final HlaClassDispatcher<InteractionRoot> _interactionDispatcher =
+            new HlaClassDispatcher<>(InteractionRoot::getInstanceHlaClassDescriptor);
+
+    /**
+     * Registers handler for interactions of the hlaClassName class, and of those of its subclasses
+     * that do not have a handler of their own.
+     *
+     * @param hlaClassName fully-qualified name of an interaction class
+     * @param handler handler of the interactions
+     */
+    public void addInteractionHandler(String hlaClassName, Consumer<? super InteractionRoot> handler) {
+        _interactionDispatcher.addHandler(InteractionRoot.get_hla_class_descriptor(hlaClassName), handler);
+    }
+
+    public void removeInteractionHandler(String hlaClassName) {
+        _interactionDispatcher.removeHandler(InteractionRoot.get_hla_class_descriptor(hlaClassName));
+    }
+
+    /**
+     * Passes interactionRoot to the handler for its class (see {@link #addInteractionHandler(String, Consumer)}).
+     *
+     * @param interactionRoot interaction to handle
+     * @return true if a handler was found for interactionRoot, false otherwise
+     */
+    public boolean dispatchInteraction(InteractionRoot interactionRoot) {
+        return _interactionDispatcher.dispatch(interactionRoot);
+    }
+
+    public InteractionRoot nextInteractionWithTime() {
+        return _interactionInbox.takeTimestampOrder();
+    }
+
+    public boolean hasInteractionsWithTime() {
+        return !_interactionInbox.isTimestampOrderEmpty();
+    }
+
+    public InteractionRoot nextInteractionWithTimeNoWait() {
+        InteractionRoot interactionRoot = _interactionInbox.pollTimestampOrder();
+        if (logger.isTraceEnabled()) {
+            logger.trace("Removed interaction from queue (poll), size now = {}", _interactionInbox.sizeTimestampOrder());
         }
         return interactionRoot;
     }
 
-    public static boolean isNotEmptyWithTime() {
-        return !_interactionQueueWithTime.isEmpty();
+    public InteractionRoot nextInteractionWithoutTime() {
+        return _interactionInbox.takeReceiveOrder();
     }
 
-    public static InteractionRoot getNextInteractionWithTimeNoWait() {
-        InteractionRoot interactionRoot = _interactionQueueWithTime.poll();
-        logger.trace("Removed interaction from queue (poll), size now = {}", _interactionQueueWithTime.size());
+    public boolean hasInteractionsWithoutTime() {
+        return !_interactionInbox.isReceiveOrderEmpty();
+    }
+
+    public InteractionRoot nextInteractionWithoutTimeNoWait() {
+        InteractionRoot interactionRoot = _interactionInbox.pollReceiveOrder();
+        if (logger.isTraceEnabled()) {
+            logger.trace("Removed interaction from queue (poll), size now = {}", _interactionInbox.sizeReceiveOrder());
+        }
         return interactionRoot;
     }
 
-    public static InteractionRoot getNextInteractionWithoutTime() {
-        InteractionRoot interactionRoot = null;
-        boolean takeNotComplete = true;
-        while (takeNotComplete) {
-            try {
-                interactionRoot = _interactionQueueWithoutTime.take();
-                takeNotComplete = false;
-            } catch (InterruptedException ignored) {
-            }
+    //-------------------------------------------------------------------------------------------------
+    // STATIC QUEUE METHODS, FOR FEDERATES WRITTEN WHEN THE QUEUES WERE STATIC.  THEY USE THE QUEUES OF
+    // THE MOST RECENTLY CREATED FEDERATE, SO THEY ARE ONLY MEANINGFUL IN A JVM THAT HAS ONE FEDERATE.
+    //-------------------------------------------------------------------------------------------------
+    private static volatile SynchronizedFederate _defaultFederate = null;
+
+    // THE NUMBER OF FEDERATES CREATED IN THIS JVM.  IF IT IS MORE THAN 1, THE FIRST CALL OF A STATIC QUEUE METHOD
+    // LOGS A WARNING, AS THE OTHER FEDERATES' QUEUES ARE NOT USED BY THESE METHODS
+    private static final AtomicInteger _federateCount = new AtomicInteger(0);
+    private static final AtomicBoolean _defaultFederateWarned = new AtomicBoolean(false);
 
+    private static SynchronizedFederate get_default_federate() {
+        SynchronizedFederate synchronizedFederate = _defaultFederate;
+        if (synchronizedFederate == null) {
+            throw new IllegalStateException("no SynchronizedFederate has been created");
         }
-        return interactionRoot;
+        if (_federateCount.get() > 1 && _defaultFederateWarned.compareAndSet(false, true)) {
+            logger.warn(
+              "deprecated static queue method called in a JVM with {} federates:  it uses the queues of the most " +
+                "recently created federate (\"{}\") -- use the instance methods of each federate instead",
+              _federateCount.get(), synchronizedFederate.getFederateId()
+            );
+        }
+        return synchronizedFederate;
+    }
+
+    /**
+     * @deprecated use {@link #queueInteraction(InteractionRoot)}
+     */
+    @Deprecated
+    public static void addInteraction(InteractionRoot interactionRoot) {
+        get_default_federate().queueInteraction(interactionRoot);
+    }
+
+    /**
+     * @deprecated use {@link #nextInteraction()}
+     */
+    @Deprecated
+    public static InteractionRoot getNextInteraction() {
+        return get_default_federate().nextInteraction();
+    }
+
+    /**
+     * @deprecated use {@link #hasInteractions()}
+     */
+    @Deprecated
+    public static boolean isNotEmpty() {
+        return get_default_federate().hasInteractions();
+    }
+
+    /**
+     * @deprecated use {@link #nextInteractionNoWait()}
+     */
+    @Deprecated
+    public static InteractionRoot getNextInteractionNoWait() {
+        return get_default_federate().nextInteractionNoWait();
+    }
+
+    /**
+     * @deprecated use {@link #nextInteractionWithTime()}
+     */
+    @Deprecated
+    public static InteractionRoot getNextInteractionWithTime() {
+        return get_default_federate().nextInteractionWithTime();
+    }
+
+    /**
+     * @deprecated use {@link #hasInteractionsWithTime()}
+     */
+    @Deprecated
+    public static boolean isNotEmptyWithTime() {
+        return get_default_federate().hasInteractionsWithTime();
+    }
+
+    /**
+     * @deprecated use {@link #nextInteractionWithTimeNoWait()}
+     */
+    @Deprecated
+    public static InteractionRoot getNextInteractionWithTimeNoWait() {
+        return get_default_federate().nextInteractionWithTimeNoWait();
+    }
+
+    /**
+     * @deprecated use {@link #nextInteractionWithoutTime()}
+     */
+    @Deprecated
+    public static InteractionRoot getNextInteractionWithoutTime() {
+        return get_default_federate().nextInteractionWithoutTime();
     }
 
+    /**
+     * @deprecated use {@link #hasInteractionsWithoutTime()}
+     */
+    @Deprecated
     public static boolean isNotEmptyWithoutTime() {
-        return !_interactionQueueWithoutTime.isEmpty();
+        return get_default_federate().hasInteractionsWithoutTime();
     }
 
+    /**
+     * @deprecated use {@link #nextInteractionWithoutTimeNoWait()}
+     */
+    @Deprecated
     public static InteractionRoot getNextInteractionWithoutTimeNoWait() {
-        InteractionRoot interactionRoot = _interactionQueueWithoutTime.poll();
-        logger.trace("Removed interaction from queue (poll), size now = {}", _interactionQueueWithoutTime.size());
-        return interactionRoot;
+        return get_default_federate().nextInteractionWithoutTimeNoWait();
     }
 
     /**
@@ -1411,7 +2096,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     private boolean unmatchingFedFilterProvided(InteractionRoot interactionRoot) {
         if (
                 !isMapperFederate() &&
-                interactionRoot.isInstanceHlaClassDerivedFromHlaClass(C2WInteractionRoot.get_hla_class_name())
+                interactionRoot.isInstanceHlaClassDerivedFromHlaClass(c2wInteractionRootDescriptor)
         ) {
             String fedFilter = (String) interactionRoot.getParameter("federateFilter");
             if (fedFilter != null) {
@@ -1431,8 +2116,8 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * RTI callback -- DO NOT OVERRIDE.  SynchronizedFederate uses this method
      * to accept receive-order interactions from the RTI.
      * <p>
-     * To access an interaction received from the RTI, use {@link #getNextInteraction()}
-     * or {@link #getNextInteractionNoWait()}.
+     * To access an interaction received from the RTI, use {@link #nextInteraction()}
+     * or {@link #nextInteractionNoWait()}.
      *
      * @param interactionClass integer handle (RTI assigned) indicating the class
      *                         of interaction being received
@@ -1450,18 +2135,29 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     public final void receiveInteractionSF(int interactionClass, ReceivedInteraction theInteraction, byte[] userSuppliedTag) {
         logger.trace("SynchronizedFederate::receiveInteractionSF (no time): Received interactionClass as: {} and interaction as: {}", interactionClass, theInteraction);
 
-        // Himanshu: We normally use only TSO updates, so this shouldn't be
-        // called, but due to an RTI bug, it seemingly is getting called. So,
-        // for now, use the federate's current time or LBTS whichever is greater
-        // as the timestamp
-        DoubleTime assumedTimestamp = new DoubleTime();
-        assumedTimestamp.setTime(Math.max(getLBTS(), getCurrentTime()));
+        if (_interactionDecodePipeline != null) {
+            ReceivedInteraction copiedInteraction;
+            try {
+                copiedInteraction = new CopiedReceivedInteraction(theInteraction);
+            } catch (ArrayIndexOutOfBounds e) {
+                logger.error("SynchronizedFederate::receiveInteractionSF (no time): could not copy interaction", e);
+                return;
+            }
+            _interactionDecodePipeline.submit(
+              () -> InteractionRoot.create_interaction(interactionClass, copiedInteraction)
+            );
+            return;
+        }
 
         InteractionRoot interactionRoot = InteractionRoot.create_interaction(interactionClass, theInteraction);
         logger.trace(
                 "SynchronizedFederate::receiveInteractionSF (no time): Created interaction root as: {}", interactionRoot
         );
 
+        receiveReceiveOrderInteraction(interactionRoot);
+    }
+
+    private void receiveReceiveOrderInteraction(InteractionRoot interactionRoot) {
         if (interactionRoot.isInstanceOfHlaClass(SimEnd.get_hla_class_name())) {
             exitImmediately();
         }
@@ -1473,8 +2169,8 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * RTI callback -- DO NOT OVERRIDE.  SynchronizedFederate uses this method
      * to accept timestamp-order interactions from the RTI.
      * <p>
-     * To access an interaction received from the RTI, use {@link #getNextInteraction()}
-     * or {@link #getNextInteractionNoWait()}.
+     * To access an interaction received from the RTI, use {@link #nextInteraction()}
+     * or {@link #nextInteractionNoWait()}.
      *
      * @param interactionClass integer handle (RTI assigned) indicating the class
      *                         of interaction being received
@@ -1507,6 +2203,22 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     ) {
         logger.trace("SynchronizedFederate::receiveInteractionSF (with time): Received interactionClass as: {} and interaction as: {}", interactionClass, theInteraction);
 
+        if (_interactionDecodePipeline != null) {
+            ReceivedInteraction copiedInteraction;
+            try {
+                copiedInteraction = new CopiedReceivedInteraction(theInteraction);
+            } catch (ArrayIndexOutOfBounds e) {
+                logger.error("SynchronizedFederate::receiveInteractionSF (with time): could not copy interaction", e);
+                return;
+            }
+            DoubleTime copiedTime = new DoubleTime();
+            copiedTime.setTo(theTime);
+            _interactionDecodePipeline.submit(
+              () -> InteractionRoot.create_interaction(interactionClass, copiedInteraction, copiedTime)
+            );
+            return;
+        }
+
         InteractionRoot interactionRoot = InteractionRoot.create_interaction(interactionClass, theInteraction, theTime);
         logger.trace(
                 "SynchronizedFederate::receiveInteractionSF (with time): Created interaction root as: {}",
@@ -1515,15 +2227,30 @@ public class SynchronizedFederate extends NullFederateAmbassador {
 
         receiveInteractionSFAux(interactionRoot);
     }
+
+    // CALLED BY _interactionDecodePipeline, IN THE ORDER IN WHICH THE INTERACTIONS WERE RECEIVED
+    private void receiveDecodedInteraction(InteractionRoot interactionRoot) {
+        logger.trace("SynchronizedFederate::receiveDecodedInteraction: Decoded interaction root as: {}", interactionRoot);
+
+        if (interactionRoot.getTime() < 0) {
+            receiveReceiveOrderInteraction(interactionRoot);
+        } else {
+            receiveInteractionSFAux(interactionRoot);
+        }
+    }
+
     private void receiveInteractionSFAux(InteractionRoot interactionRoot) {
         if (!unmatchingFedFilterProvided(interactionRoot)) {
-            if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass(EmbeddedMessaging.get_hla_class_name())) {
+            if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass(embeddedMessagingDescriptor)) {
                 receiveEmbeddedInteraction((EmbeddedMessaging)interactionRoot);
+                // THE EMBEDDED INTERACTION HAS BEEN UNPACKED, SO ITS CONTAINER CAN BE REUSED
+                interactionRoot.release();
                 return;
             }
 
-            addInteraction(interactionRoot);
-            // createLog(interactionClass, theInteraction, assumedTimestamp);
+            queueReceivedInteraction(interactionRoot);
+        } else {
+            interactionRoot.release();
         }
     }
 
@@ -1561,22 +2288,131 @@ public class SynchronizedFederate extends NullFederateAmbassador {
             objectReflector.setFederateSequence(federateSequence);
             objectReflector.setTime(embeddedMessaging.getTime());
 
-            _objectReflectionQueue.add(objectReflector);
+            queueObjectReflector(objectReflector);
             return;
         }
 
         logger.warn("SynchronizedFederate.receiveEmbeddedInteraction, unrecognized command \"{}\"", command);
     }
 
-    private static final PriorityBlockingQueue<ObjectReflector> _objectReflectionQueue =
-            new PriorityBlockingQueue<>(10, new ObjectReflectorComparator());
+    //--------------------------------------------------------------------------------------------------
+    // RECEIVED OBJECT REFLECTIONS:  RECEIVE-ORDER REFLECTIONS (WHICH HAVE A TIME OF -1) IN FIFO ORDER,
+    // FOLLOWED BY TIMESTAMP-ORDER REFLECTIONS ORDERED BY ObjectReflectorComparator.
+    //
+    // EACH FEDERATE HAS ITS OWN INBOX, SO THAT SEVERAL FEDERATES CAN RUN IN ONE JVM.
+    //--------------------------------------------------------------------------------------------------
+    private final MessageInbox<ObjectReflector> _objectReflectorInbox =
+            new MessageInbox<>(new ObjectReflectorComparator());
+
+    // PACKAGE-PRIVATE FOR TESTING
+    void queueObjectReflector(ObjectReflector objectReflector) {
+        if (_coalesceObjectReflections && coalesceObjectReflector(objectReflector)) {
+            return;
+        }
+
+        boolean queued;
+        if (objectReflector.getTime() >= 0) {
+            // COMPUTE THE SORT KEY HERE, RATHER THAN IN EACH COMPARISON IN THE QUEUE
+            objectReflector.setSortKey();
+            queued = _objectReflectorInbox.addTimestampOrder(objectReflector);
+        } else {
+            queued = _objectReflectorInbox.addReceiveOrder(objectReflector);
+        }
+
+        // DROPPED, OR MERGED INTO A QUEUED ObjectReflector, BECAUSE THE QUEUE IS FULL
+        if (!queued) {
+            claimObjectReflector(objectReflector);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------
+    // IF THE "coalesceObjectReflections" FEDERATE PARAMETER IS true, AN ObjectReflector IS MERGED INTO AN
+    // ObjectReflector FOR THE SAME OBJECT THAT IS STILL IN _objectReflectorInbox, IF THEY HAVE THE SAME
+    // CoalescingKey.  _pendingObjectReflectorMap HOLDS THE ObjectReflectors IN _objectReflectorInbox, SO IT
+    // HOLDS AT MOST ONE PER OBJECT AND TIMESTAMP (WINDOW), HOWEVER OFTEN THE OBJECTS ARE UPDATED.
+    //
+    // A CONSUMER REMOVES AN ObjectReflector FROM _pendingObjectReflectorMap (SEE claimObjectReflector)
+    // BEFORE USING IT, SO THAT NOTHING IS MERGED INTO IT AFTERWARD.
+    //-------------------------------------------------------------------------------------------------------
+    private static class CoalescingKey {
+        private final int _objectHandle;
+        private final double _timeKey;
+
+        private CoalescingKey(int objectHandle, double timeKey) {
+            _objectHandle = objectHandle;
+            _timeKey = timeKey;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof CoalescingKey)) return false;
+
+            CoalescingKey otherCoalescingKey = (CoalescingKey)other;
+            return _objectHandle == otherCoalescingKey._objectHandle &&
+                    Double.compare(_timeKey, otherCoalescingKey._timeKey) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * _objectHandle + Double.hashCode(_timeKey);
+        }
+    }
+
+    private final boolean _coalesceObjectReflections;
+    private final double _objectReflectionCoalescingWindow;
+
+    private final Map<CoalescingKey, ObjectReflector> _pendingObjectReflectorMap = new HashMap<>();
+
+    private CoalescingKey getCoalescingKey(ObjectReflector objectReflector) {
+        double time = objectReflector.getTime();
+        double timeKey = time >= 0 && _objectReflectionCoalescingWindow > 0 ?
+                Math.floor(time / _objectReflectionCoalescingWindow) : time;
+        return new CoalescingKey(objectReflector.getObjectHandle(), timeKey);
+    }
+
+    // RETURNS true IF objectReflector WAS MERGED INTO A PENDING ObjectReflector, false IF IT MUST BE QUEUED
+    private boolean coalesceObjectReflector(ObjectReflector objectReflector) {
+        CoalescingKey coalescingKey = getCoalescingKey(objectReflector);
+        synchronized (_pendingObjectReflectorMap) {
+            ObjectReflector pendingObjectReflector = _pendingObjectReflectorMap.get(coalescingKey);
+            if (pendingObjectReflector != null) {
+                pendingObjectReflector.merge(objectReflector);
+                return true;
+            }
+            _pendingObjectReflectorMap.put(coalescingKey, objectReflector);
+            return false;
+        }
+    }
+
+    private ObjectReflector claimObjectReflector(ObjectReflector objectReflector) {
+        if (_coalesceObjectReflections && objectReflector != null) {
+            CoalescingKey coalescingKey = getCoalescingKey(objectReflector);
+            synchronized (_pendingObjectReflectorMap) {
+                _pendingObjectReflectorMap.remove(coalescingKey, objectReflector);
+            }
+        }
+        return objectReflector;
+    }
+
+    private int claimObjectReflectors(
+            Collection<? super ObjectReflector> collection, List<ObjectReflector> objectReflectorList
+    ) {
+        synchronized (_pendingObjectReflectorMap) {
+            for(ObjectReflector objectReflector: objectReflectorList) {
+                _pendingObjectReflectorMap.remove(getCoalescingKey(objectReflector), objectReflector);
+            }
+        }
+        collection.addAll(objectReflectorList);
+        return objectReflectorList.size();
+    }
 
 
     /**
      * DO NOT USE -- Should only be used directly by the SynchronizedFederate class.
-     * This method places an ObjectReflector on a queue internal to the
-     * {@link ObjectRoot} class.  Usu. this ObjectReflector contains attribute
-     * reflections that have just been received from the RTI using
+     * This method places an ObjectReflector on this federate's internal queue.
+     * Usu. this ObjectReflector contains attribute reflections that have just
+     * been received from the RTI using
      * the {@link #reflectAttributeValues(int, ReflectedAttributes, byte[])} or
      * {@link #reflectAttributeValues(int, ReflectedAttributes, byte[], LogicalTime, EventRetractionHandle)}
      * callback method.  In this method, the attribute reflections are "receive-order".
@@ -1586,13 +2422,13 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * @param reflectedAttributes attribute reflections for the object class
      *                            instance corresponding to objectHandle
      */
-    public static void addObjectReflector(int objectHandle, ReflectedAttributes reflectedAttributes) {
-        _objectReflectionQueue.add(new ObjectReflector(objectHandle, reflectedAttributes));
+    public void queueObjectReflector(int objectHandle, ReflectedAttributes reflectedAttributes) {
+        queueObjectReflector(new ObjectReflector(objectHandle, reflectedAttributes));
     }
 
     /**
      * DO NOT USE -- Should only be used directly by the SynchronizedFederate class.
-     * This method like the {@link #addObjectReflector(int, ReflectedAttributes)}
+     * This method like the {@link #queueObjectReflector(int, ReflectedAttributes)}
      * method, except it is for attribute reflections that are "timestamp-ordered".
      *
      * @param objectHandle        handle (RTI assigned) to the object class instance for
@@ -1601,46 +2437,140 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      *                            instance corresponding to objectHandle
      * @param logicalTime         timestamp of the attribute reflections
      */
-    public static void addObjectReflector(
+    public void queueObjectReflector(
             int objectHandle, ReflectedAttributes reflectedAttributes, LogicalTime logicalTime
     ) {
-        _objectReflectionQueue.add(new ObjectReflector(objectHandle, reflectedAttributes, logicalTime));
+        queueObjectReflector(new ObjectReflector(objectHandle, reflectedAttributes, logicalTime));
     }
 
     /**
-     * Gets the next ObjectReflector from a queue that is internal to the {@link ObjectRoot}
-     * class, waiting for an ObjectReflector is none are currently on the queue.
+     * Gets the next ObjectReflector from a queue that is internal to this federate,
+     * waiting for an ObjectReflector is none are currently on the queue.
      * The queue is ordered by the timestamp of the attribute reflections in the
      * ObjectReflector's, with ObjectReflectors having "receive-order" attribute
      * reflections being placed at the front of the queue (they are given a
      * timestamp of -1).
      *
-     * @return the next ObjectReflector on the ObjectRoot class queue in the order
+     * @return the next ObjectReflector on this federate's queue in the order
      * of timestamp of their contained attribute reflections, where receive-order
      * attribute reflections have a timestamp of -1.
      */
-    public static ObjectReflector getNextObjectReflector() {
-        ObjectReflector objectReflection = null;
-        boolean takeNotComplete = true;
-        while (takeNotComplete) {
-            try {
-                objectReflection = _objectReflectionQueue.take();
-                takeNotComplete = false;
-            } catch (InterruptedException ignored) {
-            }
-
-        }
-        return objectReflection;
+    public ObjectReflector nextObjectReflector() {
+        return claimObjectReflector(_objectReflectorInbox.take());
     }
 
     /**
-     * Like {@link #getNextObjectReflector()}, except returns null
+     * Like {@link #nextObjectReflector()}, except returns null
      * if there are no ObjectReflectors on the queue.
      *
      * @return An object reflector is one was available on the queue, null otherwise.
      */
+    public ObjectReflector nextObjectReflectorNoWait() {
+        return claimObjectReflector(_objectReflectorInbox.poll());
+    }
+
+    private final HlaClassDispatcher<ObjectReflector> _objectReflectorDispatcher = new HlaClassDispatcher<>(
+            objectReflector -> objectReflector.getObjectRoot().getInstanceHlaClassDescriptor()
+    );
+
+    /**
+     * Registers handler for reflections of objects of the hlaClassName class, and of those of its
+     * subclasses that do not have a handler of their own.
+     *
+     * @param hlaClassName fully-qualified name of an object class
+     * @param handler handler of the reflections
+     */
+    public void addObjectReflectorHandler(String hlaClassName, Consumer<? super ObjectReflector> handler) {
+        _objectReflectorDispatcher.addHandler(ObjectRoot.get_hla_class_descriptor(hlaClassName), handler);
+    }
+
+    public void removeObjectReflectorHandler(String hlaClassName) {
+        _objectReflectorDispatcher.removeHandler(ObjectRoot.get_hla_class_descriptor(hlaClassName));
+    }
+
+    /**
+     * Passes objectReflector to the handler for the class of its object
+     * (see {@link #addObjectReflectorHandler(String, Consumer)}).
+     *
+     * @param objectReflector reflection to handle
+     * @return true if a handler was found for objectReflector, false otherwise (including when its
+     * object has not been discovered)
+     */
+    public boolean dispatchObjectReflector(ObjectReflector objectReflector) {
+        return objectReflector.getObjectRoot() != null && _objectReflectorDispatcher.dispatch(objectReflector);
+    }
+
+    /**
+     * Removes up to maxObjectReflectors ObjectReflectors from this federate's queue, in the order in which
+     * {@link #nextObjectReflectorNoWait()} would return them, and adds them to collection.  This is much
+     * faster than calling nextObjectReflectorNoWait() for each of them.
+     *
+     * @param collection collection to which to add the ObjectReflectors
+     * @param maxObjectReflectors maximum number of ObjectReflectors to remove
+     * @return the number of ObjectReflectors removed
+     */
+    public int drainObjectReflectors(Collection<? super ObjectReflector> collection, int maxObjectReflectors) {
+        if (_coalesceObjectReflections) {
+            List<ObjectReflector> objectReflectorList = new ArrayList<>();
+            _objectReflectorInbox.drainTo(objectReflectorList, maxObjectReflectors);
+            return claimObjectReflectors(collection, objectReflectorList);
+        }
+        return _objectReflectorInbox.drainTo(collection, maxObjectReflectors);
+    }
+
+    /**
+     * Like {@link #drainObjectReflectors(Collection, int)}, but removes all of the receive-order
+     * ObjectReflectors, and only the timestamp-order ObjectReflectors whose timestamp is at most time.
+     *
+     * @param collection collection to which to add the ObjectReflectors
+     * @param time latest timestamp of a timestamp-order ObjectReflector to remove
+     * @return the number of ObjectReflectors removed
+     */
+    public int drainObjectReflectorsUpToTime(Collection<? super ObjectReflector> collection, double time) {
+        if (_coalesceObjectReflections) {
+            List<ObjectReflector> objectReflectorList = new ArrayList<>();
+            _objectReflectorInbox.drainTo(
+                    objectReflectorList, Integer.MAX_VALUE, objectReflector -> objectReflector.getTime() <= time
+            );
+            return claimObjectReflectors(collection, objectReflectorList);
+        }
+        return _objectReflectorInbox.drainTo(
+                collection, Integer.MAX_VALUE, objectReflector -> objectReflector.getTime() <= time
+        );
+    }
+
+    /**
+     * @deprecated use {@link #queueObjectReflector(int, ReflectedAttributes)}
+     */
+    @Deprecated
+    public static void addObjectReflector(int objectHandle, ReflectedAttributes reflectedAttributes) {
+        get_default_federate().queueObjectReflector(objectHandle, reflectedAttributes);
+    }
+
+    /**
+     * @deprecated use {@link #queueObjectReflector(int, ReflectedAttributes, LogicalTime)}
+     */
+    @Deprecated
+    public static void addObjectReflector(
+            int objectHandle, ReflectedAttributes reflectedAttributes, LogicalTime logicalTime
+    ) {
+        get_default_federate().queueObjectReflector(objectHandle, reflectedAttributes, logicalTime);
+    }
+
+    /**
+     * @deprecated use {@link #nextObjectReflector()}
+     */
+    @Deprecated
+    public static ObjectReflector getNextObjectReflector() {
+        return get_default_federate().nextObjectReflector();
+    }
+
+    /**
+     * @deprecated use {@link #nextObjectReflectorNoWait()}
+     */
+    @Deprecated
     public static ObjectReflector getNextObjectReflectorNoWait() {
-        return _objectReflectionQueue.poll();
+        return get_default_federate().nextObjectReflectorNoWait();
     }
 
     /**
@@ -1688,8 +2618,8 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * received by this method have "receive" ordering, and so are given a -1
      * timestamp.
      * <p>
-     * To access the ObjectReflector created here, use {@link #getNextObjectReflector()}
-     * or {@link #getNextObjectReflectorNoWait()}.
+     * To access the ObjectReflector created here, use {@link #nextObjectReflector()}
+     * or {@link #nextObjectReflectorNoWait()}.
      *
      * @param theObject       handle (RTI assigned) of the object class instance to which
      *                        the attribute reflections are to be applied
@@ -1701,15 +2631,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     @Override
     public void reflectAttributeValues(int theObject, ReflectedAttributes theAttributes, byte[] userSuppliedTag) {
 
-        addObjectReflector(theObject, theAttributes);
-
-        // Himanshu: We normally use only TSO updates, so this shouldn't be
-        // called, but due to an RTI bug, it seemingly is getting called. So,
-        // for now, use the federate's current time or LBTS whichever is greater
-        // as the timestamp
-        DoubleTime assumedTimestamp = new DoubleTime();
-        assumedTimestamp.setTime(Math.max(getLBTS(), getCurrentTime()));
-        // createLog(theObject, theAttributes, assumedTimestamp);
+        queueObjectReflector(theObject, theAttributes);
     }
 
     /**
@@ -1719,8 +2641,8 @@ public class SynchronizedFederate extends NullFederateAmbassador {
      * method, but receives timestamp-order, rather than receive-order, attribute
      * reflections.
      * <p>
-     * To access the ObjectReflector created here, use {@link #getNextObjectReflector()}
-     * or {@link #getNextObjectReflectorNoWait()}.
+     * To access the ObjectReflector created here, use {@link #nextObjectReflector()}
+     * or {@link #nextObjectReflectorNoWait()}.
      *
      * @param theObject        handle (RTI assigned) of the object class instance to which
      *                         the attribute reflections are to be applied
@@ -1740,7 +2662,7 @@ public class SynchronizedFederate extends NullFederateAmbassador {
             LogicalTime theTime,
             EventRetractionHandle retractionHandle
     ) {
-        addObjectReflector(theObject, theAttributes, theTime);
+        queueObjectReflector(theObject, theAttributes, theTime);
         // createLog(theObject, theAttributes, theTime);
     }
 
@@ -1800,6 +2722,14 @@ public class SynchronizedFederate extends NullFederateAmbassador {
     {
         logger.info("Exiting gracefully ....");
 
+        if (_interactionDecodePipeline != null) {
+            _interactionDecodePipeline.shutdown();
+        }
+
+        stopStepLatencyDump();
+
+        flushRTICommands();
+
         notifyFederationOfSimEnd();
 
 //        try {
@@ -46,6 +46,11 @@ public class AdvanceTimeRequest {
     private double _currentTime = -1;
     private SyncQueue _syncQueue;
 
+    // SET BY THE AdvanceTimeThread IF THE FEDERATE RECORDS STEP LATENCIES (SEE StepLatencyRecorder)
+    private volatile StepLatencyRecorder _stepLatencyRecorder = null;
+    private long _grantNanoTime;
+    private long _wakeupNanoTime;
+
     /**
      * Creates a new AdvanceTimeRequest with a new (and unique) SyncQueue.
      *
@@ -96,6 +101,18 @@ public class AdvanceTimeRequest {
         return _currentTime;
     }
 
+    /**
+     * Called by the AdvanceTimeThread ONLY, before {@link #threadSyncStart(double)}, if the federate records
+     * step latencies, so that this AdvanceTimeRequest records the Wakeup and Processing phases of its step.
+     *
+     * @param stepLatencyRecorder the recorder of the federate
+     * @param grantNanoTime       value of System.nanoTime() when the requested time was granted
+     */
+    public void setStepLatencyRecorder(StepLatencyRecorder stepLatencyRecorder, long grantNanoTime) {
+        _grantNanoTime = grantNanoTime;
+        _stepLatencyRecorder = stepLatencyRecorder;
+    }
+
     /**
      * Called by the AdvanceTimeThread ONLY, this method coordinates the
      * AdvanceTimeThread with the federate thread that created and is using
@@ -133,6 +150,10 @@ public class AdvanceTimeRequest {
      * AdvanceTimeRequest object.
      */
     public void threadSyncEnd() {
+        put();
+    }
+
+    private void put() {
         boolean putNotExecuted = true;
         while (putNotExecuted) {
             try {
@@ -149,6 +170,15 @@ public class AdvanceTimeRequest {
      * requested in this AdvanceTimeRequest object.
      */
     public void requestSyncStart() {
+        take();
+
+        StepLatencyRecorder stepLatencyRecorder = _stepLatencyRecorder;
+        if (stepLatencyRecorder != null) {
+            _wakeupNanoTime = stepLatencyRecorder.record(StepPhase.Wakeup, _grantNanoTime);
+        }
+    }
+
+    private void take() {
         boolean takeNotExecuted = true;
         while (takeNotExecuted) {
             try {
@@ -165,7 +195,13 @@ public class AdvanceTimeRequest {
      * requested in this AdvanceTimeRequest object.
      */
     public void requestSyncEnd() {
+        StepLatencyRecorder stepLatencyRecorder = _stepLatencyRecorder;
+        if (stepLatencyRecorder != null) {
+            stepLatencyRecorder.record(StepPhase.Processing, _wakeupNanoTime);
+            _stepLatencyRecorder = null;
+        }
+
         _currentTime = -1;
-        requestSyncStart();
+        take();
     }
 }
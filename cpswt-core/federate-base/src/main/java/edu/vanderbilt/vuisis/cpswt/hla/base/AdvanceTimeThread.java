@@ -35,11 +35,12 @@ import org.apache.logging.log4j.Logger;
 import edu.vanderbilt.vuisis.cpswt.hla.SynchronizedFederate;
 import hla.rti.FederationTimeAlreadyPassed;
 import hla.rti.RTIambassador;
-import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
 import org.portico.impl.hla13.types.DoubleTime;
 
+import java.util.concurrent.TimeUnit;
+
 /**
- * This class is run in a separate thread and is responsible for temporal
+ * This class is run in a separate (platform or virtual) thread and is responsible for temporal
  * coordination between the RTI and one or more threads in a given federate.
  * The means by which the AdvanceTimeThread is able perform this coordination
  * is via objects of the {@link AdvanceTimeRequest} class.  That is, a federate
@@ -101,7 +102,7 @@ import org.portico.impl.hla13.types.DoubleTime;
  * }
  * --------
  */
-public class AdvanceTimeThread extends Thread {
+public class AdvanceTimeThread implements Runnable {
     private static final Logger logger = LogManager.getLogger(AdvanceTimeThread.class);
 
     // private double _atrStepSize = 0.2;
@@ -111,15 +112,43 @@ public class AdvanceTimeThread extends Thread {
     private final SynchronizedFederate _synchronizedFederate;
     private final RTIambassador _rti;
     private final TimeAdvanceMode _timeAdvanceMode;
+    private final FixedStepAdvance _fixedStepAdvance;
+
+    // NON-null IF THE FEDERATE RECORDS STEP LATENCIES:  _grantNanoTime IS WHEN THE LAST ADVANCE WAS GRANTED
+    private final StepLatencyRecorder _stepLatencyRecorder;
+    private long _grantNanoTime;
 
     public AdvanceTimeThread(SynchronizedFederate synchronizedFederate, ATRQueue atrQueue, TimeAdvanceMode timeAdvanceMode) {
         _synchronizedFederate = synchronizedFederate;
         _rti = _synchronizedFederate.getRTI();
         _atrQueue = atrQueue;
         _timeAdvanceMode = timeAdvanceMode;
+        _fixedStepAdvance = null;
+        _stepLatencyRecorder = _synchronizedFederate.getStepLatencyRecorder();
+    }
+
+    /**
+     * Creates an AdvanceTimeThread that advances a fixed-step federate through the steps of fixedStepAdvance,
+     * rather than to the times of AdvanceTimeRequests.
+     */
+    public AdvanceTimeThread(
+            SynchronizedFederate synchronizedFederate,
+            FixedStepAdvance fixedStepAdvance,
+            TimeAdvanceMode timeAdvanceMode
+    ) {
+        _synchronizedFederate = synchronizedFederate;
+        _rti = _synchronizedFederate.getRTI();
+        _atrQueue = null;
+        _timeAdvanceMode = timeAdvanceMode;
+        _fixedStepAdvance = fixedStepAdvance;
+        _stepLatencyRecorder = _synchronizedFederate.getStepLatencyRecorder();
     }
 
     public void run() {
+        if (_fixedStepAdvance != null) {
+            runFixedStep();
+            return;
+        }
 
         double currentTime = _synchronizedFederate.getCurrentTime();
         if (currentTime < 0) return;
@@ -151,51 +180,130 @@ public class AdvanceTimeThread extends Thread {
                 continue;
             }
 
-            _synchronizedFederate.setTimeAdvanceNotGranted(true);
+            currentTime = advanceTo(timeRequest);
+
+            if (_stepLatencyRecorder != null) {
+                advanceTimeRequest.setStepLatencyRecorder(_stepLatencyRecorder, _grantNanoTime);
+            }
+            advanceTimeRequest.threadSyncStart(currentTime);
+            advanceTimeRequest.threadSyncEnd();
+        }
+    }
+
+    // PIPELINED FIXED-STEP MODE:  NO AdvanceTimeRequest PER STEP -- THE NEXT STEP IS REQUESTED AS SOON AS IT
+    // FALLS INTO THE WINDOW OF THE FixedStepAdvance
+    private void runFixedStep() {
+        double currentTime = _synchronizedFederate.getCurrentTime();
+        if (currentTime < 0) return;
 
-            boolean tarNotCalled = true;
-            while (tarNotCalled) {
+        long step;
+        while ((step = _fixedStepAdvance.awaitWindow()) >= 0) {
+            double stepTime = _fixedStepAdvance.getStepTime(step);
+            // WITH THE NextEventRequest AND NextEventRequestAvailable MODES, THE RTI CAN GRANT A TIME EARLIER THAN
+            // stepTime (E.G. THE TIME OF A RECEIVED MESSAGE), SO THE STEP IS ONLY GRANTED ONCE THE FEDERATE HAS
+            // REACHED stepTime
+            while (stepTime > currentTime) {
+                currentTime = advanceTo(new DoubleTime(stepTime));
+            }
+            _fixedStepAdvance.stepGranted();
+        }
+    }
+
+    // REQUESTS THE ADVANCE TO timeRequest USING THE TIME-ADVANCE MODE, AND TICKS THE RTI UNTIL IT IS GRANTED
+    private double advanceTo(DoubleTime timeRequest) {
+        double currentTime = -1;
+        long requestNanoTime = _stepLatencyRecorder != null ? System.nanoTime() : 0;
+        _synchronizedFederate.setTimeAdvanceNotGranted(true);
+
+        // UNTIL THE ADVANCE IS GRANTED, MESSAGES THE FEDERATE SENDS ARE QUEUED (IF IT HAS AN RTICommandQueue), AND
+        // SENT BY THIS THREAD BEFORE EACH REQUEST AND TICK
+        _synchronizedFederate.startQueuingRTICommands();
+
+        boolean tarNotCalled = true;
+        while (tarNotCalled) {
+            try {
+                // System.out.println( "TimeAdvanceThread: Using " + _timeAdvanceMode + " to request time: " + timeRequest.getTime() );
+                synchronized (_rti) {
+                    _synchronizedFederate.flushRTICommands();
+                    if (_timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequest) {
+                        _rti.timeAdvanceRequest(timeRequest);
+                        // System.out.println( "TimeAdvanceThread: Called timeAdvanceRequest() to go to: " + timeRequest.getTime() );
+                    } else if (_timeAdvanceMode == TimeAdvanceMode.NextEventRequest) {
+                        _rti.nextEventRequest(timeRequest);
+                        // System.out.println( "TimeAdvanceThread: Using nextEventRequest() to go to: " + timeRequest.getTime() );
+                    } else if (_timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequestAvailable) {
+                        _rti.timeAdvanceRequestAvailable(timeRequest);
+                        // System.out.println( "TimeAdvanceThread: Using timeAdvanceRequestAvailable() to go to: " + timeRequest.getTime() );
+                    } else if (_timeAdvanceMode == TimeAdvanceMode.NextEventRequestAvailable) {
+                        _rti.nextEventRequestAvailable(timeRequest);
+                        // System.out.println( "TimeAdvanceThread: Using nextEventRequestAvailable() to go to: " + timeRequest.getTime() );
+                    }
+                }
+                tarNotCalled = false;
+            } catch (FederationTimeAlreadyPassed f) {
+                logger.error("Time already passed detected.");
+                _synchronizedFederate.setTimeAdvanceNotGranted(false);
+                tarNotCalled = false;
+            } catch (Exception e) {
+            }
+
+            // AN INBOX WITH THE BlockTick OVERFLOW POLICY IS FULL:  DON'T TICK UNTIL ANOTHER THREAD OF THE FEDERATE
+            // EMPTIES IT.  THE TIMESTAMP-ORDER MESSAGES THAT PRECEDE THE GRANT ARRIVE IN THE TICKS BEFORE IT, AND A
+            // FEDERATE THAT ONLY TAKES MESSAGES WHILE IT PROCESSES A STEP WOULD NEVER EMPTY THE INBOX, SO TICKS ARE
+            // PUT OFF FOR AT MOST maxBlockedNanos PER TIME ADVANCE
+            long maxBlockedNanos = TimeUnit.MILLISECONDS.toNanos(_synchronizedFederate.getMaxBlockedTickTimeMs());
+            long blockedNanos = 0;
+            boolean blockedTickWarned = false;
+            while (_synchronizedFederate.getTimeAdvanceNotGranted()) {
+                if (_synchronizedFederate.isTickBlocked()) {
+                    if (blockedNanos < maxBlockedNanos) {
+                        _synchronizedFederate.countBlockedTick();
+                        long blockStartNanoTime = System.nanoTime();
+                        _synchronizedFederate.awaitTickUnblocked(
+                                Math.min(10, TimeUnit.NANOSECONDS.toMillis(maxBlockedNanos - blockedNanos) + 1)
+                        );
+                        blockedNanos += System.nanoTime() - blockStartNanoTime;
+                        continue;
+                    }
+                    if (!blockedTickWarned) {
+                        logger.warn(
+                                "inbox with the BlockTick overflow policy still full after {} ms:  ticking the RTI " +
+                                        "anyway, so the inbox exceeds its capacity",
+                                _synchronizedFederate.getMaxBlockedTickTimeMs()
+                        );
+                        blockedTickWarned = true;
+                    }
+                }
+                // BLOCKING TICK:  RETURNS AS SOON AS THE CALLBACKS (INCLUDING THE GRANT) THAT ARRIVE WITHIN
+                // timeAdvanceTickMinSeconds ARE PROCESSED, SO NO SLEEP IS NEEDED BETWEEN TICKS
                 try {
-                    // System.out.println( "TimeAdvanceThread: Using " + _timeAdvanceMode + " to request time: " + timeRequest.getTime() );
                     synchronized (_rti) {
-                        if (_timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequest) {
-                            _rti.timeAdvanceRequest(timeRequest);
-                            // System.out.println( "TimeAdvanceThread: Called timeAdvanceRequest() to go to: " + timeRequest.getTime() );
-                        } else if (_timeAdvanceMode == TimeAdvanceMode.NextEventRequest) {
-                            _rti.nextEventRequest(timeRequest);
-                            // System.out.println( "TimeAdvanceThread: Using nextEventRequest() to go to: " + timeRequest.getTime() );
-                        } else if (_timeAdvanceMode == TimeAdvanceMode.TimeAdvanceRequestAvailable) {
-                            _rti.timeAdvanceRequestAvailable(timeRequest);
-                            // System.out.println( "TimeAdvanceThread: Using timeAdvanceRequestAvailable() to go to: " + timeRequest.getTime() );
-                        } else if (_timeAdvanceMode == TimeAdvanceMode.NextEventRequestAvailable) {
-                            _rti.nextEventRequestAvailable(timeRequest);
-                            // System.out.println( "TimeAdvanceThread: Using nextEventRequestAvailable() to go to: " + timeRequest.getTime() );
+                        if (_synchronizedFederate.getTimeAdvanceNotGranted()) {
+                            _synchronizedFederate.flushRTICommands();
+                            _rti.tick(
+                                    SynchronizedFederate.timeAdvanceTickMinSeconds,
+                                    SynchronizedFederate.timeAdvanceTickMaxSeconds
+                            );
+                            if (_synchronizedFederate.isRTICommandQueueActive()) {
+                                _synchronizedFederate.refreshCachedLBTS();
+                            }
                         }
                     }
-                    tarNotCalled = false;
-                } catch (FederationTimeAlreadyPassed f) {
-                    logger.error("Time already passed detected.");
-                    _synchronizedFederate.setTimeAdvanceNotGranted(false);
-                    tarNotCalled = false;
                 } catch (Exception e) {
+                    // THE RTI COULD NOT BE TICKED:  WAIT FOR THE GRANT (E.G. IF ANOTHER THREAD TICKS) BEFORE RETRYING
+                    _synchronizedFederate.awaitTimeAdvanceGrant(10);
                 }
+            }
 
-                while (_synchronizedFederate.getTimeAdvanceNotGranted()) {
-                    try {
-                        synchronized (_rti) {
-                            _rti.tick();
-                        }
-                    } catch (Exception e) {
-                    }
-                    CpswtUtils.sleep(10);
-                }
+            // THE GRANT CALLBACK HAS ALREADY RECORDED THE GRANTED TIME
+            currentTime = _synchronizedFederate.getCachedCurrentTime();
+        }
 
-                currentTime = _synchronizedFederate.getCurrentTime();
-            }
+        _synchronizedFederate.stopQueuingRTICommands();
 
-            advanceTimeRequest.threadSyncStart(currentTime);
-            advanceTimeRequest.threadSyncEnd();
+        if (_stepLatencyRecorder != null) {
+            _grantNanoTime = _stepLatencyRecorder.record(StepPhase.Grant, requestNanoTime);
         }
+        return currentTime;
     }
-
 }
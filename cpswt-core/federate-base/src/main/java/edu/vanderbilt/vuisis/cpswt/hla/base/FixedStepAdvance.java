@@ -0,0 +1,227 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Coordinates a fixed-step federate thread with the {@link AdvanceTimeThread} without an
+ * {@link AdvanceTimeRequest} per step.  Step n of the federate is at time
+ * startTime + n * stepSize, and step 0 (the federate's time when the AdvanceTimeThread
+ * is started) is already granted.
+ * <p/>
+ * The federate thread calls {@link #awaitStep()} to wait until its next step is granted, and
+ * {@link #stepEnd()} when it has completed the step.  The AdvanceTimeThread requests the advance
+ * to the next step as soon as fewer than "window" granted steps have not been completed, so
+ * that, with a window of 1, it requests the advance to step n+1 as soon as the federate
+ * ends step n, and, with a window of K, it advances up to K-1 steps ahead of the federate.
+ * <p/>
+ * NOTE:  WITH A WINDOW GREATER THAN 1, THE RTI MAY HAVE GRANTED THE FEDERATE A TIME UP TO
+ * (K-1) * stepSize LATER THAN THE STEP IT IS PROCESSING, SO THE TIMESTAMPS OF THE MESSAGES IT
+ * SENDS MUST BE AT LEAST (K-1) * stepSize + lookahead LATER THAN THE TIME OF THE STEP.
+ * <p/>
+ * The program statements in the federate thread should look like this:
+ * ------
+ * FixedStepAdvance fixedStepAdvance = startFixedStepAdvanceThread( window );
+ * while( true ) {
+ *     double time = fixedStepAdvance.awaitStep();
+ *     // Perform processing for time "time"
+ *     // ...
+ *     fixedStepAdvance.stepEnd();
+ * }
+ * ------
+ */
+public class FixedStepAdvance {
+
+    private final double _startTime;
+    private final double _stepSize;
+    private final int _window;
+
+    // NUMBER OF STEPS GRANTED BY THE RTI (WRITTEN BY THE AdvanceTimeThread ONLY)
+    private volatile long _grantedStepCount = 1;
+
+    // NUMBER OF STEPS COMPLETED BY THE FEDERATE (WRITTEN BY THE FEDERATE THREAD ONLY)
+    private volatile long _endedStepCount = 0;
+
+    private volatile boolean _terminated = false;
+
+    private volatile Thread _stepThread = null;
+    private volatile Thread _advanceThread = null;
+
+    // NON-null IF THE FEDERATE RECORDS STEP LATENCIES (SEE StepLatencyRecorder)
+    private volatile StepLatencyRecorder _stepLatencyRecorder = null;
+    private volatile long _grantNanoTime;
+    private long _wakeupNanoTime;
+
+    public FixedStepAdvance(double startTime, double stepSize, int window) {
+        if (stepSize <= 0) {
+            throw new IllegalArgumentException("step size must be greater than 0, was " + stepSize);
+        }
+        if (window < 1) {
+            throw new IllegalArgumentException("window must be at least 1, was " + window);
+        }
+        _startTime = startTime;
+        _stepSize = stepSize;
+        _window = window;
+    }
+
+    public double getStepSize() {
+        return _stepSize;
+    }
+
+    public int getWindow() {
+        return _window;
+    }
+
+    /**
+     * Sets the recorder of the Wakeup and Processing phases of the federate's steps, or null to not record them.
+     * The Wakeup phase is only recorded for steps that the federate waits for.
+     *
+     * @param stepLatencyRecorder the recorder of the federate, or null
+     */
+    public void setStepLatencyRecorder(StepLatencyRecorder stepLatencyRecorder) {
+        _stepLatencyRecorder = stepLatencyRecorder;
+    }
+
+    /**
+     * Returns the time of the given step, i.e. startTime + step * stepSize.
+     *
+     * @param step index of the step, starting at 0
+     * @return the time of the step
+     */
+    public double getStepTime(long step) {
+        return _startTime + step * _stepSize;
+    }
+
+    /**
+     * Returns true if {@link #terminate()} has been called.
+     *
+     * @return true if {@link #terminate()} has been called, false otherwise
+     */
+    public boolean isTerminated() {
+        return _terminated;
+    }
+
+    //---------------
+    // FEDERATE SIDE
+    //---------------
+    /**
+     * Called by the federate thread to wait until its next step is granted.  Returns immediately if the
+     * AdvanceTimeThread has already been granted the step.
+     *
+     * @return the time of the step, or -1 if {@link #terminate()} was called before the step was granted
+     */
+    public double awaitStep() {
+        long step = _endedStepCount;
+        if (_grantedStepCount <= step) {
+            _stepThread = Thread.currentThread();
+            while(_grantedStepCount <= step && !_terminated) {
+                LockSupport.park(this);
+            }
+            _stepThread = null;
+            if (_grantedStepCount <= step) {
+                return -1;
+            }
+            if (_stepLatencyRecorder != null) {
+                _stepLatencyRecorder.record(StepPhase.Wakeup, _grantNanoTime);
+            }
+        }
+        if (_stepLatencyRecorder != null) {
+            _wakeupNanoTime = System.nanoTime();
+        }
+        return getStepTime(step);
+    }
+
+    /**
+     * Called by the federate thread when it has completed the processing of its current step, so that the
+     * AdvanceTimeThread may advance the federate to a further step.
+     */
+    public void stepEnd() {
+        if (_stepLatencyRecorder != null) {
+            _stepLatencyRecorder.record(StepPhase.Processing, _wakeupNanoTime);
+        }
+        _endedStepCount = _endedStepCount + 1;
+        Thread advanceThread = _advanceThread;
+        if (advanceThread != null) {
+            LockSupport.unpark(advanceThread);
+        }
+    }
+
+    /**
+     * Stops the AdvanceTimeThread from advancing the federate any further, and wakes the federate thread
+     * if it is waiting in {@link #awaitStep()}.
+     */
+    public void terminate() {
+        _terminated = true;
+        for(Thread thread: new Thread[] {_stepThread, _advanceThread}) {
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    //-------------------------
+    // AdvanceTimeThread SIDE
+    //-------------------------
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread class.
+     * Waits until the federate has completed enough steps for the next step to fall into the window.
+     *
+     * @return the index of the step to which to advance, or -1 if {@link #terminate()} has been called
+     */
+    public long awaitWindow() {
+        long step = _grantedStepCount;
+        if (step - _endedStepCount >= _window) {
+            _advanceThread = Thread.currentThread();
+            while(step - _endedStepCount >= _window && !_terminated) {
+                LockSupport.park(this);
+            }
+            _advanceThread = null;
+        }
+        return _terminated ? -1 : step;
+    }
+
+    /**
+     * DO NOT USE -- Should only be used directly by the AdvanceTimeThread class.
+     * Signals the federate thread that the RTI has granted the step returned by the last call to
+     * {@link #awaitWindow()}.
+     */
+    public void stepGranted() {
+        if (_stepLatencyRecorder != null) {
+            _grantNanoTime = System.nanoTime();
+        }
+        _grantedStepCount = _grantedStepCount + 1;
+        Thread stepThread = _stepThread;
+        if (stepThread != null) {
+            LockSupport.unpark(stepThread);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import edu.vanderbilt.vuisis.cpswt.hla.HlaClassDescriptor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Dispatches messages (e.g. interactions) to handlers that are registered per HLA class.
+ * <p/>
+ * A message is handled by the handler registered for its class or, if there is none, by the handler of
+ * its nearest superclass that has one.  Which handler that is, is resolved for every known class whenever
+ * a handler is registered, and the result is held in an array indexed by HlaClassDescriptor index.  As
+ * such, dispatching a message is a single array access.  Classes that become known after the last
+ * registration are resolved on their first dispatch.
+ *
+ * @param <T> the type of the messages
+ */
+public class HlaClassDispatcher<T> {
+
+    // MARKS A RESOLVED CLASS THAT HAS NO HANDLER (A null ENTRY IS A CLASS THAT HAS NOT BEEN RESOLVED)
+    private final Consumer<T> _noHandler = message -> { };
+
+    private final Function<? super T, HlaClassDescriptor> _hlaClassDescriptorFunction;
+
+    // ACCESSED ONLY WHILE HOLDING THE LOCK OF THIS DISPATCHER
+    private final Map<HlaClassDescriptor, Consumer<? super T>> _registeredHandlerMap = new HashMap<>();
+
+    private volatile Consumer<? super T>[] _resolvedHandlerArray = new_handler_array(0);
+
+    /**
+     * @param hlaClassDescriptorFunction returns the descriptor of the HLA class of a message
+     */
+    public HlaClassDispatcher(Function<? super T, HlaClassDescriptor> hlaClassDescriptorFunction) {
+        _hlaClassDescriptorFunction = hlaClassDescriptorFunction;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Consumer<? super T>[] new_handler_array(int size) {
+        return (Consumer<? super T>[]) new Consumer<?>[size];
+    }
+
+    /**
+     * Registers handler for messages of the hlaClassDescriptor class and of its subclasses that
+     * have no handler of their own.  Replaces any handler previously registered for the class.
+     *
+     * @param hlaClassDescriptor descriptor of the HLA class of the messages to handle
+     * @param handler handler of the messages
+     */
+    public synchronized void addHandler(HlaClassDescriptor hlaClassDescriptor, Consumer<? super T> handler) {
+        _registeredHandlerMap.put(hlaClassDescriptor, handler);
+
+        Consumer<? super T>[] resolvedHandlerArray = new_handler_array(HlaClassDescriptor.get_index_limit());
+        for(HlaClassDescriptor knownHlaClassDescriptor: HlaClassDescriptor.get_hla_class_descriptors()) {
+            int index = knownHlaClassDescriptor.getIndex();
+            if (index < resolvedHandlerArray.length) {
+                resolvedHandlerArray[index] = resolveHandler(knownHlaClassDescriptor);
+            }
+        }
+        _resolvedHandlerArray = resolvedHandlerArray;
+    }
+
+    public synchronized void removeHandler(HlaClassDescriptor hlaClassDescriptor) {
+        if (_registeredHandlerMap.remove(hlaClassDescriptor) != null) {
+            // RESOLVE AGAIN ON DEMAND
+            _resolvedHandlerArray = new_handler_array(0);
+        }
+    }
+
+    /**
+     * Passes message to the handler for its class.
+     *
+     * @param message message to dispatch
+     * @return true if there is a handler for the message's class, false otherwise
+     */
+    public boolean dispatch(T message) {
+        int index = _hlaClassDescriptorFunction.apply(message).getIndex();
+
+        Consumer<? super T>[] resolvedHandlerArray = _resolvedHandlerArray;
+        Consumer<? super T> handler = index < resolvedHandlerArray.length ? resolvedHandlerArray[index] : null;
+        if (handler == null) {
+            handler = resolveAndStoreHandler(_hlaClassDescriptorFunction.apply(message));
+        }
+
+        if (handler == _noHandler) {
+            return false;
+        }
+        handler.accept(message);
+        return true;
+    }
+
+    // MUST BE CALLED WHILE HOLDING THE LOCK OF THIS DISPATCHER
+    private Consumer<? super T> resolveHandler(HlaClassDescriptor hlaClassDescriptor) {
+        for(int depth = hlaClassDescriptor.getDepth() ; depth >= 0 ; --depth) {
+            Consumer<? super T> handler = _registeredHandlerMap.get(hlaClassDescriptor.getAncestorDescriptor(depth));
+            if (handler != null) {
+                return handler;
+            }
+        }
+        return _noHandler;
+    }
+
+    private synchronized Consumer<? super T> resolveAndStoreHandler(HlaClassDescriptor hlaClassDescriptor) {
+        Consumer<? super T> handler = resolveHandler(hlaClassDescriptor);
+
+        int index = hlaClassDescriptor.getIndex();
+        Consumer<? super T>[] resolvedHandlerArray = _resolvedHandlerArray;
+        if (index >= resolvedHandlerArray.length) {
+            resolvedHandlerArray = Arrays.copyOf(
+              resolvedHandlerArray, Math.max(index + 1, HlaClassDescriptor.get_index_limit())
+            );
+        } else {
+            resolvedHandlerArray = resolvedHandlerArray.clone();
+        }
+        resolvedHandlerArray[index] = handler;
+        _resolvedHandlerArray = resolvedHandlerArray;
+
+        return handler;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, in the style of HdrHistogram:  values are counted in
+ * log-linear buckets, i.e. each power-of-2 range of values is split into SUB_BUCKET_COUNT equal
+ * sub-buckets, so that a value is recorded with a relative error of at most 1/SUB_BUCKET_COUNT
+ * (about 3%) in constant memory, whatever its magnitude.
+ * <p/>
+ * Recording is a few arithmetic operations and one atomic increment, so it is safe and cheap to call
+ * from several threads.  Reading (e.g. {@link #getValueAtPercentile(double)}) is not atomic with respect
+ * to concurrent recording, but is exact for the values recorded before it was called.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+    // SUB_BUCKET_COUNT BUCKETS FOR THE VALUES BELOW SUB_BUCKET_COUNT, AND SUB_BUCKET_COUNT BUCKETS FOR EACH SHIFT
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray _bucketCountArray = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder _count = new LongAdder();
+    private final LongAdder _sum = new LongAdder();
+    private final LongAccumulator _max = new LongAccumulator(Math::max, 0);
+
+    static int get_bucket_index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int)value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + (int)((value >>> shift) & SUB_BUCKET_MASK);
+    }
+
+    static long get_bucket_low_value(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        return ((long)(SUB_BUCKET_COUNT + bucketIndex % SUB_BUCKET_COUNT)) << shift;
+    }
+
+    static long get_bucket_high_value(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        return get_bucket_low_value(bucketIndex) + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param latencyNanos the latency, in nanoseconds (a negative value is recorded as 0)
+     */
+    public void record(long latencyNanos) {
+        if (latencyNanos < 0) {
+            latencyNanos = 0;
+        }
+        _bucketCountArray.incrementAndGet(get_bucket_index(latencyNanos));
+        _count.increment();
+        _sum.add(latencyNanos);
+        _max.accumulate(latencyNanos);
+    }
+
+    public long getCount() {
+        return _count.sum();
+    }
+
+    public long getMax() {
+        return _max.get();
+    }
+
+    public double getMean() {
+        long count = _count.sum();
+        return count == 0 ? 0 : (double)_sum.sum() / count;
+    }
+
+    /**
+     * Returns the smallest value, to within the precision of the histogram, that is greater than or equal to the
+     * given percentage of the recorded values.
+     *
+     * @param percentile percentage of the recorded values, from 0 to 100
+     * @return the value at the percentile, in nanoseconds, or 0 if no value has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = 0;
+        for(int ix = 0 ; ix < BUCKET_COUNT ; ++ix) {
+            count += _bucketCountArray.get(ix);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long targetCount = Math.max(1, (long)Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long cumulativeCount = 0;
+        for(int ix = 0 ; ix < BUCKET_COUNT ; ++ix) {
+            cumulativeCount += _bucketCountArray.get(ix);
+            if (cumulativeCount >= targetCount) {
+                return Math.min(get_bucket_high_value(ix), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    public void reset() {
+        for(int ix = 0 ; ix < BUCKET_COUNT ; ++ix) {
+            _bucketCountArray.set(ix, 0);
+        }
+        _count.reset();
+        _sum.reset();
+        _max.reset();
+    }
+
+    /**
+     * Returns a one-line summary of the histogram:  the count, and the mean, 50th, 90th, 99th and 99.9th percentile
+     * and maximum latencies in microseconds.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "count=%d mean=%.1fus p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                getCount(),
+                getMean() / 1000.0,
+                getValueAtPercentile(50) / 1000.0,
+                getValueAtPercentile(90) / 1000.0,
+                getValueAtPercentile(99) / 1000.0,
+                getValueAtPercentile(99.9) / 1000.0,
+                getMax() / 1000.0
+        );
+    }
+}
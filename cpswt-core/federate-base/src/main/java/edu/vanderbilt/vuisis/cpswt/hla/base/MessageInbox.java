@@ -0,0 +1,667 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * The inbox of messages (e.g. interactions) that a federate has received from the RTI.
+ * <p/>
+ * Receive-order messages are kept in FIFO order, and timestamp-order messages in the order given by
+ * a comparator.  When messages are taken from the inbox as a whole, all receive-order messages come
+ * before the timestamp-order messages.
+ * <p/>
+ * Adding a message never locks:  each kind of message goes into its own MpscQueue.  Timestamp-order
+ * messages are moved from their MpscQueue into a heap, which only consumers access, when a consumer
+ * next looks at them.  Polling does not allocate (beyond growing the heap when it is full).  A consumer
+ * that waits for a message parks its thread, and is unparked by the producer that adds a message.
+ * <p/>
+ * The inbox is unbounded unless it is given a capacity (see setCapacity), and/or capacities for the
+ * classes of its messages (see setClassifier and setClassCapacity).  A message that is added when the
+ * inbox, or its class, is at capacity is handled according to an OverflowPolicy, and counted (see
+ * getOverflowCount).  Capacities are approximate:  producers that add messages at the same time may
+ * exceed them slightly.
+ * <p/>
+ * The inbox can number its timestamp-order messages in the order in which they are added (see
+ * setSequencer), e.g. so that the comparator can order messages with the same timestamp as they were
+ * received.
+ *
+ * @param <T> the type of the messages
+ */
+public class MessageInbox<T> {
+
+    private final MpscQueue<T> _receiveOrderQueue = new MpscQueue<>();
+
+    private final MpscQueue<T> _timestampOrderQueue = new MpscQueue<>();
+
+    // ACCESSED ONLY WHILE HOLDING _consumerLock
+    private final PriorityQueue<T> _timestampOrderHeap;
+
+    // RECEIVE-ORDER MESSAGES MOVED OUT OF _receiveOrderQueue TO BE SEARCHED ON OVERFLOW.  THEY ARE OLDER THAN
+    // THOSE STILL IN _receiveOrderQueue.  ACCESSED ONLY WHILE HOLDING _consumerLock
+    private final ArrayDeque<T> _receiveOrderBuffer = new ArrayDeque<>();
+
+    // SERIALIZES CONSUMERS, AS MpscQueue ALLOWS ONE CONSUMER AT A TIME
+    private final Object _consumerLock = new Object();
+
+    private final ConcurrentLinkedQueue<Thread> _waitingThreadQueue = new ConcurrentLinkedQueue<>();
+
+    // THREADS WAITING FOR THE INBOX TO STOP BLOCKING TICKS (SEE awaitTickUnblocked)
+    private final ConcurrentLinkedQueue<Thread> _tickBlockedThreadQueue = new ConcurrentLinkedQueue<>();
+
+    private static final int RECEIVE_ORDER = 1;
+    private static final int TIMESTAMP_ORDER = 2;
+    private static final int ALL = RECEIVE_ORDER | TIMESTAMP_ORDER;
+
+    public MessageInbox(Comparator<? super T> timestampOrderComparator) {
+        _timestampOrderHeap = new PriorityQueue<>(16, timestampOrderComparator);
+    }
+
+    //----------
+    // CAPACITY
+    //----------
+    private static class Limit {
+        private volatile int _capacity = Integer.MAX_VALUE;
+        private volatile OverflowPolicy _overflowPolicy = OverflowPolicy.DropNewest;
+        private final AtomicInteger _count = new AtomicInteger(0);
+
+        private boolean isFull() {
+            return _count.get() >= _capacity;
+        }
+    }
+
+    // ALSO COUNTS THE MESSAGES IN THE INBOX
+    private final Limit _inboxLimit = new Limit();
+
+    private volatile Function<? super T, ?> _classifier = null;
+
+    private final Map<Object, Limit> _classLimitMap = new ConcurrentHashMap<>();
+
+    private volatile BiPredicate<? super T, ? super T> _coalesceMatcher = null;
+
+    private volatile BiConsumer<? super T, ? super T> _coalesceMerger = null;
+
+    private volatile Consumer<? super T> _dropHandler = null;
+
+    private volatile ObjLongConsumer<? super T> _sequencer = null;
+
+    private final AtomicLong _timestampOrderSequence = new AtomicLong(0);
+
+    private final LongAdder[] _overflowCountArray = new LongAdder[OverflowPolicy.values().length];
+    {
+        for(int ix = 0 ; ix < _overflowCountArray.length ; ++ix) {
+            _overflowCountArray[ix] = new LongAdder();
+        }
+    }
+
+    /**
+     * Limits the number of messages in the inbox to capacity.
+     *
+     * @param capacity maximum number of messages in the inbox
+     * @param overflowPolicy what to do with a message that is added when the inbox is full
+     */
+    public void setCapacity(int capacity, OverflowPolicy overflowPolicy) {
+        _inboxLimit._overflowPolicy = overflowPolicy;
+        _inboxLimit._capacity = capacity;
+    }
+
+    /**
+     * Sets the function that gives the class of a message (e.g. its HlaClassDescriptor), for use with
+     * setClassCapacity.  Should be called before any messages are added.
+     *
+     * @param classifier function that returns the class of a message, or null if it has none
+     */
+    public void setClassifier(Function<? super T, ?> classifier) {
+        _classifier = classifier;
+    }
+
+    /**
+     * Limits the number of messages of class messageClass in the inbox to capacity.  Should be called before
+     * any messages of the class are added.
+     *
+     * @param messageClass class of messages, as given by the classifier (see setClassifier)
+     * @param capacity maximum number of messages of the class in the inbox
+     * @param overflowPolicy what to do with a message of the class that is added when the class is full
+     */
+    public void setClassCapacity(Object messageClass, int capacity, OverflowPolicy overflowPolicy) {
+        Limit limit = _classLimitMap.computeIfAbsent(messageClass, key -> new Limit());
+        limit._overflowPolicy = overflowPolicy;
+        limit._capacity = capacity;
+    }
+
+    /**
+     * Sets the coalescer for the Coalesce overflow policy.  matcher.test(queuedMessage, newMessage) should
+     * return true if newMessage can be merged into queuedMessage, e.g. if they are for the same object and
+     * have the same timestamp.  A new message is only merged into a queued message of the same order type
+     * (receive-order or timestamp-order), and of those that match, into the latest one, i.e. the one that
+     * would be polled last.  merger.accept(queuedMessage, newMessage) then merges newMessage into
+     * queuedMessage.  Both are called while consumers are locked out, and merger must not change the order
+     * of queuedMessage.
+     *
+     * @param matcher returns true if a new message can be merged into a queued message
+     * @param merger merges a new message into a queued message
+     */
+    public void setCoalescer(BiPredicate<? super T, ? super T> matcher, BiConsumer<? super T, ? super T> merger) {
+        _coalesceMerger = merger;
+        _coalesceMatcher = matcher;
+    }
+
+    /**
+     * Sets the handler that is passed each queued message that is dropped to make room for a new message
+     * (see OverflowPolicy.DropOldest), e.g. to release it.
+     *
+     * @param dropHandler handler of dropped messages
+     */
+    public void setDropHandler(Consumer<? super T> dropHandler) {
+        _dropHandler = dropHandler;
+    }
+
+    /**
+     * Sets the sequencer that is passed each timestamp-order message, and its sequence number, when the message
+     * is added, before it is queued.  Sequence numbers count up from 0 in the order in which the messages are
+     * added, e.g. so that the sequencer can store the sequence number for the comparator to order messages with
+     * the same timestamp.  Should be called before any messages are added.
+     *
+     * @param sequencer receives each timestamp-order message and its sequence number
+     */
+    public void setSequencer(ObjLongConsumer<? super T> sequencer) {
+        _sequencer = sequencer;
+    }
+
+    /**
+     * Returns the number of messages that were added while the inbox, or their class, was full, and were
+     * handled according to overflowPolicy.  For DropOldest, this is the number of messages dropped, and
+     * for Coalesce, the number of messages merged into a queued message.
+     *
+     * @param overflowPolicy overflow policy
+     * @return the number of messages handled according to overflowPolicy
+     */
+    public long getOverflowCount(OverflowPolicy overflowPolicy) {
+        return _overflowCountArray[overflowPolicy.ordinal()].sum();
+    }
+
+    /**
+     * Returns true if the inbox, or a class of its messages, is full, and has the BlockTick overflow
+     * policy, i.e. the federate should not tick the RTI until messages have been removed from the inbox.
+     *
+     * @return true if the federate should not tick the RTI, false otherwise
+     */
+    public boolean isBlockingTick() {
+        if (_inboxLimit._overflowPolicy == OverflowPolicy.BlockTick && _inboxLimit.isFull()) {
+            return true;
+        }
+        if (!_classLimitMap.isEmpty()) {
+            for(Limit limit: _classLimitMap.values()) {
+                if (limit._overflowPolicy == OverflowPolicy.BlockTick && limit.isFull()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits until the inbox is not blocking ticks (see isBlockingTick), or for at most timeoutNanos
+     * nanoseconds.  The waiting thread is parked, and unparked when a consumer removes a message.
+     *
+     * @param timeoutNanos maximum time to wait, in nanoseconds
+     * @return true if the inbox is not blocking ticks, false otherwise
+     */
+    public boolean awaitTickUnblocked(long timeoutNanos) {
+        if (!isBlockingTick()) {
+            return true;
+        }
+
+        Thread currentThread = Thread.currentThread();
+        long deadline = System.nanoTime() + timeoutNanos;
+        _tickBlockedThreadQueue.add(currentThread);
+        try {
+            long remainingNanos;
+            while(isBlockingTick() && (remainingNanos = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+        } finally {
+            _tickBlockedThreadQueue.remove(currentThread);
+        }
+        return !isBlockingTick();
+    }
+
+    private Object getMessageClass(T message) {
+        Function<? super T, ?> classifier = _classifier;
+        return classifier == null ? null : classifier.apply(message);
+    }
+
+    private Limit getClassLimit(Object messageClass) {
+        return messageClass == null || _classLimitMap.isEmpty() ? null : _classLimitMap.get(messageClass);
+    }
+
+    // MUST BE CALLED FOR EVERY MESSAGE THAT IS REMOVED FROM THE INBOX
+    private void onRemove(T message) {
+        _inboxLimit._count.decrementAndGet();
+        if (!_classLimitMap.isEmpty()) {
+            Limit classLimit = getClassLimit(getMessageClass(message));
+            if (classLimit != null) {
+                classLimit._count.updateAndGet(count -> count > 0 ? count - 1 : 0);
+            }
+        }
+        if (!_tickBlockedThreadQueue.isEmpty()) {
+            for(Thread thread: _tickBlockedThreadQueue) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    //-----------
+    // PRODUCERS
+    //-----------
+    /**
+     * Adds a receive-order message to the inbox.
+     *
+     * @param message message to add
+     * @return true if message was queued, false if it was dropped or merged into a queued message
+     */
+    public boolean addReceiveOrder(T message) {
+        return add(message, RECEIVE_ORDER);
+    }
+
+    /**
+     * Adds a timestamp-order message to the inbox.
+     *
+     * @param message message to add
+     * @return true if message was queued, false if it was dropped or merged into a queued message
+     */
+    public boolean addTimestampOrder(T message) {
+        ObjLongConsumer<? super T> sequencer = _sequencer;
+        if (sequencer != null) {
+            sequencer.accept(message, _timestampOrderSequence.getAndIncrement());
+        }
+        return add(message, TIMESTAMP_ORDER);
+    }
+
+    private boolean add(T message, int source) {
+        Object messageClass = getMessageClass(message);
+        Limit classLimit = getClassLimit(messageClass);
+
+        Limit fullLimit = null;
+        if (classLimit != null && classLimit.isFull()) {
+            fullLimit = classLimit;
+        } else if (_inboxLimit.isFull()) {
+            fullLimit = _inboxLimit;
+            messageClass = null;
+        }
+
+        if (fullLimit != null) {
+            OverflowPolicy overflowPolicy = fullLimit._overflowPolicy;
+            switch (overflowPolicy) {
+                case DropNewest:
+                    _overflowCountArray[overflowPolicy.ordinal()].increment();
+                    return false;
+                case Coalesce:
+                    if (coalesce(message, source)) {
+                        _overflowCountArray[overflowPolicy.ordinal()].increment();
+                        return false;
+                    }
+                    // NOTHING TO MERGE message INTO, SO MAKE ROOM FOR IT
+                    // FALL THROUGH
+                case DropOldest:
+                    if (removeOldest(messageClass)) {
+                        _overflowCountArray[OverflowPolicy.DropOldest.ordinal()].increment();
+                    }
+                    break;
+                case BlockTick:
+                    _overflowCountArray[overflowPolicy.ordinal()].increment();
+                    break;
+            }
+        }
+
+        _inboxLimit._count.incrementAndGet();
+        if (classLimit != null) {
+            classLimit._count.incrementAndGet();
+        }
+        (source == RECEIVE_ORDER ? _receiveOrderQueue : _timestampOrderQueue).offer(message);
+        unparkWaitingThreads();
+        return true;
+    }
+
+    // MUST BE CALLED WHILE HOLDING _consumerLock
+    private void moveReceiveOrderMessagesToBuffer() {
+        T message;
+        while((message = _receiveOrderQueue.poll()) != null) {
+            _receiveOrderBuffer.add(message);
+        }
+    }
+
+    // MERGES message INTO THE LATEST QUEUED MESSAGE FROM source THAT MATCHES IT (SEE setCoalescer)
+    private boolean coalesce(T message, int source) {
+        BiPredicate<? super T, ? super T> matcher = _coalesceMatcher;
+        BiConsumer<? super T, ? super T> merger = _coalesceMerger;
+        if (matcher == null || merger == null) {
+            return false;
+        }
+
+        synchronized (_consumerLock) {
+            T latestMessage = null;
+            if (source == RECEIVE_ORDER) {
+                moveReceiveOrderMessagesToBuffer();
+                Iterator<T> receiveOrderIterator = _receiveOrderBuffer.descendingIterator();
+                while(receiveOrderIterator.hasNext()) {
+                    T queuedMessage = receiveOrderIterator.next();
+                    if (matcher.test(queuedMessage, message)) {
+                        latestMessage = queuedMessage;
+                        break;
+                    }
+                }
+            } else {
+                // THE HEAP'S ITERATOR IS NOT IN ORDER:  LOOK AT ALL OF ITS MESSAGES
+                moveTimestampOrderMessagesToHeap();
+                Comparator<? super T> comparator = _timestampOrderHeap.comparator();
+                for(T queuedMessage: _timestampOrderHeap) {
+                    if (
+                      matcher.test(queuedMessage, message) &&
+                      (latestMessage == null || comparator.compare(queuedMessage, latestMessage) > 0)
+                    ) {
+                        latestMessage = queuedMessage;
+                    }
+                }
+            }
+
+            if (latestMessage != null) {
+                merger.accept(latestMessage, message);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // REMOVES THE MESSAGE (OF messageClass, IF NOT null) THAT WOULD BE POLLED FIRST
+    private boolean removeOldest(Object messageClass) {
+        T removedMessage = null;
+        synchronized (_consumerLock) {
+            if (messageClass == null) {
+                removedMessage = pollMessage(ALL);
+            } else {
+                moveReceiveOrderMessagesToBuffer();
+                Iterator<T> receiveOrderIterator = _receiveOrderBuffer.iterator();
+                while(receiveOrderIterator.hasNext()) {
+                    T queuedMessage = receiveOrderIterator.next();
+                    if (messageClass.equals(getMessageClass(queuedMessage))) {
+                        receiveOrderIterator.remove();
+                        removedMessage = queuedMessage;
+                        break;
+                    }
+                }
+
+                if (removedMessage == null) {
+                    moveTimestampOrderMessagesToHeap();
+                    Comparator<? super T> comparator = _timestampOrderHeap.comparator();
+                    for(T queuedMessage: _timestampOrderHeap) {
+                        if (
+                          messageClass.equals(getMessageClass(queuedMessage)) &&
+                          (removedMessage == null || comparator.compare(queuedMessage, removedMessage) < 0)
+                        ) {
+                            removedMessage = queuedMessage;
+                        }
+                    }
+                    if (removedMessage != null) {
+                        Iterator<T> timestampOrderIterator = _timestampOrderHeap.iterator();
+                        while(timestampOrderIterator.hasNext()) {
+                            if (timestampOrderIterator.next() == removedMessage) {
+                                timestampOrderIterator.remove();
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        if (removedMessage != null) {
+            onRemove(removedMessage);
+            Consumer<? super T> dropHandler = _dropHandler;
+            if (dropHandler != null) {
+                dropHandler.accept(removedMessage);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void unparkWaitingThreads() {
+        if (!_waitingThreadQueue.isEmpty()) {
+            for(Thread thread: _waitingThreadQueue) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    //-----------
+    // CONSUMERS
+    //-----------
+    public T poll() {
+        return poll(ALL);
+    }
+
+    public T pollReceiveOrder() {
+        return poll(RECEIVE_ORDER);
+    }
+
+    public T pollTimestampOrder() {
+        return poll(TIMESTAMP_ORDER);
+    }
+
+    public T take() {
+        return take(ALL);
+    }
+
+    public T takeReceiveOrder() {
+        return take(RECEIVE_ORDER);
+    }
+
+    public T takeTimestampOrder() {
+        return take(TIMESTAMP_ORDER);
+    }
+
+    /**
+     * Removes up to maxMessages messages from the inbox, in the order in which "poll" would return them,
+     * and adds them to collection.  The consumer lock is taken once for all of the messages.
+     *
+     * @param collection collection to which to add the messages
+     * @param maxMessages maximum number of messages to remove
+     * @return the number of messages removed
+     */
+    public int drainTo(Collection<? super T> collection, int maxMessages) {
+        return drainTo(collection, maxMessages, message -> true);
+    }
+
+    /**
+     * Like drainTo(collection, maxMessages), except that timestamp-order messages are only removed while
+     * the next one satisfies timestampOrderCondition, e.g. has a timestamp that is not greater than some
+     * time.  All receive-order messages (up to maxMessages) are removed.
+     *
+     * @param collection collection to which to add the messages
+     * @param maxMessages maximum number of messages to remove
+     * @param timestampOrderCondition condition that the next timestamp-order message must satisfy to be removed
+     * @return the number of messages removed
+     */
+    public int drainTo(
+      Collection<? super T> collection, int maxMessages, Predicate<? super T> timestampOrderCondition
+    ) {
+        int count = 0;
+        synchronized (_consumerLock) {
+            T message;
+            while(count < maxMessages && (message = pollReceiveOrderMessage()) != null) {
+                onRemove(message);
+                collection.add(message);
+                ++count;
+            }
+
+            moveTimestampOrderMessagesToHeap();
+            while(
+              count < maxMessages &&
+              (message = _timestampOrderHeap.peek()) != null &&
+              timestampOrderCondition.test(message)
+            ) {
+                onRemove(message);
+                collection.add(_timestampOrderHeap.poll());
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return isEmpty(ALL);
+    }
+
+    public boolean isReceiveOrderEmpty() {
+        return isEmpty(RECEIVE_ORDER);
+    }
+
+    public boolean isTimestampOrderEmpty() {
+        return isEmpty(TIMESTAMP_ORDER);
+    }
+
+    public int size() {
+        synchronized (_consumerLock) {
+            return _receiveOrderBuffer.size() + _receiveOrderQueue.size() +
+              _timestampOrderQueue.size() + _timestampOrderHeap.size();
+        }
+    }
+
+    public int sizeReceiveOrder() {
+        synchronized (_consumerLock) {
+            return _receiveOrderBuffer.size() + _receiveOrderQueue.size();
+        }
+    }
+
+    public int sizeTimestampOrder() {
+        synchronized (_consumerLock) {
+            return _timestampOrderQueue.size() + _timestampOrderHeap.size();
+        }
+    }
+
+    // MUST BE CALLED WHILE HOLDING _consumerLock
+    private void moveTimestampOrderMessagesToHeap() {
+        T message;
+        while((message = _timestampOrderQueue.poll()) != null) {
+            _timestampOrderHeap.add(message);
+        }
+    }
+
+    // MUST BE CALLED WHILE HOLDING _consumerLock
+    private T pollReceiveOrderMessage() {
+        return _receiveOrderBuffer.isEmpty() ? _receiveOrderQueue.poll() : _receiveOrderBuffer.poll();
+    }
+
+    private T poll(int source) {
+        T message = pollMessage(source);
+        if (message != null) {
+            onRemove(message);
+        }
+        return message;
+    }
+
+    private T pollMessage(int source) {
+        synchronized (_consumerLock) {
+            if ((source & RECEIVE_ORDER) != 0) {
+                T message = pollReceiveOrderMessage();
+                if (message != null) {
+                    return message;
+                }
+            }
+            if ((source & TIMESTAMP_ORDER) != 0) {
+                moveTimestampOrderMessagesToHeap();
+                return _timestampOrderHeap.poll();
+            }
+            return null;
+        }
+    }
+
+    private boolean isEmpty(int source) {
+        synchronized (_consumerLock) {
+            if ((source & RECEIVE_ORDER) != 0 && (!_receiveOrderBuffer.isEmpty() || !_receiveOrderQueue.isEmpty())) {
+                return false;
+            }
+            return (source & TIMESTAMP_ORDER) == 0 ||
+              (_timestampOrderQueue.isEmpty() && _timestampOrderHeap.isEmpty());
+        }
+    }
+
+    private T take(int source) {
+        Thread currentThread = Thread.currentThread();
+        boolean interrupted = false;
+        try {
+            while(true) {
+                T message = poll(source);
+                if (message != null) {
+                    return message;
+                }
+
+                // REGISTER AS WAITING, THEN CHECK AGAIN, SO THAT A MESSAGE ADDED IN BETWEEN IS NOT MISSED
+                _waitingThreadQueue.add(currentThread);
+                try {
+                    message = poll(source);
+                    if (message != null) {
+                        return message;
+                    }
+                    LockSupport.park(this);
+                    // AS BEFORE, take IS NOT INTERRUPTIBLE:  THE INTERRUPT IS RESTORED WHEN take RETURNS
+                    if (Thread.interrupted()) {
+                        interrupted = true;
+                    }
+                } finally {
+                    _waitingThreadQueue.remove(currentThread);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                currentThread.interrupt();
+            }
+        }
+    }
+}
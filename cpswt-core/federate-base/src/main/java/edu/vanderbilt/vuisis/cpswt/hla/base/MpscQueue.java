@@ -0,0 +1,118 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An unbounded multiple-producer single-consumer FIFO queue.
+ * <p/>
+ * Producers never lock:  "offer" links a new node to the tail of the queue with a single atomic
+ * exchange.  Only one thread at a time may call the consumer methods ("poll", "peek"); they do not
+ * allocate.
+ * <p/>
+ * An element becomes visible to the consumer only once it, and every element offered before it, has been
+ * linked:  while one producer is between its atomic exchange and linking its node, the elements offered
+ * after it by other producers, even if their "offer" has returned, are not visible.  So "poll", "peek" and
+ * "isEmpty" may briefly report an empty queue when it is not, and callers must not treat an empty result
+ * as proof that no element has been offered.
+ *
+ * @param <T> the type of the elements of the queue
+ */
+public class MpscQueue<T> {
+
+    private static class Node<T> {
+        private T _value;
+        private volatile Node<T> _next = null;
+
+        private Node(T value) {
+            _value = value;
+        }
+    }
+
+    // _head IS A DUMMY NODE:  THE FIRST ELEMENT OF THE QUEUE IS IN _head._next
+    private volatile Node<T> _head = new Node<>(null);
+
+    private final AtomicReference<Node<T>> _tail = new AtomicReference<>(_head);
+
+    //----------------
+    // PRODUCER METHODS
+    //----------------
+    public void offer(T value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        Node<T> node = new Node<>(value);
+        Node<T> previousTail = _tail.getAndSet(node);
+        previousTail._next = node;
+    }
+
+    //----------------
+    // CONSUMER METHODS
+    //----------------
+    public T poll() {
+        Node<T> head = _head;
+        Node<T> next = head._next;
+        if (next == null) {
+            return null;
+        }
+        T value = next._value;
+        next._value = null;
+        _head = next;
+        return value;
+    }
+
+    public T peek() {
+        Node<T> next = _head._next;
+        return next == null ? null : next._value;
+    }
+
+    //--------------------------------------------------------
+    // CAN BE CALLED FROM ANY THREAD, BUT ARE ONLY A SNAPSHOT
+    //--------------------------------------------------------
+    public boolean isEmpty() {
+        return _head._next == null;
+    }
+
+    /**
+     * Returns the number of elements in the queue.  Unlike the other methods, this takes time
+     * proportional to the size of the queue.
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        int size = 0;
+        for(Node<T> node = _head._next ; node != null ; node = node._next) {
+            ++size;
+        }
+        return size;
+    }
+}
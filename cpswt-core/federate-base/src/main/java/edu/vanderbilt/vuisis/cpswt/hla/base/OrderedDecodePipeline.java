@@ -0,0 +1,211 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs decoding tasks (e.g. creating interactions from the raw data received from the RTI) on a
+ * fixed pool of worker threads, and passes their results to a consumer in the order in which the
+ * tasks were submitted.
+ * <p/>
+ * At most "capacity" tasks wait for a worker.  When that many are waiting, the submitting thread runs
+ * the task itself, which keeps a fast producer from outrunning the workers.  The submitting thread also
+ * runs the tasks that are submitted after {@link #shutdown()}.
+ * <p/>
+ * Results are passed to the consumer by one thread at a time, so the consumer need not be thread-safe
+ * with respect to itself.  A task that fails, or whose result is null, is skipped.
+ * <p/>
+ * The workers are daemon threads, and are virtual threads if so requested and the JDK supports them
+ * (see CpswtUtils.newThread).
+ *
+ * @param <T> the type of the results of the tasks
+ */
+public class OrderedDecodePipeline<T> {
+
+    private static final Logger logger = LogManager.getLogger(OrderedDecodePipeline.class);
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static class Slot<T> {
+        private final Supplier<T> _task;
+        private T _result = null;
+        private volatile boolean _done = false;
+
+        private Slot(Supplier<T> task) {
+            _task = task;
+        }
+    }
+
+    private final Consumer<T> _consumer;
+
+    private final ThreadPoolExecutor _threadPoolExecutor;
+
+    // SLOTS IN SUBMISSION ORDER, NOT YET DELIVERED.  GUARDED BY ITS OWN LOCK
+    private final ArrayDeque<Slot<T>> _slotQueue = new ArrayDeque<>();
+
+    // HELD BY THE THREAD THAT IS PASSING RESULTS TO _consumer
+    private final Object _deliveryLock = new Object();
+
+    // RUNS A REJECTED TASK ON THE SUBMITTING THREAD.  UNLIKE ThreadPoolExecutor.CallerRunsPolicy, IT ALSO RUNS THE
+    // TASK IF THE EXECUTOR HAS BEEN SHUT DOWN:  ITS SLOT IS ALREADY IN _slotQueue, AND IF THE TASK WERE DISCARDED,
+    // THE SLOT WOULD NEVER BE DONE, AND SO NEITHER IT NOR ANY LATER SLOT WOULD BE DELIVERED
+    private static final RejectedExecutionHandler _runOnSubmittingThread = (runnable, executor) -> runnable.run();
+
+    public OrderedDecodePipeline(
+      String name, int numberOfThreads, int capacity, boolean useVirtualThreads, Consumer<T> consumer
+    ) {
+        _consumer = consumer;
+
+        AtomicInteger threadNumber = new AtomicInteger(0);
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = CpswtUtils.newThread(
+              name + "-" + threadNumber.incrementAndGet(), runnable, useVirtualThreads
+            );
+            // VIRTUAL THREADS ARE ALWAYS DAEMON THREADS
+            if (!thread.isDaemon()) {
+                thread.setDaemon(true);
+            }
+            return thread;
+        };
+
+        _threadPoolExecutor = new ThreadPoolExecutor(
+          numberOfThreads, numberOfThreads, 0, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(capacity), threadFactory, _runOnSubmittingThread
+        );
+    }
+
+    public OrderedDecodePipeline(String name, int numberOfThreads, int capacity, Consumer<T> consumer) {
+        this(name, numberOfThreads, capacity, false, consumer);
+    }
+
+    public OrderedDecodePipeline(String name, int numberOfThreads, boolean useVirtualThreads, Consumer<T> consumer) {
+        this(name, numberOfThreads, DEFAULT_CAPACITY, useVirtualThreads, consumer);
+    }
+
+    public OrderedDecodePipeline(String name, int numberOfThreads, Consumer<T> consumer) {
+        this(name, numberOfThreads, DEFAULT_CAPACITY, false, consumer);
+    }
+
+    /**
+     * Submits task to be run by a worker thread.  Its result will be passed to the consumer after
+     * the results of all tasks submitted before it.
+     *
+     * @param task task to run
+     */
+    public void submit(Supplier<T> task) {
+        Slot<T> slot = new Slot<>(task);
+        synchronized (_slotQueue) {
+            _slotQueue.add(slot);
+        }
+        _threadPoolExecutor.execute(() -> run(slot));
+    }
+
+    private void run(Slot<T> slot) {
+        try {
+            slot._result = slot._task.get();
+        } catch (RuntimeException e) {
+            logger.error("decoding task failed", e);
+        }
+        slot._done = true;
+
+        deliver();
+    }
+
+    private void deliver() {
+        synchronized (_deliveryLock) {
+            while(true) {
+                Slot<T> slot;
+                synchronized (_slotQueue) {
+                    slot = _slotQueue.peek();
+                    if (slot == null || !slot._done) {
+                        return;
+                    }
+                    _slotQueue.poll();
+                }
+
+                if (slot._result != null) {
+                    try {
+                        _consumer.accept(slot._result);
+                    } catch (RuntimeException e) {
+                        logger.error("consumer of decoded result failed", e);
+                    }
+                }
+
+                synchronized (_slotQueue) {
+                    if (_slotQueue.isEmpty()) {
+                        _slotQueue.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until the results of all tasks submitted so far (and of any tasks submitted while waiting)
+     * have been passed to the consumer.
+     */
+    public void awaitDelivery() {
+        boolean interrupted = false;
+        synchronized (_slotQueue) {
+            while(!_slotQueue.isEmpty()) {
+                try {
+                    _slotQueue.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the worker threads once the tasks that have been submitted are done.  Tasks submitted after
+     * this is called are run by the submitting thread.
+     */
+    public void shutdown() {
+        _threadPoolExecutor.shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+/**
+ * What a MessageInbox does with a message that is added when the inbox (or the HLA class of the message)
+ * is at its capacity.
+ */
+public enum OverflowPolicy {
+    // THE MESSAGE IS QUEUED, AND THE OLDEST QUEUED MESSAGE (OF THE SAME CLASS, FOR A CLASS CAPACITY) IS DROPPED
+    DropOldest("DropOldest"),
+    // THE MESSAGE IS DROPPED
+    DropNewest("DropNewest"),
+    // THE MESSAGE IS MERGED INTO THE LATEST QUEUED MESSAGE THAT THE INBOX'S COALESCER MATCHES TO IT (FOR A FEDERATE,
+    // ONE OF THE SAME CLASS OR OBJECT, AND WITH THE SAME TIMESTAMP), OR, IF THERE IS NONE, AS FOR DropOldest
+    Coalesce("Coalesce"),
+    // THE MESSAGE IS QUEUED, AND THE FEDERATE'S AdvanceTimeThread STOPS TICKING THE RTI UNTIL THE INBOX IS BELOW ITS
+    // CAPACITY -- BUT FOR AT MOST SynchronizedFederate.getMaxBlockedTickTimeMs() PER TIME ADVANCE:  AFTER THAT, THE
+    // INBOX QUEUES MESSAGES PAST ITS CAPACITY
+    BlockTick("BlockTick");
+
+    private String name;
+    OverflowPolicy(String name) { this.name = name; }
+
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public String toString() { return this.name; }
+}
@@ -0,0 +1,79 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import hla.rti.RTIambassador;
+
+import java.util.function.Consumer;
+
+/**
+ * A queue of commands to the RTI (e.g. sending an interaction, see
+ * InteractionRoot.createSendInteractionCommand), so that a federate thread can send to the RTI without
+ * waiting for the RTI's monitor, which the thread that ticks the RTI may hold for as long as the callbacks
+ * take.
+ * <p/>
+ * Any thread may submit commands:  submitting never blocks.  The commands are executed, in the order in
+ * which they were submitted, by {@link #flush(RTIambassador)}, which must only be called with the RTI's monitor
+ * held:  the monitor makes the thread that holds it the single consumer of the queue.
+ */
+public class RTICommandQueue {
+
+    private final MpscQueue<Consumer<RTIambassador>> _commandQueue = new MpscQueue<>();
+
+    /**
+     * Adds a command to the queue.
+     *
+     * @param command the command
+     */
+    public void submit(Consumer<RTIambassador> command) {
+        _commandQueue.offer(command);
+    }
+
+    /**
+     * Executes, in order, the commands in the queue.  MUST ONLY BE CALLED WITH THE MONITOR OF rti HELD.
+     *
+     * @param rti the RTI to which to apply the commands
+     * @return the number of commands executed
+     */
+    public int flush(RTIambassador rti) {
+        int numberOfCommands = 0;
+        Consumer<RTIambassador> command;
+        while((command = _commandQueue.poll()) != null) {
+            command.accept(rti);
+            ++numberOfCommands;
+        }
+        return numberOfCommands;
+    }
+
+    public boolean isEmpty() {
+        return _commandQueue.isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Records, in a {@link LatencyHistogram} for each {@link StepPhase}, where the time of a federate's time steps
+ * goes.  The {@link AdvanceTimeThread} records the Grant phase, and the {@link AdvanceTimeRequest} (or
+ * {@link FixedStepAdvance}) of a step records its Wakeup and Processing phases.
+ * <p/>
+ * A federate only has a StepLatencyRecorder if the "stepLatencyHistograms" federate parameter is true:
+ * otherwise, the recorder of its AdvanceTimeThread, AdvanceTimeRequests and FixedStepAdvance is null, and they
+ * do not read the clock.
+ */
+public class StepLatencyRecorder {
+
+    private final Map<StepPhase, LatencyHistogram> _latencyHistogramMap = new EnumMap<>(StepPhase.class);
+
+    public StepLatencyRecorder() {
+        for(StepPhase stepPhase: StepPhase.values()) {
+            _latencyHistogramMap.put(stepPhase, new LatencyHistogram());
+        }
+    }
+
+    public LatencyHistogram getLatencyHistogram(StepPhase stepPhase) {
+        return _latencyHistogramMap.get(stepPhase);
+    }
+
+    /**
+     * Records the latency of a phase of a step.
+     *
+     * @param stepPhase the phase
+     * @param startNanoTime value of System.nanoTime() at the start of the phase
+     * @return value of System.nanoTime() at the end of the phase, i.e. now
+     */
+    public long record(StepPhase stepPhase, long startNanoTime) {
+        long endNanoTime = System.nanoTime();
+        _latencyHistogramMap.get(stepPhase).record(endNanoTime - startNanoTime);
+        return endNanoTime;
+    }
+
+    public void reset() {
+        for(LatencyHistogram latencyHistogram: _latencyHistogramMap.values()) {
+            latencyHistogram.reset();
+        }
+    }
+
+    /**
+     * Returns a summary of the histogram of each phase, one phase per line.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        for(StepPhase stepPhase: StepPhase.values()) {
+            if (stringBuilder.length() > 0) {
+                stringBuilder.append("\n");
+            }
+            stringBuilder.append(stepPhase).append(": ").append(_latencyHistogramMap.get(stepPhase));
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -31,6 +31,7 @@
 package edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot_p;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
@@ -248,37 +249,43 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         // IN ObjectRoot
         _allClassNamePropertyNameSetMap.put(get_hla_class_name(), allClassAndPropertyNameSet);
 
+        // THE INITIAL VALUES ARE ADDED TO _classAndPropertyNameInitialValueMap DEFINED IN ObjectRoot WITH ONE
+        // putAll, AS EACH WRITE TO THAT COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
+
         ClassAndPropertyName key;
 
         key = new ClassAndPropertyName(get_hla_class_name(), "BooleanValue1");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(false));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(false));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "BooleanValue2");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(false));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(false));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((byte)0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>((byte)0));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>('\0'));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>('\0'));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((double)0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>((double)0));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((float)0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>((float)0));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((long)0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>((long)0));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>((short)0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>((short)0));
 
         key = new ClassAndPropertyName(get_hla_class_name(), "StringValue");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(""));
+
+        _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
 
         commonInit(get_hla_class_name());
 
@@ -533,16 +540,26 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
     //------------------------------
 
 
+    private static final ClassAndPropertyName _BooleanValue1_key =
+      new ClassAndPropertyName(get_hla_class_name(), "BooleanValue1");
+
     /**
      * Set the value of the "BooleanValue1" parameter to "value" for this parameter.
      *
      * @param value the new value for the "BooleanValue1" parameter
      */
+    public void set_BooleanValue1(boolean value) {
+        setBoolean(_BooleanValue1_key, value);
+    }
+
+    /**
+     * Set the value of the "BooleanValue1" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_BooleanValue1(boolean) does not box it.
+     *
+     * @param value the new value for the "BooleanValue1" parameter
+     */
     public void set_BooleanValue1(Boolean value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BooleanValue1");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_BooleanValue1(value.booleanValue());
     }
 
     /**
@@ -551,8 +568,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "BooleanValue1" parameter
      */
     public boolean get_BooleanValue1() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BooleanValue1");
-        return (boolean)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getBoolean(_BooleanValue1_key);
     }
 
     /**
@@ -561,22 +577,30 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "BooleanValue1" attribute
      */
     public double get_BooleanValue1_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "BooleanValue1")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_BooleanValue1_key)).getTime();
     }
 
 
+    private static final ClassAndPropertyName _BooleanValue2_key =
+      new ClassAndPropertyName(get_hla_class_name(), "BooleanValue2");
+
     /**
      * Set the value of the "BooleanValue2" parameter to "value" for this parameter.
      *
      * @param value the new value for the "BooleanValue2" parameter
      */
+    public void set_BooleanValue2(boolean value) {
+        setBoolean(_BooleanValue2_key, value);
+    }
+
+    /**
+     * Set the value of the "BooleanValue2" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_BooleanValue2(boolean) does not box it.
+     *
+     * @param value the new value for the "BooleanValue2" parameter
+     */
     public void set_BooleanValue2(Boolean value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BooleanValue2");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_BooleanValue2(value.booleanValue());
     }
 
     /**
@@ -585,8 +609,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "BooleanValue2" parameter
      */
     public boolean get_BooleanValue2() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "BooleanValue2");
-        return (boolean)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getBoolean(_BooleanValue2_key);
     }
 
     /**
@@ -595,22 +618,30 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "BooleanValue2" attribute
      */
     public double get_BooleanValue2_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "BooleanValue2")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_BooleanValue2_key)).getTime();
     }
 
 
+    private static final ClassAndPropertyName _ByteValue_key =
+      new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
+
     /**
      * Set the value of the "ByteValue" parameter to "value" for this parameter.
      *
      * @param value the new value for the "ByteValue" parameter
      */
+    public void set_ByteValue(byte value) {
+        setByte(_ByteValue_key, value);
+    }
+
+    /**
+     * Set the value of the "ByteValue" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_ByteValue(byte) does not box it.
+     *
+     * @param value the new value for the "ByteValue" parameter
+     */
     public void set_ByteValue(Byte value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_ByteValue(value.byteValue());
     }
 
     /**
@@ -619,8 +650,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "ByteValue" parameter
      */
     public byte get_ByteValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ByteValue");
-        return (byte)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getByte(_ByteValue_key);
     }
 
     /**
@@ -629,22 +659,30 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "ByteValue" attribute
      */
     public double get_ByteValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "ByteValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_ByteValue_key)).getTime();
     }
 
 
+    private static final ClassAndPropertyName _CharValue_key =
+      new ClassAndPropertyName(get_hla_class_name(), "CharValue");
+
     /**
      * Set the value of the "CharValue" parameter to "value" for this parameter.
      *
      * @param value the new value for the "CharValue" parameter
      */
+    public void set_CharValue(char value) {
+        setChar(_CharValue_key, value);
+    }
+
+    /**
+     * Set the value of the "CharValue" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_CharValue(char) does not box it.
+     *
+     * @param value the new value for the "CharValue" parameter
+     */
     public void set_CharValue(Character value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_CharValue(value.charValue());
     }
 
     /**
@@ -653,8 +691,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "CharValue" parameter
      */
     public char get_CharValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "CharValue");
-        return (char)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getChar(_CharValue_key);
     }
 
     /**
@@ -663,22 +700,30 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "CharValue" attribute
      */
     public double get_CharValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "CharValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_CharValue_key)).getTime();
     }
 
 
+    private static final ClassAndPropertyName _DoubleValue_key =
+      new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
+
     /**
      * Set the value of the "DoubleValue" parameter to "value" for this parameter.
      *
      * @param value the new value for the "DoubleValue" parameter
      */
+    public void set_DoubleValue(double value) {
+        setDouble(_DoubleValue_key, value);
+    }
+
+    /**
+     * Set the value of the "DoubleValue" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_DoubleValue(double) does not box it.
+     *
+     * @param value the new value for the "DoubleValue" parameter
+     */
     public void set_DoubleValue(Double value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_DoubleValue(value.doubleValue());
     }
 
     /**
@@ -687,8 +732,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "DoubleValue" parameter
      */
     public double get_DoubleValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "DoubleValue");
-        return (double)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getDouble(_DoubleValue_key);
     }
 
     /**
@@ -697,22 +741,30 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "DoubleValue" attribute
      */
     public double get_DoubleValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "DoubleValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_DoubleValue_key)).getTime();
     }
 
 
+    private static final ClassAndPropertyName _FloatValue_key =
+      new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
+
     /**
      * Set the value of the "FloatValue" parameter to "value" for this parameter.
      *
      * @param value the new value for the "FloatValue" parameter
      */
+    public void set_FloatValue(float value) {
+        setFloat(_FloatValue_key, value);
+    }
+
+    /**
+     * Set the value of the "FloatValue" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_FloatValue(float) does not box it.
+     *
+     * @param value the new value for the "FloatValue" parameter
+     */
     public void set_FloatValue(Float value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_FloatValue(value.floatValue());
     }
 
     /**
@@ -721,8 +773,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "FloatValue" parameter
      */
     public float get_FloatValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "FloatValue");
-        return (float)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getFloat(_FloatValue_key);
     }
 
     /**
@@ -731,22 +782,30 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "FloatValue" attribute
      */
     public double get_FloatValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "FloatValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_FloatValue_key)).getTime();
     }
 
 
+    private static final ClassAndPropertyName _IntValue_key =
+      new ClassAndPropertyName(get_hla_class_name(), "IntValue");
+
     /**
      * Set the value of the "IntValue" parameter to "value" for this parameter.
      *
      * @param value the new value for the "IntValue" parameter
      */
+    public void set_IntValue(int value) {
+        setInt(_IntValue_key, value);
+    }
+
+    /**
+     * Set the value of the "IntValue" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_IntValue(int) does not box it.
+     *
+     * @param value the new value for the "IntValue" parameter
+     */
     public void set_IntValue(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_IntValue(value.intValue());
     }
 
     /**
@@ -755,8 +814,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "IntValue" parameter
      */
     public int get_IntValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "IntValue");
-        return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getInt(_IntValue_key);
     }
 
     /**
@@ -765,22 +823,30 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "IntValue" attribute
      */
     public double get_IntValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "IntValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_IntValue_key)).getTime();
     }
 
 
+    private static final ClassAndPropertyName _LongValue_key =
+      new ClassAndPropertyName(get_hla_class_name(), "LongValue");
+
     /**
      * Set the value of the "LongValue" parameter to "value" for this parameter.
      *
      * @param value the new value for the "LongValue" parameter
      */
+    public void set_LongValue(long value) {
+        setLong(_LongValue_key, value);
+    }
+
+    /**
+     * Set the value of the "LongValue" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_LongValue(long) does not box it.
+     *
+     * @param value the new value for the "LongValue" parameter
+     */
     public void set_LongValue(Long value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_LongValue(value.longValue());
     }
 
     /**
@@ -789,8 +855,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "LongValue" parameter
      */
     public long get_LongValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "LongValue");
-        return (long)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getLong(_LongValue_key);
     }
 
     /**
@@ -799,22 +864,30 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "LongValue" attribute
      */
     public double get_LongValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "LongValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_LongValue_key)).getTime();
     }
 
 
+    private static final ClassAndPropertyName _ShortValue_key =
+      new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
+
     /**
      * Set the value of the "ShortValue" parameter to "value" for this parameter.
      *
      * @param value the new value for the "ShortValue" parameter
      */
+    public void set_ShortValue(short value) {
+        setShort(_ShortValue_key, value);
+    }
+
+    /**
+     * Set the value of the "ShortValue" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_ShortValue(short) does not box it.
+     *
+     * @param value the new value for the "ShortValue" parameter
+     */
     public void set_ShortValue(Short value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_ShortValue(value.shortValue());
     }
 
     /**
@@ -823,8 +896,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "ShortValue" parameter
      */
     public short get_ShortValue() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "ShortValue");
-        return (short)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getShort(_ShortValue_key);
     }
 
     /**
@@ -833,9 +905,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "ShortValue" attribute
      */
     public double get_ShortValue_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "ShortValue")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_ShortValue_key)).getTime();
     }
 
 
@@ -1672,7 +1742,7 @@ public class TestObject extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
     public TestObject(TestObject messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
         // DEEP(ER) COPY FOR OBJECTS
         for(ClassAndPropertyName key: classAndPropertyNameValueMap.keySet()) {
@@ -0,0 +1,255 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import edu.vanderbilt.vuisis.cpswt.config.FederateConfig;
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.SimLog;
+import edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot.ObjectReflector;
+import edu.vanderbilt.vuisis.cpswt.hla.base.OrderedDecodePipeline;
+import org.junit.Assert;
+import org.junit.Test;
+import org.portico.impl.hla13.types.DoubleTime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static edu.vanderbilt.vuisis.cpswt.hla.ObjectRootInterface.ClassAndPropertyName;
+
+public class SynchronizedFederateTests {
+
+    private static FederateConfig get_federate_config(String federateName) {
+        FederateConfig federateConfig = new FederateConfig();
+
+        federateConfig.federateType = federateName;
+        federateConfig.federationId = "synchronizedFederateTests";
+        federateConfig.isLateJoiner = false;
+        federateConfig.lookahead = 0.1;
+        federateConfig.name = federateName;
+        federateConfig.stepSize = 1.0;
+
+        return federateConfig;
+    }
+
+    private static final String testObjectHlaClassName = "ObjectRoot.TestObject";
+
+    // A TIMESTAMP-ORDER REFLECTION OF "value" TO THE "attributeName" ATTRIBUTE OF THE OBJECT WITH HANDLE objectHandle
+    private static ObjectReflector get_object_reflector(int objectHandle, String attributeName, int value, double time) {
+        Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
+        classAndPropertyNameValueMap.put(new ClassAndPropertyName(testObjectHlaClassName, attributeName), value);
+        return new ObjectReflector(objectHandle, classAndPropertyNameValueMap, new DoubleTime(time));
+    }
+
+    private static Object get_value(ObjectReflector objectReflector, String attributeName) {
+        return objectReflector.getClassAndPropertyNameValueMap().get(
+          new ClassAndPropertyName(testObjectHlaClassName, attributeName)
+        );
+    }
+
+    private static SynchronizedFederate get_coalescing_federate(String federateName, double window) {
+        FederateConfig federateConfig = get_federate_config(federateName);
+        federateConfig.coalesceObjectReflections = true;
+        federateConfig.objectReflectionCoalescingWindow = window;
+        return new SynchronizedFederate(federateConfig);
+    }
+
+    @Test
+    public void messagingCodecTest() {
+        FederateConfig textFederateConfig = get_federate_config("TextFederate");
+        textFederateConfig.messagingCodec = "text";
+        new SynchronizedFederate(textFederateConfig);
+        Assert.assertSame(TextMessagingCodec.INSTANCE, InteractionRoot.get_messaging_codec());
+        Assert.assertSame(TextMessagingCodec.INSTANCE, ObjectRoot.get_messaging_codec());
+
+        // A FEDERATE THAT CONFIGURES THE SAME CODEC, OR NONE, SHARES IT
+        FederateConfig sameTextFederateConfig = get_federate_config("SameTextFederate");
+        sameTextFederateConfig.messagingCodec = "TEXT";
+        new SynchronizedFederate(sameTextFederateConfig);
+        new SynchronizedFederate(get_federate_config("NoCodecFederate"));
+
+        // A FEDERATE THAT CONFIGURES A DIFFERENT CODEC FAILS, RATHER THAN CHANGING THE CODEC OF THE OTHER FEDERATES
+        FederateConfig binaryFederateConfig = get_federate_config("BinaryFederate");
+        binaryFederateConfig.messagingCodec = "binary";
+        try {
+            new SynchronizedFederate(binaryFederateConfig);
+            Assert.fail("a federate with a different messaging codec should fail");
+        } catch (IllegalStateException e) { }
+        Assert.assertSame(TextMessagingCodec.INSTANCE, InteractionRoot.get_messaging_codec());
+        Assert.assertSame(TextMessagingCodec.INSTANCE, ObjectRoot.get_messaging_codec());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void separateQueuesTest() {
+        SynchronizedFederate synchronizedFederate1 = new SynchronizedFederate(get_federate_config("Federate1"));
+        SynchronizedFederate synchronizedFederate2 = new SynchronizedFederate(get_federate_config("Federate2"));
+
+        // AN INTERACTION QUEUED FOR ONE FEDERATE IS NOT SEEN BY THE OTHER
+        SimLog receiveOrderSimLog = new SimLog();
+        synchronizedFederate1.queueInteraction(receiveOrderSimLog);
+        SimLog timestampOrderSimLog = new SimLog();
+        timestampOrderSimLog.setTime(1.0);
+        timestampOrderSimLog.set_actualLogicalGenerationTime(0.5);
+        synchronizedFederate2.queueInteraction(timestampOrderSimLog);
+
+        Assert.assertTrue(synchronizedFederate1.hasInteractionsWithoutTime());
+        Assert.assertFalse(synchronizedFederate1.hasInteractionsWithTime());
+        Assert.assertFalse(synchronizedFederate2.hasInteractionsWithoutTime());
+        Assert.assertTrue(synchronizedFederate2.hasInteractionsWithTime());
+
+        Assert.assertSame(receiveOrderSimLog, synchronizedFederate1.nextInteractionNoWait());
+        Assert.assertNull(synchronizedFederate1.nextInteractionNoWait());
+        Assert.assertSame(timestampOrderSimLog, synchronizedFederate2.nextInteractionNoWait());
+        Assert.assertNull(synchronizedFederate2.nextInteractionNoWait());
+
+        // LIKEWISE FOR OBJECT REFLECTIONS
+        ObjectReflector objectReflector = new ObjectReflector(1, new HashMap<>());
+        synchronizedFederate2.queueObjectReflector(objectReflector);
+
+        Assert.assertNull(synchronizedFederate1.nextObjectReflectorNoWait());
+        Assert.assertSame(objectReflector, synchronizedFederate2.nextObjectReflectorNoWait());
+        Assert.assertNull(synchronizedFederate2.nextObjectReflectorNoWait());
+
+        // THE DEPRECATED STATIC QUEUE METHODS USE THE QUEUES OF THE MOST RECENTLY CREATED FEDERATE (AND, AS THERE
+        // ARE SEVERAL FEDERATES, LOG A WARNING)
+        SimLog staticSimLog = new SimLog();
+        SynchronizedFederate.addInteraction(staticSimLog);
+        Assert.assertNull(synchronizedFederate1.nextInteractionNoWait());
+        Assert.assertSame(staticSimLog, synchronizedFederate2.nextInteractionNoWait());
+    }
+
+    @Test
+    public void coalesceObjectReflectionsTest() {
+        SynchronizedFederate synchronizedFederate = get_coalescing_federate("CoalescingFederate", 1.0);
+
+        // REFLECTIONS FOR THE SAME OBJECT WITH THE SAME floor(time/window) ARE MERGED INTO THE FIRST ONE, WHICH
+        // KEEPS ITS TIME
+        ObjectReflector objectReflector1 = get_object_reflector(1, "IntValue", 1, 2.1);
+        synchronizedFederate.queueObjectReflector(objectReflector1);
+        synchronizedFederate.queueObjectReflector(get_object_reflector(1, "IntValue", 2, 2.7));
+        synchronizedFederate.queueObjectReflector(get_object_reflector(1, "LongValue", 3, 2.9));
+
+        // A REFLECTION FOR ANOTHER OBJECT IN THE SAME WINDOW IS NOT MERGED
+        ObjectReflector objectReflector2 = get_object_reflector(2, "IntValue", 4, 2.5);
+        synchronizedFederate.queueObjectReflector(objectReflector2);
+
+        // NOR IS A REFLECTION FOR THE SAME OBJECT IN THE NEXT WINDOW
+        ObjectReflector objectReflector3 = get_object_reflector(1, "IntValue", 5, 3.0);
+        synchronizedFederate.queueObjectReflector(objectReflector3);
+
+        Assert.assertSame(objectReflector1, synchronizedFederate.nextObjectReflectorNoWait());
+        Assert.assertEquals(2.1, objectReflector1.getTime(), 0);
+        Assert.assertEquals(2, get_value(objectReflector1, "IntValue"));
+        Assert.assertEquals(3, get_value(objectReflector1, "LongValue"));
+
+        // objectReflector1 HAS BEEN CLAIMED BY THE CONSUMER, SO A LATER REFLECTION IN ITS WINDOW IS QUEUED RATHER
+        // THAN MERGED INTO IT
+        ObjectReflector objectReflector4 = get_object_reflector(1, "IntValue", 6, 2.8);
+        synchronizedFederate.queueObjectReflector(objectReflector4);
+        Assert.assertEquals(2, get_value(objectReflector1, "IntValue"));
+
+        Assert.assertSame(objectReflector2, synchronizedFederate.nextObjectReflectorNoWait());
+        Assert.assertSame(objectReflector4, synchronizedFederate.nextObjectReflectorNoWait());
+        Assert.assertEquals(6, get_value(objectReflector4, "IntValue"));
+        Assert.assertSame(objectReflector3, synchronizedFederate.nextObjectReflectorNoWait());
+        Assert.assertEquals(5, get_value(objectReflector3, "IntValue"));
+        Assert.assertNull(synchronizedFederate.nextObjectReflectorNoWait());
+    }
+
+    @Test
+    public void coalesceDrainedObjectReflectionsTest() {
+        // WITHOUT A WINDOW, ONLY REFLECTIONS WITH EQUAL TIMESTAMPS ARE MERGED
+        SynchronizedFederate synchronizedFederate = get_coalescing_federate("DrainingFederate", 0);
+
+        ObjectReflector objectReflector1 = get_object_reflector(1, "IntValue", 1, 1.0);
+        synchronizedFederate.queueObjectReflector(objectReflector1);
+        synchronizedFederate.queueObjectReflector(get_object_reflector(1, "IntValue", 2, 1.0));
+        ObjectReflector objectReflector2 = get_object_reflector(1, "IntValue", 3, 1.5);
+        synchronizedFederate.queueObjectReflector(objectReflector2);
+
+        List<ObjectReflector> objectReflectorList = new ArrayList<>();
+        Assert.assertEquals(2, synchronizedFederate.drainObjectReflectors(objectReflectorList, Integer.MAX_VALUE));
+        Assert.assertSame(objectReflector1, objectReflectorList.get(0));
+        Assert.assertEquals(2, get_value(objectReflector1, "IntValue"));
+        Assert.assertSame(objectReflector2, objectReflectorList.get(1));
+
+        // THE DRAINED REFLECTIONS HAVE BEEN CLAIMED, SO NOTHING IS MERGED INTO THEM
+        ObjectReflector objectReflector3 = get_object_reflector(1, "IntValue", 4, 1.5);
+        synchronizedFederate.queueObjectReflector(objectReflector3);
+        Assert.assertEquals(3, get_value(objectReflector2, "IntValue"));
+        Assert.assertSame(objectReflector3, synchronizedFederate.nextObjectReflectorNoWait());
+    }
+
+    @Test
+    public void timeAdvanceGrantAfterDeliveryTest() throws InterruptedException {
+        FederateConfig federateConfig = get_federate_config("DecodingFederate");
+        federateConfig.decodeThreadCount = 2;
+        SynchronizedFederate synchronizedFederate = new SynchronizedFederate(federateConfig);
+        OrderedDecodePipeline<InteractionRoot> interactionDecodePipeline =
+          synchronizedFederate.getInteractionDecodePipeline();
+
+        // AN INTERACTION RECEIVED BEFORE THE GRANT, WHOSE DECODING DOES NOT FINISH UNTIL decodeLatch IS RELEASED
+        final CountDownLatch decodeLatch = new CountDownLatch(1);
+        final SimLog simLog = new SimLog();
+        simLog.setTime(1.0);
+        simLog.set_actualLogicalGenerationTime(0.5);
+        interactionDecodePipeline.submit(() -> {
+            try {
+                decodeLatch.await();
+            } catch (InterruptedException e) { }
+            return simLog;
+        });
+
+        synchronizedFederate.setTimeAdvanceNotGranted(true);
+        Thread grantThread = new Thread(() -> synchronizedFederate.timeAdvanceGrant(new DoubleTime(2.0)));
+        grantThread.start();
+
+        // THE GRANT IS NOT VISIBLE WHILE THE INTERACTION IS BEING DECODED
+        grantThread.join(200);
+        Assert.assertTrue(grantThread.isAlive());
+        Assert.assertTrue(synchronizedFederate.getTimeAdvanceNotGranted());
+        Assert.assertEquals(0, synchronizedFederate.getCachedCurrentTime(), 0);
+        Assert.assertFalse(synchronizedFederate.hasInteractions());
+
+        // ONCE THE INTERACTION IS QUEUED, THE GRANT COMPLETES
+        decodeLatch.countDown();
+        grantThread.join(10000);
+        Assert.assertFalse(grantThread.isAlive());
+        Assert.assertFalse(synchronizedFederate.getTimeAdvanceNotGranted());
+        Assert.assertEquals(2.0, synchronizedFederate.getCachedCurrentTime(), 0);
+        Assert.assertEquals(2.0, synchronizedFederate.getCachedLBTS(), 0);
+        Assert.assertSame(simLog, synchronizedFederate.nextInteractionNoWait());
+
+        interactionDecodePipeline.shutdown();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class AdvanceTimeThreadTests {
+
+    // PUTS OFF A TICK AS THE AdvanceTimeThread DOES:  WHILE THE INBOX BLOCKS TICKS, FOR AT MOST maxBlockedNanos PER
+    // TIME ADVANCE.  RETURNS THE TIME FOR WHICH TICKS HAVE BEEN PUT OFF IN THE CURRENT TIME ADVANCE
+    private static long block_tick(MessageInbox<?> messageInbox, long blockedNanos, long maxBlockedNanos) {
+        while(messageInbox.isBlockingTick() && blockedNanos < maxBlockedNanos) {
+            long blockStartNanoTime = System.nanoTime();
+            messageInbox.awaitTickUnblocked(Math.min(TimeUnit.MILLISECONDS.toNanos(10), maxBlockedNanos - blockedNanos));
+            blockedNanos += System.nanoTime() - blockStartNanoTime;
+        }
+        return blockedNanos;
+    }
+
+    // STANDS IN FOR THE AdvanceTimeThread AND THE RTI:  EACH STEP (AFTER STEP 0) IS ONLY GRANTED ONCE THE MESSAGES
+    // THAT PRECEDE ITS GRANT HAVE BEEN "TICKED" INTO THE INBOX, AND TICKS ARE PUT OFF AS THE AdvanceTimeThread PUTS
+    // THEM OFF
+    private static class Advancer implements Runnable {
+        private final FixedStepAdvance _fixedStepAdvance;
+        private final MessageInbox<Integer> _messageInbox;
+        private final int _messagesPerStep;
+        private final long _maxBlockedNanos;
+
+        Advancer(
+          FixedStepAdvance fixedStepAdvance, MessageInbox<Integer> messageInbox, int messagesPerStep, long maxBlockedNanos
+        ) {
+            _fixedStepAdvance = fixedStepAdvance;
+            _messageInbox = messageInbox;
+            _messagesPerStep = messagesPerStep;
+            _maxBlockedNanos = maxBlockedNanos;
+        }
+
+        public void run() {
+            long step;
+            while((step = _fixedStepAdvance.awaitWindow()) >= 0) {
+                long blockedNanos = 0;
+                for(int messageCount = 0 ; messageCount < _messagesPerStep ; ++messageCount) {
+                    blockedNanos = block_tick(_messageInbox, blockedNanos, _maxBlockedNanos);
+                    _messageInbox.addTimestampOrder((int)(step - 1) * _messagesPerStep + messageCount);
+                }
+                _fixedStepAdvance.stepGranted();
+            }
+        }
+    }
+
+    private void runSteps(int window, long maxBlockedNanos) throws InterruptedException {
+        final int numberOfSteps = 100;
+        final int messagesPerStep = 5;
+
+        // THE INBOX IS TOO SMALL FOR THE MESSAGES THAT PRECEDE ONE GRANT
+        MessageInbox<Integer> messageInbox = new MessageInbox<>(Comparator.naturalOrder());
+        messageInbox.setCapacity(2, OverflowPolicy.BlockTick);
+
+        FixedStepAdvance fixedStepAdvance = new FixedStepAdvance(0, 1, window);
+        Thread advancerThread = new Thread(
+                new Advancer(fixedStepAdvance, messageInbox, messagesPerStep, maxBlockedNanos)
+        );
+        advancerThread.start();
+
+        // THE FEDERATE ONLY EMPTIES ITS INBOX ONCE A STEP IS GRANTED
+        List<Integer> messageList = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        for(int ix = 0 ; ix < numberOfSteps && System.nanoTime() < deadline ; ++ix) {
+            Assert.assertEquals(ix, fixedStepAdvance.awaitStep(), 0);
+            // SLOW PROCESSING, SO THAT THE ADVANCER FILLS THE INBOX
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            messageInbox.drainTo(messageList, Integer.MAX_VALUE);
+            fixedStepAdvance.stepEnd();
+        }
+
+        fixedStepAdvance.terminate();
+        advancerThread.join(10000);
+        Assert.assertFalse(advancerThread.isAlive());
+
+        // NO MESSAGES WERE DROPPED, AND THEY WERE RECEIVED IN ORDER
+        messageInbox.drainTo(messageList, Integer.MAX_VALUE);
+        for(int ix = 0 ; ix < messageList.size() ; ++ix) {
+            Assert.assertEquals(ix, (int)messageList.get(ix));
+        }
+        Assert.assertTrue(messageList.size() >= (numberOfSteps - 1) * messagesPerStep);
+        Assert.assertTrue(messageInbox.getOverflowCount(OverflowPolicy.BlockTick) > 0);
+    }
+
+    @Test
+    public void blockTickDeadlockTest() throws InterruptedException {
+        // WHILE THE FEDERATE WAITS FOR ITS GRANT, NOTHING EMPTIES THE INBOX:  THE ADVANCE PUTS OFF TICKS FOR THE
+        // MAXIMUM TIME, AND THEN TICKS ANYWAY, SO THE INBOX EXCEEDS ITS CAPACITY
+        runSteps(1, TimeUnit.MILLISECONDS.toNanos(20));
+        runSteps(3, TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void blockTickTest() throws InterruptedException {
+        final int numberOfMessages = 1000;
+        final int capacity = 4;
+
+        // THE FEDERATE WAITS FOR ITS GRANT (E.G. WITH AN AdvanceTimeRequest), BUT ANOTHER OF ITS THREADS TAKES
+        // RECEIVE-ORDER MESSAGES FROM THE INBOX
+        MessageInbox<Integer> messageInbox = new MessageInbox<>(Comparator.naturalOrder());
+        messageInbox.setCapacity(capacity, OverflowPolicy.BlockTick);
+
+        List<Integer> messageList = new ArrayList<>();
+        Thread consumerThread = new Thread(() -> {
+            while(messageList.size() < numberOfMessages) {
+                // SLOW PROCESSING, SO THAT THE INBOX FILLS
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+                messageList.add(messageInbox.take());
+            }
+        });
+        consumerThread.start();
+
+        // TICKS ARE PUT OFF UNTIL THE CONSUMER MAKES ROOM, SO THE INBOX NEVER EXCEEDS ITS CAPACITY
+        long maxBlockedNanos = TimeUnit.SECONDS.toNanos(60);
+        long blockedNanos = 0;
+        for(int ix = 0 ; ix < numberOfMessages ; ++ix) {
+            blockedNanos = block_tick(messageInbox, blockedNanos, maxBlockedNanos);
+            messageInbox.addReceiveOrder(ix);
+            Assert.assertTrue(messageInbox.size() <= capacity);
+        }
+        Assert.assertTrue(blockedNanos < maxBlockedNanos);
+
+        consumerThread.join(10000);
+        Assert.assertFalse(consumerThread.isAlive());
+        Assert.assertEquals(numberOfMessages, messageList.size());
+        for(int ix = 0 ; ix < numberOfMessages ; ++ix) {
+            Assert.assertEquals(ix, (int)messageList.get(ix));
+        }
+        Assert.assertEquals(0, messageInbox.getOverflowCount(OverflowPolicy.BlockTick));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FixedStepAdvanceTests {
+
+    // STANDS IN FOR THE AdvanceTimeThread:  "GRANTS" EVERY STEP THAT FALLS INTO THE WINDOW, AND RECORDS HOW FAR
+    // AHEAD OF THE FEDERATE IT GOT
+    private static class Advancer implements Runnable {
+        private final FixedStepAdvance _fixedStepAdvance;
+        private final int[] _endedStepCount;
+        private int _maxStepsAhead = 0;
+
+        Advancer(FixedStepAdvance fixedStepAdvance, int[] endedStepCount) {
+            _fixedStepAdvance = fixedStepAdvance;
+            _endedStepCount = endedStepCount;
+        }
+
+        public void run() {
+            long step;
+            while((step = _fixedStepAdvance.awaitWindow()) >= 0) {
+                int stepsAhead;
+                synchronized (_endedStepCount) {
+                    stepsAhead = (int)(step - _endedStepCount[0]);
+                }
+                _maxStepsAhead = Math.max(_maxStepsAhead, stepsAhead);
+                _fixedStepAdvance.stepGranted();
+            }
+        }
+    }
+
+    private void runSteps(int window) throws InterruptedException {
+        final int numberOfSteps = 1000;
+
+        FixedStepAdvance fixedStepAdvance = new FixedStepAdvance(1.0, 0.5, window);
+        int[] endedStepCount = new int[1];
+        Advancer advancer = new Advancer(fixedStepAdvance, endedStepCount);
+        Thread advancerThread = new Thread(advancer);
+        advancerThread.start();
+
+        List<Double> stepTimeList = new ArrayList<>();
+        for(int ix = 0 ; ix < numberOfSteps ; ++ix) {
+            stepTimeList.add(fixedStepAdvance.awaitStep());
+            synchronized (endedStepCount) {
+                ++endedStepCount[0];
+            }
+            fixedStepAdvance.stepEnd();
+        }
+
+        fixedStepAdvance.terminate();
+        advancerThread.join(10000);
+        Assert.assertFalse(advancerThread.isAlive());
+
+        Assert.assertEquals(numberOfSteps, stepTimeList.size());
+        for(int ix = 0 ; ix < numberOfSteps ; ++ix) {
+            Assert.assertEquals(1.0 + ix * 0.5, stepTimeList.get(ix), 0);
+        }
+
+        // THE ADVANCER NEVER GETS MORE THAN window STEPS AHEAD OF THE STEP THE FEDERATE IS IN
+        Assert.assertTrue(advancer._maxStepsAhead <= window);
+
+        // AFTER terminate(), THE STEPS THAT WERE ALREADY GRANTED ARE STILL AVAILABLE, BUT A STEP THAT IS NOT GRANTED
+        // IS NOT WAITED FOR
+        int numberOfGrantedSteps = 0;
+        while(fixedStepAdvance.awaitStep() >= 0) {
+            fixedStepAdvance.stepEnd();
+            ++numberOfGrantedSteps;
+        }
+        Assert.assertTrue(numberOfGrantedSteps <= window);
+    }
+
+    @Test
+    public void fixedStepAdvanceTest() throws InterruptedException {
+        runSteps(1);
+        runSteps(4);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import edu.vanderbilt.vuisis.cpswt.hla.HlaClassDescriptor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+public class HlaClassDispatcherTests {
+
+    private static HlaClassDescriptor descriptor(String hlaClassName) {
+        return HlaClassDescriptor.get_hla_class_descriptor(hlaClassName);
+    }
+
+    @Test
+    public void dispatchTest() {
+        // THE "MESSAGES" ARE THE DESCRIPTORS OF THEIR CLASSES
+        HlaClassDispatcher<HlaClassDescriptor> hlaClassDispatcher = new HlaClassDispatcher<>(Function.identity());
+
+        List<String> handledList = new ArrayList<>();
+        hlaClassDispatcher.addHandler(
+                descriptor("InteractionRoot.DispatchBase"), message -> handledList.add("base:" + message)
+        );
+        hlaClassDispatcher.addHandler(
+                descriptor("InteractionRoot.DispatchBase.Derived"), message -> handledList.add("derived:" + message)
+        );
+
+        Assert.assertTrue(hlaClassDispatcher.dispatch(descriptor("InteractionRoot.DispatchBase")));
+        Assert.assertTrue(hlaClassDispatcher.dispatch(descriptor("InteractionRoot.DispatchBase.Derived")));
+        Assert.assertTrue(hlaClassDispatcher.dispatch(descriptor("InteractionRoot.DispatchBase.Other")));
+
+        // CLASS CREATED AFTER THE HANDLERS WERE REGISTERED RESOLVES TO ITS NEAREST ANCESTOR'S HANDLER
+        Assert.assertTrue(hlaClassDispatcher.dispatch(descriptor("InteractionRoot.DispatchBase.Derived.New")));
+
+        Assert.assertFalse(hlaClassDispatcher.dispatch(descriptor("InteractionRoot")));
+        Assert.assertFalse(hlaClassDispatcher.dispatch(descriptor("InteractionRoot.DispatchOther")));
+
+        Assert.assertEquals(Arrays.asList(
+                "base:InteractionRoot.DispatchBase",
+                "derived:InteractionRoot.DispatchBase.Derived",
+                "base:InteractionRoot.DispatchBase.Other",
+                "derived:InteractionRoot.DispatchBase.Derived.New"
+        ), handledList);
+
+        handledList.clear();
+        hlaClassDispatcher.removeHandler(descriptor("InteractionRoot.DispatchBase.Derived"));
+        Assert.assertTrue(hlaClassDispatcher.dispatch(descriptor("InteractionRoot.DispatchBase.Derived.New")));
+        Assert.assertEquals(Arrays.asList("base:InteractionRoot.DispatchBase.Derived.New"), handledList);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTests {
+
+    @Test
+    public void bucketTest() {
+        // EVERY VALUE FALLS INTO THE BUCKET WHOSE RANGE CONTAINS IT, AND THE RANGE IS WITHIN 1/32 OF THE VALUE
+        long[] valueArray = {0, 1, 31, 32, 33, 63, 64, 65, 1000, 123456789, Long.MAX_VALUE};
+        for(long value: valueArray) {
+            int bucketIndex = LatencyHistogram.get_bucket_index(value);
+            long lowValue = LatencyHistogram.get_bucket_low_value(bucketIndex);
+            long highValue = LatencyHistogram.get_bucket_high_value(bucketIndex);
+            Assert.assertTrue(lowValue <= value && value <= highValue);
+            Assert.assertTrue(highValue - lowValue <= value / 32);
+        }
+    }
+
+    @Test
+    public void percentileTest() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        Assert.assertEquals(0, latencyHistogram.getValueAtPercentile(50));
+
+        for(int value = 1 ; value <= 1000 ; ++value) {
+            latencyHistogram.record(value * 1000L);
+        }
+
+        Assert.assertEquals(1000, latencyHistogram.getCount());
+        Assert.assertEquals(1000000, latencyHistogram.getMax());
+        Assert.assertEquals(500500, latencyHistogram.getMean(), 0.001);
+
+        long median = latencyHistogram.getValueAtPercentile(50);
+        Assert.assertTrue(Math.abs(median - 500000) <= 500000 / 32);
+        long p99 = latencyHistogram.getValueAtPercentile(99);
+        Assert.assertTrue(Math.abs(p99 - 990000) <= 990000 / 32);
+        Assert.assertEquals(1000000, latencyHistogram.getValueAtPercentile(100));
+
+        latencyHistogram.reset();
+        Assert.assertEquals(0, latencyHistogram.getCount());
+        Assert.assertEquals(0, latencyHistogram.getMax());
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class MessageInboxTests {
+
+    @Test
+    public void orderTest() {
+        MessageInbox<Double> messageInbox = new MessageInbox<>(Comparator.naturalOrder());
+        Assert.assertTrue(messageInbox.isEmpty());
+
+        messageInbox.addTimestampOrder(3.0);
+        messageInbox.addReceiveOrder(-1.0);
+        messageInbox.addTimestampOrder(1.0);
+        messageInbox.addReceiveOrder(-2.0);
+        messageInbox.addTimestampOrder(2.0);
+
+        Assert.assertFalse(messageInbox.isEmpty());
+        Assert.assertEquals(5, messageInbox.size());
+        Assert.assertEquals(2, messageInbox.sizeReceiveOrder());
+        Assert.assertEquals(3, messageInbox.sizeTimestampOrder());
+
+        // RECEIVE-ORDER MESSAGES COME FIRST, IN FIFO ORDER, THEN TIMESTAMP-ORDER MESSAGES IN SORTED ORDER
+        Assert.assertEquals(-1.0, messageInbox.poll(), 0);
+        Assert.assertEquals(1.0, messageInbox.pollTimestampOrder(), 0);
+        Assert.assertEquals(-2.0, messageInbox.take(), 0);
+        Assert.assertTrue(messageInbox.isReceiveOrderEmpty());
+        Assert.assertNull(messageInbox.pollReceiveOrder());
+        Assert.assertEquals(2.0, messageInbox.take(), 0);
+        Assert.assertEquals(3.0, messageInbox.poll(), 0);
+
+        Assert.assertTrue(messageInbox.isEmpty());
+        Assert.assertNull(messageInbox.poll());
+    }
+
+    @Test
+    public void concurrentProducersTest() throws InterruptedException {
+        final int numberOfProducers = 4;
+        final int messagesPerProducer = 10000;
+
+        MessageInbox<Integer> messageInbox = new MessageInbox<>(Comparator.naturalOrder());
+
+        List<Thread> producerList = new ArrayList<>();
+        for(int ix = 0 ; ix < numberOfProducers ; ++ix) {
+            final int producer = ix;
+            Thread thread = new Thread(() -> {
+                for(int jx = 0 ; jx < messagesPerProducer ; ++jx) {
+                    messageInbox.addReceiveOrder(producer * messagesPerProducer + jx);
+                }
+            });
+            producerList.add(thread);
+            thread.start();
+        }
+
+        // THE CONSUMER BLOCKS IN take UNTIL EACH MESSAGE ARRIVES.  MESSAGES OF EACH PRODUCER ARE IN FIFO ORDER
+        int[] lastMessageArray = new int[numberOfProducers];
+        Arrays.fill(lastMessageArray, -1);
+        for(int ix = 0 ; ix < numberOfProducers * messagesPerProducer ; ++ix) {
+            int message = messageInbox.take();
+            int producer = message / messagesPerProducer;
+            Assert.assertTrue(message > lastMessageArray[producer]);
+            lastMessageArray[producer] = message;
+        }
+
+        for(Thread thread: producerList) {
+            thread.join();
+        }
+        Assert.assertTrue(messageInbox.isEmpty());
+    }
+
+    @Test
+    public void drainTest() {
+        MessageInbox<Double> messageInbox = new MessageInbox<>(Comparator.naturalOrder());
+        messageInbox.addTimestampOrder(3.0);
+        messageInbox.addTimestampOrder(1.0);
+        messageInbox.addReceiveOrder(-1.0);
+        messageInbox.addTimestampOrder(2.0);
+        messageInbox.addReceiveOrder(-2.0);
+
+        List<Double> messageList = new ArrayList<>();
+        Assert.assertEquals(3, messageInbox.drainTo(messageList, 3));
+        Assert.assertEquals(Arrays.asList(-1.0, -2.0, 1.0), messageList);
+
+        messageInbox.addReceiveOrder(-3.0);
+        messageList.clear();
+        Assert.assertEquals(2, messageInbox.drainTo(messageList, Integer.MAX_VALUE, message -> message <= 2.5));
+        Assert.assertEquals(Arrays.asList(-3.0, 2.0), messageList);
+
+        messageList.clear();
+        Assert.assertEquals(1, messageInbox.drainTo(messageList, Integer.MAX_VALUE));
+        Assert.assertEquals(Arrays.asList(3.0), messageList);
+        Assert.assertTrue(messageInbox.isEmpty());
+    }
+
+    @Test
+    public void overflowTest() {
+        MessageInbox<Double> messageInbox = new MessageInbox<>(Comparator.naturalOrder());
+        messageInbox.setCapacity(3, OverflowPolicy.DropNewest);
+
+        // THE CLASS OF A MESSAGE IS ITS SIGN.  NEGATIVE MESSAGES ARE LIMITED TO 2, DROPPING THE OLDEST
+        messageInbox.setClassifier(message -> message < 0);
+        messageInbox.setClassCapacity(true, 2, OverflowPolicy.DropOldest);
+
+        List<Double> droppedList = new ArrayList<>();
+        messageInbox.setDropHandler(droppedList::add);
+
+        Assert.assertTrue(messageInbox.addReceiveOrder(-1.0));
+        Assert.assertTrue(messageInbox.addTimestampOrder(1.0));
+        Assert.assertTrue(messageInbox.addReceiveOrder(-2.0));
+        Assert.assertTrue(messageInbox.addReceiveOrder(-3.0));
+        Assert.assertFalse(messageInbox.addTimestampOrder(2.0));
+
+        Assert.assertEquals(Arrays.asList(-1.0), droppedList);
+        Assert.assertEquals(1, messageInbox.getOverflowCount(OverflowPolicy.DropOldest));
+        Assert.assertEquals(1, messageInbox.getOverflowCount(OverflowPolicy.DropNewest));
+        Assert.assertEquals(3, messageInbox.size());
+
+        Assert.assertEquals(-2.0, messageInbox.poll(), 0);
+        Assert.assertTrue(messageInbox.addTimestampOrder(3.0));
+
+        List<Double> messageList = new ArrayList<>();
+        messageInbox.drainTo(messageList, Integer.MAX_VALUE);
+        Assert.assertEquals(Arrays.asList(-3.0, 1.0, 3.0), messageList);
+        Assert.assertFalse(messageInbox.isBlockingTick());
+    }
+
+    // A MESSAGE IS {TIMESTAMP, KEY, VALUE, SEQUENCE}.  A NEW MESSAGE REPLACES THE VALUE OF A QUEUED MESSAGE WITH THE
+    // SAME TIMESTAMP AND KEY
+    private static void set_coalescer(MessageInbox<double[]> messageInbox) {
+        messageInbox.setCoalescer(
+                (queuedMessage, message) -> queuedMessage[0] == message[0] && queuedMessage[1] == message[1],
+                (queuedMessage, message) -> queuedMessage[2] = message[2]
+        );
+    }
+
+    @Test
+    public void coalesceTimestampTest() {
+        MessageInbox<double[]> messageInbox = new MessageInbox<>(
+                Comparator.<double[]>comparingDouble(message -> message[0]).thenComparingDouble(message -> message[3])
+        );
+        messageInbox.setCapacity(3, OverflowPolicy.Coalesce);
+        set_coalescer(messageInbox);
+
+        messageInbox.addTimestampOrder(new double[] {2, 10, 100, 0});
+        messageInbox.addTimestampOrder(new double[] {1, 10, 110, 1});
+        messageInbox.addTimestampOrder(new double[] {2, 10, 120, 2});
+
+        // A MESSAGE WITH A LATER TIMESTAMP IS NOT MERGED INTO A QUEUED MESSAGE WITH THE SAME KEY:  THE OLDEST
+        // MESSAGE IS DROPPED INSTEAD
+        Assert.assertTrue(messageInbox.addTimestampOrder(new double[] {3, 10, 130, 3}));
+        Assert.assertEquals(0, messageInbox.getOverflowCount(OverflowPolicy.Coalesce));
+        Assert.assertEquals(1, messageInbox.getOverflowCount(OverflowPolicy.DropOldest));
+
+        // A MESSAGE WITH THE SAME TIMESTAMP AND KEY IS MERGED INTO THE LATEST QUEUED ONE
+        Assert.assertFalse(messageInbox.addTimestampOrder(new double[] {2, 10, 121, 4}));
+        Assert.assertEquals(1, messageInbox.getOverflowCount(OverflowPolicy.Coalesce));
+
+        // RECEIVE-ORDER MESSAGES ARE NOT MERGED INTO TIMESTAMP-ORDER MESSAGES, AND VICE VERSA
+        Assert.assertTrue(messageInbox.addReceiveOrder(new double[] {2, 10, 140, -1}));
+        Assert.assertEquals(2, messageInbox.getOverflowCount(OverflowPolicy.DropOldest));
+
+        Assert.assertEquals(140, messageInbox.poll()[2], 0);
+        Assert.assertEquals(121, messageInbox.poll()[2], 0);
+        Assert.assertEquals(130, messageInbox.poll()[2], 0);
+        Assert.assertTrue(messageInbox.isEmpty());
+    }
+
+    @Test
+    public void coalesceReceiveOrderTest() {
+        MessageInbox<double[]> messageInbox = new MessageInbox<>(Comparator.comparingDouble(message -> message[0]));
+        messageInbox.setCapacity(3, OverflowPolicy.Coalesce);
+        set_coalescer(messageInbox);
+
+        messageInbox.addReceiveOrder(new double[] {-1, 10, 100, -1});
+        messageInbox.addReceiveOrder(new double[] {-1, 20, 200, -1});
+        messageInbox.addReceiveOrder(new double[] {-1, 10, 110, -1});
+
+        // MERGED INTO THE LATEST QUEUED RECEIVE-ORDER MESSAGE WITH THE KEY
+        Assert.assertFalse(messageInbox.addReceiveOrder(new double[] {-1, 10, 111, -1}));
+
+        Assert.assertEquals(100, messageInbox.poll()[2], 0);
+        Assert.assertEquals(200, messageInbox.poll()[2], 0);
+        Assert.assertEquals(111, messageInbox.poll()[2], 0);
+        Assert.assertTrue(messageInbox.isEmpty());
+    }
+
+    @Test
+    public void coalesceAndBlockTickTest() throws InterruptedException {
+        MessageInbox<double[]> messageInbox = new MessageInbox<>(Comparator.comparingDouble(message -> message[0]));
+
+        messageInbox.setCapacity(2, OverflowPolicy.Coalesce);
+        set_coalescer(messageInbox);
+
+        messageInbox.addTimestampOrder(new double[] {1, 10, 100});
+        messageInbox.addTimestampOrder(new double[] {2, 20, 200});
+        Assert.assertFalse(messageInbox.addTimestampOrder(new double[] {1, 10, 101}));
+        Assert.assertEquals(1, messageInbox.getOverflowCount(OverflowPolicy.Coalesce));
+
+        // NO QUEUED MESSAGE WITH THE KEY:  THE OLDEST MESSAGE IS DROPPED
+        Assert.assertTrue(messageInbox.addTimestampOrder(new double[] {4, 30, 300}));
+        Assert.assertEquals(1, messageInbox.getOverflowCount(OverflowPolicy.DropOldest));
+        Assert.assertEquals(2, messageInbox.size());
+
+        Assert.assertEquals(200, messageInbox.poll()[2], 0);
+        Assert.assertEquals(300, messageInbox.poll()[2], 0);
+        Assert.assertTrue(messageInbox.isEmpty());
+
+        messageInbox.setCapacity(1, OverflowPolicy.BlockTick);
+        Assert.assertTrue(messageInbox.addReceiveOrder(new double[] {-1, 40, 400}));
+        Assert.assertTrue(messageInbox.isBlockingTick());
+        Assert.assertTrue(messageInbox.addReceiveOrder(new double[] {-1, 50, 500}));
+        Assert.assertEquals(1, messageInbox.getOverflowCount(OverflowPolicy.BlockTick));
+        Assert.assertEquals(2, messageInbox.size());
+
+        // A THREAD WAITING FOR THE INBOX TO STOP BLOCKING TICKS IS UNPARKED WHEN A CONSUMER EMPTIES IT
+        Assert.assertFalse(messageInbox.awaitTickUnblocked(1000000));
+        Thread consumerThread = new Thread(() -> {
+            messageInbox.poll();
+            messageInbox.poll();
+        });
+        consumerThread.start();
+        Assert.assertTrue(messageInbox.awaitTickUnblocked(TimeUnit.SECONDS.toNanos(10)));
+        consumerThread.join();
+        Assert.assertFalse(messageInbox.isBlockingTick());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot;
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRootComparator;
+import edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot_p.C2WInteractionRoot_p.SimLog;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+public class OrderedDecodePipelineTests {
+
+    @Test
+    public void orderTest() {
+        final int numberOfTasks = 2000;
+
+        List<Integer> resultList = new ArrayList<>();
+        // A SMALL CAPACITY SO THAT THE SUBMITTING THREAD ALSO RUNS SOME OF THE TASKS
+        OrderedDecodePipeline<Integer> orderedDecodePipeline =
+          new OrderedDecodePipeline<>("TestDecoder", 4, 8, resultList::add);
+
+        for(int ix = 0 ; ix < numberOfTasks ; ++ix) {
+            final int value = ix;
+            orderedDecodePipeline.submit(() -> {
+                // DECODING TAKES A RANDOM TIME, SO TASKS FINISH OUT OF ORDER
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(20000));
+                // A null RESULT IS SKIPPED
+                return value % 10 == 0 ? null : value;
+            });
+        }
+        orderedDecodePipeline.awaitDelivery();
+        orderedDecodePipeline.shutdown();
+
+        Assert.assertEquals(numberOfTasks - numberOfTasks/10, resultList.size());
+        int expectedValue = 0;
+        for(int value: resultList) {
+            if (expectedValue % 10 == 0) {
+                ++expectedValue;
+            }
+            Assert.assertEquals(expectedValue++, value);
+        }
+    }
+
+    @Test
+    public void submitAfterShutdownTest() {
+        final int numberOfTasks = 100;
+
+        List<Integer> resultList = new ArrayList<>();
+        OrderedDecodePipeline<Integer> orderedDecodePipeline =
+          new OrderedDecodePipeline<>("TestDecoder", 2, 8, resultList::add);
+
+        for(int ix = 0 ; ix < numberOfTasks ; ++ix) {
+            final int value = ix;
+            orderedDecodePipeline.submit(() -> {
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(20000));
+                return value;
+            });
+            // THE TASKS SUBMITTED AFTER shutdown ARE RUN BY THIS THREAD, AND ARE STILL DELIVERED IN ORDER
+            if (ix == numberOfTasks/2) {
+                orderedDecodePipeline.shutdown();
+            }
+        }
+
+        // RETURNS, RATHER THAN WAITING FOREVER FOR THE TASKS SUBMITTED AFTER shutdown
+        orderedDecodePipeline.awaitDelivery();
+
+        Assert.assertEquals(numberOfTasks, resultList.size());
+        for(int ix = 0 ; ix < numberOfTasks ; ++ix) {
+            Assert.assertEquals(ix, (int)resultList.get(ix));
+        }
+    }
+
+    @Test
+    public void sameTimestampOrderTest() {
+        final int numberOfInteractions = 2000;
+
+        // THE INBOX NUMBERS THE INTERACTIONS AS THE PIPELINE DELIVERS THEM (AS IN SynchronizedFederate)
+        MessageInbox<InteractionRoot> interactionInbox = new MessageInbox<>(new InteractionRootComparator());
+        interactionInbox.setSequencer(InteractionRootComparator::set_sort_key);
+
+        OrderedDecodePipeline<InteractionRoot> orderedDecodePipeline =
+          new OrderedDecodePipeline<>("TestDecoder", 4, 8, interactionInbox::addTimestampOrder);
+
+        for(int ix = 0 ; ix < numberOfInteractions ; ++ix) {
+            final int value = ix;
+            orderedDecodePipeline.submit(() -> {
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(20000));
+                // THE INTERACTIONS ARE CREATED ON DIFFERENT THREADS, SO THEIR UNIQUE IDS ARE NOT IN THIS ORDER
+                SimLog simLog = new SimLog();
+                simLog.setTime(1.0);
+                simLog.set_actualLogicalGenerationTime(0.5);
+                simLog.set_Comment(Integer.toString(value));
+                return simLog;
+            });
+        }
+        orderedDecodePipeline.awaitDelivery();
+        orderedDecodePipeline.shutdown();
+
+        // INTERACTIONS WITH THE SAME TIMESTAMP AND GENERATION TIME COME OUT OF THE INBOX IN THE ORDER IN WHICH THEY
+        // WERE SUBMITTED
+        List<InteractionRoot> interactionRootList = new ArrayList<>();
+        interactionInbox.drainTo(interactionRootList, Integer.MAX_VALUE);
+        Assert.assertEquals(numberOfInteractions, interactionRootList.size());
+        for(int ix = 0 ; ix < numberOfInteractions ; ++ix) {
+            Assert.assertEquals(Integer.toString(ix), ((SimLog)interactionRootList.get(ix)).get_Comment());
+        }
+    }
+}
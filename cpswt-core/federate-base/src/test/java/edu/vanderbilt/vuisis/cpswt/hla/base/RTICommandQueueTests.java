@@ -0,0 +1,83 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla.base;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RTICommandQueueTests {
+
+    @Test
+    public void flushTest() throws InterruptedException {
+        final int numberOfThreads = 4;
+        final int numberOfCommands = 1000;
+
+        RTICommandQueue rtiCommandQueue = new RTICommandQueue();
+        Object rtiMonitor = new Object();
+        List<Integer> executedCommandList = new ArrayList<>();
+
+        List<Thread> threadList = new ArrayList<>();
+        for(int ix = 0 ; ix < numberOfThreads ; ++ix) {
+            final int threadNumber = ix;
+            Thread thread = new Thread(() -> {
+                for(int jx = 0 ; jx < numberOfCommands ; ++jx) {
+                    final int command = threadNumber * numberOfCommands + jx;
+                    rtiCommandQueue.submit(rti -> executedCommandList.add(command));
+                }
+            });
+            threadList.add(thread);
+            thread.start();
+        }
+
+        // THE "TICKING" THREAD FLUSHES WHILE THE OTHER THREADS SUBMIT
+        int numberOfExecutedCommands = 0;
+        while(numberOfExecutedCommands < numberOfThreads * numberOfCommands) {
+            synchronized (rtiMonitor) {
+                numberOfExecutedCommands += rtiCommandQueue.flush(null);
+            }
+        }
+        for(Thread thread: threadList) {
+            thread.join();
+        }
+        Assert.assertTrue(rtiCommandQueue.isEmpty());
+
+        // THE COMMANDS OF EACH THREAD ARE EXECUTED ONCE, IN THE ORDER IN WHICH THEY WERE SUBMITTED
+        Assert.assertEquals(numberOfThreads * numberOfCommands, executedCommandList.size());
+        int[] nextCommandArray = new int[numberOfThreads];
+        for(int command: executedCommandList) {
+            int threadNumber = command / numberOfCommands;
+            Assert.assertEquals(nextCommandArray[threadNumber]++, command % numberOfCommands);
+        }
+    }
+}
@@ -64,7 +64,7 @@ public class Receiver extends ReceiverBase {
     private void checkReceivedSubscriptions() {
 
         ObjectReflector reflector;
-        while ((reflector = getNextObjectReflectorNoWait()) != null) {
+        while ((reflector = nextObjectReflectorNoWait()) != null) {
             reflector.reflect();
             ObjectRoot objectRoot = reflector.getObjectRoot();
 
@@ -57,6 +57,8 @@ dependencies {
     implementation(group = "edu.vanderbilt.vuisis.cpswt", name = "root", version = version)
     implementation(group = "edu.vanderbilt.vuisis.cpswt", name = "base-events", version = version)
 
+    testImplementation(group = "junit", name = "junit", version = "4.13.2")
+
 //    implementation(group = "com.fasterxml.jackson.core", name = "jackson-annotations", version = "2.12.5")
 }
 
@@ -35,6 +35,8 @@ import edu.vanderbilt.vuisis.cpswt.coa.COAExecutorEventListener;
 import edu.vanderbilt.vuisis.cpswt.coa.COAGraph;
 import edu.vanderbilt.vuisis.cpswt.coa.COALoader;
 import edu.vanderbilt.vuisis.cpswt.hla.base.AdvanceTimeRequest;
+import edu.vanderbilt.vuisis.cpswt.hla.base.FixedStepAdvance;
+import edu.vanderbilt.vuisis.cpswt.hla.base.TimeAdvanceMode;
 import edu.vanderbilt.vuisis.cpswt.utils.CpswtDefaults;
 import hla.rti.*;
 
@@ -43,6 +45,7 @@ import java.lang.reflect.Field;
 import java.net.URL;
 import java.nio.file.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -51,6 +54,9 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleSupplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -130,6 +136,13 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
     private final Set<Double> _pauseTimes = new HashSet<>();
 
     private double _federationEndTime;
+
+    /**
+     * Indicates if the federation manager advances directly to the time of its next known event (see
+     * {@link #getNextStepTime()}), bounded by _maxStepSize if it is greater than 0.
+     */
+    private final boolean _eventDrivenAdvance;
+    private final double _maxStepSize;
     private Random _rand4Dur = null;
     private final String _logLevel;
 
@@ -139,9 +152,19 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
     private final Map<Double, List<InteractionRoot>> _script_interactions = new TreeMap<>();
     private List<InteractionRoot> _initialization_interactions = new ArrayList<>();
 
-    private boolean _running = false;
+    private volatile boolean _running = false;
+
+    private volatile boolean _paused = false;
 
-    private boolean _paused = false;
+    // PARKED WHILE THE SIMULATION IS PAUSED, AND UNPARKED WHEN IT IS RESUMED OR TERMINATED
+    private volatile Thread _mainFederationManagerRunThread = null;
+
+    private void unparkMainFederationManagerRunThread() {
+        Thread mainFederationManagerRunThread = _mainFederationManagerRunThread;
+        if (mainFederationManagerRunThread != null) {
+            LockSupport.unpark(mainFederationManagerRunThread);
+        }
+    }
 
     private boolean _federationAttempted = false;
 
@@ -213,10 +236,21 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
 
         _logger.trace("FederationManager initialization start");
 
+        addInteractionHandler(
+                "InteractionRoot.C2WInteractionRoot.FederateJoinInteraction",
+                this::handleInteractionClass_InteractionRoot_C2WInteractionRoot_FederateJoinInteraction
+        );
+        addInteractionHandler(
+                "InteractionRoot.C2WInteractionRoot.FederateResignInteraction",
+                this::handleInteractionClass_InteractionRoot_C2WInteractionRoot_FederateResignInteraction
+        );
+
         // record config parameters
         _federationId = params.federationId;
         _federationEndTime = params.federationEndTime;
         _realTimeMode = params.realTimeMode;
+        _eventDrivenAdvance = params.eventDrivenAdvance;
+        _maxStepSize = params.maxStepSize;
 
         // set project's root directory
         /*
@@ -512,15 +546,9 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
     private void checkInteraction(InteractionRoot interactionRoot) {
 
         checkMonitoredInteractions(interactionRoot);
-        if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass("InteractionRoot.C2WInteractionRoot.FederateJoinInteraction")) {
-
-            handleInteractionClass_InteractionRoot_C2WInteractionRoot_FederateJoinInteraction(interactionRoot);
-            return;
-        }
-
-        if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass("InteractionRoot.C2WInteractionRoot.FederateResignInteraction")) {
 
-            handleInteractionClass_InteractionRoot_C2WInteractionRoot_FederateResignInteraction(interactionRoot);
+        // HANDLERS ARE REGISTERED IN THE CONSTRUCTOR
+        if (dispatchInteraction(interactionRoot)) {
             return;
         }
 
@@ -528,23 +556,29 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
 
     }
 
+    // REUSED BY checkReceivedSubscriptions TO DRAIN THE RECEIVED INTERACTIONS AND REFLECTIONS IN BULK
+    private final List<InteractionRoot> _receivedInteractionList = new ArrayList<>();
+    private final List<ObjectRoot.ObjectReflector> _receivedObjectReflectorList = new ArrayList<>();
+
     private void checkReceivedSubscriptions() {
 
-        InteractionRoot interactionRoot;
-        while ((interactionRoot = getNextInteractionNoWait()) != null) {
+        drainInteractions(_receivedInteractionList, Integer.MAX_VALUE);
+        for (InteractionRoot interactionRoot: _receivedInteractionList) {
             if (_coaExecutor != null) {
                 _coaExecutor.updateArrivedInteractions(interactionRoot);
             }
             checkInteraction(interactionRoot);
         }
+        _receivedInteractionList.clear();
 
-        ObjectRoot.ObjectReflector reflector;
-        while ((reflector = getNextObjectReflectorNoWait()) != null) {
+        drainObjectReflectors(_receivedObjectReflectorList, Integer.MAX_VALUE);
+        for (ObjectRoot.ObjectReflector reflector: _receivedObjectReflectorList) {
             reflector.reflect();
             ObjectRoot objectRoot = reflector.getObjectRoot();
 
             _logger.debug("unhandled object reflection: \"{}\"", objectRoot.getInstanceHlaClassName());
         }
+        _receivedObjectReflectorList.clear();
 
     }
 
@@ -586,13 +620,42 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
         resetTimeOffset();
 
         // run rti on a spearate thread
-        Thread mainFederationManagerRunThread = new Thread(() -> {
+        Thread mainFederationManagerRunThread = newThread("FederationManagerRunThread", () -> {
 
             try {
-                AdvanceTimeRequest atr = new AdvanceTimeRequest(_currentTime);
-                putAdvanceTimeRequest(atr);
+                // IF THE "fixedStepWindow" PARAMETER IS GREATER THAN 0, STEPS ARE PIPELINED THROUGH A FixedStepAdvance
+                // RATHER THAN HANDED OFF THROUGH AN AdvanceTimeRequest PER STEP
+                AdvanceTimeRequest atr = null;
+                FixedStepAdvance fixedStepAdvance = null;
+                int fixedStepWindow = getFixedStepWindow();
+                if (_eventDrivenAdvance && fixedStepWindow > 0) {
+                    _logger.warn(
+                            "\"fixedStepWindow\" ({}) is ignored because \"eventDrivenAdvance\" is true", fixedStepWindow
+                    );
+                } else if (fixedStepWindow > 1) {
+                    // THE FEDERATION MANAGER SENDS ITS INTERACTIONS (SCRIPT INTERACTIONS, SimEnd) AT THE TIME OF THE
+                    // STEP IT IS PROCESSING PLUS THE LOOKAHEAD, WHICH THE RTI REJECTS IF A LATER STEP HAS BEEN GRANTED
+                    _logger.warn(
+                            "\"fixedStepWindow\" ({}) is greater than 1:  the federation manager uses a window of 1",
+                            fixedStepWindow
+                    );
+                    fixedStepWindow = 1;
+                }
+
+                if (_eventDrivenAdvance) {
+                    // STEPS VARY IN SIZE:  NextEventRequest ALSO GRANTS THE TIME OF AN EARLIER RECEIVED INTERACTION
+                    atr = new AdvanceTimeRequest(_currentTime);
+                    putAdvanceTimeRequest(atr);
 
-                startAdvanceTimeThread();
+                    startAdvanceTimeThread(TimeAdvanceMode.NextEventRequest);
+                } else if (fixedStepWindow > 0) {
+                    fixedStepAdvance = startFixedStepAdvanceThread(fixedStepWindow);
+                } else {
+                    atr = new AdvanceTimeRequest(_currentTime);
+                    putAdvanceTimeRequest(atr);
+
+                    startAdvanceTimeThread();
+                }
                 _logger.info("started logical time progression");
 
                 recordMainExecutionLoopStartTime();
@@ -600,7 +663,17 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
                 int numStepsExecuted = 0;
                 while (_running && !exitCondition) {
                     if (!_paused) {
-                        atr.requestSyncStart();
+                        if (fixedStepAdvance != null) {
+                            double stepTime = fixedStepAdvance.awaitStep();
+                            if (stepTime >= 0) {
+                                _currentTime = stepTime;
+                            }
+                        } else {
+                            atr.requestSyncStart();
+                            if (_eventDrivenAdvance && atr.getCurrentTime() >= 0) {
+                                _currentTime = atr.getCurrentTime();
+                            }
+                        }
                     }
 
                     if (_realTimeMode) {
@@ -644,7 +717,7 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
                             numStepsExecuted = 0;
                         }
                     } else {
-                        CpswtUtils.sleep(10);
+                        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(internalThreadWaitTimeMs));
                     }
 
                     // If we have reached federation end time (if it was configured), terminate the federation
@@ -657,19 +730,30 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
                     }
 
                     if (exitCondition) {
-                        terminateAdvanceTimeThread(atr);
+                        if (fixedStepAdvance != null) {
+                            terminateFixedStepAdvanceThread();
+                        } else {
+                            terminateAdvanceTimeThread(atr);
+                        }
                     } else if (_running && !_paused) {
                         double previousTime = _currentTime;
-                        _currentTime += super.getStepSize();
+                        // IN FIXED-STEP MODE, _currentTime IS SET FROM THE STEP TIME THAT awaitStep() RETURNS, SO THAT
+                        // IT DOES NOT DRIFT FROM THE TIME THE AdvanceTimeThread IS GRANTED
+                        double requestedTime = getNextStepTime();
 
                         _logger.info(
                                 "Current_time = {} and step = {} and requested_time = {}",
-                                previousTime, getStepSize(), _currentTime
+                                previousTime, getStepSize(), requestedTime
                         );
-                        AdvanceTimeRequest newATR = new AdvanceTimeRequest(_currentTime);
-                        putAdvanceTimeRequest(newATR);
-                        atr.requestSyncEnd();
-                        atr = newATR;
+                        if (fixedStepAdvance != null) {
+                            fixedStepAdvance.stepEnd();
+                        } else {
+                            _currentTime = requestedTime;
+                            AdvanceTimeRequest newATR = new AdvanceTimeRequest(_currentTime);
+                            putAdvanceTimeRequest(newATR);
+                            atr.requestSyncEnd();
+                            atr = newATR;
+                        }
                     }
                 }
                 _federationEventsHandler.handleEvent(
@@ -705,12 +789,13 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
 
         _running = true;
 
+        _mainFederationManagerRunThread = mainFederationManagerRunThread;
         mainFederationManagerRunThread.start();
 
         while(_running) {
             if(!_paused) {
                 InteractionRoot interactionRoot;
-                while ((interactionRoot = getNextInteractionWithoutTimeNoWait()) != null) {
+                while ((interactionRoot = nextInteractionWithoutTimeNoWait()) != null) {
                     checkInteraction(interactionRoot);
                 }
 
@@ -761,6 +846,90 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
         _logger.info("All federates have resigned the federation.  Simulation terminated.\n");
     }
 
+    /**
+     * Returns the earliest time at which the federation manager has work to do that is known in advance:
+     * sending a script interaction, pausing, ending the federation, or executing a COA SyncPoint or Duration.
+     *
+     * @return the time of the next known event, or Double.POSITIVE_INFINITY if there is none
+     */
+    private double getNextEventTime() {
+        return get_next_event_time(
+                _currentTime,
+                getLookahead(),
+                getStepSize(),
+                _script_interactions,
+                _pauseTimes,
+                _federationEndTime,
+                _coaExecutor != null ? _coaExecutor.getNextEventTime() : Double.POSITIVE_INFINITY
+        );
+    }
+
+    // SEE getNextEventTime
+    static double get_next_event_time(
+            double currentTime,
+            double lookahead,
+            double stepSize,
+            Map<Double, List<InteractionRoot>> scriptInteractions,
+            Collection<Double> pauseTimes,
+            double federationEndTime,
+            double coaNextEventTime
+    ) {
+        double nextEventTime = Double.POSITIVE_INFINITY;
+
+        // A SCRIPT INTERACTION IS SENT AT THE STEP WHOSE [tmin, tmin + stepSize) WINDOW (SEE sendScriptInteractions)
+        // CONTAINS ITS TIME:  AIM FOR THE MIDDLE OF THE WINDOW
+        double tminOffset = lookahead + (lookahead / 10000.0);
+        double tmin = currentTime + tminOffset;
+        for (Map.Entry<Double, List<InteractionRoot>> entry : scriptInteractions.entrySet()) {
+            if (entry.getKey() >= tmin && !entry.getValue().isEmpty()) {
+                nextEventTime = entry.getKey() - tminOffset - stepSize / 2;
+                break;
+            }
+        }
+
+        // PAUSING AND ENDING THE FEDERATION HAPPEN AT THE FIRST STEP AFTER THEIR TIMES
+        for (double pauseTime : pauseTimes) {
+            nextEventTime = Math.min(nextEventTime, Math.nextUp(pauseTime));
+        }
+        if (federationEndTime > 0) {
+            nextEventTime = Math.min(nextEventTime, Math.nextUp(federationEndTime));
+        }
+
+        return Math.min(nextEventTime, coaNextEventTime);
+    }
+
+    /**
+     * Returns the time of the next step:  the current time plus the step size, or, if the "eventDrivenAdvance"
+     * parameter is true, the time of the next known event, if it is later, bounded by the current time plus
+     * the "maxStepSize" parameter, if it is greater than 0.
+     *
+     * @return the time of the next step
+     */
+    private double getNextStepTime() {
+        return get_next_step_time(_currentTime, getStepSize(), _eventDrivenAdvance, _maxStepSize, this::getNextEventTime);
+    }
+
+    // SEE getNextStepTime.  nextEventTime IS ONLY EVALUATED IF eventDrivenAdvance IS TRUE
+    static double get_next_step_time(
+            double currentTime,
+            double stepSize,
+            boolean eventDrivenAdvance,
+            double maxStepSize,
+            DoubleSupplier nextEventTime
+    ) {
+        double nextStepTime = currentTime + stepSize;
+        if (!eventDrivenAdvance) {
+            return nextStepTime;
+        }
+
+        double nextKnownEventTime = nextEventTime.getAsDouble();
+        if (maxStepSize > 0) {
+            nextKnownEventTime = Math.min(nextKnownEventTime, currentTime + maxStepSize);
+        }
+        return nextKnownEventTime != Double.POSITIVE_INFINITY && nextKnownEventTime > nextStepTime ?
+                nextKnownEventTime : nextStepTime;
+    }
+
     private void sendScriptInteractions() {
         double tmin = _currentTime + getLookahead() + (getLookahead() / 10000.0);
 
@@ -825,6 +994,7 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
             startFederationRun();
         }
         _paused = false;
+        unparkMainFederationManagerRunThread();
         setFederateState(FederateState.RUNNING);
     }
 
@@ -838,6 +1008,7 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
         _time_diff = _time_in_millisec - System.currentTimeMillis();
         _logger.debug("Resuming simulation");
         _paused = false;
+        unparkMainFederationManagerRunThread();
         setFederateState(FederateState.RESUMED);
     }
 
@@ -848,18 +1019,18 @@ public class FederationManager extends SynchronizedFederate implements COAExecut
         recordMainExecutionLoopEndTime();
         setFederateState(FederateState.TERMINATING);
 
-        synchronized (rti) {
-            try {
-                SimEnd e = new SimEnd();
-                double tmin = _currentTime + getLookahead();
-                sendInteraction(e, tmin);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+        // sendInteraction LOCKS THE RTI ITSELF, OR QUEUES THE INTERACTION IF THE RTI IS BEING TICKED
+        try {
+            SimEnd e = new SimEnd();
+            double tmin = _currentTime + getLookahead();
+            sendInteraction(e, tmin);
+        } catch (Exception e) {
+            e.printStackTrace();
         }
 
         _running = false;
         _paused = false;
+        unparkMainFederationManagerRunThread();
 
         // Wait for 2 seconds for SimEnd to reach others
         CpswtUtils.sleep(CpswtDefaults.SimEndWaitingTimeMillis);
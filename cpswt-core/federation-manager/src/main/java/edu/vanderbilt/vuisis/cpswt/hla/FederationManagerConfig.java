@@ -32,6 +32,7 @@ package edu.vanderbilt.vuisis.cpswt.hla;
 
 import edu.vanderbilt.vuisis.cpswt.config.FederateConfig;
 import edu.vanderbilt.vuisis.cpswt.config.FederateParameter;
+import edu.vanderbilt.vuisis.cpswt.config.FederateParameterOptional;
 
 public class FederationManagerConfig extends FederateConfig {
     /**
@@ -70,6 +71,24 @@ public class FederationManagerConfig extends FederateConfig {
     @FederateParameter
     public boolean realTimeMode;
 
+    /**
+     * Optional 'eventDrivenAdvance' parameter that, when true, makes the federation manager advance directly to the
+     * time of its next known event (a script interaction, a pause time, the federation end time, or a COA SyncPoint
+     * or Duration end), using NextEventRequest so that it is also granted the time of any earlier interaction it
+     * receives.  It still advances by at least the step size.  The default, false, advances by the step size.
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public boolean eventDrivenAdvance = false;
+
+    /**
+     * Optional 'maxStepSize' parameter:  if greater than 0, and 'eventDrivenAdvance' is true, the largest time
+     * by which the federation manager advances in one step.  The default, 0, does not bound the step.
+     */
+    @FederateParameter
+    @FederateParameterOptional
+    public double maxStepSize = 0;
+
     /**
      * The fed file for RTI.
      */
@@ -0,0 +1,196 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class FederationManagerTests {
+
+    private static final double delta = 0;
+
+    private static final double lookahead = 0.1;
+    private static final double stepSize = 1.0;
+    private static final double tminOffset = lookahead + (lookahead / 10000.0);
+
+    private static final Map<Double, List<InteractionRoot>> noScriptInteractions = new TreeMap<>();
+
+    // FAILS THE TEST IF THE NEXT EVENT TIME IS NEEDED
+    private static double fail_next_event_time() {
+        Assert.fail("next event time should not be needed");
+        return 0;
+    }
+
+    private static double get_next_event_time(
+            double currentTime,
+            Map<Double, List<InteractionRoot>> scriptInteractions,
+            List<Double> pauseTimes,
+            double federationEndTime,
+            double coaNextEventTime
+    ) {
+        return FederationManager.get_next_event_time(
+                currentTime,
+                lookahead,
+                stepSize,
+                scriptInteractions,
+                pauseTimes,
+                federationEndTime,
+                coaNextEventTime
+        );
+    }
+
+    @Test
+    public void noEventTest() {
+        Assert.assertEquals(
+                Double.POSITIVE_INFINITY,
+                get_next_event_time(0, noScriptInteractions, Collections.emptyList(), 0, Double.POSITIVE_INFINITY),
+                delta
+        );
+    }
+
+    @Test
+    public void scriptInteractionTest() {
+        Map<Double, List<InteractionRoot>> scriptInteractions = new TreeMap<>();
+        scriptInteractions.put(0.05, new ArrayList<>(Collections.singletonList(new InteractionRoot())));
+        scriptInteractions.put(3.0, new ArrayList<>());
+        scriptInteractions.put(10.0, new ArrayList<>(Collections.singletonList(new InteractionRoot())));
+        scriptInteractions.put(20.0, new ArrayList<>(Collections.singletonList(new InteractionRoot())));
+
+        // THE INTERACTION AT 0.05 IS BEFORE tmin, AND THE LIST AT 3.0 HAS ALREADY BEEN SENT:  THE NEXT STEP SHOULD
+        // PUT 10.0 IN THE MIDDLE OF THE [tmin, tmin + stepSize) WINDOW THAT sendScriptInteractions USES
+        double nextEventTime = get_next_event_time(
+                0, scriptInteractions, Collections.emptyList(), 0, Double.POSITIVE_INFINITY
+        );
+        Assert.assertEquals(10.0 - tminOffset - stepSize / 2, nextEventTime, delta);
+
+        double tmin = nextEventTime + tminOffset;
+        Assert.assertTrue(tmin <= 10.0 && 10.0 < tmin + stepSize);
+        Assert.assertTrue(20.0 >= tmin + stepSize);
+    }
+
+    @Test
+    public void pauseAndEndTimeTest() {
+        // PAUSING AND ENDING HAPPEN AT THE FIRST STEP AFTER THEIR TIMES
+        Assert.assertEquals(
+                Math.nextUp(5.0),
+                get_next_event_time(0, noScriptInteractions, Arrays.asList(9.0, 5.0), 8.0, Double.POSITIVE_INFINITY),
+                delta
+        );
+        Assert.assertEquals(
+                Math.nextUp(8.0),
+                get_next_event_time(0, noScriptInteractions, Collections.singletonList(9.0), 8.0, Double.POSITIVE_INFINITY),
+                delta
+        );
+
+        // A FEDERATION END TIME THAT IS NOT GREATER THAN 0 MEANS THE FEDERATION DOES NOT END ON ITS OWN
+        Assert.assertEquals(
+                Double.POSITIVE_INFINITY,
+                get_next_event_time(0, noScriptInteractions, Collections.emptyList(), 0, Double.POSITIVE_INFINITY),
+                delta
+        );
+    }
+
+    @Test
+    public void coaEventTest() {
+        Assert.assertEquals(
+                4.0,
+                get_next_event_time(0, noScriptInteractions, Collections.singletonList(5.0), 8.0, 4.0),
+                delta
+        );
+        Assert.assertEquals(
+                Math.nextUp(5.0),
+                get_next_event_time(0, noScriptInteractions, Collections.singletonList(5.0), 8.0, 6.0),
+                delta
+        );
+    }
+
+    @Test
+    public void fixedStepTest() {
+        // WITHOUT eventDrivenAdvance, THE NEXT EVENT TIME IS NOT USED
+        Assert.assertEquals(
+                3.0,
+                FederationManager.get_next_step_time(
+                        2.0, stepSize, false, 0, FederationManagerTests::fail_next_event_time
+                ),
+                delta
+        );
+    }
+
+    @Test
+    public void eventDrivenStepTest() {
+        // ADVANCE DIRECTLY TO THE NEXT EVENT
+        Assert.assertEquals(
+                7.5, FederationManager.get_next_step_time(2.0, stepSize, true, 0, () -> 7.5), delta
+        );
+
+        // BUT NEVER BY LESS THAN THE STEP SIZE
+        Assert.assertEquals(
+                3.0, FederationManager.get_next_step_time(2.0, stepSize, true, 0, () -> 2.5), delta
+        );
+
+        // FALL BACK TO THE STEP SIZE IF NO EVENT IS KNOWN
+        Assert.assertEquals(
+                3.0,
+                FederationManager.get_next_step_time(2.0, stepSize, true, 0, () -> Double.POSITIVE_INFINITY),
+                delta
+        );
+    }
+
+    @Test
+    public void maxStepSizeTest() {
+        // maxStepSize BOUNDS THE ADVANCE TO THE NEXT EVENT
+        Assert.assertEquals(
+                12.0, FederationManager.get_next_step_time(2.0, stepSize, true, 10.0, () -> 100.0), delta
+        );
+        Assert.assertEquals(
+                7.5, FederationManager.get_next_step_time(2.0, stepSize, true, 10.0, () -> 7.5), delta
+        );
+
+        // maxStepSize ALSO BOUNDS THE ADVANCE IF NO EVENT IS KNOWN
+        Assert.assertEquals(
+                12.0,
+                FederationManager.get_next_step_time(2.0, stepSize, true, 10.0, () -> Double.POSITIVE_INFINITY),
+                delta
+        );
+
+        // A maxStepSize LESS THAN THE STEP SIZE DOES NOT SHORTEN THE STEP
+        Assert.assertEquals(
+                3.0, FederationManager.get_next_step_time(2.0, stepSize, true, 0.5, () -> 100.0), delta
+        );
+    }
+}
@@ -55,6 +55,7 @@ dependencies {
 
     implementation(group = "edu.vanderbilt.vuisis.cpswt", name = "coa", version = version)
     implementation(group = "edu.vanderbilt.vuisis.cpswt", name = "config", version = version)
+    implementation(group = "edu.vanderbilt.vuisis.cpswt", name = "utils", version = version)
     implementation(group = "edu.vanderbilt.vuisis.cpswt", name = "federate-base", version = version)
     implementation(group = "edu.vanderbilt.vuisis.cpswt", name = "federation-manager", version = version)
 
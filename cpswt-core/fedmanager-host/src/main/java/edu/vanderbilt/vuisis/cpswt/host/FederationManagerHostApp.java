@@ -49,6 +49,7 @@ import edu.vanderbilt.vuisis.cpswt.host.api.ControlAction;
 import edu.vanderbilt.vuisis.cpswt.host.api.FederationManagerControlRequest;
 import edu.vanderbilt.vuisis.cpswt.host.api.StateChangeResponse;
 import edu.vanderbilt.vuisis.cpswt.host.api.StateResponse;
+import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
 
 //import java.io.IOException;
 import java.util.concurrent.CompletionStage;
@@ -184,29 +185,23 @@ public class FederationManagerHostApp extends AllDirectives {
     }
 
     private void startSimulationAsync() {
-        new Thread() {
-            @Override
-            public void run() {
-                try {
-                    federationManager.startSimulation();
-                } catch (Exception ex) {
-                    logger.error("There was an error while starting the simulation", ex);
-                }
+        CpswtUtils.newThread("StartSimulation", () -> {
+            try {
+                federationManager.startSimulation();
+            } catch (Exception ex) {
+                logger.error("There was an error while starting the simulation", ex);
             }
-        }.start();
+        }, federationManager.getUseVirtualThreads()).start();
     }
 
     private void terminateSimulationAsync() {
-        new Thread() {
-            @Override
-            public void run() {
-                try {
-                    federationManager.terminateSimulation();
-                } catch (Exception ex) {
-                    logger.error("There was an error while terminating the simulation", ex);
-                }
+        CpswtUtils.newThread("TerminateSimulation", () -> {
+            try {
+                federationManager.terminateSimulation();
+            } catch (Exception ex) {
+                logger.error("There was an error while terminating the simulation", ex);
             }
-        }.start();
+        }, federationManager.getUseVirtualThreads()).start();
     }
 
 
@@ -0,0 +1,143 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A compact binary encoding of parameter and attribute values:
+ * <ul>
+ * <li>numeric values (including char) are fixed-width, big-endian, in their Java width;</li>
+ * <li>a boolean is a single byte, 1 or 0;</li>
+ * <li>a String is a 4-byte big-endian length, followed by that many bytes of UTF-8.</li>
+ * </ul>
+ * Values of any other type are sent as the String of their string representation.
+ * <p/>
+ * Unlike TextMessagingCodec, decoding yields a value of the type of the parameter/attribute,
+ * so no string parsing is needed on receipt.
+ */
+public class BinaryMessagingCodec implements MessagingCodec {
+
+    public static final String NAME = "binary";
+
+    public static final BinaryMessagingCodec INSTANCE = new BinaryMessagingCodec();
+
+    public String getName() {
+        return NAME;
+    }
+
+    private static byte[] encode_long(long value, int width) {
+        byte[] bytes = new byte[width];
+        for(int ix = width - 1 ; ix >= 0 ; --ix) {
+            bytes[ix] = (byte)value;
+            value >>= 8;
+        }
+        return bytes;
+    }
+
+    private static long decode_long(byte[] bytes, int offset, int width) {
+        // SIGN-EXTEND FROM THE FIRST (MOST SIGNIFICANT) BYTE
+        long value = bytes[offset];
+        for(int ix = 1 ; ix < width ; ++ix) {
+            value = (value << 8) | (bytes[offset + ix] & 0xFF);
+        }
+        return value;
+    }
+
+    public byte[] encode(Object value) {
+        if (value instanceof Double) {
+            return encode_long(Double.doubleToLongBits((Double)value), Double.BYTES);
+        }
+        if (value instanceof Integer) {
+            return encode_long((Integer)value, Integer.BYTES);
+        }
+        if (value instanceof Long) {
+            return encode_long((Long)value, Long.BYTES);
+        }
+        if (value instanceof Boolean) {
+            return new byte[] { (byte)((Boolean)value ? 1 : 0) };
+        }
+        if (value instanceof Float) {
+            return encode_long(Float.floatToIntBits((Float)value), Float.BYTES);
+        }
+        if (value instanceof Short) {
+            return encode_long((Short)value, Short.BYTES);
+        }
+        if (value instanceof Byte) {
+            return new byte[] { (Byte)value };
+        }
+        if (value instanceof Character) {
+            return encode_long((Character)value, Character.BYTES);
+        }
+
+        byte[] stringBytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[Integer.BYTES + stringBytes.length];
+        System.arraycopy(encode_long(stringBytes.length, Integer.BYTES), 0, bytes, 0, Integer.BYTES);
+        System.arraycopy(stringBytes, 0, bytes, Integer.BYTES, stringBytes.length);
+        return bytes;
+    }
+
+    public Object decode(byte[] bytes, int offset, int length, Class<?> type) {
+        if (type == Double.class) {
+            return length == Double.BYTES ? Double.longBitsToDouble(decode_long(bytes, offset, length)) : null;
+        }
+        if (type == Integer.class) {
+            return length == Integer.BYTES ? (int)decode_long(bytes, offset, length) : null;
+        }
+        if (type == Long.class) {
+            return length == Long.BYTES ? decode_long(bytes, offset, length) : null;
+        }
+        if (type == Boolean.class) {
+            return length == 1 ? bytes[offset] != 0 : null;
+        }
+        if (type == Float.class) {
+            return length == Float.BYTES ? Float.intBitsToFloat((int)decode_long(bytes, offset, length)) : null;
+        }
+        if (type == Short.class) {
+            return length == Short.BYTES ? (short)decode_long(bytes, offset, length) : null;
+        }
+        if (type == Byte.class) {
+            return length == 1 ? bytes[offset] : null;
+        }
+        if (type == Character.class) {
+            return length == Character.BYTES ? (char)decode_long(bytes, offset, length) : null;
+        }
+
+        if (length < Integer.BYTES) {
+            return null;
+        }
+        int stringLength = (int)decode_long(bytes, offset, Integer.BYTES);
+        if (stringLength < 0 || stringLength > length - Integer.BYTES) {
+            return null;
+        }
+        return new String(bytes, offset + Integer.BYTES, stringLength, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The interned descriptor of an HLA (interaction or object) class:  there is exactly one
+ * HlaClassDescriptor per HLA class name, so descriptors can be compared with "==".
+ * <p/>
+ * Each descriptor holds the descriptors of its superclasses in an array indexed by depth, where
+ * the depth of "InteractionRoot" and "ObjectRoot" is 0.  As such, whether a class is derived
+ * from another is a single array access and comparison, and does not allocate.
+ * <p/>
+ * Each descriptor also has a small, dense index, so that per-class data (e.g. message handlers) can
+ * be held in an array indexed by descriptor.
+ */
+public final class HlaClassDescriptor {
+
+    private static final Map<String, HlaClassDescriptor> _hlaClassNameDescriptorMap = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger _nextIndex = new AtomicInteger(0);
+
+    /**
+     * Returns the descriptor of the HLA class named hlaClassName, creating it (and the descriptors
+     * of its superclasses) if needed.
+     *
+     * @param hlaClassName fully-qualified name of an HLA class, e.g. "InteractionRoot.C2WInteractionRoot"
+     * @return the unique descriptor of the hlaClassName class
+     */
+    public static HlaClassDescriptor get_hla_class_descriptor(String hlaClassName) {
+        HlaClassDescriptor hlaClassDescriptor = _hlaClassNameDescriptorMap.get(hlaClassName);
+        if (hlaClassDescriptor != null) {
+            return hlaClassDescriptor;
+        }
+
+        int lastDotIndex = hlaClassName.lastIndexOf('.');
+        HlaClassDescriptor superclassDescriptor = lastDotIndex < 0 ?
+          null : get_hla_class_descriptor(hlaClassName.substring(0, lastDotIndex));
+
+        // IF ANOTHER THREAD CREATED THE DESCRIPTOR IN THE MEANTIME, USE ITS DESCRIPTOR
+        hlaClassDescriptor = new HlaClassDescriptor(hlaClassName, superclassDescriptor);
+        HlaClassDescriptor previousHlaClassDescriptor =
+          _hlaClassNameDescriptorMap.putIfAbsent(hlaClassName, hlaClassDescriptor);
+        return previousHlaClassDescriptor == null ? hlaClassDescriptor : previousHlaClassDescriptor;
+    }
+
+    /**
+     * Returns the descriptor of the HLA class named hlaClassName if it exists, without creating it.
+     *
+     * @param hlaClassName fully-qualified name of an HLA class
+     * @return the descriptor of the hlaClassName class, or null if it has not been created
+     */
+    public static HlaClassDescriptor find_hla_class_descriptor(String hlaClassName) {
+        return _hlaClassNameDescriptorMap.get(hlaClassName);
+    }
+
+    /**
+     * Returns all of the descriptors that have been created so far.
+     *
+     * @return an unmodifiable view of the descriptors that have been created
+     */
+    public static Collection<HlaClassDescriptor> get_hla_class_descriptors() {
+        return Collections.unmodifiableCollection(_hlaClassNameDescriptorMap.values());
+    }
+
+    /**
+     * Returns an upper bound on the index of any descriptor created so far.
+     *
+     * @return a number greater than the index of every existing descriptor
+     */
+    public static int get_index_limit() {
+        return _nextIndex.get();
+    }
+
+    private final String _hlaClassName;
+
+    private final int _index;
+
+    private final HlaClassDescriptor[] _ancestorArray;
+
+    private HlaClassDescriptor(String hlaClassName, HlaClassDescriptor superclassDescriptor) {
+        _hlaClassName = hlaClassName;
+        _index = _nextIndex.getAndIncrement();
+
+        int depth = superclassDescriptor == null ? 0 : superclassDescriptor.getDepth() + 1;
+        _ancestorArray = new HlaClassDescriptor[depth + 1];
+        if (superclassDescriptor != null) {
+            System.arraycopy(superclassDescriptor._ancestorArray, 0, _ancestorArray, 0, depth);
+        }
+        _ancestorArray[depth] = this;
+    }
+
+    public String getHlaClassName() {
+        return _hlaClassName;
+    }
+
+    public int getIndex() {
+        return _index;
+    }
+
+    public int getDepth() {
+        return _ancestorArray.length - 1;
+    }
+
+    public HlaClassDescriptor getSuperclassDescriptor() {
+        int depth = getDepth();
+        return depth == 0 ? null : _ancestorArray[depth - 1];
+    }
+
+    /**
+     * Returns the descriptor of this class's superclass (or of this class itself) at the given depth.
+     *
+     * @param depth depth of the superclass, from 0 to getDepth()
+     * @return the descriptor of the superclass at depth
+     */
+    public HlaClassDescriptor getAncestorDescriptor(int depth) {
+        return _ancestorArray[depth];
+    }
+
+    /**
+     * Returns true if this class is the class of hlaClassDescriptor, or is derived from it.
+     *
+     * @param hlaClassDescriptor descriptor of a potential superclass of this class
+     * @return true if this class is hlaClassDescriptor's class or one of its subclasses, false otherwise
+     */
+    public boolean isDerivedFrom(HlaClassDescriptor hlaClassDescriptor) {
+        int depth = hlaClassDescriptor.getDepth();
+        return depth < _ancestorArray.length && _ancestorArray[depth] == hlaClassDescriptor;
+    }
+
+    @Override
+    public String toString() {
+        return _hlaClassName;
+    }
+}
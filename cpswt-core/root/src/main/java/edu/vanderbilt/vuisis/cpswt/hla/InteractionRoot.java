@@ -40,15 +40,23 @@ import hla.rti.jlc.RtiFactoryFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import java.io.File;
 import java.io.FileReader;
@@ -60,7 +68,10 @@ import org.json.JSONTokener;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import edu.vanderbilt.vuisis.cpswt.utils.CopyOnWriteHashMap;
+import edu.vanderbilt.vuisis.cpswt.utils.CopyOnWriteHashSet;
 import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
+import edu.vanderbilt.vuisis.cpswt.utils.UniqueIdGenerator;
 
 import org.portico.impl.hla13.types.DoubleTime;
 
@@ -92,13 +103,22 @@ public class InteractionRoot implements InteractionRootInterface {
 
     private static final Logger logger = LogManager.getLogger();
 
-    private static int _globalUniqueID = 0;
-    private static int generateUniqueID() {
-        return _globalUniqueID++;
-    }
-
-    private final int _uniqueID = generateUniqueID();
-    public int getUniqueID() {
+    //-------------------------------------------------------------------------------
+    // UNIQUE IDS ARE 64-BIT, AND ARE GENERATED WITHOUT CONTENTION FROM ANY THREAD:  THE
+    // IDS GENERATED BY A GIVEN THREAD INCREASE, BUT ARE NOT ORDERED WITH THOSE OF OTHER
+    // THREADS (SEE UniqueIdGenerator)
+    //-------------------------------------------------------------------------------
+    private static final UniqueIdGenerator _uniqueIdGenerator = new UniqueIdGenerator();
+    private static long generateUniqueID() {
+        return _uniqueIdGenerator.next();
+    }
+
+    //------------------------------------------------------------------------
+    // NOT final, AS AN INSTANCE THAT IS REUSED FROM THE INTERACTION POOL (SEE
+    // "INTERACTION POOL" BELOW) IS GIVEN A NEW UNIQUE ID
+    //------------------------------------------------------------------------
+    private long _uniqueID = generateUniqueID();
+    public long getUniqueID() {
         return _uniqueID;
     }
 
@@ -121,7 +141,7 @@ public class InteractionRoot implements InteractionRootInterface {
         }
     }
 
-    private static final Map<String, Boolean> _hlaClassNameIsInitializedMap = new HashMap<>();
+    private static final Map<String, Boolean> _hlaClassNameIsInitializedMap = new CopyOnWriteHashMap<>();
 
     private static Boolean get_hla_class_name_is_initialized(String hlaClassName) {
         return _hlaClassNameIsInitializedMap.getOrDefault(hlaClassName, false);
@@ -131,19 +151,47 @@ public class InteractionRoot implements InteractionRootInterface {
         _hlaClassNameIsInitializedMap.put(hlaClassName, true);
     }
 
-    private static boolean _isInitialized = false;
+    //-------------------------------------------------------------------------------------------------
+    // THE CLASS METADATA MAPS AND SETS ARE COPY-ON-WRITE, SO THEY ARE READ WITHOUT LOCKING.  OPERATIONS
+    // THAT REGISTER CLASSES IN THEM (init AND THE LOADING OF DYNAMIC MESSAGING CLASSES) ARE SERIALIZED
+    // BY _registryWriteLock, SO THAT A CLASS IS NEVER INITIALIZED BY TWO THREADS AT ONCE.
+    //-------------------------------------------------------------------------------------------------
+    private static final Object _registryWriteLock = new Object();
+
+    private static volatile boolean _isInitialized = false;
     public static void init(RTIambassador rtiAmbassador) {
-        if (_isInitialized) {
-            return;
-        }
-        _isInitialized = true;
+        synchronized(_registryWriteLock) {
+            if (_isInitialized) {
+                return;
+            }
+            _isInitialized = true;
 
-        for(String hlaClassName: _hlaClassNameSet) {
-            init(hlaClassName, rtiAmbassador);
+            for(String hlaClassName: _hlaClassNameSet) {
+                init(hlaClassName, rtiAmbassador);
+            }
         }
     }
 
     public static void init(String hlaClassName, RTIambassador rtiAmbassador) {
+        synchronized(_registryWriteLock) {
+            init_hla_class(hlaClassName, rtiAmbassador);
+        }
+    }
+
+    private static void init_hla_class(String hlaClassName, RTIambassador rtiAmbassador) {
+
+        //---------------------------------------------------------------------------------
+        // THE HANDLES OF THE CLASSES ARE ADDED TO _classNameHandleMap ONLY AFTER ALL OF THEIR
+        // PROPERTIES ARE INITIALIZED, SO A THREAD THAT FINDS A CLASS HANDLE IN
+        // _classNameHandleMap ALSO FINDS THE HANDLES OF ITS PROPERTIES
+        //
+        // THE PROPERTY HANDLES ARE ALSO COLLECTED LOCALLY, AND ADDED WITH ONE putAll PER MAP, AS
+        // EACH WRITE TO A COPY-ON-WRITE MAP COPIES THE WHOLE MAP
+        //---------------------------------------------------------------------------------
+        Map<String, Integer> classNameHandleMap = new HashMap<>();
+        Map<ClassAndPropertyName, Integer> classAndPropertyNameHandleMap = new HashMap<>();
+        Map<Integer, ClassAndPropertyName> handleClassAndPropertyNameMap = new HashMap<>();
+
 
         //-------------------------------------------------------------------------
         // _hlaClassNameSet IS POPULATED BY
@@ -173,7 +221,7 @@ public class InteractionRoot implements InteractionRootInterface {
             while(isNotInitialized) {
                 try {
                     classHandle = rtiAmbassador.getInteractionClassHandle(localHlaClassName);
-                    _classNameHandleMap.put(localHlaClassName, classHandle);
+                    classNameHandleMap.put(localHlaClassName, classHandle);
                     _classHandleNameMap.put(classHandle, localHlaClassName);
                     isNotInitialized = false;
                 } catch (FederateNotExecutionMember e) {
@@ -202,8 +250,8 @@ public class InteractionRoot implements InteractionRootInterface {
                 while(isNotInitialized) {
                     try {
                         int propertyHandle = rtiAmbassador.getParameterHandle(classAndPropertyName.getPropertyName(), classHandle);
-                        _classAndPropertyNameHandleMap.put(classAndPropertyName, propertyHandle);
-                        _handleClassAndPropertyNameMap.put(propertyHandle, classAndPropertyName);
+                        classAndPropertyNameHandleMap.put(classAndPropertyName, propertyHandle);
+                        handleClassAndPropertyNameMap.put(propertyHandle, classAndPropertyName);
                         isNotInitialized = false;
                     } catch (FederateNotExecutionMember e) {
                         logger.error("could not initialize: Federate Not Execution Member", e);
@@ -221,6 +269,24 @@ public class InteractionRoot implements InteractionRootInterface {
                 }
             }
         }
+
+        _classAndPropertyNameHandleMap.putAll(classAndPropertyNameHandleMap);
+        _handleClassAndPropertyNameMap.putAll(handleClassAndPropertyNameMap);
+
+        //-------------------------------------------------------------------------------
+        // ALL PROPERTY HANDLES OF hlaClassName AND ITS SUPERCLASSES ARE NOW KNOWN, SO THE
+        // PROPERTY INDEX OF EACH OF THESE CLASSES CAN RESOLVE ITS SLOTS TO HANDLES
+        //-------------------------------------------------------------------------------
+        hlaClassNameComponents = new ArrayList<>(Arrays.asList(hlaClassName.split("\\.")));
+        while(!hlaClassNameComponents.isEmpty()) {
+            PropertyIndex propertyIndex = get_property_index(String.join(".", hlaClassNameComponents));
+            if (propertyIndex != null) {
+                propertyIndex.updateHandles();
+            }
+            hlaClassNameComponents.remove(hlaClassNameComponents.size() - 1);
+        }
+
+        _classNameHandleMap.putAll(classNameHandleMap);
     }
 
     protected static void commonInit(String hlaClassName) {
@@ -230,6 +296,19 @@ public class InteractionRoot implements InteractionRootInterface {
         _classNamePublishStatusMap.put(hlaClassName, false);
         _classNameSubscribeStatusMap.put(hlaClassName, false);
         _classNameSoftSubscribeStatusMap.put(hlaClassName, false);
+
+        //-----------------------------------------------------------------------
+        // ASSIGN A SLOT TO EACH OF THE PROPERTIES (INCLUDING INHERITED PROPERTIES)
+        // OF THE CLASS
+        //-----------------------------------------------------------------------
+        _classNamePropertyIndexMap.put(
+          hlaClassName, new PropertyIndex(hlaClassName, _allClassNamePropertyNameSetMap.get(hlaClassName))
+        );
+
+        //-----------------------------------------------------------------
+        // CHOOSE THE STRING-VALUE CONVERTER OF EACH PROPERTY OF THE CLASS
+        //-----------------------------------------------------------------
+        add_string_value_converters(_allClassNamePropertyNameSetMap.get(hlaClassName));
     }
 
 
@@ -240,23 +319,50 @@ public class InteractionRoot implements InteractionRootInterface {
     //-------------------------------------------------------------------------------------------
     private String _instanceHlaClassName = null;
 
+    //--------------------------------------------------------------------------------------
+    // _instanceHlaClassDescriptor IS THE (INTERNED) HlaClassDescriptor OF _instanceHlaClassName,
+    // WHICH MAKES CHECKING WHETHER THIS INSTANCE'S CLASS IS DERIVED FROM ANOTHER CLASS O(1)
+    //--------------------------------------------------------------------------------------
+    private HlaClassDescriptor _instanceHlaClassDescriptor = null;
+
     public String getInstanceHlaClassName() {
         return _instanceHlaClassName;
     }
 
+    public HlaClassDescriptor getInstanceHlaClassDescriptor() {
+        return _instanceHlaClassDescriptor;
+    }
+
     public boolean isInstanceOfHlaClass( String hlaClassName ) {
         return getInstanceHlaClassName().equals( hlaClassName );
     }
 
+    public boolean isInstanceOfHlaClass( HlaClassDescriptor hlaClassDescriptor ) {
+        return _instanceHlaClassDescriptor == hlaClassDescriptor;
+    }
+
     public boolean isInstanceHlaClassDerivedFromHlaClass( String hlaClassName ) {
-        String prefix = hlaClassName + ".";
-        return isInstanceOfHlaClass( hlaClassName ) || getInstanceHlaClassName().startsWith( prefix );
+        // A CLASS THAT HAS NO DESCRIPTOR IS NOT A SUPERCLASS OF ANY INSTANCE'S CLASS
+        HlaClassDescriptor hlaClassDescriptor = HlaClassDescriptor.find_hla_class_descriptor( hlaClassName );
+        return hlaClassDescriptor != null && isInstanceHlaClassDerivedFromHlaClass( hlaClassDescriptor );
+    }
+
+    public boolean isInstanceHlaClassDerivedFromHlaClass( HlaClassDescriptor hlaClassDescriptor ) {
+        return _instanceHlaClassDescriptor.isDerivedFrom( hlaClassDescriptor );
     }
 
     protected void setInstanceHlaClassName(String instanceHlaClassName) {
         _instanceHlaClassName = instanceHlaClassName;
+        _instanceHlaClassDescriptor = HlaClassDescriptor.get_hla_class_descriptor(instanceHlaClassName);
+        _propertyIndex = null;
     }
 
+    //---------------------------------------------------------------------------------------------
+    // _propertyIndex IS THE PropertyIndex OF _instanceHlaClassName.  IT IS LOOKED UP ON FIRST USE,
+    // AS INSTANCES MAY BE CREATED (E.G. IN STATIC INITIALIZATION BLOCKS) BEFORE THE INDEX EXISTS.
+    //---------------------------------------------------------------------------------------------
+    private PropertyIndex _propertyIndex = null;
+
     // FOR INTERACTIONS DERIVED FROM InteractionRoot.C2WInteractionRoot
     protected boolean federateAppendedToFederateSequence = false;
 
@@ -283,9 +389,9 @@ public class InteractionRoot implements InteractionRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Set<String> _hlaClassNameSet = new HashSet<>();
+    protected static Set<String> _hlaClassNameSet = new CopyOnWriteHashSet<>();
 
-    protected static Set<ClassAndPropertyName> _completeClassAndPropertyNameSet = new HashSet<>();
+    protected static Set<ClassAndPropertyName> _completeClassAndPropertyNameSet = new CopyOnWriteHashSet<>();
 
     //--------------------------------------------------------------
     // METHODS THAT USE HLA CLASS-NAME-SET
@@ -312,7 +418,7 @@ public class InteractionRoot implements InteractionRootInterface {
     //---------------------------
     // DYNAMIC HLA CLASS-NAME SET
     //---------------------------
-    private static final Set<String> _dynamicHlaClassNameSet = new HashSet<>();
+    private static final Set<String> _dynamicHlaClassNameSet = new CopyOnWriteHashSet<>();
 
     //--------------------------------------------
     // METHODS THAT USE DYNAMIC HLA CLASS-NAME SET
@@ -340,7 +446,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _classNamePropertyNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _classNamePropertyNameSetMap = new CopyOnWriteHashMap<>();
 
     //---------------------------------------------------------
     // METHODS THAT USE CLASS-NAME PROPERTY-NAME-SET MAP
@@ -383,7 +489,8 @@ public class InteractionRoot implements InteractionRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _allClassNamePropertyNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _allClassNamePropertyNameSetMap =
+      new CopyOnWriteHashMap<>();
 
     //----------------------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME ALL-PROPERTY-NAME-SET MAP
@@ -413,13 +520,198 @@ public class InteractionRoot implements InteractionRootInterface {
     // END CLASS-NAME All-PROPERTY-NAME-SET MAP
     //-------------------------------------------
 
+    //-------------------------------------------------------------------------
+    // PROPERTY INDEX
+    //
+    // A PropertyIndex IS THE RESOLVED PROPERTY TABLE OF A SINGLE HLA CLASS.
+    // EVERY PARAMETER VISIBLE IN THE CLASS (INCLUDING THOSE INHERITED FROM ITS
+    // SUPERCLASSES) IS ASSIGNED A DENSE SLOT INDEX IN [0, size()), SO THAT
+    // FINDING A PARAMETER BY NAME OR BY HANDLE IS A SINGLE PROBE THAT DOES NOT
+    // ALLOCATE.
+    //-------------------------------------------------------------------------
+    public static class PropertyIndex {
+
+        private final String _hlaClassName;
+
+        private final ClassAndPropertyName[] _slotClassAndPropertyNameArray;
+
+        private final Map<String, Integer> _propertyNameSlotMap = new HashMap<>();
+
+        private final Map<ClassAndPropertyName, Integer> _classAndPropertyNameSlotMap = new HashMap<>();
+
+        // SLOT -> PROPERTY HANDLE (RTI ASSIGNED), -1 UNTIL init(String hlaClassName, RTIambassador) IS CALLED
+        private final int[] _slotHandleArray;
+
+        // (HANDLE << 32 | SLOT) PAIRS, SORTED BY HANDLE, FOR LOOKUP OF A SLOT BY ITS PROPERTY HANDLE
+        // volatile, AS IT IS REPLACED BY updateHandles WHEN A CLASS IS LOADED DYNAMICALLY, WHILE OTHER
+        // THREADS MAY BE DECODING
+        private volatile long[] _handleSlotArray = new long[0];
+
+        // SLOT -> TYPE OF THE PROPERTY'S VALUE.  PROPERTIES OF PRIMITIVE TYPE (AS DETERMINED BY THEIR INITIAL
+        // VALUE) HAVE THE PRIMITIVE TYPE, E.G. double.class, SO THEIR VALUES CAN BE HELD UNBOXED
+        private final Class<?>[] _slotTypeArray;
+
+        private static final Map<Class<?>, Class<?>> _wrapperPrimitiveTypeMap = new HashMap<>();
+        static {
+            _wrapperPrimitiveTypeMap.put(Boolean.class, boolean.class);
+            _wrapperPrimitiveTypeMap.put(Byte.class, byte.class);
+            _wrapperPrimitiveTypeMap.put(Character.class, char.class);
+            _wrapperPrimitiveTypeMap.put(Double.class, double.class);
+            _wrapperPrimitiveTypeMap.put(Float.class, float.class);
+            _wrapperPrimitiveTypeMap.put(Integer.class, int.class);
+            _wrapperPrimitiveTypeMap.put(Long.class, long.class);
+            _wrapperPrimitiveTypeMap.put(Short.class, short.class);
+        }
+
+        private static Class<?> get_slot_type(Object value) {
+            if (value == null) {
+                return Object.class;
+            }
+            return _wrapperPrimitiveTypeMap.getOrDefault(value.getClass(), value.getClass());
+        }
+
+        private PropertyIndex(String hlaClassName, Set<ClassAndPropertyName> allClassAndPropertyNameSet) {
+            _hlaClassName = hlaClassName;
+
+            List<ClassAndPropertyName> classAndPropertyNameList = new ArrayList<>(allClassAndPropertyNameSet);
+            Collections.sort(classAndPropertyNameList);
+
+            _slotClassAndPropertyNameArray = classAndPropertyNameList.toArray(new ClassAndPropertyName[0]);
+            _slotHandleArray = new int[_slotClassAndPropertyNameArray.length];
+            Arrays.fill(_slotHandleArray, -1);
+
+            _slotTypeArray = new Class<?>[_slotClassAndPropertyNameArray.length];
+            for(int slot = 0 ; slot < _slotClassAndPropertyNameArray.length ; ++slot) {
+                ClassAndPropertyName classAndPropertyName = _slotClassAndPropertyNameArray[slot];
+                _slotTypeArray[slot] = get_slot_type(_classAndPropertyNameInitialValueMap.get(classAndPropertyName));
+            }
+
+            // ClassAndPropertyName SORTS MORE-DERIVED CLASSES FIRST, SO A PARAMETER NAME THAT IS
+            // DEFINED IN MORE THAN ONE CLASS RESOLVES TO ITS MOST-DERIVED DEFINITION (AS IN findProperty)
+            for(int slot = 0 ; slot < _slotClassAndPropertyNameArray.length ; ++slot) {
+                ClassAndPropertyName classAndPropertyName = _slotClassAndPropertyNameArray[slot];
+                _classAndPropertyNameSlotMap.put(classAndPropertyName, slot);
+                _propertyNameSlotMap.putIfAbsent(classAndPropertyName.getPropertyName(), slot);
+            }
+        }
+
+        public String getHlaClassName() {
+            return _hlaClassName;
+        }
+
+        public int size() {
+            return _slotClassAndPropertyNameArray.length;
+        }
+
+        public int getSlot(String propertyName) {
+            Integer slot = _propertyNameSlotMap.get(propertyName);
+            return slot == null ? -1 : slot;
+        }
+
+        public int getSlot(ClassAndPropertyName classAndPropertyName) {
+            Integer slot = _classAndPropertyNameSlotMap.get(classAndPropertyName);
+            return slot == null ? -1 : slot;
+        }
+
+        public int getSlotForHandle(int propertyHandle) {
+            long[] handleSlotArray = _handleSlotArray;
+
+            int low = 0;
+            int high = handleSlotArray.length - 1;
+            while(low <= high) {
+                int middle = (low + high) >>> 1;
+                int middleHandle = (int)(handleSlotArray[middle] >> 32);
+                if (middleHandle < propertyHandle) {
+                    low = middle + 1;
+                } else if (middleHandle > propertyHandle) {
+                    high = middle - 1;
+                } else {
+                    return (int)handleSlotArray[middle];
+                }
+            }
+            return -1;
+        }
+
+        public ClassAndPropertyName getClassAndPropertyName(int slot) {
+            return _slotClassAndPropertyNameArray[slot];
+        }
+
+        public ClassAndPropertyName getClassAndPropertyName(String propertyName) {
+            int slot = getSlot(propertyName);
+            return slot < 0 ? null : _slotClassAndPropertyNameArray[slot];
+        }
+
+        public int getHandle(int slot) {
+            return _slotHandleArray[slot];
+        }
+
+        public Class<?> getSlotType(int slot) {
+            return _slotTypeArray[slot];
+        }
+
+        public boolean isPrimitiveSlot(int slot) {
+            return _slotTypeArray[slot].isPrimitive();
+        }
+
+        // TRUE IF value CAN BE HELD UNBOXED IN slot, I.E. IT IS THE WRAPPER OF THE SLOT'S PRIMITIVE TYPE
+        public boolean isUnboxable(int slot, Object value) {
+            return value != null && _slotTypeArray[slot].isPrimitive() &&
+              _wrapperPrimitiveTypeMap.get(value.getClass()) == _slotTypeArray[slot];
+        }
+
+        private void updateHandles() {
+            int size = _slotClassAndPropertyNameArray.length;
+            long[] handleSlotArray = new long[size];
+            int count = 0;
+            for(int slot = 0 ; slot < size ; ++slot) {
+                Integer propertyHandle = _classAndPropertyNameHandleMap.get(_slotClassAndPropertyNameArray[slot]);
+                if (propertyHandle != null) {
+                    _slotHandleArray[slot] = propertyHandle;
+                    handleSlotArray[count++] = ((long)propertyHandle << 32) | slot;
+                }
+            }
+            handleSlotArray = Arrays.copyOf(handleSlotArray, count);
+            Arrays.sort(handleSlotArray);
+            _handleSlotArray = handleSlotArray;
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    // CLASS-NAME PROPERTY-INDEX MAP
+    //
+    // POPULATED BY:
+    // - commonInit(String hlaClassName) ABOVE
+    //
+    // PROPERTY HANDLES OF EACH PropertyIndex ARE FILLED IN BY:
+    // - init(String hlaClassName, RTIambassador rtiAmbassador) ABOVE
+    //-------------------------------------------------------------------------
+    protected static Map<String, PropertyIndex> _classNamePropertyIndexMap = new CopyOnWriteHashMap<>();
+
+    //--------------------------------------------------
+    // METHODS THAT USE CLASS-NAME PROPERTY-INDEX MAP
+    //--------------------------------------------------
+    public static PropertyIndex get_property_index(String hlaClassName) {
+        return _classNamePropertyIndexMap.getOrDefault(hlaClassName, null);
+    }
+
+    public PropertyIndex getPropertyIndex() {
+        if (_propertyIndex == null) {
+            _propertyIndex = get_property_index(getInstanceHlaClassName());
+        }
+        return _propertyIndex;
+    }
+
+    //-----------------------------------
+    // END CLASS-NAME PROPERTY-INDEX MAP
+    //-----------------------------------
+
     //----------------------------
     // CLASS-NAME CLASS-HANDLE MAP
     //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------
-    protected static Map<String, Integer> _classNameHandleMap = new HashMap<>();
+    protected static Map<String, Integer> _classNameHandleMap = new CopyOnWriteHashMap<>();
 
     //---------------------------------------------
     // METHODS THAT USE CLASS-NAME CLASS-HANDLE MAP
@@ -453,7 +745,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------
-    protected static Map<Integer, String> _classHandleNameMap = new HashMap<>();
+    protected static Map<Integer, String> _classHandleNameMap = new CopyOnWriteHashMap<>();
 
     //--------------------------------------------------
     // METHODS THAT USE ONLY CLASS-HANDLE CLASS-NAME MAP
@@ -533,6 +825,13 @@ public class InteractionRoot implements InteractionRootInterface {
       int classHandle, ReceivedInteraction propertyMap
     ) {
         String hlaClassName = _classHandleNameMap.get( classHandle );
+
+        InteractionRoot interactionRoot = acquire_interaction(hlaClassName);
+        if (interactionRoot != null) {
+            interactionRoot.setParameters(propertyMap);
+            return interactionRoot;
+        }
+
         return create_interaction(hlaClassName, propertyMap);
     }
 
@@ -553,6 +852,14 @@ public class InteractionRoot implements InteractionRootInterface {
       int classHandle, ReceivedInteraction propertyMap, LogicalTime logicalTime
     ) {
         String hlaClassName = _classHandleNameMap.get( classHandle );
+
+        InteractionRoot interactionRoot = acquire_interaction(hlaClassName);
+        if (interactionRoot != null) {
+            interactionRoot.setParameters(propertyMap);
+            interactionRoot.setTime(logicalTime);
+            return interactionRoot;
+        }
+
         return create_interaction(hlaClassName, propertyMap, logicalTime);
     }
 
@@ -566,7 +873,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     //-------------------------------------------------------------------------
-    protected static Map<String, InteractionRoot> _hlaClassNameInstanceMap = new HashMap<>();
+    protected static Map<String, InteractionRoot> _hlaClassNameInstanceMap = new CopyOnWriteHashMap<>();
 
     //-----------------------------------------
     // METHODS THAT USE CLASS-NAME INSTANCE MAP
@@ -607,13 +914,163 @@ public class InteractionRoot implements InteractionRootInterface {
     // END CLASS-NAME INSTANCE MAP
     //----------------------------
 
+    //--------------------------------------------------------------------------------------------------
+    // INTERACTION POOL
+    //
+    // POOLING IS OFF BY DEFAULT.  WHEN IT IS ON (I.E. THE MAXIMUM POOL SIZE IS GREATER THAN 0), THE
+    // create_interaction(int classHandle, ReceivedInteraction propertyMap ...) METHODS, WHICH CREATE
+    // RECEIVED INTERACTIONS, REUSE INSTANCES THAT HAVE BEEN RETURNED TO THE POOL OF THEIR HLA CLASS
+    // WITH release().  EACH HLA CLASS HAS ITS OWN POOL, WHICH HOLDS AT MOST _maxPoolSize INSTANCES --
+    // AN INSTANCE RELEASED TO A FULL POOL IS LEFT TO THE GARBAGE COLLECTOR.
+    //
+    // THE POOLS ARE SHARED BETWEEN THE THREAD THAT RECEIVES INTERACTIONS FROM THE RTI AND THE THREADS
+    // THAT RELEASE THEM, AND SO ARE THREAD-SAFE.
+    //--------------------------------------------------------------------------------------------------
+    private static volatile int _maxPoolSize = 0;
+
+    private static final Map<String, BlockingQueue<InteractionRoot>> _hlaClassNamePoolMap =
+      new ConcurrentHashMap<>();
+
+    // TRUE FROM THE TIME THIS INSTANCE IS RELEASED UNTIL IT IS TAKEN FROM A POOL FOR REUSE.  release()
+    // CLAIMS THE INSTANCE WITH A compareAndSet, SO THAT IF IT IS RELEASED TWICE, EVEN FROM DIFFERENT THREADS,
+    // ONLY ONE OF THE release() CALLS RESETS IT AND PUTS IT IN A POOL
+    private final AtomicBoolean _released = new AtomicBoolean(false);
+
+    // FALSE IF THIS INSTANCE BELONGS TO THE CODE THAT PASSED IT TO A FEDERATE'S QUEUE (E.G. WITH
+    // SynchronizedFederate.queueInteraction), RATHER THAN TO THE FEDERATE THAT CREATED IT FROM A
+    // RECEIVED INTERACTION
+    private volatile boolean _releaseWhenDropped = true;
+
+    /**
+     * Returns true if a federate that drops this interaction from its queue (e.g. because the queue is full)
+     * should release() it, i.e. if the federate created it, and false if it belongs to other code.
+     *
+     * @return true if this interaction should be released when it is dropped, false otherwise
+     */
+    public boolean getReleaseWhenDropped() {
+        return _releaseWhenDropped;
+    }
+
+    /**
+     * Sets whether a federate that drops this interaction from its queue should release() it (see
+     * getReleaseWhenDropped).
+     *
+     * @param releaseWhenDropped true if this interaction should be released when it is dropped
+     */
+    public void setReleaseWhenDropped(boolean releaseWhenDropped) {
+        _releaseWhenDropped = releaseWhenDropped;
+    }
+
+    /**
+     * Returns the maximum number of released instances kept for reuse per HLA interaction class.
+     *
+     * @return the maximum pool size, where 0 means that pooling is disabled
+     */
+    public static int get_max_pool_size() {
+        return _maxPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of released instances kept for reuse per HLA interaction class, and
+     * empties all pools.  A value of 0 (the default) disables pooling, in which case release() has
+     * no effect.
+     *
+     * @param maxPoolSize the maximum pool size
+     */
+    public static void set_max_pool_size(int maxPoolSize) {
+        _maxPoolSize = Math.max(0, maxPoolSize);
+        _hlaClassNamePoolMap.clear();
+    }
+
+    /**
+     * Returns the number of released instances currently available for reuse for an HLA interaction class.
+     *
+     * @param hlaClassName fully-qualified name of the HLA interaction class
+     * @return the number of pooled instances of the class
+     */
+    public static int get_pool_size(String hlaClassName) {
+        BlockingQueue<InteractionRoot> pool = _hlaClassNamePoolMap.get(hlaClassName);
+        return pool == null ? 0 : pool.size();
+    }
+
+    private static InteractionRoot acquire_interaction(String hlaClassName) {
+        if (_maxPoolSize == 0 || hlaClassName == null) {
+            return null;
+        }
+
+        BlockingQueue<InteractionRoot> pool = _hlaClassNamePoolMap.get(hlaClassName);
+        InteractionRoot interactionRoot = pool == null ? null : pool.poll();
+        if (interactionRoot != null) {
+            interactionRoot._released.set(false);
+            interactionRoot._uniqueID = generateUniqueID();
+        }
+        return interactionRoot;
+    }
+
+    /**
+     * Returns this interaction to the pool of its HLA class, so that it can be reused for an interaction
+     * received later.  This interaction must not be used after it is released.  Has no effect if pooling
+     * is disabled (see set_max_pool_size).
+     */
+    public void release() {
+        int maxPoolSize = _maxPoolSize;
+        if (maxPoolSize == 0) {
+            return;
+        }
+        if (!_released.compareAndSet(false, true)) {
+            logger.warn(
+              "release(): interaction of class \"{}\" (unique id {}) has already been released",
+              getInstanceHlaClassName(), _uniqueID
+            );
+            return;
+        }
+
+        reset();
+
+        BlockingQueue<InteractionRoot> pool = _hlaClassNamePoolMap.computeIfAbsent(
+          getInstanceHlaClassName(), key -> new ArrayBlockingQueue<>(maxPoolSize)
+        );
+        // IF THE POOL IS FULL, THIS INSTANCE IS LEFT TO THE GARBAGE COLLECTOR, AND STAYS MARKED AS RELEASED
+        pool.offer(this);
+    }
+
+    /**
+     * Restores this interaction to the state of a newly-created one:  every parameter has its initial value
+     * and there is no timestamp.
+     */
+    protected void reset() {
+        _time = -1;
+        _hasSortKey = false;
+        _releaseWhenDropped = true;
+        federateAppendedToFederateSequence = false;
+
+        if (classAndPropertyNameValueMap instanceof PropertyValueMap) {
+            PropertyValueMap propertyValueMap = (PropertyValueMap)classAndPropertyNameValueMap;
+            PropertyIndex propertyIndex = propertyValueMap.getPropertyIndex();
+            for(int slot = 0 ; slot < propertyIndex.size() ; ++slot) {
+                propertyValueMap.setSlotValue(
+                  slot, _classAndPropertyNameInitialValueMap.get(propertyIndex.getClassAndPropertyName(slot))
+                );
+            }
+            return;
+        }
+
+        for(Map.Entry<ClassAndPropertyName, Object> entry: classAndPropertyNameValueMap.entrySet()) {
+            entry.setValue(_classAndPropertyNameInitialValueMap.get(entry.getKey()));
+        }
+    }
+
+    //---------------------
+    // END INTERACTION POOL
+    //---------------------
+
     //------------------------------
     // CLASS-NAME PUBLISH-STATUS MAP
     //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //------------------------------
-    protected static final HashMap<String, Boolean> _classNamePublishStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNamePublishStatusMap = new CopyOnWriteHashMap<>();
 
     //-----------------------------------------------
     // METHODS THAT USE CLASS-NAME PUBLISH-STATUS MAP
@@ -653,7 +1110,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------
-    protected static final HashMap<String, Boolean> _classNameSubscribeStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNameSubscribeStatusMap = new CopyOnWriteHashMap<>();
 
     //-------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBE-STATUS MAP
@@ -694,7 +1151,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //-------------------------------------
-    protected static final HashMap<String, Boolean> _classNameSoftSubscribeStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNameSoftSubscribeStatusMap = new CopyOnWriteHashMap<>();
 
     //------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SOFT-SUBSCRIBE-STATUS MAP
@@ -736,7 +1193,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------------------
-    protected static Map<ClassAndPropertyName, Integer> _classAndPropertyNameHandleMap = new HashMap<>();
+    protected static Map<ClassAndPropertyName, Integer> _classAndPropertyNameHandleMap = new CopyOnWriteHashMap<>();
 
     //--------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME-PROPERTY-NAME PROPERTY-HANDLE MAP
@@ -744,6 +1201,11 @@ public class InteractionRoot implements InteractionRootInterface {
 
     public static ClassAndPropertyName findProperty(String className, String propertyName) {
 
+        PropertyIndex propertyIndex = get_property_index(className);
+        if (propertyIndex != null) {
+            return propertyIndex.getClassAndPropertyName(propertyName);
+        }
+
         List<String> classNameComponents = new ArrayList<>(Arrays.asList(className.split("\\.")));
 
         while(!classNameComponents.isEmpty()) {
@@ -769,6 +1231,14 @@ public class InteractionRoot implements InteractionRootInterface {
       */
     public static int get_parameter_handle(String hlaClassName, String propertyName) {
 
+        PropertyIndex propertyIndex = get_property_index(hlaClassName);
+        if (propertyIndex != null) {
+            int slot = propertyIndex.getSlot(propertyName);
+            if (slot >= 0 && propertyIndex.getHandle(slot) >= 0) {
+                return propertyIndex.getHandle(slot);
+            }
+        }
+
         ClassAndPropertyName key = findProperty(hlaClassName, propertyName);
 
         if (key == null) {
@@ -783,23 +1253,48 @@ public class InteractionRoot implements InteractionRootInterface {
     }
     private SuppliedParameters createSuppliedParameters() {
         SuppliedParameters suppliedParameters = _rtiFactory.createSuppliedParameters();
-        for(ClassAndPropertyName classAndPropertyName: classAndPropertyNameValueMap.keySet()) {
-            int handle = _classAndPropertyNameHandleMap.get(classAndPropertyName);
-            Object value = classAndPropertyNameValueMap.get(classAndPropertyName);
-            String stringValue;
-            if (value instanceof Boolean) {
-                stringValue = (Boolean)value ? "1" : "0";
-            } else if (value instanceof Character) {
-                stringValue = String.valueOf((short) ((Character) value).charValue());
-            } else {
-                stringValue = value.toString();
-            }
-            byte[] byteArrayValue = stringValue.getBytes();
-            suppliedParameters.add(handle, byteArrayValue);
+        for(Map.Entry<ClassAndPropertyName, Object> entry: classAndPropertyNameValueMap.entrySet()) {
+            int handle = _classAndPropertyNameHandleMap.get(entry.getKey());
+            suppliedParameters.add(handle, encode_value(entry.getValue()));
         }
         return suppliedParameters;
     }
 
+    //-------------------------------------------------------------------------------------------
+    // MESSAGING CODEC
+    //
+    // ENCODES/DECODES THE VALUES OF PARAMETERS TO/FROM THE BYTE ARRAYS EXCHANGED THROUGH THE RTI.
+    // ALL FEDERATES IN A FEDERATION MUST USE THE SAME CODEC.
+    //-------------------------------------------------------------------------------------------
+    private static volatile MessagingCodec _messagingCodec = TextMessagingCodec.INSTANCE;
+
+    public static MessagingCodec get_messaging_codec() {
+        return _messagingCodec;
+    }
+
+    public static void set_messaging_codec(MessagingCodec messagingCodec) {
+        _messagingCodec = messagingCodec;
+    }
+
+    private static byte[] encode_value(Object value) {
+        return _messagingCodec.encode(value);
+    }
+
+    //---------------------------------------------------------------------------------------
+    // DECODES THE FIRST "length" BYTES OF "value" IN PLACE.  RETURNS THE DECODED VALUE, OR, IF
+    // THE CODEC COULD ONLY DECODE IT TO TEXT, THE DECODED STRING, WHICH IS CONVERTED TO THE
+    // TYPE OF THE PARAMETER BY getValueForClassAndPropertyName
+    //---------------------------------------------------------------------------------------
+    private static Object decode_value(ClassAndPropertyName classAndPropertyName, byte[] value, int length) {
+        Object initialValue = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
+        Class<?> type = initialValue == null ? String.class : initialValue.getClass();
+        return _messagingCodec.decode(value, 0, length, type);
+    }
+
+    //-------------------
+    // END MESSAGING CODEC
+    //-------------------
+
     //------------------------------------------------
     // END CLASS-AND-PROPERTY-NAME PROPERTY-HANDLE MAP
     //------------------------------------------------
@@ -810,7 +1305,7 @@ public class InteractionRoot implements InteractionRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------------------
-    protected static Map<Integer, ClassAndPropertyName> _handleClassAndPropertyNameMap = new HashMap<>();
+    protected static Map<Integer, ClassAndPropertyName> _handleClassAndPropertyNameMap = new CopyOnWriteHashMap<>();
 
     //-------------------------------------------------------------
     // METHODS THAT USE PROPERTY-HANDLE CLASS-AND-PROPERTY-NAME MAP
@@ -842,7 +1337,10 @@ public class InteractionRoot implements InteractionRootInterface {
     }
 
     public void setParameter(int propertyHandle, Object value) {
-        ClassAndPropertyName classAndPropertyName = _handleClassAndPropertyNameMap.get(propertyHandle);
+        PropertyIndex propertyIndex = getPropertyIndex();
+        int slot = propertyIndex == null ? -1 : propertyIndex.getSlotForHandle(propertyHandle);
+        ClassAndPropertyName classAndPropertyName = slot >= 0 ?
+          propertyIndex.getClassAndPropertyName(slot) : _handleClassAndPropertyNameMap.get(propertyHandle);
         if (classAndPropertyName == null) {
             logger.error(
               "setParameter(int, Object value): propertyHandle {} does not exist.",
@@ -872,6 +1370,12 @@ public class InteractionRoot implements InteractionRootInterface {
      * @return the value of the parameter whose handle is "propertyHandle"
      */
     public Object getParameter( int propertyHandle ) {
+        PropertyIndex propertyIndex = getPropertyIndex();
+        int slot = propertyIndex == null ? -1 : propertyIndex.getSlotForHandle(propertyHandle);
+        if (slot >= 0) {
+            return getSlotValue(propertyIndex, slot);
+        }
+
         ClassAndPropertyName classAndPropertyName = _handleClassAndPropertyNameMap.get(propertyHandle);
         if (classAndPropertyName == null) {
             logger.error("getParameter: propertyHandle {} does not exist.", propertyHandle);
@@ -894,178 +1398,876 @@ public class InteractionRoot implements InteractionRootInterface {
     // END PROPERTY-HANDLE CLASS-AND-PROPERTY-NAME MAP
     //------------------------------------------------
 
-    public static void publish_interaction(String hlaClassName, RTIambassador rti) {
+    public static void publish_interaction(String hlaClassName, RTIambassador rti) {
+
+        if (!loadDynamicHlaClass(hlaClassName, rti)) {
+            logger.warn("publish_interaction(\"{}}\"):  no such class", hlaClassName);
+            return;
+        }
+
+        if (get_is_published(hlaClassName)) {
+            return;
+        }
+
+        int classHandle = get_class_handle(hlaClassName);
+        synchronized(rti) {
+            boolean isNotPublished = true;
+            while(isNotPublished) {
+                try {
+                    rti.publishInteractionClass(classHandle);
+                    isNotPublished = false;
+                } catch (FederateNotExecutionMember e) {
+                    logger.error("could not publish: Federate Not Execution Member", e);
+                    return;
+                } catch (InteractionClassNotDefined e) {
+                    logger.error("could not publish: Interaction Class Not Defined", e);
+                    return;
+                } catch (Exception e) {
+                    logger.error(e);
+                    CpswtUtils.sleepDefault();
+                }
+            }
+        }
+
+        logger.debug("publish: {}", hlaClassName);
+
+        set_is_published(hlaClassName, true);
+    }
+
+    public static void subscribe_interaction(String hlaClassName, RTIambassador rti) {
+
+        if (!loadDynamicHlaClass(hlaClassName, rti)) {
+            logger.warn("subscribe_interaction(\"{}}\"):  no such class", hlaClassName);
+            return;
+        }
+
+        if (get_is_subscribed(hlaClassName)) {
+            return;
+        }
+
+        int classHandle = get_class_handle(hlaClassName);
+        synchronized(rti) {
+            boolean isNotSubscribed = true;
+            while(isNotSubscribed) {
+                try {
+                    rti.subscribeInteractionClass(classHandle);
+                    isNotSubscribed = false;
+                } catch (FederateNotExecutionMember e) {
+                    logger.error("could not publish: Federate Not Execution Member", e);
+                    return;
+                } catch (InteractionClassNotDefined e) {
+                    logger.error("could not publish: Interaction Class Not Defined", e);
+                    return;
+                } catch (Exception e) {
+                    logger.error(e);
+                    CpswtUtils.sleepDefault();
+                }
+            }
+        }
+
+        logger.debug("subscribe: {}", hlaClassName);
+
+        set_is_subscribed(hlaClassName, true);
+    }
+
+    public static void soft_subscribe_interaction(String hlaClassName, RTIambassador rti) {
+        if (!loadDynamicHlaClass(hlaClassName, rti)) {
+            logger.warn("soft_subscribe_interaction(\"{}}\"):  no such class", hlaClassName);
+            return;
+        }
+
+        set_is_soft_subscribed(hlaClassName, true);
+    }
+
+    public static void unpublish_interaction(String hlaClassName, RTIambassador rti) {
+
+        if (!loadDynamicHlaClass(hlaClassName, rti)) {
+            logger.warn("unpublish_interaction(\"{}}\"):  no such class", hlaClassName);
+            return;
+        }
+
+        if (!get_is_published(hlaClassName)) {
+            return;
+        }
+
+        int classHandle = get_class_handle(hlaClassName);
+        synchronized(rti) {
+            boolean isNotUnpublished = true;
+            while(isNotUnpublished) {
+                try {
+                    rti.unpublishInteractionClass(classHandle);
+                    isNotUnpublished = false;
+                } catch (FederateNotExecutionMember e) {
+                    logger.error("could not unpublish: Federate Not Execution Member", e);
+                    return;
+                } catch (InteractionClassNotDefined e) {
+                    logger.error("could not unpublish: Interaction Class Not Defined", e);
+                    return;
+                } catch (InteractionClassNotPublished e) {
+                    logger.error("could not unpublish: Interaction Class Not Published", e);
+                    return;
+                } catch (Exception e) {
+                    logger.error(e);
+                    CpswtUtils.sleepDefault();
+                }
+            }
+        }
+
+        logger.debug("unpublish: {}", hlaClassName);
+
+        set_is_published(hlaClassName, false);
+    }
+
+    public static void unsubscribe_interaction(String hlaClassName, RTIambassador rti) {
+
+        if (!loadDynamicHlaClass(hlaClassName, rti)) {
+            logger.warn("unsubscribe_interaction(\"{}}\"):  no such class", hlaClassName);
+            return;
+        }
+
+        if (!get_is_subscribed(hlaClassName)) {
+            return;
+        }
+
+        int classHandle = get_class_handle(hlaClassName);
+        synchronized(rti) {
+            boolean isNotUnsubscribed = true;
+            while(isNotUnsubscribed) {
+                try {
+                    rti.unsubscribeInteractionClass(classHandle);
+                    isNotUnsubscribed = false;
+                } catch (FederateNotExecutionMember e) {
+                    logger.error("could not unpublish: Federate Not Execution Member", e);
+                    return;
+                } catch (InteractionClassNotDefined e) {
+                    logger.error("could not unpublish: Interaction Class Not Defined", e);
+                    return;
+                } catch (InteractionClassNotSubscribed e) {
+                    logger.error("could not unpublish: Interaction Class Not Published", e);
+                    return;
+                } catch (Exception e) {
+                    logger.error(e);
+                    CpswtUtils.sleepDefault();
+                }
+            }
+        }
+
+        logger.debug("unsubscribe: {}", hlaClassName);
+
+        set_is_subscribed(hlaClassName, false);
+    }
+
+    public static void soft_unsubscribe_interaction(String hlaClassName, RTIambassador rti) {
+        if (!loadDynamicHlaClass(hlaClassName, rti)) {
+            logger.warn("soft_unsubscribe_interaction(\"{}}\"):  no such class", hlaClassName);
+            return;
+        }
+
+        set_is_soft_subscribed(hlaClassName, false);
+    }
+
+    //-------------------------------------------------------------------------
+    // PROPERTY VALUE MAP
+    //
+    // A PropertyValueMap HOLDS THE PROPERTY VALUES OF A SINGLE MESSAGING INSTANCE
+    // IN A FLAT ARRAY LAID OUT ACCORDING TO THE PropertyIndex OF THE INSTANCE'S
+    // CLASS.  IT PRESENTS THE SAME Map<ClassAndPropertyName, Object> VIEW AS THE
+    // HashMap IT REPLACES, BUT HAS NO PER-ENTRY OBJECTS, AND COPYING IT IS A
+    // SINGLE ARRAY CLONE.
+    //
+    // VALUES OF PRIMITIVE-TYPED PROPERTIES ARE HELD UNBOXED, SO THAT THE TYPED
+    // ACCESSORS (getDouble(int slot), setDouble(int slot, double value), ETC.)
+    // DO NOT ALLOCATE.  THEY ARE ONLY BOXED WHEN READ THROUGH THE Map VIEW.
+    //
+    // ONLY THE PROPERTIES OF THE CLASS CAN BE STORED IN A PropertyValueMap.
+    //-------------------------------------------------------------------------
+    public static class PropertyValueMap extends AbstractMap<ClassAndPropertyName, Object> {
+
+        // MARKS A SLOT THAT HAS NO ENTRY IN THE MAP (AS OPPOSED TO AN ENTRY WHOSE VALUE IS null)
+        private static final Object _noEntry = new Object();
+
+        // MARKS A SLOT WHOSE VALUE IS HELD, UNBOXED, IN _primitiveValueArray
+        private static final Object _primitiveEntry = new Object();
+
+        private final PropertyIndex _propertyIndex;
+
+        private final Object[] _valueArray;
+
+        // UNBOXED VALUES OF PRIMITIVE-TYPED SLOTS.  float AND double VALUES ARE HELD AS THEIR RAW BITS.
+        private final long[] _primitiveValueArray;
+
+        private int _size = 0;
+
+        public PropertyValueMap(PropertyIndex propertyIndex) {
+            _propertyIndex = propertyIndex;
+            _valueArray = new Object[propertyIndex.size()];
+            Arrays.fill(_valueArray, _noEntry);
+            _primitiveValueArray = new long[propertyIndex.size()];
+        }
+
+        public PropertyValueMap(PropertyValueMap other) {
+            _propertyIndex = other._propertyIndex;
+            _valueArray = other._valueArray.clone();
+            _primitiveValueArray = other._primitiveValueArray.clone();
+            _size = other._size;
+        }
+
+        public PropertyIndex getPropertyIndex() {
+            return _propertyIndex;
+        }
+
+        public Object getSlotValue(int slot) {
+            Object value = _valueArray[slot];
+            if (value == _primitiveEntry) {
+                return getBoxedPrimitiveValue(slot);
+            }
+            return value == _noEntry ? null : value;
+        }
+
+        public void setSlotValue(int slot, Object value) {
+            if (_propertyIndex.isUnboxable(slot, value)) {
+                setPrimitiveValue(slot, get_primitive_value(value));
+                return;
+            }
+            if (_valueArray[slot] == _noEntry) {
+                ++_size;
+            }
+            _valueArray[slot] = value;
+        }
+
+        private void setPrimitiveValue(int slot, long primitiveValue) {
+            if (_valueArray[slot] == _noEntry) {
+                ++_size;
+            }
+            _valueArray[slot] = _primitiveEntry;
+            _primitiveValueArray[slot] = primitiveValue;
+        }
+
+        private static long get_primitive_value(Object value) {
+            if (value instanceof Double) {
+                return Double.doubleToRawLongBits((Double)value);
+            }
+            if (value instanceof Float) {
+                return Float.floatToRawIntBits((Float)value);
+            }
+            if (value instanceof Boolean) {
+                return (Boolean)value ? 1 : 0;
+            }
+            if (value instanceof Character) {
+                return (Character)value;
+            }
+            return ((Number)value).longValue();
+        }
+
+        private Object getBoxedPrimitiveValue(int slot) {
+            long primitiveValue = _primitiveValueArray[slot];
+            Class<?> slotType = _propertyIndex.getSlotType(slot);
+            if (slotType == double.class) {
+                return Double.longBitsToDouble(primitiveValue);
+            }
+            if (slotType == float.class) {
+                return Float.intBitsToFloat((int)primitiveValue);
+            }
+            if (slotType == long.class) {
+                return primitiveValue;
+            }
+            if (slotType == int.class) {
+                return (int)primitiveValue;
+            }
+            if (slotType == short.class) {
+                return (short)primitiveValue;
+            }
+            if (slotType == byte.class) {
+                return (byte)primitiveValue;
+            }
+            if (slotType == char.class) {
+                return (char)primitiveValue;
+            }
+            return primitiveValue != 0;
+        }
+
+        //-------------------------------------------------------------------------
+        // TYPED ACCESSORS
+        //
+        // A VALUE OF ONE NUMERIC TYPE IS CONVERTED TO ANOTHER AS BY A JAVA CAST.
+        // NON-PRIMITIVE SLOTS ARE READ BY UNBOXING AND WRITTEN BY BOXING THE VALUE.
+        //-------------------------------------------------------------------------
+        public static double double_value(Object value) {
+            if (value instanceof Boolean) {
+                return (Boolean)value ? 1 : 0;
+            }
+            if (value instanceof Character) {
+                return (Character)value;
+            }
+            return ((Number)value).doubleValue();
+        }
+
+        public static long long_value(Object value) {
+            if (value instanceof Boolean) {
+                return (Boolean)value ? 1 : 0;
+            }
+            if (value instanceof Character) {
+                return (Character)value;
+            }
+            return ((Number)value).longValue();
+        }
+
+        public static boolean boolean_value(Object value) {
+            if (value instanceof Boolean) {
+                return (Boolean)value;
+            }
+            return double_value(value) != 0;
+        }
+
+        public double getDouble(int slot) {
+            if (_valueArray[slot] != _primitiveEntry) {
+                return double_value(getSlotValue(slot));
+            }
+            long primitiveValue = _primitiveValueArray[slot];
+            Class<?> slotType = _propertyIndex.getSlotType(slot);
+            if (slotType == double.class) {
+                return Double.longBitsToDouble(primitiveValue);
+            }
+            if (slotType == float.class) {
+                return Float.intBitsToFloat((int)primitiveValue);
+            }
+            return primitiveValue;
+        }
+
+        public long getLong(int slot) {
+            if (_valueArray[slot] != _primitiveEntry) {
+                return long_value(getSlotValue(slot));
+            }
+            Class<?> slotType = _propertyIndex.getSlotType(slot);
+            if (slotType == double.class || slotType == float.class) {
+                return (long)getDouble(slot);
+            }
+            return _primitiveValueArray[slot];
+        }
+
+        public boolean getBoolean(int slot) {
+            if (_valueArray[slot] != _primitiveEntry) {
+                return boolean_value(getSlotValue(slot));
+            }
+            return getDouble(slot) != 0;
+        }
+
+        public float getFloat(int slot) {
+            return (float)getDouble(slot);
+        }
+
+        public int getInt(int slot) {
+            return (int)getLong(slot);
+        }
+
+        public short getShort(int slot) {
+            return (short)getLong(slot);
+        }
+
+        public byte getByte(int slot) {
+            return (byte)getLong(slot);
+        }
+
+        public char getChar(int slot) {
+            return (char)getLong(slot);
+        }
+
+        public void setDouble(int slot, double value) {
+            Class<?> slotType = _propertyIndex.getSlotType(slot);
+            if (slotType == double.class) {
+                setPrimitiveValue(slot, Double.doubleToRawLongBits(value));
+            } else if (slotType == float.class) {
+                setPrimitiveValue(slot, Float.floatToRawIntBits((float)value));
+            } else if (slotType.isPrimitive()) {
+                setLong(slot, (long)value);
+            } else {
+                setSlotValue(slot, value);
+            }
+        }
+
+        public void setLong(int slot, long value) {
+            Class<?> slotType = _propertyIndex.getSlotType(slot);
+            if (slotType == long.class) {
+                setPrimitiveValue(slot, value);
+            } else if (slotType == int.class) {
+                setPrimitiveValue(slot, (int)value);
+            } else if (slotType == short.class) {
+                setPrimitiveValue(slot, (short)value);
+            } else if (slotType == byte.class) {
+                setPrimitiveValue(slot, (byte)value);
+            } else if (slotType == char.class) {
+                setPrimitiveValue(slot, (char)value);
+            } else if (slotType == boolean.class) {
+                setPrimitiveValue(slot, value != 0 ? 1 : 0);
+            } else if (slotType.isPrimitive()) {
+                setDouble(slot, value);
+            } else {
+                setSlotValue(slot, value);
+            }
+        }
+
+        public void setBoolean(int slot, boolean value) {
+            if (_propertyIndex.isPrimitiveSlot(slot)) {
+                setLong(slot, value ? 1 : 0);
+            } else {
+                setSlotValue(slot, value);
+            }
+        }
+
+        public void setFloat(int slot, float value) {
+            if (_propertyIndex.isPrimitiveSlot(slot)) {
+                setDouble(slot, value);
+            } else {
+                setSlotValue(slot, value);
+            }
+        }
+
+        public void setInt(int slot, int value) {
+            if (_propertyIndex.isPrimitiveSlot(slot)) {
+                setLong(slot, value);
+            } else {
+                setSlotValue(slot, value);
+            }
+        }
+
+        public void setShort(int slot, short value) {
+            if (_propertyIndex.isPrimitiveSlot(slot)) {
+                setLong(slot, value);
+            } else {
+                setSlotValue(slot, value);
+            }
+        }
+
+        public void setByte(int slot, byte value) {
+            if (_propertyIndex.isPrimitiveSlot(slot)) {
+                setLong(slot, value);
+            } else {
+                setSlotValue(slot, value);
+            }
+        }
+
+        public void setChar(int slot, char value) {
+            if (_propertyIndex.isPrimitiveSlot(slot)) {
+                setLong(slot, value);
+            } else {
+                setSlotValue(slot, value);
+            }
+        }
+
+        //-------------------------------------------------------------------------
+        // Map VIEW
+        //-------------------------------------------------------------------------
+        private int getSlot(Object key) {
+            return key instanceof ClassAndPropertyName ?
+              _propertyIndex.getSlot((ClassAndPropertyName)key) : -1;
+        }
+
+        @Override
+        public int size() {
+            return _size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int slot = getSlot(key);
+            return slot >= 0 && _valueArray[slot] != _noEntry;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int slot = getSlot(key);
+            return slot < 0 ? null : getSlotValue(slot);
+        }
+
+        @Override
+        public Object put(ClassAndPropertyName key, Object value) {
+            int slot = getSlot(key);
+            if (slot < 0) {
+                throw new IllegalArgumentException(
+                  "\"" + key + "\" is not a property of class \"" + _propertyIndex.getHlaClassName() + "\""
+                );
+            }
+            Object oldValue = getSlotValue(slot);
+            setSlotValue(slot, value);
+            return oldValue;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            int slot = getSlot(key);
+            if (slot < 0 || _valueArray[slot] == _noEntry) {
+                return null;
+            }
+            Object oldValue = getSlotValue(slot);
+            _valueArray[slot] = _noEntry;
+            --_size;
+            return oldValue;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(_valueArray, _noEntry);
+            _size = 0;
+        }
+
+        @Override
+        public Set<Map.Entry<ClassAndPropertyName, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<ClassAndPropertyName, Object>>() {
+                @Override
+                public int size() {
+                    return _size;
+                }
+
+                @Override
+                public Iterator<Map.Entry<ClassAndPropertyName, Object>> iterator() {
+                    return new Iterator<Map.Entry<ClassAndPropertyName, Object>>() {
+                        private int _nextSlot = findSlot(0);
+                        private int _lastSlot = -1;
+
+                        private int findSlot(int slot) {
+                            while(slot < _valueArray.length && _valueArray[slot] == _noEntry) {
+                                ++slot;
+                            }
+                            return slot;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return _nextSlot < _valueArray.length;
+                        }
+
+                        @Override
+                        public Map.Entry<ClassAndPropertyName, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int slot = _nextSlot;
+                            _lastSlot = slot;
+                            _nextSlot = findSlot(slot + 1);
+                            return new AbstractMap.SimpleEntry<ClassAndPropertyName, Object>(
+                              _propertyIndex.getClassAndPropertyName(slot), getSlotValue(slot)
+                            ) {
+                                @Override
+                                public Object setValue(Object value) {
+                                    setSlotValue(slot, value);
+                                    return super.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (_lastSlot < 0 || _valueArray[_lastSlot] == _noEntry) {
+                                throw new IllegalStateException();
+                            }
+                            _valueArray[_lastSlot] = _noEntry;
+                            --_size;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    //---------------------------------------------------------------------------------------
+    // CREATES THE VALUE MAP FOR AN INSTANCE OF hlaClassName:  A PropertyValueMap IF THE CLASS
+    // HAS A PropertyIndex, OTHERWISE A HashMap
+    //---------------------------------------------------------------------------------------
+    protected static Map<ClassAndPropertyName, Object> create_class_and_property_name_value_map(
+      String hlaClassName
+    ) {
+        PropertyIndex propertyIndex = get_property_index(hlaClassName);
+        return propertyIndex == null ? new HashMap<>() : new PropertyValueMap(propertyIndex);
+    }
+
+    protected static Map<ClassAndPropertyName, Object> copy_class_and_property_name_value_map(
+      Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap
+    ) {
+        return classAndPropertyNameValueMap instanceof PropertyValueMap ?
+          new PropertyValueMap((PropertyValueMap)classAndPropertyNameValueMap) :
+          new HashMap<>(classAndPropertyNameValueMap);
+    }
+
+    //-------------------------
+    // END PROPERTY VALUE MAP
+    //-------------------------
+
+    //-------------------------------------------
+    // CLASS-AND-PROPERTY-NAME PROPERTY-VALUE MAP
+    //-------------------------------------------
+    protected Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
+
+    //-------------------------------------------------------------------------------------
+    // RETURNS THE VALUE IN THE GIVEN SLOT OF propertyIndex, WITHOUT A HASH LOOKUP WHEN THIS
+    // INSTANCE'S VALUES ARE HELD IN A PropertyValueMap LAID OUT BY propertyIndex
+    //-------------------------------------------------------------------------------------
+    private Object getSlotValue(PropertyIndex propertyIndex, int slot) {
+        if (classAndPropertyNameValueMap instanceof PropertyValueMap) {
+            PropertyValueMap propertyValueMap = (PropertyValueMap)classAndPropertyNameValueMap;
+            if (propertyValueMap.getPropertyIndex() == propertyIndex) {
+                return propertyValueMap.getSlotValue(slot);
+            }
+        }
+        return classAndPropertyNameValueMap.get(propertyIndex.getClassAndPropertyName(slot));
+    }
+
+    //----------------------------------------------------------------------------------------------
+    // TYPED PARAMETER ACCESSORS
+    //
+    // THESE READ AND WRITE A PARAMETER OF PRIMITIVE TYPE WITHOUT BOXING ITS VALUE, AND ARE USED
+    // BY THE get_/set_ METHODS OF THE GENERATED INTERACTION CLASSES.  A PARAMETER IS IDENTIFIED
+    // EITHER BY ITS HANDLE (RTI ASSIGNED) OR BY ITS ClassAndPropertyName.
+    //----------------------------------------------------------------------------------------------
+    private PropertyValueMap getPropertyValueMap() {
+        return classAndPropertyNameValueMap instanceof PropertyValueMap ?
+          (PropertyValueMap)classAndPropertyNameValueMap : null;
+    }
+
+    private int getValueSlot(ClassAndPropertyName classAndPropertyName) {
+        PropertyValueMap propertyValueMap = getPropertyValueMap();
+        return propertyValueMap == null ? -1 : propertyValueMap.getPropertyIndex().getSlot(classAndPropertyName);
+    }
+
+    private int getValueSlot(int propertyHandle) {
+        PropertyValueMap propertyValueMap = getPropertyValueMap();
+        return propertyValueMap == null ? -1 : propertyValueMap.getPropertyIndex().getSlotForHandle(propertyHandle);
+    }
+
+    public boolean getBoolean(ClassAndPropertyName classAndPropertyName) {
+        int slot = getValueSlot(classAndPropertyName);
+        return slot >= 0 ?
+          getPropertyValueMap().getBoolean(slot) : PropertyValueMap.boolean_value(classAndPropertyNameValueMap.get(classAndPropertyName));
+    }
 
-        if (!loadDynamicHlaClass(hlaClassName, rti)) {
-            logger.warn("publish_interaction(\"{}}\"):  no such class", hlaClassName);
-            return;
-        }
+    public boolean getBoolean(int propertyHandle) {
+        int slot = getValueSlot(propertyHandle);
+        return slot >= 0 ? getPropertyValueMap().getBoolean(slot) : PropertyValueMap.boolean_value(getParameter(propertyHandle));
+    }
 
-        if (get_is_published(hlaClassName)) {
-            return;
+    public void setBoolean(ClassAndPropertyName classAndPropertyName, boolean value) {
+        int slot = getValueSlot(classAndPropertyName);
+        if (slot >= 0) {
+            getPropertyValueMap().setBoolean(slot, value);
+        } else {
+            classAndPropertyNameValueMap.put(classAndPropertyName, value);
         }
+    }
 
-        int classHandle = get_class_handle(hlaClassName);
-        synchronized(rti) {
-            boolean isNotPublished = true;
-            while(isNotPublished) {
-                try {
-                    rti.publishInteractionClass(classHandle);
-                    isNotPublished = false;
-                } catch (FederateNotExecutionMember e) {
-                    logger.error("could not publish: Federate Not Execution Member", e);
-                    return;
-                } catch (InteractionClassNotDefined e) {
-                    logger.error("could not publish: Interaction Class Not Defined", e);
-                    return;
-                } catch (Exception e) {
-                    logger.error(e);
-                    CpswtUtils.sleepDefault();
-                }
-            }
+    public void setBoolean(int propertyHandle, boolean value) {
+        int slot = getValueSlot(propertyHandle);
+        if (slot >= 0) {
+            getPropertyValueMap().setBoolean(slot, value);
+        } else {
+            setParameter(propertyHandle, value);
         }
+    }
 
-        logger.debug("publish: {}", hlaClassName);
+    public byte getByte(ClassAndPropertyName classAndPropertyName) {
+        int slot = getValueSlot(classAndPropertyName);
+        return slot >= 0 ?
+          getPropertyValueMap().getByte(slot) : (byte)PropertyValueMap.long_value(classAndPropertyNameValueMap.get(classAndPropertyName));
+    }
 
-        set_is_published(hlaClassName, true);
+    public byte getByte(int propertyHandle) {
+        int slot = getValueSlot(propertyHandle);
+        return slot >= 0 ? getPropertyValueMap().getByte(slot) : (byte)PropertyValueMap.long_value(getParameter(propertyHandle));
     }
 
-    public static void subscribe_interaction(String hlaClassName, RTIambassador rti) {
+    public void setByte(ClassAndPropertyName classAndPropertyName, byte value) {
+        int slot = getValueSlot(classAndPropertyName);
+        if (slot >= 0) {
+            getPropertyValueMap().setByte(slot, value);
+        } else {
+            classAndPropertyNameValueMap.put(classAndPropertyName, value);
+        }
+    }
 
-        if (!loadDynamicHlaClass(hlaClassName, rti)) {
-            logger.warn("subscribe_interaction(\"{}}\"):  no such class", hlaClassName);
-            return;
+    public void setByte(int propertyHandle, byte value) {
+        int slot = getValueSlot(propertyHandle);
+        if (slot >= 0) {
+            getPropertyValueMap().setByte(slot, value);
+        } else {
+            setParameter(propertyHandle, value);
         }
+    }
 
-        if (get_is_subscribed(hlaClassName)) {
-            return;
+    public char getChar(ClassAndPropertyName classAndPropertyName) {
+        int slot = getValueSlot(classAndPropertyName);
+        return slot >= 0 ?
+          getPropertyValueMap().getChar(slot) : (char)PropertyValueMap.long_value(classAndPropertyNameValueMap.get(classAndPropertyName));
+    }
+
+    public char getChar(int propertyHandle) {
+        int slot = getValueSlot(propertyHandle);
+        return slot >= 0 ? getPropertyValueMap().getChar(slot) : (char)PropertyValueMap.long_value(getParameter(propertyHandle));
+    }
+
+    public void setChar(ClassAndPropertyName classAndPropertyName, char value) {
+        int slot = getValueSlot(classAndPropertyName);
+        if (slot >= 0) {
+            getPropertyValueMap().setChar(slot, value);
+        } else {
+            classAndPropertyNameValueMap.put(classAndPropertyName, value);
         }
+    }
 
-        int classHandle = get_class_handle(hlaClassName);
-        synchronized(rti) {
-            boolean isNotSubscribed = true;
-            while(isNotSubscribed) {
-                try {
-                    rti.subscribeInteractionClass(classHandle);
-                    isNotSubscribed = false;
-                } catch (FederateNotExecutionMember e) {
-                    logger.error("could not publish: Federate Not Execution Member", e);
-                    return;
-                } catch (InteractionClassNotDefined e) {
-                    logger.error("could not publish: Interaction Class Not Defined", e);
-                    return;
-                } catch (Exception e) {
-                    logger.error(e);
-                    CpswtUtils.sleepDefault();
-                }
-            }
+    public void setChar(int propertyHandle, char value) {
+        int slot = getValueSlot(propertyHandle);
+        if (slot >= 0) {
+            getPropertyValueMap().setChar(slot, value);
+        } else {
+            setParameter(propertyHandle, value);
         }
+    }
 
-        logger.debug("subscribe: {}", hlaClassName);
+    public short getShort(ClassAndPropertyName classAndPropertyName) {
+        int slot = getValueSlot(classAndPropertyName);
+        return slot >= 0 ?
+          getPropertyValueMap().getShort(slot) : (short)PropertyValueMap.long_value(classAndPropertyNameValueMap.get(classAndPropertyName));
+    }
 
-        set_is_subscribed(hlaClassName, true);
+    public short getShort(int propertyHandle) {
+        int slot = getValueSlot(propertyHandle);
+        return slot >= 0 ? getPropertyValueMap().getShort(slot) : (short)PropertyValueMap.long_value(getParameter(propertyHandle));
     }
 
-    public static void soft_subscribe_interaction(String hlaClassName, RTIambassador rti) {
-        if (!loadDynamicHlaClass(hlaClassName, rti)) {
-            logger.warn("soft_subscribe_interaction(\"{}}\"):  no such class", hlaClassName);
-            return;
+    public void setShort(ClassAndPropertyName classAndPropertyName, short value) {
+        int slot = getValueSlot(classAndPropertyName);
+        if (slot >= 0) {
+            getPropertyValueMap().setShort(slot, value);
+        } else {
+            classAndPropertyNameValueMap.put(classAndPropertyName, value);
         }
+    }
 
-        set_is_soft_subscribed(hlaClassName, true);
+    public void setShort(int propertyHandle, short value) {
+        int slot = getValueSlot(propertyHandle);
+        if (slot >= 0) {
+            getPropertyValueMap().setShort(slot, value);
+        } else {
+            setParameter(propertyHandle, value);
+        }
     }
 
-    public static void unpublish_interaction(String hlaClassName, RTIambassador rti) {
+    public int getInt(ClassAndPropertyName classAndPropertyName) {
+        int slot = getValueSlot(classAndPropertyName);
+        return slot >= 0 ?
+          getPropertyValueMap().getInt(slot) : (int)PropertyValueMap.long_value(classAndPropertyNameValueMap.get(classAndPropertyName));
+    }
 
-        if (!loadDynamicHlaClass(hlaClassName, rti)) {
-            logger.warn("unpublish_interaction(\"{}}\"):  no such class", hlaClassName);
-            return;
-        }
+    public int getInt(int propertyHandle) {
+        int slot = getValueSlot(propertyHandle);
+        return slot >= 0 ? getPropertyValueMap().getInt(slot) : (int)PropertyValueMap.long_value(getParameter(propertyHandle));
+    }
 
-        if (!get_is_published(hlaClassName)) {
-            return;
+    public void setInt(ClassAndPropertyName classAndPropertyName, int value) {
+        int slot = getValueSlot(classAndPropertyName);
+        if (slot >= 0) {
+            getPropertyValueMap().setInt(slot, value);
+        } else {
+            classAndPropertyNameValueMap.put(classAndPropertyName, value);
         }
+    }
 
-        int classHandle = get_class_handle(hlaClassName);
-        synchronized(rti) {
-            boolean isNotUnpublished = true;
-            while(isNotUnpublished) {
-                try {
-                    rti.unpublishInteractionClass(classHandle);
-                    isNotUnpublished = false;
-                } catch (FederateNotExecutionMember e) {
-                    logger.error("could not unpublish: Federate Not Execution Member", e);
-                    return;
-                } catch (InteractionClassNotDefined e) {
-                    logger.error("could not unpublish: Interaction Class Not Defined", e);
-                    return;
-                } catch (InteractionClassNotPublished e) {
-                    logger.error("could not unpublish: Interaction Class Not Published", e);
-                    return;
-                } catch (Exception e) {
-                    logger.error(e);
-                    CpswtUtils.sleepDefault();
-                }
-            }
+    public void setInt(int propertyHandle, int value) {
+        int slot = getValueSlot(propertyHandle);
+        if (slot >= 0) {
+            getPropertyValueMap().setInt(slot, value);
+        } else {
+            setParameter(propertyHandle, value);
         }
+    }
 
-        logger.debug("unpublish: {}", hlaClassName);
+    public long getLong(ClassAndPropertyName classAndPropertyName) {
+        int slot = getValueSlot(classAndPropertyName);
+        return slot >= 0 ?
+          getPropertyValueMap().getLong(slot) : PropertyValueMap.long_value(classAndPropertyNameValueMap.get(classAndPropertyName));
+    }
 
-        set_is_published(hlaClassName, false);
+    public long getLong(int propertyHandle) {
+        int slot = getValueSlot(propertyHandle);
+        return slot >= 0 ? getPropertyValueMap().getLong(slot) : PropertyValueMap.long_value(getParameter(propertyHandle));
     }
 
-    public static void unsubscribe_interaction(String hlaClassName, RTIambassador rti) {
+    public void setLong(ClassAndPropertyName classAndPropertyName, long value) {
+        int slot = getValueSlot(classAndPropertyName);
+        if (slot >= 0) {
+            getPropertyValueMap().setLong(slot, value);
+        } else {
+            classAndPropertyNameValueMap.put(classAndPropertyName, value);
+        }
+    }
 
-        if (!loadDynamicHlaClass(hlaClassName, rti)) {
-            logger.warn("unsubscribe_interaction(\"{}}\"):  no such class", hlaClassName);
-            return;
+    public void setLong(int propertyHandle, long value) {
+        int slot = getValueSlot(propertyHandle);
+        if (slot >= 0) {
+            getPropertyValueMap().setLong(slot, value);
+        } else {
+            setParameter(propertyHandle, value);
         }
+    }
 
-        if (!get_is_subscribed(hlaClassName)) {
-            return;
+    public float getFloat(ClassAndPropertyName classAndPropertyName) {
+        int slot = getValueSlot(classAndPropertyName);
+        return slot >= 0 ?
+          getPropertyValueMap().getFloat(slot) : (float)PropertyValueMap.double_value(classAndPropertyNameValueMap.get(classAndPropertyName));
+    }
+
+    public float getFloat(int propertyHandle) {
+        int slot = getValueSlot(propertyHandle);
+        return slot >= 0 ? getPropertyValueMap().getFloat(slot) : (float)PropertyValueMap.double_value(getParameter(propertyHandle));
+    }
+
+    public void setFloat(ClassAndPropertyName classAndPropertyName, float value) {
+        int slot = getValueSlot(classAndPropertyName);
+        if (slot >= 0) {
+            getPropertyValueMap().setFloat(slot, value);
+        } else {
+            classAndPropertyNameValueMap.put(classAndPropertyName, value);
         }
+    }
 
-        int classHandle = get_class_handle(hlaClassName);
-        synchronized(rti) {
-            boolean isNotUnsubscribed = true;
-            while(isNotUnsubscribed) {
-                try {
-                    rti.unsubscribeInteractionClass(classHandle);
-                    isNotUnsubscribed = false;
-                } catch (FederateNotExecutionMember e) {
-                    logger.error("could not unpublish: Federate Not Execution Member", e);
-                    return;
-                } catch (InteractionClassNotDefined e) {
-                    logger.error("could not unpublish: Interaction Class Not Defined", e);
-                    return;
-                } catch (InteractionClassNotSubscribed e) {
-                    logger.error("could not unpublish: Interaction Class Not Published", e);
-                    return;
-                } catch (Exception e) {
-                    logger.error(e);
-                    CpswtUtils.sleepDefault();
-                }
-            }
+    public void setFloat(int propertyHandle, float value) {
+        int slot = getValueSlot(propertyHandle);
+        if (slot >= 0) {
+            getPropertyValueMap().setFloat(slot, value);
+        } else {
+            setParameter(propertyHandle, value);
         }
+    }
 
-        logger.debug("unsubscribe: {}", hlaClassName);
+    public double getDouble(ClassAndPropertyName classAndPropertyName) {
+        int slot = getValueSlot(classAndPropertyName);
+        return slot >= 0 ?
+          getPropertyValueMap().getDouble(slot) : PropertyValueMap.double_value(classAndPropertyNameValueMap.get(classAndPropertyName));
+    }
 
-        set_is_subscribed(hlaClassName, false);
+    public double getDouble(int propertyHandle) {
+        int slot = getValueSlot(propertyHandle);
+        return slot >= 0 ? getPropertyValueMap().getDouble(slot) : PropertyValueMap.double_value(getParameter(propertyHandle));
     }
 
-    public static void soft_unsubscribe_interaction(String hlaClassName, RTIambassador rti) {
-        if (!loadDynamicHlaClass(hlaClassName, rti)) {
-            logger.warn("soft_unsubscribe_interaction(\"{}}\"):  no such class", hlaClassName);
-            return;
+    public void setDouble(ClassAndPropertyName classAndPropertyName, double value) {
+        int slot = getValueSlot(classAndPropertyName);
+        if (slot >= 0) {
+            getPropertyValueMap().setDouble(slot, value);
+        } else {
+            classAndPropertyNameValueMap.put(classAndPropertyName, value);
         }
+    }
 
-        set_is_soft_subscribed(hlaClassName, false);
+    public void setDouble(int propertyHandle, double value) {
+        int slot = getValueSlot(propertyHandle);
+        if (slot >= 0) {
+            getPropertyValueMap().setDouble(slot, value);
+        } else {
+            setParameter(propertyHandle, value);
+        }
     }
 
-    //-------------------------------------------
-    // CLASS-AND-PROPERTY-NAME PROPERTY-VALUE MAP
-    //-------------------------------------------
-    protected Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
+    //--------------------------------
+    // END TYPED PARAMETER ACCESSORS
+    //--------------------------------
 
     //------------------------------------------------------------
     // METHODS THAT USE CLASS-AND-PROPERTY-NAME PROPERTY-VALUE MAP
@@ -1088,55 +2290,16 @@ public class InteractionRoot implements InteractionRootInterface {
         }
         Object initialValueForType = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
 
-        // IF value IS A STRING, AND THE TYPE OF THE PARAMETER IS A NUMBER-TYPE, TRY TO SEE IF THE
-        // STRING CAN BE CONVERTED TO A NUMBER.
+        // IF value IS A STRING, TRY TO CONVERT IT TO THE TYPE OF THE PARAMETER
         if (value instanceof String) {
-
-            String stringValue = ((String)value).toLowerCase();
-            Object newValue = null;
-
-            if (initialValueForType instanceof Number) {
-                Method method;
-                try {
-                    method = initialValueForType.getClass().getMethod("valueOf", String.class);
-                } catch (NoSuchMethodException noSuchMethodException) {
-                    logger.error(
-                            "setParameter(\"{}\", \"{}\", {} value): unable to access \"valueOf\" " +
-                                    "method of \"Number\" object: cannot set value!",
-                            hlaClassName, propertyName, value.getClass().getName()
-                    );
-                    return null;
-                }
-                try {
-                    // DEAL WITH STRING-VERSIONS OF FLOATING-POINT VALUES THAT ARE TO BE CONVERTED TO AN INTEGRAL TYPE
-                    if (!(initialValueForType instanceof Double) && !(initialValueForType instanceof Float)) {
-                        int dotPosition = stringValue.indexOf(".");
-                        if (dotPosition > 0) {
-                            stringValue = stringValue.substring(0, dotPosition);
-                        }
-                        int ePosition = stringValue.indexOf("e");
-                        if (ePosition > 0) {
-                            stringValue = stringValue.substring(0, ePosition);
-                        }
-                    }
-                    newValue = method.invoke(null, stringValue);
-                } catch (Exception e) { }
-
-            } else if (initialValueForType instanceof Character) {
-                try {
-                    newValue = (char)Short.valueOf(stringValue).shortValue();
-                } catch (Exception e) { }
-
-            } else if (initialValueForType instanceof Boolean) {
-                try {
-                    newValue = Double.parseDouble(stringValue) != 0;
-                } catch (Exception e) { }
-
-                if (newValue == null) {
-                    newValue = Boolean.valueOf(stringValue);
-                }
+            StringValueConverter stringValueConverter =
+              _classAndPropertyNameStringValueConverterMap.get(classAndPropertyName);
+            if (stringValueConverter == null) {
+                stringValueConverter =
+                  StringValueConverter.get_string_value_converter(initialValueForType.getClass());
             }
 
+            Object newValue = stringValueConverter.convert((String)value);
             if (newValue != null) {
                 value = newValue;
             }
@@ -1215,6 +2378,10 @@ public class InteractionRoot implements InteractionRootInterface {
     }
 
     public boolean hasParameter(String propertyName) {
+        PropertyIndex propertyIndex = getPropertyIndex();
+        if (propertyIndex != null) {
+            return propertyIndex.getSlot(propertyName) >= 0;
+        }
         return hasParameter(getInstanceHlaClassName(), propertyName);
     }
 
@@ -1228,6 +2395,11 @@ public class InteractionRoot implements InteractionRootInterface {
     }
 
     public Object getParameter(String propertyName) {
+        PropertyIndex propertyIndex = getPropertyIndex();
+        if (propertyIndex != null) {
+            int slot = propertyIndex.getSlot(propertyName);
+            return slot < 0 ? null : getSlotValue(propertyIndex, slot);
+        }
         return getParameter(getInstanceHlaClassName(), propertyName);
     }
 
@@ -1310,6 +2482,17 @@ public class InteractionRoot implements InteractionRootInterface {
         return get_hla_class_name();
     }
 
+    /**
+     * Returns the interned descriptor of the hlaClassName interaction class.  Descriptors can be compared
+     * with "==", and test whether one class is derived from another in constant time.
+     *
+     * @param hlaClassName fully-qualified (dot-delimited) name of an interaction class
+     * @return the descriptor of the hlaClassName interaction class
+     */
+    public static HlaClassDescriptor get_hla_class_descriptor(String hlaClassName) {
+        return HlaClassDescriptor.get_hla_class_descriptor(hlaClassName);
+    }
+
     /**
      * Returns a sorted list containing the names of all of the non-hidden parameters in the
      * edu.vanderbilt.vuisis.cpswt.hla.InteractionRoot interaction class.
@@ -1626,6 +2809,67 @@ public class InteractionRoot implements InteractionRootInterface {
         setTime( doubleTime.getTime() );
     }
 
+    //------------------------------------------------------------------------------------------------
+    // SORT KEY:  THE ORDER OF THIS INTERACTION IN A TIMESTAMP-ORDER QUEUE -- (TIME, GENERATION TIME,
+    // SEQUENCE).  SET ONCE, WHEN THE INTERACTION IS QUEUED, SO THAT COMPARISONS ONLY COMPARE PRIMITIVES.
+    // THE SEQUENCE IS THE ORDER IN WHICH THE QUEUE RECEIVED THE INTERACTION:  UNIQUE IDS DO NOT FOLLOW
+    // THAT ORDER WHEN INTERACTIONS ARE CREATED ON DIFFERENT THREADS (SEE UniqueIdGenerator).
+    //------------------------------------------------------------------------------------------------
+    private boolean _hasSortKey = false;
+    private double _sortTime;
+    private double _sortGenerationTime;
+    private long _sortSequence;
+
+    /**
+     * Sets the sort key of this interaction from its current timestamp, generationTime, and sequence.
+     *
+     * @param generationTime time at which this interaction was generated, which orders it among interactions
+     *                       with the same timestamp
+     * @param sequence order in which the queue received this interaction, which orders it among interactions
+     *                 with the same timestamp and generation time
+     */
+    public void setSortKey(double generationTime, long sequence) {
+        _sortTime = _time;
+        _sortGenerationTime = generationTime;
+        _sortSequence = sequence;
+        _hasSortKey = true;
+    }
+
+    /**
+     * Sets the sort key of this interaction as for setSortKey(generationTime, sequence), with its unique id
+     * as the sequence.
+     *
+     * @param generationTime time at which this interaction was generated, which orders it among interactions
+     *                       with the same timestamp
+     */
+    public void setSortKey(double generationTime) {
+        setSortKey(generationTime, _uniqueID);
+    }
+
+    public boolean hasSortKey() {
+        return _hasSortKey;
+    }
+
+    /**
+     * Compares the sort keys (see setSortKey) of two interactions.
+     *
+     * @param interactionRoot1 first interaction
+     * @param interactionRoot2 second interaction
+     * @return a negative number, zero, or a positive number as the sort key of interactionRoot1 is less than,
+     * equal to, or greater than that of interactionRoot2
+     */
+    public static int compare_sort_keys(InteractionRoot interactionRoot1, InteractionRoot interactionRoot2) {
+        int compare = Double.compare(interactionRoot1._sortTime, interactionRoot2._sortTime);
+        if (compare != 0) {
+            return compare;
+        }
+        compare = Double.compare(interactionRoot1._sortGenerationTime, interactionRoot2._sortGenerationTime);
+        if (compare != 0) {
+            return compare;
+        }
+        return Long.compare(interactionRoot1._sortSequence, interactionRoot2._sortSequence);
+    }
+
     //-----------------
     // END TIME SET/GET
     //-----------------
@@ -1638,7 +2882,38 @@ public class InteractionRoot implements InteractionRootInterface {
     // - fromJson()
     // - readFederateDynamicMessageClasses(Reader reader) BELOW
     //------------------------------------------
-    protected static Map<ClassAndPropertyName, Object> _classAndPropertyNameInitialValueMap = new HashMap<>();
+    protected static Map<ClassAndPropertyName, Object> _classAndPropertyNameInitialValueMap =
+      new CopyOnWriteHashMap<>();
+
+    //-----------------------------------------------------------------------------
+    // CLASS-AND-PROPERTY-NAME STRING-VALUE-CONVERTER MAP
+    //
+    // CONVERTS STRING VALUES TO THE TYPE OF EACH PROPERTY IN getValueForClassAndPropertyName.
+    // POPULATED FROM _classAndPropertyNameInitialValueMap IN commonInit(String hlaClassName)
+    //-----------------------------------------------------------------------------
+    protected static Map<ClassAndPropertyName, StringValueConverter> _classAndPropertyNameStringValueConverterMap =
+      new CopyOnWriteHashMap<>();
+
+    private static void add_string_value_converters(Set<ClassAndPropertyName> classAndPropertyNameSet) {
+        if (classAndPropertyNameSet == null) {
+            return;
+        }
+        // ONE putAll FOR ALL OF THE CONVERTERS, AS EACH WRITE TO THE COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, StringValueConverter> classAndPropertyNameStringValueConverterMap = new HashMap<>();
+        for(ClassAndPropertyName classAndPropertyName: classAndPropertyNameSet) {
+            Object initialValue = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
+            if (initialValue != null) {
+                classAndPropertyNameStringValueConverterMap.put(
+                  classAndPropertyName,
+                  StringValueConverter.get_string_value_converter(initialValue.getClass())
+                );
+            }
+        }
+        // THE ROOT CLASS, WHICH HAS NO PROPERTIES, IS INITIALIZED BEFORE THE MAP IS
+        if (!classAndPropertyNameStringValueConverterMap.isEmpty()) {
+            _classAndPropertyNameStringValueConverterMap.putAll(classAndPropertyNameStringValueConverterMap);
+        }
+    }
 
     //-------------
     // CONSTRUCTORS
@@ -1651,6 +2926,7 @@ public class InteractionRoot implements InteractionRootInterface {
      */
     public InteractionRoot( String hlaClassName ) {
         setInstanceHlaClassName(hlaClassName);
+        classAndPropertyNameValueMap = create_class_and_property_name_value_map(hlaClassName);
         if (!_classNameHandleMap.containsKey(hlaClassName)) {
             logger.error("Constructor \"InteractionRoot( String hlaClassName )\": " +
               "hlaClassName \"{}\" is not defined -- creating dummy interaction with fictitious type \"{}\"",
@@ -1695,7 +2971,9 @@ public class InteractionRoot implements InteractionRootInterface {
         this();
         _time = other._time;
         _instanceHlaClassName = other._instanceHlaClassName;
-        classAndPropertyNameValueMap = new HashMap<>(other.classAndPropertyNameValueMap);
+        _instanceHlaClassDescriptor = other._instanceHlaClassDescriptor;
+        _propertyIndex = other._propertyIndex;
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(other.classAndPropertyNameValueMap);
     }
 
     //-----------------
@@ -1726,7 +3004,12 @@ public class InteractionRoot implements InteractionRootInterface {
         int size = propertyMap.size();
         for( int ix = 0 ; ix < size ; ++ix ) {
             try {
-                setParameter(  propertyMap.getParameterHandle( ix ), propertyMap.getValue( ix )  );
+                // getValueReference AVOIDS THE COPY MADE BY getValue
+                setParameter(
+                  propertyMap.getParameterHandle( ix ),
+                  propertyMap.getValueReference( ix ),
+                  propertyMap.getValueLength( ix )
+                );
             } catch ( Exception e ) {
                 logger.error( "setParameters: Exception caught!" );
                 logger.error("{}", CpswtUtils.getStackTrace(e));
@@ -1734,16 +3017,28 @@ public class InteractionRoot implements InteractionRootInterface {
         }
     }
 
-    private void setParameter( int handle, byte[] value ) {
+    private void setParameter( int handle, byte[] value, int length ) {
         if ( value == null ) {
             logger.error( "set:  Attempt to set null value  class \"{}\"", getClass().getName());
             return;
         }
-        String valueAsString = new String( value, 0, value.length );
-        if (valueAsString.length() > 0 && valueAsString.charAt(valueAsString.length() - 1) == '\0') {
-            valueAsString = valueAsString.substring(0, valueAsString.length() - 1);
+        PropertyIndex propertyIndex = getPropertyIndex();
+        int slot = propertyIndex == null ? -1 : propertyIndex.getSlotForHandle(handle);
+        ClassAndPropertyName classAndPropertyName = slot >= 0 ?
+          propertyIndex.getClassAndPropertyName(slot) : _handleClassAndPropertyNameMap.get(handle);
+        if (classAndPropertyName == null) {
+            logger.error("set:  propertyHandle {} does not exist.", handle);
+            return;
+        }
+        Object decodedValue = decode_value(classAndPropertyName, value, length);
+        if (decodedValue == null) {
+            logger.error(
+              "set:  could not decode value of parameter \"{}\" with the \"{}\" codec.",
+              classAndPropertyName, _messagingCodec.getName()
+            );
+            return;
         }
-        setParameter(handle, valueAsString);
+        setParameter(classAndPropertyName, decodedValue);
     }
 
     /**
@@ -1758,18 +3053,67 @@ public class InteractionRoot implements InteractionRootInterface {
      * sending this interaction.
      */
     public void sendInteraction( RTIambassador rti, double time ) throws Exception {
+        Consumer<RTIambassador> sendInteractionCommand = createSendInteractionCommand( time );
+        if ( sendInteractionCommand == null ) {
+            return;
+        }
         synchronized( rti ) {
+            sendInteractionCommand.accept( rti );
+        }
+    }
+
+    /**
+     * Returns a command that sends this interaction, with the specified timestamp "time", to the RTI
+     * it is given, so that the interaction can be sent later by another thread (e.g. the thread that
+     * ticks the RTI).  The parameter values are encoded when this method is called, so this interaction
+     * may be changed or released before the command is executed.  The command must be executed with the
+     * RTI's monitor held.
+     *
+     * @param time timestamp for this interaction (see {@link #sendInteraction(RTIambassador, double)})
+     * @return the command, or null if this interaction has no parameter values to send
+     */
+    public Consumer<RTIambassador> createSendInteractionCommand( double time ) {
+        return createSendInteractionCommand( new DoubleTime( time ) );
+    }
+
+    /**
+     * Returns a command that sends this interaction to the RTI it is given (without a timestamp).
+     * See {@link #createSendInteractionCommand(double)}.
+     *
+     * @return the command, or null if this interaction has no parameter values to send
+     */
+    public Consumer<RTIambassador> createSendInteractionCommand() {
+        return createSendInteractionCommand( null );
+    }
+
+    private Consumer<RTIambassador> createSendInteractionCommand( DoubleTime time ) {
+        final String className = getClass().getName();
+        final int classHandle;
+        final SuppliedParameters suppliedParameters;
+        try {
+            classHandle = getClassHandle();
+            suppliedParameters = createSuppliedParameters();
+        } catch ( Exception e ) {
+            logger.error( "{}:  could not send interaction", className );
+            logger.error("{}", CpswtUtils.getStackTrace(e));
+            return null;
+        }
+        if (suppliedParameters.size() == 0) {
+            return null;
+        }
+
+        return rti -> {
             try {
-                SuppliedParameters suppliedParameters = createSuppliedParameters();
-                if (suppliedParameters.size() == 0) {
-                    return;
+                if ( time == null ) {
+                    rti.sendInteraction( classHandle, suppliedParameters, null );
+                } else {
+                    rti.sendInteraction( classHandle, suppliedParameters, null, time );
                 }
-                rti.sendInteraction(  getClassHandle(), suppliedParameters, null, new DoubleTime( time )  );
             } catch ( Exception e ) {
-                logger.error( "{}:  could not send interaction", getClass().getName());
+                logger.error( "{}:  could not send interaction", className );
                 logger.error("{}", CpswtUtils.getStackTrace(e));
             }
-        }
+        };
     }
 
     /**
@@ -1781,17 +3125,12 @@ public class InteractionRoot implements InteractionRootInterface {
      * {@link SynchronizedFederate#getRTI()} call
      */
     public void sendInteraction( RTIambassador rti ) throws Exception {
+        Consumer<RTIambassador> sendInteractionCommand = createSendInteractionCommand();
+        if ( sendInteractionCommand == null ) {
+            return;
+        }
         synchronized( rti ) {
-            try {
-                SuppliedParameters suppliedParameters = createSuppliedParameters();
-                if (suppliedParameters.size() == 0) {
-                    return;
-                }
-                rti.sendInteraction( getClassHandle(), suppliedParameters, null );
-            } catch ( Exception e ) {
-                logger.error( "{}:  could not send interaction", getClass().getName() );
-                logger.error("{}", CpswtUtils.getStackTrace(e));
-            }
+            sendInteractionCommand.accept( rti );
         }
     }
 
@@ -2004,7 +3343,8 @@ public class InteractionRoot implements InteractionRootInterface {
         return interactionRoot;
     }
 
-    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishSetMap = new HashMap<>();
+    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishSetMap =
+      new CopyOnWriteHashMap<>();
 
     public static void add_federate_name_soft_publish(String hlaClassName, String federateName) {
         if (!_classNameHandleMap.containsKey(hlaClassName)) {
@@ -2015,10 +3355,11 @@ public class InteractionRoot implements InteractionRootInterface {
             return;
         }
 
-        if (!_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
-            _hlaClassNameToFederateNameSoftPublishSetMap.put(hlaClassName, new HashSet<>());
+        // LOCK THE MAP SO THAT THE SET CANNOT BE REMOVED BEFORE federateName IS ADDED TO IT
+        synchronized(_hlaClassNameToFederateNameSoftPublishSetMap) {
+            _hlaClassNameToFederateNameSoftPublishSetMap
+              .computeIfAbsent(hlaClassName, key -> new CopyOnWriteHashSet<>()).add(federateName);
         }
-        _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName).add(federateName);
     }
 
     public void addFederateNameSoftPublish(String federateName) {
@@ -2026,12 +3367,14 @@ public class InteractionRoot implements InteractionRootInterface {
     }
 
     public static void remove_federate_name_soft_publish(String hlaClassName, String federateName) {
-        if (_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
-            Set<String> federateNameSoftPublishSet =
-              _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName);
-            federateNameSoftPublishSet.remove(federateName);
-            if (federateNameSoftPublishSet.isEmpty()) {
-                _hlaClassNameToFederateNameSoftPublishSetMap.remove(hlaClassName);
+        synchronized(_hlaClassNameToFederateNameSoftPublishSetMap) {
+            if (_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
+                Set<String> federateNameSoftPublishSet =
+                  _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName);
+                federateNameSoftPublishSet.remove(federateName);
+                if (federateNameSoftPublishSet.isEmpty()) {
+                    _hlaClassNameToFederateNameSoftPublishSetMap.remove(hlaClassName);
+                }
             }
         }
     }
@@ -2041,8 +3384,8 @@ public class InteractionRoot implements InteractionRootInterface {
     }
 
     public Set<String> get_federate_name_soft_publish_set(String hlaClassName) {
-        return _hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName) ?
-          new HashSet<>(_hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName)) : new HashSet<>();
+        Set<String> federateNameSet = _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName);
+        return federateNameSet == null ? new HashSet<>() : new HashSet<>(federateNameSet);
     }
 
     public Set<String> getFederateNameSoftPublishSet() {
@@ -2110,6 +3453,12 @@ public class InteractionRoot implements InteractionRootInterface {
     }
 
     public static void readFederateDynamicMessageClasses(Set<String> dynamicHlaClassNameSet) {
+        synchronized(_registryWriteLock) {
+            read_federate_dynamic_message_classes(dynamicHlaClassNameSet);
+        }
+    }
+
+    private static void read_federate_dynamic_message_classes(Set<String> dynamicHlaClassNameSet) {
 
         if (federationJson == null) {
             logger.warn("readFederateDynamicMessageClasses:  no federation messaging loaded.");
@@ -2144,6 +3493,7 @@ public class InteractionRoot implements InteractionRootInterface {
             _hlaClassNameSet.add(hlaClassName);
 
             Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
+            Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
 
             JSONObject messagingPropertyDataMap = federationMessaging.getJSONObject(hlaClassName);
             for(String propertyName: messagingPropertyDataMap.keySet()) {
@@ -2154,10 +3504,13 @@ public class InteractionRoot implements InteractionRootInterface {
                 if (!typeDataMap.getBoolean("Hidden")) {
                     String propertyTypeString = typeDataMap.getString("ParameterType");
                     Object initialValue = _typeInitialValueMap.get(propertyTypeString);
-                    _classAndPropertyNameInitialValueMap.put(classAndPropertyName, initialValue);
+                    classAndPropertyNameInitialValueMap.put(classAndPropertyName, initialValue);
                 }
             }
 
+            // ONE putAll PER CLASS, AS EACH WRITE TO THE COPY-ON-WRITE MAP COPIES IT
+            _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
+
             _classNamePropertyNameSetMap.put(hlaClassName, classAndPropertyNameSet);
 
             _completeClassAndPropertyNameSet.addAll(classAndPropertyNameSet);
@@ -2201,14 +3554,21 @@ public class InteractionRoot implements InteractionRootInterface {
     }
 
     private static boolean loadDynamicHlaClass(String hlaClassName, RTIambassador rtiAmbassador) {
-        if (!_classNameHandleMap.containsKey(hlaClassName)) {
-            if (!_hlaClassNameSet.contains(hlaClassName)) {
-                readFederateDynamicMessageClass(hlaClassName);
+        if (_classNameHandleMap.containsKey(hlaClassName)) {
+            return true;
+        }
+
+        synchronized(_registryWriteLock) {
+            // CHECK AGAIN:  ANOTHER THREAD MAY HAVE LOADED THE CLASS WHILE THIS ONE WAITED FOR THE LOCK
+            if (!_classNameHandleMap.containsKey(hlaClassName)) {
                 if (!_hlaClassNameSet.contains(hlaClassName)) {
-                    return false;
+                    readFederateDynamicMessageClass(hlaClassName);
+                    if (!_hlaClassNameSet.contains(hlaClassName)) {
+                        return false;
+                    }
                 }
+                init(hlaClassName, rtiAmbassador);
             }
-            init(hlaClassName, rtiAmbassador);
         }
         return true;
     }
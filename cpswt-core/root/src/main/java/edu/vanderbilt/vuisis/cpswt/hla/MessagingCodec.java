@@ -0,0 +1,86 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+/**
+ * A MessagingCodec encodes the values of interaction parameters and object attributes into the
+ * byte arrays that are sent through the RTI, and decodes received byte arrays back into values.
+ * <p/>
+ * All federates in a federation must use the same codec.  The codec is selected for a federate
+ * with InteractionRoot.set_messaging_codec and ObjectRoot.set_messaging_codec, usually from the
+ * "messagingCodec" federate parameter.  The default is the "text" codec.  The codec is shared by
+ * all of the federates in a JVM.
+ */
+public interface MessagingCodec {
+
+    /**
+     * Returns the name by which this codec is selected, e.g. "text" or "binary".
+     *
+     * @return the name of this codec
+     */
+    String getName();
+
+    /**
+     * Encodes a parameter or attribute value.
+     *
+     * @param value the value to encode
+     * @return the encoded value
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a parameter or attribute value from the given range of a byte array.
+     *
+     * @param bytes array containing the encoded value
+     * @param offset position of the encoded value in "bytes"
+     * @param length length of the encoded value
+     * @param type type of the values of the parameter or attribute, e.g. Double.class or String.class
+     * @return the decoded value, which is either of type "type", or a String that must be converted
+     * to "type", or null if the encoded value is malformed
+     */
+    Object decode(byte[] bytes, int offset, int length, Class<?> type);
+
+    /**
+     * Returns the codec with the given name.
+     *
+     * @param name name of the codec ("text" or "binary")
+     * @return the codec whose name is "name", or null if there is no such codec
+     */
+    static MessagingCodec get_messaging_codec(String name) {
+        if (TextMessagingCodec.NAME.equalsIgnoreCase(name)) {
+            return TextMessagingCodec.INSTANCE;
+        }
+        if (BinaryMessagingCodec.NAME.equalsIgnoreCase(name)) {
+            return BinaryMessagingCodec.INSTANCE;
+        }
+        return null;
+    }
+}
@@ -40,16 +40,21 @@ import hla.rti.jlc.RtiFactoryFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import java.io.File;
 import java.io.FileReader;
@@ -61,7 +66,10 @@ import org.json.JSONTokener;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import edu.vanderbilt.vuisis.cpswt.utils.CopyOnWriteHashMap;
+import edu.vanderbilt.vuisis.cpswt.utils.CopyOnWriteHashSet;
 import edu.vanderbilt.vuisis.cpswt.utils.CpswtUtils;
+import edu.vanderbilt.vuisis.cpswt.utils.UniqueIdGenerator;
 
 import org.portico.impl.hla13.types.DoubleTime;
 
@@ -93,13 +101,18 @@ public class ObjectRoot implements ObjectRootInterface {
 
     private static final Logger logger = LogManager.getLogger();
 
-    private static int _globalUniqueID = 0;
-    private static int generateUniqueID() {
-        return _globalUniqueID++;
+    //-------------------------------------------------------------------------------
+    // UNIQUE IDS ARE 64-BIT, AND ARE GENERATED WITHOUT CONTENTION FROM ANY THREAD:  THE
+    // IDS GENERATED BY A GIVEN THREAD INCREASE, BUT ARE NOT ORDERED WITH THOSE OF OTHER
+    // THREADS (SEE UniqueIdGenerator)
+    //-------------------------------------------------------------------------------
+    private static final UniqueIdGenerator _uniqueIdGenerator = new UniqueIdGenerator();
+    private static long generateUniqueID() {
+        return _uniqueIdGenerator.next();
     }
 
-    private final int _uniqueID = generateUniqueID();
-    public int getUniqueID() {
+    private final long _uniqueID = generateUniqueID();
+    public long getUniqueID() {
         return _uniqueID;
     }
 
@@ -122,7 +135,7 @@ public class ObjectRoot implements ObjectRootInterface {
         }
     }
 
-    private static final Map<String, Boolean> _hlaClassNameIsInitializedMap = new HashMap<>();
+    private static final Map<String, Boolean> _hlaClassNameIsInitializedMap = new CopyOnWriteHashMap<>();
 
     private static Boolean get_hla_class_name_is_initialized(String hlaClassName) {
         return _hlaClassNameIsInitializedMap.getOrDefault(hlaClassName, false);
@@ -132,19 +145,47 @@ public class ObjectRoot implements ObjectRootInterface {
         _hlaClassNameIsInitializedMap.put(hlaClassName, true);
     }
 
-    private static boolean _isInitialized = false;
+    //-------------------------------------------------------------------------------------------------
+    // THE CLASS METADATA MAPS AND SETS ARE COPY-ON-WRITE, SO THEY ARE READ WITHOUT LOCKING.  OPERATIONS
+    // THAT REGISTER CLASSES IN THEM (init AND THE LOADING OF DYNAMIC MESSAGING CLASSES) ARE SERIALIZED
+    // BY _registryWriteLock, SO THAT A CLASS IS NEVER INITIALIZED BY TWO THREADS AT ONCE.
+    //-------------------------------------------------------------------------------------------------
+    private static final Object _registryWriteLock = new Object();
+
+    private static volatile boolean _isInitialized = false;
     public static void init(RTIambassador rtiAmbassador) {
-        if (_isInitialized) {
-            return;
-        }
-        _isInitialized = true;
+        synchronized(_registryWriteLock) {
+            if (_isInitialized) {
+                return;
+            }
+            _isInitialized = true;
 
-        for(String hlaClassName: _hlaClassNameSet) {
-            init(hlaClassName, rtiAmbassador);
+            for(String hlaClassName: _hlaClassNameSet) {
+                init(hlaClassName, rtiAmbassador);
+            }
         }
     }
 
     public static void init(String hlaClassName, RTIambassador rtiAmbassador) {
+        synchronized(_registryWriteLock) {
+            init_hla_class(hlaClassName, rtiAmbassador);
+        }
+    }
+
+    private static void init_hla_class(String hlaClassName, RTIambassador rtiAmbassador) {
+
+        //---------------------------------------------------------------------------------
+        // THE HANDLES OF THE CLASSES ARE ADDED TO _classNameHandleMap ONLY AFTER ALL OF THEIR
+        // PROPERTIES ARE INITIALIZED, SO A THREAD THAT FINDS A CLASS HANDLE IN
+        // _classNameHandleMap ALSO FINDS THE HANDLES OF ITS PROPERTIES
+        //
+        // THE PROPERTY HANDLES ARE ALSO COLLECTED LOCALLY, AND ADDED WITH ONE putAll PER MAP, AS
+        // EACH WRITE TO A COPY-ON-WRITE MAP COPIES THE WHOLE MAP
+        //---------------------------------------------------------------------------------
+        Map<String, Integer> classNameHandleMap = new HashMap<>();
+        Map<ClassAndPropertyName, Integer> classAndPropertyNameHandleMap = new HashMap<>();
+        Map<Integer, ClassAndPropertyName> handleClassAndPropertyNameMap = new HashMap<>();
+
 
         //-------------------------------------------------------------------------
         // _hlaClassNameSet IS POPULATED BY
@@ -174,7 +215,7 @@ public class ObjectRoot implements ObjectRootInterface {
             while(isNotInitialized) {
                 try {
                     classHandle = rtiAmbassador.getObjectClassHandle(localHlaClassName);
-                    _classNameHandleMap.put(localHlaClassName, classHandle);
+                    classNameHandleMap.put(localHlaClassName, classHandle);
                     _classHandleNameMap.put(classHandle, localHlaClassName);
                     isNotInitialized = false;
                 } catch (FederateNotExecutionMember e) {
@@ -203,8 +244,8 @@ public class ObjectRoot implements ObjectRootInterface {
                 while(isNotInitialized) {
                     try {
                         int propertyHandle = rtiAmbassador.getAttributeHandle(classAndPropertyName.getPropertyName(), classHandle);
-                        _classAndPropertyNameHandleMap.put(classAndPropertyName, propertyHandle);
-                        _handleClassAndPropertyNameMap.put(propertyHandle, classAndPropertyName);
+                        classAndPropertyNameHandleMap.put(classAndPropertyName, propertyHandle);
+                        handleClassAndPropertyNameMap.put(propertyHandle, classAndPropertyName);
                         isNotInitialized = false;
                     } catch (FederateNotExecutionMember e) {
                         logger.error("could not initialize: Federate Not Execution Member", e);
@@ -232,6 +273,24 @@ public class ObjectRoot implements ObjectRootInterface {
             AttributeHandleSet subscribedAttributeHandleSet = _rtiFactory.createAttributeHandleSet();
             _classNameSubscribedAttributeHandleSetMap.put(localHlaClassName, subscribedAttributeHandleSet);
         }
+
+        _classAndPropertyNameHandleMap.putAll(classAndPropertyNameHandleMap);
+        _handleClassAndPropertyNameMap.putAll(handleClassAndPropertyNameMap);
+
+        //-------------------------------------------------------------------------------
+        // ALL PROPERTY HANDLES OF hlaClassName AND ITS SUPERCLASSES ARE NOW KNOWN, SO THE
+        // PROPERTY INDEX OF EACH OF THESE CLASSES CAN RESOLVE ITS SLOTS TO HANDLES
+        //-------------------------------------------------------------------------------
+        hlaClassNameComponents = new ArrayList<>(Arrays.asList(hlaClassName.split("\\.")));
+        while(!hlaClassNameComponents.isEmpty()) {
+            PropertyIndex propertyIndex = get_property_index(String.join(".", hlaClassNameComponents));
+            if (propertyIndex != null) {
+                propertyIndex.updateHandles();
+            }
+            hlaClassNameComponents.remove(hlaClassNameComponents.size() - 1);
+        }
+
+        _classNameHandleMap.putAll(classNameHandleMap);
     }
 
     protected static void commonInit(String hlaClassName) {
@@ -252,15 +311,31 @@ public class ObjectRoot implements ObjectRootInterface {
         // - NO PUBLISHED ATTRIBUTE HANDLES/NAMES
         // - NO SUBSCRIBED ATTRIBUTE HANDLES/NAMES
         // - NO SOFT SUBSCRIBED ATTRIBUTE HANDLES/NAMES
+        //
+        // THE ATTRIBUTE-NAME SETS ARE COPY-ON-WRITE, AS THEY ARE CHANGED BY
+        // (UN)PUBLISH/(UN)SUBSCRIBE WHILE THEY MAY BE READ BY OTHER THREADS
         //-------------------------------------------------------
-        Set<ClassAndPropertyName> publishedAttributeNameSet = new HashSet<>();
+        Set<ClassAndPropertyName> publishedAttributeNameSet = new CopyOnWriteHashSet<>();
         _classNamePublishedAttributeNameSetMap.put(hlaClassName, publishedAttributeNameSet);
 
-        Set<ClassAndPropertyName> subscribedAttributeNameSet = new HashSet<>();
+        Set<ClassAndPropertyName> subscribedAttributeNameSet = new CopyOnWriteHashSet<>();
         _classNameSubscribedAttributeNameSetMap.put(hlaClassName, subscribedAttributeNameSet);
 
-        Set<ClassAndPropertyName> softSubscribedAttributeNameSet = new HashSet<>();
+        Set<ClassAndPropertyName> softSubscribedAttributeNameSet = new CopyOnWriteHashSet<>();
         _classNameSoftSubscribedAttributeNameSetMap.put(hlaClassName, softSubscribedAttributeNameSet);
+
+        //-----------------------------------------------------------------------
+        // ASSIGN A SLOT TO EACH OF THE PROPERTIES (INCLUDING INHERITED PROPERTIES)
+        // OF THE CLASS
+        //-----------------------------------------------------------------------
+        _classNamePropertyIndexMap.put(
+          hlaClassName, new PropertyIndex(hlaClassName, _allClassNamePropertyNameSetMap.get(hlaClassName))
+        );
+
+        //-----------------------------------------------------------------
+        // CHOOSE THE STRING-VALUE CONVERTER OF EACH PROPERTY OF THE CLASS
+        //-----------------------------------------------------------------
+        add_string_value_converters(_allClassNamePropertyNameSetMap.get(hlaClassName));
     }
 
 
@@ -271,23 +346,50 @@ public class ObjectRoot implements ObjectRootInterface {
     //-------------------------------------------------------------------------------------------
     private String _instanceHlaClassName = null;
 
+    //--------------------------------------------------------------------------------------
+    // _instanceHlaClassDescriptor IS THE (INTERNED) HlaClassDescriptor OF _instanceHlaClassName,
+    // WHICH MAKES CHECKING WHETHER THIS INSTANCE'S CLASS IS DERIVED FROM ANOTHER CLASS O(1)
+    //--------------------------------------------------------------------------------------
+    private HlaClassDescriptor _instanceHlaClassDescriptor = null;
+
     public String getInstanceHlaClassName() {
         return _instanceHlaClassName;
     }
 
+    public HlaClassDescriptor getInstanceHlaClassDescriptor() {
+        return _instanceHlaClassDescriptor;
+    }
+
     public boolean isInstanceOfHlaClass( String hlaClassName ) {
         return getInstanceHlaClassName().equals( hlaClassName );
     }
 
+    public boolean isInstanceOfHlaClass( HlaClassDescriptor hlaClassDescriptor ) {
+        return _instanceHlaClassDescriptor == hlaClassDescriptor;
+    }
+
     public boolean isInstanceHlaClassDerivedFromHlaClass( String hlaClassName ) {
-        String prefix = hlaClassName + ".";
-        return isInstanceOfHlaClass( hlaClassName ) || getInstanceHlaClassName().startsWith( prefix );
+        // A CLASS THAT HAS NO DESCRIPTOR IS NOT A SUPERCLASS OF ANY INSTANCE'S CLASS
+        HlaClassDescriptor hlaClassDescriptor = HlaClassDescriptor.find_hla_class_descriptor( hlaClassName );
+        return hlaClassDescriptor != null && isInstanceHlaClassDerivedFromHlaClass( hlaClassDescriptor );
+    }
+
+    public boolean isInstanceHlaClassDerivedFromHlaClass( HlaClassDescriptor hlaClassDescriptor ) {
+        return _instanceHlaClassDescriptor.isDerivedFrom( hlaClassDescriptor );
     }
 
     protected void setInstanceHlaClassName(String instanceHlaClassName) {
         _instanceHlaClassName = instanceHlaClassName;
+        _instanceHlaClassDescriptor = HlaClassDescriptor.get_hla_class_descriptor(instanceHlaClassName);
+        _propertyIndex = null;
     }
 
+    //---------------------------------------------------------------------------------------------
+    // _propertyIndex IS THE PropertyIndex OF _instanceHlaClassName.  IT IS LOOKED UP ON FIRST USE,
+    // AS INSTANCES MAY BE CREATED (E.G. IN STATIC INITIALIZATION BLOCKS) BEFORE THE INDEX EXISTS.
+    //---------------------------------------------------------------------------------------------
+    private PropertyIndex _propertyIndex = null;
+
     public static String get_simple_class_name(String hlaClassName) {
         if (hlaClassName == null) {
             return null;
@@ -357,14 +459,6 @@ public class ObjectRoot implements ObjectRootInterface {
         }
     }
 
-    private static String getStringFromByteArray(byte[] value) {
-        String valueAsString = new String( value, 0, value.length );
-        if (valueAsString.length() > 0 && valueAsString.charAt(valueAsString.length() - 1) == '\0') {
-            valueAsString = valueAsString.substring(0, valueAsString.length() - 1);
-        }
-        return valueAsString;
-    }
-
     private static Map<ClassAndPropertyName, Object> getClassAndPropertyNameValueMap(ReflectedAttributes propertyMap) {
         Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
 
@@ -372,10 +466,12 @@ public class ObjectRoot implements ObjectRootInterface {
         for( int ix = 0 ; ix < size ; ++ix ) {
             try {
                 int handle = propertyMap.getAttributeHandle(ix);
-                byte[] byteArray = propertyMap.getValue(ix);
-                String valueAsString = getStringFromByteArray(byteArray);
+                // getValueReference AVOIDS THE COPY MADE BY getValue
+                byte[] byteArray = propertyMap.getValueReference(ix);
                 ClassAndPropertyName classAndPropertyName = _handleClassAndPropertyNameMap.get(handle);
-                Object newValue = getValueForClassAndPropertyName(classAndPropertyName, valueAsString);
+                Object newValue = getValueForClassAndPropertyName(
+                  classAndPropertyName, decode_value(classAndPropertyName, byteArray, propertyMap.getValueLength(ix))
+                );
                 classAndPropertyNameValueMap.put(classAndPropertyName, new Attribute<>(newValue));
             } catch ( Exception e ) {
                 logger.error( "setAttributes: Exception caught!" );
@@ -400,8 +496,8 @@ public class ObjectRoot implements ObjectRootInterface {
      * could miss several reflections.
      * <p>
      * Instead, this class allows a federate thread to apply the reflections
-     * itself.  The thread calls either {@link SynchronizedFederate#getNextObjectReflector()}
-     * or {@link SynchronizedFederate#getNextObjectReflectorNoWait()} to get the
+     * itself.  The thread calls either {@link SynchronizedFederate#nextObjectReflector()}
+     * or {@link SynchronizedFederate#nextObjectReflectorNoWait()} to get the
      * next ObjectReflector.  It then calls {@link ObjectReflector#reflect()}
      * on this ObjectReflector to apply the attribute reflections for the object
      * class instance it contains, and then calls {@link ObjectReflector#getObjectRoot()}
@@ -487,6 +583,22 @@ public class ObjectRoot implements ObjectRootInterface {
             return _classAndPropertyNameValueMap;
         }
 
+        public int getObjectHandle() {
+            return _objectHandle;
+        }
+
+        /**
+         * Adds the attribute reflections of objectReflector, a later reflection for the same object
+         * class instance, to this ObjectReflector, replacing any reflections this ObjectReflector
+         * already has for the same attributes.  The time of this ObjectReflector is not changed.
+         *
+         * @param objectReflector later reflection for the same object class instance
+         */
+        public void merge(ObjectReflector objectReflector) {
+            _classAndPropertyNameValueMap.putAll(objectReflector._classAndPropertyNameValueMap);
+            _federateSequence = objectReflector._federateSequence;
+        }
+
         public String getHlaClassName() {
             return _hlaClassName;
         }
@@ -540,17 +652,46 @@ public class ObjectRoot implements ObjectRootInterface {
             return _time;
         }
 
-        public int getUniqueID() {
+        public long getUniqueID() {
             return getObjectRoot().getUniqueID();
         }
+
+        //--------------------------------------------------------------------------------------------
+        // SORT KEY:  THE ORDER OF THIS ObjectReflector IN A TIMESTAMP-ORDER QUEUE -- (TIME, UNIQUE ID
+        // OF ITS OBJECT).  SET ONCE, WHEN THE ObjectReflector IS QUEUED, SO THAT COMPARISONS ONLY
+        // COMPARE PRIMITIVES.
+        //--------------------------------------------------------------------------------------------
+        private boolean _hasSortKey = false;
+        private double _sortTime;
+        private long _sortUniqueID;
+
+        /**
+         * Sets the sort key of this ObjectReflector from its current time and the unique id of its object
+         * (0 if its object has not been discovered).
+         */
+        public void setSortKey() {
+            ObjectRoot objectRoot = getObjectRoot();
+            _sortTime = _time;
+            _sortUniqueID = objectRoot == null ? 0 : objectRoot.getUniqueID();
+            _hasSortKey = true;
+        }
+
+        public boolean hasSortKey() {
+            return _hasSortKey;
+        }
     }
 
     public static class ObjectReflectorComparator implements Comparator<ObjectReflector> {
         public int compare(ObjectReflector objectReflection1, ObjectReflector objectReflection2) {
-            if (objectReflection1.getTime() < objectReflection2.getTime()) return -1;
-            if (objectReflection1.getTime() > objectReflection2.getTime()) return 1;
+            if (!objectReflection1._hasSortKey) objectReflection1.setSortKey();
+            if (!objectReflection2._hasSortKey) objectReflection2.setSortKey();
+
+            final int timeCompare = Double.compare(objectReflection1._sortTime, objectReflection2._sortTime);
+            if (timeCompare != 0) {
+                return timeCompare;
+            }
 
-            return Integer.compare(objectReflection1.getUniqueID(), objectReflection2.getUniqueID());
+            return Long.compare(objectReflection1._sortUniqueID, objectReflection2._sortUniqueID);
         }
     }
 
@@ -565,9 +706,9 @@ public class ObjectRoot implements ObjectRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Set<String> _hlaClassNameSet = new HashSet<>();
+    protected static Set<String> _hlaClassNameSet = new CopyOnWriteHashSet<>();
 
-    protected static Set<ClassAndPropertyName> _completeClassAndPropertyNameSet = new HashSet<>();
+    protected static Set<ClassAndPropertyName> _completeClassAndPropertyNameSet = new CopyOnWriteHashSet<>();
 
     //--------------------------------------------------------------
     // METHODS THAT USE HLA CLASS-NAME-SET
@@ -594,7 +735,7 @@ public class ObjectRoot implements ObjectRootInterface {
     //---------------------------
     // DYNAMIC HLA CLASS-NAME SET
     //---------------------------
-    private static final Set<String> _dynamicHlaClassNameSet = new HashSet<>();
+    private static final Set<String> _dynamicHlaClassNameSet = new CopyOnWriteHashSet<>();
 
     //--------------------------------------------
     // METHODS THAT USE DYNAMIC HLA CLASS-NAME SET
@@ -622,7 +763,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _classNamePropertyNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _classNamePropertyNameSetMap = new CopyOnWriteHashMap<>();
 
     //---------------------------------------------------------
     // METHODS THAT USE CLASS-NAME PROPERTY-NAME-SET MAP
@@ -665,7 +806,8 @@ public class ObjectRoot implements ObjectRootInterface {
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     // - THE DYNAMIC-MESSAGE-CLASSES FILE
     //-------------------------------------------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _allClassNamePropertyNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _allClassNamePropertyNameSetMap =
+      new CopyOnWriteHashMap<>();
 
     //----------------------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME ALL-PROPERTY-NAME-SET MAP
@@ -695,13 +837,202 @@ public class ObjectRoot implements ObjectRootInterface {
     // END CLASS-NAME All-PROPERTY-NAME-SET MAP
     //-------------------------------------------
 
+    //-------------------------------------------------------------------------
+    // PROPERTY INDEX
+    //
+    // A PropertyIndex IS THE RESOLVED PROPERTY TABLE OF A SINGLE HLA CLASS.
+    // EVERY ATTRIBUTE VISIBLE IN THE CLASS (INCLUDING THOSE INHERITED FROM ITS
+    // SUPERCLASSES) IS ASSIGNED A DENSE SLOT INDEX IN [0, size()), SO THAT
+    // FINDING AN ATTRIBUTE BY NAME OR BY HANDLE IS A SINGLE PROBE THAT DOES NOT
+    // ALLOCATE.
+    //-------------------------------------------------------------------------
+    public static class PropertyIndex {
+
+        private final String _hlaClassName;
+
+        private final ClassAndPropertyName[] _slotClassAndPropertyNameArray;
+
+        private final Map<String, Integer> _propertyNameSlotMap = new HashMap<>();
+
+        private final Map<ClassAndPropertyName, Integer> _classAndPropertyNameSlotMap = new HashMap<>();
+
+        // SLOT -> PROPERTY HANDLE (RTI ASSIGNED), -1 UNTIL init(String hlaClassName, RTIambassador) IS CALLED
+        private final int[] _slotHandleArray;
+
+        // (HANDLE << 32 | SLOT) PAIRS, SORTED BY HANDLE, FOR LOOKUP OF A SLOT BY ITS PROPERTY HANDLE
+        // volatile, AS IT IS REPLACED BY updateHandles WHEN A CLASS IS LOADED DYNAMICALLY, WHILE OTHER
+        // THREADS MAY BE DECODING
+        private volatile long[] _handleSlotArray = new long[0];
+
+        // SLOT -> TYPE OF THE PROPERTY'S VALUE.  PROPERTIES OF PRIMITIVE TYPE (AS DETERMINED BY THEIR INITIAL
+        // VALUE) HAVE THE PRIMITIVE TYPE, E.G. double.class, SO THEIR VALUES CAN BE HELD UNBOXED
+        private final Class<?>[] _slotTypeArray;
+
+        private static final Map<Class<?>, Class<?>> _wrapperPrimitiveTypeMap = new HashMap<>();
+        static {
+            _wrapperPrimitiveTypeMap.put(Boolean.class, boolean.class);
+            _wrapperPrimitiveTypeMap.put(Byte.class, byte.class);
+            _wrapperPrimitiveTypeMap.put(Character.class, char.class);
+            _wrapperPrimitiveTypeMap.put(Double.class, double.class);
+            _wrapperPrimitiveTypeMap.put(Float.class, float.class);
+            _wrapperPrimitiveTypeMap.put(Integer.class, int.class);
+            _wrapperPrimitiveTypeMap.put(Long.class, long.class);
+            _wrapperPrimitiveTypeMap.put(Short.class, short.class);
+        }
+
+        private static Class<?> get_slot_type(Object value) {
+            if (value == null) {
+                return Object.class;
+            }
+            return _wrapperPrimitiveTypeMap.getOrDefault(value.getClass(), value.getClass());
+        }
+
+        private PropertyIndex(String hlaClassName, Set<ClassAndPropertyName> allClassAndPropertyNameSet) {
+            _hlaClassName = hlaClassName;
+
+            List<ClassAndPropertyName> classAndPropertyNameList = new ArrayList<>(allClassAndPropertyNameSet);
+            Collections.sort(classAndPropertyNameList);
+
+            _slotClassAndPropertyNameArray = classAndPropertyNameList.toArray(new ClassAndPropertyName[0]);
+            _slotHandleArray = new int[_slotClassAndPropertyNameArray.length];
+            Arrays.fill(_slotHandleArray, -1);
+
+            _slotTypeArray = new Class<?>[_slotClassAndPropertyNameArray.length];
+            for(int slot = 0 ; slot < _slotClassAndPropertyNameArray.length ; ++slot) {
+                ClassAndPropertyName classAndPropertyName = _slotClassAndPropertyNameArray[slot];
+                Object initialValue = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
+                if (initialValue instanceof Attribute) {
+                    initialValue = ((Attribute<?>)initialValue).getValue();
+                }
+                _slotTypeArray[slot] = get_slot_type(initialValue);
+            }
+
+            // ClassAndPropertyName SORTS MORE-DERIVED CLASSES FIRST, SO AN ATTRIBUTE NAME THAT IS
+            // DEFINED IN MORE THAN ONE CLASS RESOLVES TO ITS MOST-DERIVED DEFINITION (AS IN findProperty)
+            for(int slot = 0 ; slot < _slotClassAndPropertyNameArray.length ; ++slot) {
+                ClassAndPropertyName classAndPropertyName = _slotClassAndPropertyNameArray[slot];
+                _classAndPropertyNameSlotMap.put(classAndPropertyName, slot);
+                _propertyNameSlotMap.putIfAbsent(classAndPropertyName.getPropertyName(), slot);
+            }
+        }
+
+        public String getHlaClassName() {
+            return _hlaClassName;
+        }
+
+        public int size() {
+            return _slotClassAndPropertyNameArray.length;
+        }
+
+        public int getSlot(String propertyName) {
+            Integer slot = _propertyNameSlotMap.get(propertyName);
+            return slot == null ? -1 : slot;
+        }
+
+        public int getSlot(ClassAndPropertyName classAndPropertyName) {
+            Integer slot = _classAndPropertyNameSlotMap.get(classAndPropertyName);
+            return slot == null ? -1 : slot;
+        }
+
+        public int getSlotForHandle(int propertyHandle) {
+            long[] handleSlotArray = _handleSlotArray;
+
+            int low = 0;
+            int high = handleSlotArray.length - 1;
+            while(low <= high) {
+                int middle = (low + high) >>> 1;
+                int middleHandle = (int)(handleSlotArray[middle] >> 32);
+                if (middleHandle < propertyHandle) {
+                    low = middle + 1;
+                } else if (middleHandle > propertyHandle) {
+                    high = middle - 1;
+                } else {
+                    return (int)handleSlotArray[middle];
+                }
+            }
+            return -1;
+        }
+
+        public ClassAndPropertyName getClassAndPropertyName(int slot) {
+            return _slotClassAndPropertyNameArray[slot];
+        }
+
+        public ClassAndPropertyName getClassAndPropertyName(String propertyName) {
+            int slot = getSlot(propertyName);
+            return slot < 0 ? null : _slotClassAndPropertyNameArray[slot];
+        }
+
+        public int getHandle(int slot) {
+            return _slotHandleArray[slot];
+        }
+
+        public Class<?> getSlotType(int slot) {
+            return _slotTypeArray[slot];
+        }
+
+        public boolean isPrimitiveSlot(int slot) {
+            return _slotTypeArray[slot].isPrimitive();
+        }
+
+        // TRUE IF value CAN BE HELD UNBOXED IN slot, I.E. IT IS THE WRAPPER OF THE SLOT'S PRIMITIVE TYPE
+        public boolean isUnboxable(int slot, Object value) {
+            return value != null && _slotTypeArray[slot].isPrimitive() &&
+              _wrapperPrimitiveTypeMap.get(value.getClass()) == _slotTypeArray[slot];
+        }
+
+        private void updateHandles() {
+            int size = _slotClassAndPropertyNameArray.length;
+            long[] handleSlotArray = new long[size];
+            int count = 0;
+            for(int slot = 0 ; slot < size ; ++slot) {
+                Integer propertyHandle = _classAndPropertyNameHandleMap.get(_slotClassAndPropertyNameArray[slot]);
+                if (propertyHandle != null) {
+                    _slotHandleArray[slot] = propertyHandle;
+                    handleSlotArray[count++] = ((long)propertyHandle << 32) | slot;
+                }
+            }
+            handleSlotArray = Arrays.copyOf(handleSlotArray, count);
+            Arrays.sort(handleSlotArray);
+            _handleSlotArray = handleSlotArray;
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    // CLASS-NAME PROPERTY-INDEX MAP
+    //
+    // POPULATED BY:
+    // - commonInit(String hlaClassName) ABOVE
+    //
+    // PROPERTY HANDLES OF EACH PropertyIndex ARE FILLED IN BY:
+    // - init(String hlaClassName, RTIambassador rtiAmbassador) ABOVE
+    //-------------------------------------------------------------------------
+    protected static Map<String, PropertyIndex> _classNamePropertyIndexMap = new CopyOnWriteHashMap<>();
+
+    //--------------------------------------------------
+    // METHODS THAT USE CLASS-NAME PROPERTY-INDEX MAP
+    //--------------------------------------------------
+    public static PropertyIndex get_property_index(String hlaClassName) {
+        return _classNamePropertyIndexMap.getOrDefault(hlaClassName, null);
+    }
+
+    public PropertyIndex getPropertyIndex() {
+        if (_propertyIndex == null) {
+            _propertyIndex = get_property_index(getInstanceHlaClassName());
+        }
+        return _propertyIndex;
+    }
+
+    //-----------------------------------
+    // END CLASS-NAME PROPERTY-INDEX MAP
+    //-----------------------------------
+
     //----------------------------
     // CLASS-NAME CLASS-HANDLE MAP
     //
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------
-    protected static Map<String, Integer> _classNameHandleMap = new HashMap<>();
+    protected static Map<String, Integer> _classNameHandleMap = new CopyOnWriteHashMap<>();
 
     //---------------------------------------------
     // METHODS THAT USE CLASS-NAME CLASS-HANDLE MAP
@@ -735,7 +1066,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------
-    protected static Map<Integer, String> _classHandleNameMap = new HashMap<>();
+    protected static Map<Integer, String> _classHandleNameMap = new CopyOnWriteHashMap<>();
 
     //--------------------------------------------------
     // METHODS THAT USE ONLY CLASS-HANDLE CLASS-NAME MAP
@@ -851,7 +1182,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - STATIC INITIALIZATION BLOCKS IN THE DERIVED INTERACTION/OBJECT CLASSES
     //-------------------------------------------------------------------------
-    protected static Map<String, ObjectRoot> _hlaClassNameInstanceMap = new HashMap<>();
+    protected static Map<String, ObjectRoot> _hlaClassNameInstanceMap = new CopyOnWriteHashMap<>();
 
     //-----------------------------------------
     // METHODS THAT USE CLASS-NAME INSTANCE MAP
@@ -898,7 +1229,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //------------------------------
-    protected static final HashMap<String, Boolean> _classNamePublishStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNamePublishStatusMap = new CopyOnWriteHashMap<>();
 
     //-----------------------------------------------
     // METHODS THAT USE CLASS-NAME PUBLISH-STATUS MAP
@@ -938,7 +1269,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------
-    protected static final HashMap<String, Boolean> _classNameSubscribeStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNameSubscribeStatusMap = new CopyOnWriteHashMap<>();
 
     //-------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBE-STATUS MAP
@@ -979,7 +1310,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //-------------------------------------
-    protected static final HashMap<String, Boolean> _classNameSoftSubscribeStatusMap = new HashMap<>();
+    protected static final Map<String, Boolean> _classNameSoftSubscribeStatusMap = new CopyOnWriteHashMap<>();
 
     //------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SOFT-SUBSCRIBE-STATUS MAP
@@ -1022,7 +1353,8 @@ public class ObjectRoot implements ObjectRootInterface {
     // INITIALIZED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _classNamePublishedAttributeNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _classNamePublishedAttributeNameSetMap =
+      new CopyOnWriteHashMap<>();
 
     //---------------------------------------------------------
     // METHODS THAT USE CLASS-NAME PUBLISHED-ATTRIBUTE-NAME SET
@@ -1142,7 +1474,8 @@ public class ObjectRoot implements ObjectRootInterface {
     // INITIALIZED BY:
     // - init(RTIambassador) ABOVE
     //-----------------------------------------
-    protected static Map<String, Set<ClassAndPropertyName>> _classNameSubscribedAttributeNameSetMap = new HashMap<>();
+    protected static Map<String, Set<ClassAndPropertyName>> _classNameSubscribedAttributeNameSetMap =
+      new CopyOnWriteHashMap<>();
 
     //----------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBED-ATTRIBUTE-NAME SET
@@ -1222,7 +1555,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // - init(RTIambassador) ABOVE
     //----------------------------------------------
     protected static Map<String, Set<ClassAndPropertyName>> _classNameSoftSubscribedAttributeNameSetMap =
-            new HashMap<>();
+            new CopyOnWriteHashMap<>();
 
     //----------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBED-ATTRIBUTE-NAME SET
@@ -1316,7 +1649,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------------------
-    protected static Map<ClassAndPropertyName, Integer> _classAndPropertyNameHandleMap = new HashMap<>();
+    protected static Map<ClassAndPropertyName, Integer> _classAndPropertyNameHandleMap = new CopyOnWriteHashMap<>();
 
     //--------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME-PROPERTY-NAME PROPERTY-HANDLE MAP
@@ -1327,6 +1660,11 @@ public class ObjectRoot implements ObjectRootInterface {
 
     public static ClassAndPropertyName findProperty(String className, String propertyName) {
 
+        PropertyIndex propertyIndex = get_property_index(className);
+        if (propertyIndex != null) {
+            return propertyIndex.getClassAndPropertyName(propertyName);
+        }
+
         List<String> classNameComponents = new ArrayList<>(Arrays.asList(className.split("\\.")));
 
         while(!classNameComponents.isEmpty()) {
@@ -1352,6 +1690,14 @@ public class ObjectRoot implements ObjectRootInterface {
       */
     public static int get_attribute_handle(String hlaClassName, String propertyName) {
 
+        PropertyIndex propertyIndex = get_property_index(hlaClassName);
+        if (propertyIndex != null) {
+            int slot = propertyIndex.getSlot(propertyName);
+            if (slot >= 0 && propertyIndex.getHandle(slot) >= 0) {
+                return propertyIndex.getHandle(slot);
+            }
+        }
+
         ClassAndPropertyName key = findProperty(hlaClassName, propertyName);
 
         if (key == null) {
@@ -1371,17 +1717,7 @@ public class ObjectRoot implements ObjectRootInterface {
             int handle = _classAndPropertyNameHandleMap.get(key);
             Attribute<?> attribute = (Attribute<?>)classAndPropertyNameValueMap.get(key);
             if (attribute.getShouldBeUpdated(force)) {
-                Object value = attribute.getValue();
-                String stringValue;
-                if (value instanceof Boolean) {
-                    stringValue = (Boolean)value ? "1" : "0";
-                } else if (value instanceof Character) {
-                    stringValue = String.valueOf((short) ((Character) value).charValue());
-                } else {
-                    stringValue = value.toString();
-                }
-                byte[] byteArrayValue = stringValue.getBytes();
-                suppliedAttributes.add(handle, byteArrayValue );
+                suppliedAttributes.add(handle, encode_value(attribute.getValue()));
                 attribute.setUpdateSent();
             }
         }
@@ -1389,6 +1725,44 @@ public class ObjectRoot implements ObjectRootInterface {
         return suppliedAttributes;
     }
 
+    //-------------------------------------------------------------------------------------------
+    // MESSAGING CODEC
+    //
+    // ENCODES/DECODES THE VALUES OF ATTRIBUTES TO/FROM THE BYTE ARRAYS EXCHANGED THROUGH THE RTI.
+    // ALL FEDERATES IN A FEDERATION MUST USE THE SAME CODEC.
+    //-------------------------------------------------------------------------------------------
+    private static volatile MessagingCodec _messagingCodec = TextMessagingCodec.INSTANCE;
+
+    public static MessagingCodec get_messaging_codec() {
+        return _messagingCodec;
+    }
+
+    public static void set_messaging_codec(MessagingCodec messagingCodec) {
+        _messagingCodec = messagingCodec;
+    }
+
+    private static byte[] encode_value(Object value) {
+        return _messagingCodec.encode(value);
+    }
+
+    //---------------------------------------------------------------------------------------
+    // DECODES THE FIRST "length" BYTES OF "value" IN PLACE.  RETURNS THE DECODED VALUE, OR, IF
+    // THE CODEC COULD ONLY DECODE IT TO TEXT, THE DECODED STRING, WHICH IS CONVERTED TO THE
+    // TYPE OF THE ATTRIBUTE BY getValueForClassAndPropertyName
+    //---------------------------------------------------------------------------------------
+    private static Object decode_value(ClassAndPropertyName classAndPropertyName, byte[] value, int length) {
+        Object initialValue = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
+        if (initialValue instanceof Attribute) {
+            initialValue = ((Attribute<?>)initialValue).getValue();
+        }
+        Class<?> type = initialValue == null ? String.class : initialValue.getClass();
+        return _messagingCodec.decode(value, 0, length, type);
+    }
+
+    //-------------------
+    // END MESSAGING CODEC
+    //-------------------
+
     protected Set<ClassAndPropertyName> getAttributesToBeUpdatedClassAndPropertyNameSet() {
         Set<ClassAndPropertyName> attributesToBeUpdatedSet = new HashSet<>();
         for(ClassAndPropertyName key: _classNamePublishedAttributeNameSetMap.get(getInstanceHlaClassName())) {
@@ -1419,7 +1793,7 @@ public class ObjectRoot implements ObjectRootInterface {
     // POPULATED BY:
     // - init(RTIambassador) ABOVE
     //--------------------------------------------
-    protected static Map<Integer, ClassAndPropertyName> _handleClassAndPropertyNameMap = new HashMap<>();
+    protected static Map<Integer, ClassAndPropertyName> _handleClassAndPropertyNameMap = new CopyOnWriteHashMap<>();
 
     //-------------------------------------------------------------
     // METHODS THAT USE PROPERTY-HANDLE CLASS-AND-PROPERTY-NAME MAP
@@ -1451,7 +1825,10 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     public void setAttribute(int propertyHandle, Object value) {
-        ClassAndPropertyName classAndPropertyName = _handleClassAndPropertyNameMap.get(propertyHandle);
+        PropertyIndex propertyIndex = getPropertyIndex();
+        int slot = propertyIndex == null ? -1 : propertyIndex.getSlotForHandle(propertyHandle);
+        ClassAndPropertyName classAndPropertyName = slot >= 0 ?
+          propertyIndex.getClassAndPropertyName(slot) : _handleClassAndPropertyNameMap.get(propertyHandle);
         if (classAndPropertyName == null) {
             logger.error(
               "setAttribute(int, Object value): propertyHandle {} does not exist.",
@@ -1481,6 +1858,12 @@ public class ObjectRoot implements ObjectRootInterface {
      * @return the value of the attribute whose handle is "propertyHandle"
      */
     public Object getAttribute( int propertyHandle ) {
+        PropertyIndex propertyIndex = getPropertyIndex();
+        int slot = propertyIndex == null ? -1 : propertyIndex.getSlotForHandle(propertyHandle);
+        if (slot >= 0) {
+            return ((Attribute<?>)getSlotValue(propertyIndex, slot)).getValue();
+        }
+
         ClassAndPropertyName classAndPropertyName = _handleClassAndPropertyNameMap.get(propertyHandle);
         if (classAndPropertyName == null) {
             logger.error("getAttribute: propertyHandle {} does not exist.", propertyHandle);
@@ -1509,7 +1892,8 @@ public class ObjectRoot implements ObjectRootInterface {
     // INITIALIZED BY:
     // - init(RTIambassador) ABOVE
     //----------------------------------------------
-    protected static Map<String, AttributeHandleSet> _classNamePublishedAttributeHandleSetMap = new HashMap<>();
+    protected static Map<String, AttributeHandleSet> _classNamePublishedAttributeHandleSetMap =
+      new CopyOnWriteHashMap<>();
 
     //---------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME PUBLISHED-ATTRIBUTE-HANDLE-SET MAP
@@ -1578,7 +1962,8 @@ public class ObjectRoot implements ObjectRootInterface {
     // INITIALIZED BY:
     // - init(RTIambassador) ABOVE
     //-----------------------------------------------
-    protected static Map<String, AttributeHandleSet> _classNameSubscribedAttributeHandleSetMap = new HashMap<>();
+    protected static Map<String, AttributeHandleSet> _classNameSubscribedAttributeHandleSetMap =
+      new CopyOnWriteHashMap<>();
 
     //----------------------------------------------------------------
     // METHODS THAT USE CLASS-NAME SUBSCRIBED-ATTRIBUTE-HANDLE-SET MAP
@@ -1763,7 +2148,8 @@ public class ObjectRoot implements ObjectRootInterface {
     //----------------------------------
     // OBJECT-HANDLE OBJECT-INSTANCE MAP
     //----------------------------------
-    private static final Map<Integer, ObjectRoot> _objectHandleInstanceMap = new HashMap<>();
+    // OBJECT INSTANCES ARE REGISTERED/DISCOVERED/REMOVED TOO OFTEN FOR COPY-ON-WRITE
+    private static final Map<Integer, ObjectRoot> _objectHandleInstanceMap = new ConcurrentHashMap<>();
 
     //--------------------------------------------------------
     // METHODS THAT USE ONLY OBJECT-HANDLE OBJECT-INSTANCE MAP
@@ -1912,15 +2298,19 @@ public class ObjectRoot implements ObjectRootInterface {
     //--------------------------------------------
 
     public static ObjectRoot discover( String full_hla_class_name, int object_handle ) {
-        if (_objectHandleInstanceMap.containsKey(object_handle)) {
-            return _objectHandleInstanceMap.get(object_handle);
+        ObjectRoot existingInstance = _objectHandleInstanceMap.get(object_handle);
+        if (existingInstance != null) {
+            return existingInstance;
         }
 
         ObjectRoot instance = create_object( full_hla_class_name );
 
         if (instance != null) {
             instance.setObjectHandle( object_handle );
-            _objectHandleInstanceMap.put(object_handle, instance);
+            existingInstance = _objectHandleInstanceMap.putIfAbsent(object_handle, instance);
+            if (existingInstance != null) {
+                return existingInstance;
+            }
         }
 
         return instance;
@@ -2090,11 +2480,412 @@ public class ObjectRoot implements ObjectRootInterface {
         }
     }
 
+    //-------------------------------------------------------------------------
+    // PROPERTY VALUE MAP
+    //
+    // A PropertyValueMap HOLDS THE PROPERTY VALUES OF A SINGLE MESSAGING INSTANCE
+    // IN A FLAT ARRAY LAID OUT ACCORDING TO THE PropertyIndex OF THE INSTANCE'S
+    // CLASS.  IT PRESENTS THE SAME Map<ClassAndPropertyName, Object> VIEW AS THE
+    // HashMap IT REPLACES, BUT HAS NO PER-ENTRY OBJECTS, AND COPYING IT IS A
+    // SINGLE ARRAY CLONE.
+    //
+    // ONLY THE PROPERTIES OF THE CLASS CAN BE STORED IN A PropertyValueMap.
+    //-------------------------------------------------------------------------
+    public static class PropertyValueMap extends AbstractMap<ClassAndPropertyName, Object> {
+
+        // MARKS A SLOT THAT HAS NO ENTRY IN THE MAP (AS OPPOSED TO AN ENTRY WHOSE VALUE IS null)
+        private static final Object _noEntry = new Object();
+
+        private final PropertyIndex _propertyIndex;
+
+        private final Object[] _valueArray;
+
+        private int _size = 0;
+
+        public PropertyValueMap(PropertyIndex propertyIndex) {
+            _propertyIndex = propertyIndex;
+            _valueArray = new Object[propertyIndex.size()];
+            Arrays.fill(_valueArray, _noEntry);
+        }
+
+        public PropertyValueMap(PropertyValueMap other) {
+            _propertyIndex = other._propertyIndex;
+            _valueArray = other._valueArray.clone();
+            _size = other._size;
+        }
+
+        public PropertyIndex getPropertyIndex() {
+            return _propertyIndex;
+        }
+
+        public Object getSlotValue(int slot) {
+            Object value = _valueArray[slot];
+            return value == _noEntry ? null : value;
+        }
+
+        public void setSlotValue(int slot, Object value) {
+            if (_valueArray[slot] == _noEntry) {
+                ++_size;
+            }
+            _valueArray[slot] = value;
+        }
+
+        //-------------------------------------------------------------------------
+        // CONVERSIONS USED BY THE TYPED ACCESSORS.  A VALUE OF ONE NUMERIC TYPE IS
+        // CONVERTED TO ANOTHER AS BY A JAVA CAST.
+        //-------------------------------------------------------------------------
+        public static double double_value(Object value) {
+            if (value instanceof Boolean) {
+                return (Boolean)value ? 1 : 0;
+            }
+            if (value instanceof Character) {
+                return (Character)value;
+            }
+            return ((Number)value).doubleValue();
+        }
+
+        public static long long_value(Object value) {
+            if (value instanceof Boolean) {
+                return (Boolean)value ? 1 : 0;
+            }
+            if (value instanceof Character) {
+                return (Character)value;
+            }
+            return ((Number)value).longValue();
+        }
+
+        public static boolean boolean_value(Object value) {
+            if (value instanceof Boolean) {
+                return (Boolean)value;
+            }
+            return double_value(value) != 0;
+        }
+
+        private int getSlot(Object key) {
+            return key instanceof ClassAndPropertyName ?
+              _propertyIndex.getSlot((ClassAndPropertyName)key) : -1;
+        }
+
+        @Override
+        public int size() {
+            return _size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int slot = getSlot(key);
+            return slot >= 0 && _valueArray[slot] != _noEntry;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int slot = getSlot(key);
+            return slot < 0 ? null : getSlotValue(slot);
+        }
+
+        @Override
+        public Object put(ClassAndPropertyName key, Object value) {
+            int slot = getSlot(key);
+            if (slot < 0) {
+                throw new IllegalArgumentException(
+                  "\"" + key + "\" is not a property of class \"" + _propertyIndex.getHlaClassName() + "\""
+                );
+            }
+            Object oldValue = getSlotValue(slot);
+            setSlotValue(slot, value);
+            return oldValue;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            int slot = getSlot(key);
+            if (slot < 0 || _valueArray[slot] == _noEntry) {
+                return null;
+            }
+            Object oldValue = getSlotValue(slot);
+            _valueArray[slot] = _noEntry;
+            --_size;
+            return oldValue;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(_valueArray, _noEntry);
+            _size = 0;
+        }
+
+        @Override
+        public Set<Map.Entry<ClassAndPropertyName, Object>> entrySet() {
+            return new AbstractSet<Map.Entry<ClassAndPropertyName, Object>>() {
+                @Override
+                public int size() {
+                    return _size;
+                }
+
+                @Override
+                public Iterator<Map.Entry<ClassAndPropertyName, Object>> iterator() {
+                    return new Iterator<Map.Entry<ClassAndPropertyName, Object>>() {
+                        private int _nextSlot = findSlot(0);
+                        private int _lastSlot = -1;
+
+                        private int findSlot(int slot) {
+                            while(slot < _valueArray.length && _valueArray[slot] == _noEntry) {
+                                ++slot;
+                            }
+                            return slot;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return _nextSlot < _valueArray.length;
+                        }
+
+                        @Override
+                        public Map.Entry<ClassAndPropertyName, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int slot = _nextSlot;
+                            _lastSlot = slot;
+                            _nextSlot = findSlot(slot + 1);
+                            return new AbstractMap.SimpleEntry<ClassAndPropertyName, Object>(
+                              _propertyIndex.getClassAndPropertyName(slot), getSlotValue(slot)
+                            ) {
+                                @Override
+                                public Object setValue(Object value) {
+                                    setSlotValue(slot, value);
+                                    return super.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (_lastSlot < 0 || _valueArray[_lastSlot] == _noEntry) {
+                                throw new IllegalStateException();
+                            }
+                            _valueArray[_lastSlot] = _noEntry;
+                            --_size;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    //---------------------------------------------------------------------------------------
+    // CREATES THE VALUE MAP FOR AN INSTANCE OF hlaClassName:  A PropertyValueMap IF THE CLASS
+    // HAS A PropertyIndex, OTHERWISE A HashMap
+    //---------------------------------------------------------------------------------------
+    protected static Map<ClassAndPropertyName, Object> create_class_and_property_name_value_map(
+      String hlaClassName
+    ) {
+        PropertyIndex propertyIndex = get_property_index(hlaClassName);
+        return propertyIndex == null ? new HashMap<>() : new PropertyValueMap(propertyIndex);
+    }
+
+    protected static Map<ClassAndPropertyName, Object> copy_class_and_property_name_value_map(
+      Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap
+    ) {
+        return classAndPropertyNameValueMap instanceof PropertyValueMap ?
+          new PropertyValueMap((PropertyValueMap)classAndPropertyNameValueMap) :
+          new HashMap<>(classAndPropertyNameValueMap);
+    }
+
+    //-------------------------
+    // END PROPERTY VALUE MAP
+    //-------------------------
+
     //-------------------------------------------
     // CLASS-AND-PROPERTY-NAME PROPERTY-VALUE MAP
     //-------------------------------------------
     protected Map<ClassAndPropertyName, Object> classAndPropertyNameValueMap = new HashMap<>();
 
+    //-------------------------------------------------------------------------------------
+    // RETURNS THE VALUE IN THE GIVEN SLOT OF propertyIndex, WITHOUT A HASH LOOKUP WHEN THIS
+    // INSTANCE'S VALUES ARE HELD IN A PropertyValueMap LAID OUT BY propertyIndex
+    //-------------------------------------------------------------------------------------
+    private Object getSlotValue(PropertyIndex propertyIndex, int slot) {
+        if (classAndPropertyNameValueMap instanceof PropertyValueMap) {
+            PropertyValueMap propertyValueMap = (PropertyValueMap)classAndPropertyNameValueMap;
+            if (propertyValueMap.getPropertyIndex() == propertyIndex) {
+                return propertyValueMap.getSlotValue(slot);
+            }
+        }
+        return classAndPropertyNameValueMap.get(propertyIndex.getClassAndPropertyName(slot));
+    }
+
+    //----------------------------------------------------------------------------------------------
+    // TYPED ATTRIBUTE ACCESSORS
+    //
+    // THESE READ AND WRITE AN ATTRIBUTE OF PRIMITIVE TYPE BY ITS SLOT, WITHOUT CONSTRUCTING A KEY,
+    // AND ARE USED BY THE get_/set_ METHODS OF THE GENERATED OBJECT CLASSES.  AN ATTRIBUTE IS
+    // IDENTIFIED EITHER BY ITS HANDLE (RTI ASSIGNED) OR BY ITS ClassAndPropertyName.
+    //
+    // ATTRIBUTE VALUES REMAIN BOXED IN THEIR Attribute, AS IT COMPARES THEM WITH THE LAST VALUE
+    // SENT TO DECIDE WHETHER AN UPDATE IS NEEDED.
+    //----------------------------------------------------------------------------------------------
+    private Attribute<Object> getAttributeObject(ClassAndPropertyName classAndPropertyName) {
+        if (classAndPropertyNameValueMap instanceof PropertyValueMap) {
+            PropertyValueMap propertyValueMap = (PropertyValueMap)classAndPropertyNameValueMap;
+            int slot = propertyValueMap.getPropertyIndex().getSlot(classAndPropertyName);
+            if (slot >= 0) {
+                return (Attribute<Object>)propertyValueMap.getSlotValue(slot);
+            }
+        }
+        return (Attribute<Object>)classAndPropertyNameValueMap.get(classAndPropertyName);
+    }
+
+    private Attribute<Object> getAttributeObject(int propertyHandle) {
+        if (classAndPropertyNameValueMap instanceof PropertyValueMap) {
+            PropertyValueMap propertyValueMap = (PropertyValueMap)classAndPropertyNameValueMap;
+            int slot = propertyValueMap.getPropertyIndex().getSlotForHandle(propertyHandle);
+            if (slot >= 0) {
+                return (Attribute<Object>)propertyValueMap.getSlotValue(slot);
+            }
+        }
+        ClassAndPropertyName classAndPropertyName = _handleClassAndPropertyNameMap.get(propertyHandle);
+        return classAndPropertyName == null ?
+          null : (Attribute<Object>)classAndPropertyNameValueMap.get(classAndPropertyName);
+    }
+
+    private void setAttributeObjectValue(Attribute<Object> attribute, Object value) {
+        attribute.setValue(value);
+        attribute.setTime(getTime());
+    }
+
+    public boolean getBoolean(ClassAndPropertyName classAndPropertyName) {
+        return PropertyValueMap.boolean_value(getAttributeObject(classAndPropertyName).getValue());
+    }
+
+    public boolean getBoolean(int propertyHandle) {
+        return PropertyValueMap.boolean_value(getAttributeObject(propertyHandle).getValue());
+    }
+
+    public void setBoolean(ClassAndPropertyName classAndPropertyName, boolean value) {
+        setAttributeObjectValue(getAttributeObject(classAndPropertyName), value);
+    }
+
+    public void setBoolean(int propertyHandle, boolean value) {
+        setAttributeObjectValue(getAttributeObject(propertyHandle), value);
+    }
+
+    public byte getByte(ClassAndPropertyName classAndPropertyName) {
+        return (byte)PropertyValueMap.long_value(getAttributeObject(classAndPropertyName).getValue());
+    }
+
+    public byte getByte(int propertyHandle) {
+        return (byte)PropertyValueMap.long_value(getAttributeObject(propertyHandle).getValue());
+    }
+
+    public void setByte(ClassAndPropertyName classAndPropertyName, byte value) {
+        setAttributeObjectValue(getAttributeObject(classAndPropertyName), value);
+    }
+
+    public void setByte(int propertyHandle, byte value) {
+        setAttributeObjectValue(getAttributeObject(propertyHandle), value);
+    }
+
+    public char getChar(ClassAndPropertyName classAndPropertyName) {
+        return (char)PropertyValueMap.long_value(getAttributeObject(classAndPropertyName).getValue());
+    }
+
+    public char getChar(int propertyHandle) {
+        return (char)PropertyValueMap.long_value(getAttributeObject(propertyHandle).getValue());
+    }
+
+    public void setChar(ClassAndPropertyName classAndPropertyName, char value) {
+        setAttributeObjectValue(getAttributeObject(classAndPropertyName), value);
+    }
+
+    public void setChar(int propertyHandle, char value) {
+        setAttributeObjectValue(getAttributeObject(propertyHandle), value);
+    }
+
+    public short getShort(ClassAndPropertyName classAndPropertyName) {
+        return (short)PropertyValueMap.long_value(getAttributeObject(classAndPropertyName).getValue());
+    }
+
+    public short getShort(int propertyHandle) {
+        return (short)PropertyValueMap.long_value(getAttributeObject(propertyHandle).getValue());
+    }
+
+    public void setShort(ClassAndPropertyName classAndPropertyName, short value) {
+        setAttributeObjectValue(getAttributeObject(classAndPropertyName), value);
+    }
+
+    public void setShort(int propertyHandle, short value) {
+        setAttributeObjectValue(getAttributeObject(propertyHandle), value);
+    }
+
+    public int getInt(ClassAndPropertyName classAndPropertyName) {
+        return (int)PropertyValueMap.long_value(getAttributeObject(classAndPropertyName).getValue());
+    }
+
+    public int getInt(int propertyHandle) {
+        return (int)PropertyValueMap.long_value(getAttributeObject(propertyHandle).getValue());
+    }
+
+    public void setInt(ClassAndPropertyName classAndPropertyName, int value) {
+        setAttributeObjectValue(getAttributeObject(classAndPropertyName), value);
+    }
+
+    public void setInt(int propertyHandle, int value) {
+        setAttributeObjectValue(getAttributeObject(propertyHandle), value);
+    }
+
+    public long getLong(ClassAndPropertyName classAndPropertyName) {
+        return PropertyValueMap.long_value(getAttributeObject(classAndPropertyName).getValue());
+    }
+
+    public long getLong(int propertyHandle) {
+        return PropertyValueMap.long_value(getAttributeObject(propertyHandle).getValue());
+    }
+
+    public void setLong(ClassAndPropertyName classAndPropertyName, long value) {
+        setAttributeObjectValue(getAttributeObject(classAndPropertyName), value);
+    }
+
+    public void setLong(int propertyHandle, long value) {
+        setAttributeObjectValue(getAttributeObject(propertyHandle), value);
+    }
+
+    public float getFloat(ClassAndPropertyName classAndPropertyName) {
+        return (float)PropertyValueMap.double_value(getAttributeObject(classAndPropertyName).getValue());
+    }
+
+    public float getFloat(int propertyHandle) {
+        return (float)PropertyValueMap.double_value(getAttributeObject(propertyHandle).getValue());
+    }
+
+    public void setFloat(ClassAndPropertyName classAndPropertyName, float value) {
+        setAttributeObjectValue(getAttributeObject(classAndPropertyName), value);
+    }
+
+    public void setFloat(int propertyHandle, float value) {
+        setAttributeObjectValue(getAttributeObject(propertyHandle), value);
+    }
+
+    public double getDouble(ClassAndPropertyName classAndPropertyName) {
+        return PropertyValueMap.double_value(getAttributeObject(classAndPropertyName).getValue());
+    }
+
+    public double getDouble(int propertyHandle) {
+        return PropertyValueMap.double_value(getAttributeObject(propertyHandle).getValue());
+    }
+
+    public void setDouble(ClassAndPropertyName classAndPropertyName, double value) {
+        setAttributeObjectValue(getAttributeObject(classAndPropertyName), value);
+    }
+
+    public void setDouble(int propertyHandle, double value) {
+        setAttributeObjectValue(getAttributeObject(propertyHandle), value);
+    }
+
+    //--------------------------------
+    // END TYPED ATTRIBUTE ACCESSORS
+    //--------------------------------
+
     //------------------------------------------------------------
     // METHODS THAT USE CLASS-AND-PROPERTY-NAME PROPERTY-VALUE MAP
     //------------------------------------------------------------
@@ -2117,55 +2908,16 @@ public class ObjectRoot implements ObjectRootInterface {
         Object initialValueForType =
           ((Attribute<Object>)_classAndPropertyNameInitialValueMap.get(classAndPropertyName)).getValue();
 
-        // IF value IS A STRING, AND THE TYPE OF THE ATTRIBUTE IS A NUMBER-TYPE, TRY TO SEE IF THE
-        // STRING CAN BE CONVERTED TO A NUMBER.
+        // IF value IS A STRING, TRY TO CONVERT IT TO THE TYPE OF THE ATTRIBUTE
         if (value instanceof String) {
-
-            String stringValue = ((String)value).toLowerCase();
-            Object newValue = null;
-
-            if (initialValueForType instanceof Number) {
-                Method method;
-                try {
-                    method = initialValueForType.getClass().getMethod("valueOf", String.class);
-                } catch (NoSuchMethodException noSuchMethodException) {
-                    logger.error(
-                            "setAttribute(\"{}\", \"{}\", {} value): unable to access \"valueOf\" " +
-                                    "method of \"Number\" object: cannot set value!",
-                            hlaClassName, propertyName, value.getClass().getName()
-                    );
-                    return null;
-                }
-                try {
-                    // DEAL WITH STRING-VERSIONS OF FLOATING-POINT VALUES THAT ARE TO BE CONVERTED TO AN INTEGRAL TYPE
-                    if (!(initialValueForType instanceof Double) && !(initialValueForType instanceof Float)) {
-                        int dotPosition = stringValue.indexOf(".");
-                        if (dotPosition > 0) {
-                            stringValue = stringValue.substring(0, dotPosition);
-                        }
-                        int ePosition = stringValue.indexOf("e");
-                        if (ePosition > 0) {
-                            stringValue = stringValue.substring(0, ePosition);
-                        }
-                    }
-                    newValue = method.invoke(null, stringValue);
-                } catch (Exception e) { }
-
-            } else if (initialValueForType instanceof Character) {
-                try {
-                    newValue = (char)Short.valueOf(stringValue).shortValue();
-                } catch (Exception e) { }
-
-            } else if (initialValueForType instanceof Boolean) {
-                try {
-                    newValue = Double.parseDouble(stringValue) != 0;
-                } catch (Exception e) { }
-
-                if (newValue == null) {
-                    newValue = Boolean.valueOf(stringValue);
-                }
+            StringValueConverter stringValueConverter =
+              _classAndPropertyNameStringValueConverterMap.get(classAndPropertyName);
+            if (stringValueConverter == null) {
+                stringValueConverter =
+                  StringValueConverter.get_string_value_converter(initialValueForType.getClass());
             }
 
+            Object newValue = stringValueConverter.convert((String)value);
             if (newValue != null) {
                 value = newValue;
             }
@@ -2246,6 +2998,10 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     public boolean hasAttribute(String propertyName) {
+        PropertyIndex propertyIndex = getPropertyIndex();
+        if (propertyIndex != null) {
+            return propertyIndex.getSlot(propertyName) >= 0;
+        }
         return hasAttribute(getInstanceHlaClassName(), propertyName);
     }
 
@@ -2259,6 +3015,11 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     public Object getAttribute(String propertyName) {
+        PropertyIndex propertyIndex = getPropertyIndex();
+        if (propertyIndex != null) {
+            int slot = propertyIndex.getSlot(propertyName);
+            return slot < 0 ? null : ((Attribute<?>)getSlotValue(propertyIndex, slot)).getValue();
+        }
         return getAttribute(getInstanceHlaClassName(), propertyName);
     }
 
@@ -2341,6 +3102,17 @@ public class ObjectRoot implements ObjectRootInterface {
         return get_hla_class_name();
     }
 
+    /**
+     * Returns the interned descriptor of the hlaClassName object class.  Descriptors can be compared
+     * with "==", and test whether one class is derived from another in constant time.
+     *
+     * @param hlaClassName fully-qualified (dot-delimited) name of an object class
+     * @return the descriptor of the hlaClassName object class
+     */
+    public static HlaClassDescriptor get_hla_class_descriptor(String hlaClassName) {
+        return HlaClassDescriptor.get_hla_class_descriptor(hlaClassName);
+    }
+
     /**
      * Returns a sorted list containing the names of all of the non-hidden attributes in the
      * edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot object class.
@@ -2709,7 +3481,38 @@ public class ObjectRoot implements ObjectRootInterface {
     // - fromJson()
     // - readFederateDynamicMessageClasses(Reader reader) BELOW
     //------------------------------------------
-    protected static Map<ClassAndPropertyName, Object> _classAndPropertyNameInitialValueMap = new HashMap<>();
+    protected static Map<ClassAndPropertyName, Object> _classAndPropertyNameInitialValueMap =
+      new CopyOnWriteHashMap<>();
+
+    //-----------------------------------------------------------------------------
+    // CLASS-AND-PROPERTY-NAME STRING-VALUE-CONVERTER MAP
+    //
+    // CONVERTS STRING VALUES TO THE TYPE OF EACH PROPERTY IN getValueForClassAndPropertyName.
+    // POPULATED FROM _classAndPropertyNameInitialValueMap IN commonInit(String hlaClassName)
+    //-----------------------------------------------------------------------------
+    protected static Map<ClassAndPropertyName, StringValueConverter> _classAndPropertyNameStringValueConverterMap =
+      new CopyOnWriteHashMap<>();
+
+    private static void add_string_value_converters(Set<ClassAndPropertyName> classAndPropertyNameSet) {
+        if (classAndPropertyNameSet == null) {
+            return;
+        }
+        // ONE putAll FOR ALL OF THE CONVERTERS, AS EACH WRITE TO THE COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, StringValueConverter> classAndPropertyNameStringValueConverterMap = new HashMap<>();
+        for(ClassAndPropertyName classAndPropertyName: classAndPropertyNameSet) {
+            Object initialValue = _classAndPropertyNameInitialValueMap.get(classAndPropertyName);
+            if (initialValue != null) {
+                classAndPropertyNameStringValueConverterMap.put(
+                  classAndPropertyName,
+                  StringValueConverter.get_string_value_converter(((Attribute<Object>)initialValue).getValue().getClass())
+                );
+            }
+        }
+        // THE ROOT CLASS, WHICH HAS NO PROPERTIES, IS INITIALIZED BEFORE THE MAP IS
+        if (!classAndPropertyNameStringValueConverterMap.isEmpty()) {
+            _classAndPropertyNameStringValueConverterMap.putAll(classAndPropertyNameStringValueConverterMap);
+        }
+    }
 
     //-------------
     // CONSTRUCTORS
@@ -2722,6 +3525,7 @@ public class ObjectRoot implements ObjectRootInterface {
      */
     public ObjectRoot( String hlaClassName ) {
         setInstanceHlaClassName(hlaClassName);
+        classAndPropertyNameValueMap = create_class_and_property_name_value_map(hlaClassName);
         if (!_classNameHandleMap.containsKey(hlaClassName)) {
             logger.error("Constructor \"ObjectRoot( String hlaClassName )\": " +
               "hlaClassName \"{}\" is not defined -- creating dummy object with fictitious type \"{}\"",
@@ -2766,6 +3570,8 @@ public class ObjectRoot implements ObjectRootInterface {
         this();
         _time = other._time;
         _instanceHlaClassName = other._instanceHlaClassName;
+        _instanceHlaClassDescriptor = other._instanceHlaClassDescriptor;
+        _propertyIndex = other._propertyIndex;
         for(ClassAndPropertyName key: classAndPropertyNameValueMap.keySet()) {
             classAndPropertyNameValueMap.put(
                 key, new Attribute<>((Attribute<Object>)classAndPropertyNameValueMap.get(key))
@@ -2801,7 +3607,12 @@ public class ObjectRoot implements ObjectRootInterface {
         int size = propertyMap.size();
         for( int ix = 0 ; ix < size ; ++ix ) {
             try {
-                setAttribute(  propertyMap.getAttributeHandle( ix ), propertyMap.getValue( ix )  );
+                // getValueReference AVOIDS THE COPY MADE BY getValue
+                setAttribute(
+                  propertyMap.getAttributeHandle( ix ),
+                  propertyMap.getValueReference( ix ),
+                  propertyMap.getValueLength( ix )
+                );
             } catch ( Exception e ) {
                 logger.error( "setAttributes: Exception caught!" );
                 logger.error("{}", CpswtUtils.getStackTrace(e));
@@ -2809,16 +3620,28 @@ public class ObjectRoot implements ObjectRootInterface {
         }
     }
 
-    private void setAttribute( int handle, byte[] value ) {
+    private void setAttribute( int handle, byte[] value, int length ) {
         if ( value == null ) {
             logger.error( "set:  Attempt to set null value  class \"{}\"", getClass().getName());
             return;
         }
-        String valueAsString = new String( value, 0, value.length );
-        if (valueAsString.length() > 0 && valueAsString.charAt(valueAsString.length() - 1) == '\0') {
-            valueAsString = valueAsString.substring(0, valueAsString.length() - 1);
+        PropertyIndex propertyIndex = getPropertyIndex();
+        int slot = propertyIndex == null ? -1 : propertyIndex.getSlotForHandle(handle);
+        ClassAndPropertyName classAndPropertyName = slot >= 0 ?
+          propertyIndex.getClassAndPropertyName(slot) : _handleClassAndPropertyNameMap.get(handle);
+        if (classAndPropertyName == null) {
+            logger.error("set:  propertyHandle {} does not exist.", handle);
+            return;
         }
-        setAttribute(handle, valueAsString);
+        Object decodedValue = decode_value(classAndPropertyName, value, length);
+        if (decodedValue == null) {
+            logger.error(
+              "set:  could not decode value of attribute \"{}\" with the \"{}\" codec.",
+              classAndPropertyName, _messagingCodec.getName()
+            );
+            return;
+        }
+        setAttribute(classAndPropertyName, decodedValue);
     }
 
     /**
@@ -2834,36 +3657,78 @@ public class ObjectRoot implements ObjectRootInterface {
      * "true", all attributes and their values are broadcast to the RTI.
      */
     public void updateAttributeValues( RTIambassador rti, double time, boolean force ) {
+        Consumer<RTIambassador> updateAttributeValuesCommand = createUpdateAttributeValuesCommand( time, force );
+        if ( updateAttributeValuesCommand == null ) return;
+
+        synchronized( rti ) {
+            updateAttributeValuesCommand.accept( rti );
+        }
+    }
+
+    /**
+     * Returns a command that broadcasts the attributes of this object and their values, with "time" as their
+     * timestamp, to the RTI it is given, so that they can be broadcast later by another thread (e.g. the thread
+     * that ticks the RTI).  The attribute values are encoded, and the attributes are marked as updated, when this
+     * method is called, so this object may be changed before the command is executed.  The command must be
+     * executed with the RTI's monitor held.
+     *
+     * @param time timestamp on attribute values of this object
+     * @param force see {@link #updateAttributeValues(RTIambassador, double, boolean)}
+     * @return the command, or null if there are no attribute values to broadcast
+     */
+    public Consumer<RTIambassador> createUpdateAttributeValuesCommand( double time, boolean force ) {
+        return createUpdateAttributeValuesCommand( new DoubleTime( time ), force );
+    }
+
+    /**
+     * Returns a command that broadcasts the attributes of this object and their values to the RTI it is given
+     * (with no timestamp).  See {@link #createUpdateAttributeValuesCommand(double, boolean)}.
+     *
+     * @param force see {@link #updateAttributeValues(RTIambassador, boolean)}
+     * @return the command, or null if there are no attribute values to broadcast
+     */
+    public Consumer<RTIambassador> createUpdateAttributeValuesCommand( boolean force ) {
+        return createUpdateAttributeValuesCommand( null, force );
+    }
+
+    private Consumer<RTIambassador> createUpdateAttributeValuesCommand( DoubleTime time, boolean force ) {
 
         SuppliedAttributes suppliedAttributes = createSuppliedAttributes( force );
-        if ( suppliedAttributes.size() == 0 ) return;
+        if ( suppliedAttributes.size() == 0 ) return null;
 
-        synchronized( rti ) {
+        final String className = getClass().getName();
+        final int objectHandle = getObjectHandle();
+
+        return rti -> {
             try {
-                rti.updateAttributeValues(  getObjectHandle(), suppliedAttributes, null, new DoubleTime( time )  );
+                if ( time == null ) {
+                    rti.updateAttributeValues( objectHandle, suppliedAttributes, null );
+                } else {
+                    rti.updateAttributeValues( objectHandle, suppliedAttributes, null, time );
+                }
             } catch ( ObjectNotKnown o ) {
-                logger.error( "{}:  could not update attributes:  Object Not Known", getClass().getName() );
+                logger.error( "{}:  could not update attributes:  Object Not Known", className );
                 logger.error("{}", CpswtUtils.getStackTrace(o));
             } catch ( FederateNotExecutionMember f ) {
-                logger.error( "{}:  could not update attributes:  Federate Not Execution Member", getClass().getName() );
+                logger.error( "{}:  could not update attributes:  Federate Not Execution Member", className );
                 logger.error("{}", CpswtUtils.getStackTrace(f));
             } catch ( AttributeNotDefined a ) {
-                logger.error( "{}:  could not update attributes:  Attribute Not Defined", getClass().getName() );
+                logger.error( "{}:  could not update attributes:  Attribute Not Defined", className );
                 logger.error("{}", CpswtUtils.getStackTrace(a));
             } catch ( AttributeNotOwned a ) {
-                logger.error( "{}:  could not update attributes:  Attribute Not Owned", getClass().getName() );
+                logger.error( "{}:  could not update attributes:  Attribute Not Owned", className );
                 logger.error("{}", CpswtUtils.getStackTrace(a));
             } catch ( ConcurrentAccessAttempted c ) {
-                logger.error( "{}:  could not update attributes:  Concurrent Access Attempted", getClass().getName() );
+                logger.error( "{}:  could not update attributes:  Concurrent Access Attempted", className );
                 logger.error("{}", CpswtUtils.getStackTrace(c));
             } catch ( InvalidFederationTime i ) {
-                logger.error( "{}:  could not update attributes:  Invalid Federation Time", getClass().getName() );
+                logger.error( "{}:  could not update attributes:  Invalid Federation Time", className );
                 logger.error("{}", CpswtUtils.getStackTrace(i));
             } catch ( Exception e ) {
-                logger.error( "{}:  could not update attributes", getClass().getName() );
+                logger.error( "{}:  could not update attributes", className );
                 logger.error("{}", CpswtUtils.getStackTrace(e));
             }
-        }
+        };
     }
 
     /**
@@ -2890,32 +3755,11 @@ public class ObjectRoot implements ObjectRootInterface {
      * "true", all attributes and their values are broadcast to the RTI.
      */
     public void updateAttributeValues( RTIambassador rti, boolean force ) {
-
-        SuppliedAttributes suppliedAttributes = createSuppliedAttributes( force );
-        if ( suppliedAttributes.size() == 0 ) return;
+        Consumer<RTIambassador> updateAttributeValuesCommand = createUpdateAttributeValuesCommand( force );
+        if ( updateAttributeValuesCommand == null ) return;
 
         synchronized( rti ) {
-            try {
-                rti.updateAttributeValues( getObjectHandle(), suppliedAttributes, null );
-            } catch ( ObjectNotKnown o ) {
-                logger.error( "{}:  could not update attributes:  Object Not Known", getClass().getName() );
-                logger.error("{}", CpswtUtils.getStackTrace(o));
-            } catch ( FederateNotExecutionMember f ) {
-                logger.error( "{}:  could not update attributes:  Federate Not Execution Member", getClass().getName() );
-                logger.error("{}", CpswtUtils.getStackTrace(f));
-            } catch ( AttributeNotDefined a ) {
-                logger.error( "{}:  could not update attributes:  Attribute Not Defined", getClass().getName() );
-                logger.error("{}", CpswtUtils.getStackTrace(a));
-            } catch ( AttributeNotOwned a ) {
-                logger.error( "{}:  could not update attributes:  Attribute Not Owned", getClass().getName() );
-                logger.error("{}", CpswtUtils.getStackTrace(a));
-            } catch ( ConcurrentAccessAttempted c ) {
-                logger.error( "{}:  could not update attributes:  Concurrent Access Attempted", getClass().getName() );
-                logger.error("{}", CpswtUtils.getStackTrace(c));
-            } catch ( Exception e ) {
-                logger.error("{}:  could not update attributes", getClass().getName());
-                logger.error("{}", CpswtUtils.getStackTrace(e));
-            }
+            updateAttributeValuesCommand.accept( rti );
         }
     }
 
@@ -2931,8 +3775,8 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     protected static String _fedName = null;
-    protected static Map<String, String> _pubAttributeLogMap = new HashMap<>();
-    protected static Map<String, String> _subAttributeLogMap = new HashMap<>();
+    protected static Map<String, String> _pubAttributeLogMap = new CopyOnWriteHashMap<>();
+    protected static Map<String, String> _subAttributeLogMap = new CopyOnWriteHashMap<>();
 
     /**
      * For use with the melding API -- this method is used to cast
@@ -3176,7 +4020,8 @@ public class ObjectRoot implements ObjectRootInterface {
         return objectReflector;
     }
 
-    private static Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishDirectSetMap = new HashMap<>();
+    private static Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishDirectSetMap =
+      new CopyOnWriteHashMap<>();
 
     public static void add_federate_name_soft_publish_direct(String hlaClassName, String federateName) {
         if (!_classNameHandleMap.containsKey(hlaClassName)) {
@@ -3186,33 +4031,37 @@ public class ObjectRoot implements ObjectRootInterface {
             );
             return;
         }
-        if (!_hlaClassNameToFederateNameSoftPublishDirectSetMap.containsKey(hlaClassName)) {
-            _hlaClassNameToFederateNameSoftPublishDirectSetMap.put(hlaClassName, new HashSet<>());
+        // LOCK THE MAP SO THAT THE SET CANNOT BE REMOVED BEFORE federateName IS ADDED TO IT
+        synchronized(_hlaClassNameToFederateNameSoftPublishDirectSetMap) {
+            _hlaClassNameToFederateNameSoftPublishDirectSetMap
+              .computeIfAbsent(hlaClassName, key -> new CopyOnWriteHashSet<>()).add(federateName);
         }
-        _hlaClassNameToFederateNameSoftPublishDirectSetMap.get(hlaClassName).add(federateName);
 
     }
 
     public static void remove_federate_name_soft_publish_direct(String hlaClassName, String federateName) {
-        if (_hlaClassNameToFederateNameSoftPublishDirectSetMap.containsKey(hlaClassName)) {
-            Set<String> stringSet = _hlaClassNameToFederateNameSoftPublishDirectSetMap.get(hlaClassName);
-            stringSet.remove(federateName);
-            if (stringSet.isEmpty()) {
-                _hlaClassNameToFederateNameSoftPublishDirectSetMap.remove(hlaClassName);
+        synchronized(_hlaClassNameToFederateNameSoftPublishDirectSetMap) {
+            if (_hlaClassNameToFederateNameSoftPublishDirectSetMap.containsKey(hlaClassName)) {
+                Set<String> stringSet = _hlaClassNameToFederateNameSoftPublishDirectSetMap.get(hlaClassName);
+                stringSet.remove(federateName);
+                if (stringSet.isEmpty()) {
+                    _hlaClassNameToFederateNameSoftPublishDirectSetMap.remove(hlaClassName);
+                }
             }
         }
     }
 
     public static Set<String> get_federate_name_soft_publish_direct_set(String hlaClassName) {
-        return _hlaClassNameToFederateNameSoftPublishDirectSetMap.containsKey(hlaClassName) ?
-            new HashSet<>(_hlaClassNameToFederateNameSoftPublishDirectSetMap.get(hlaClassName)) : new HashSet<>();
+        Set<String> federateNameSet = _hlaClassNameToFederateNameSoftPublishDirectSetMap.get(hlaClassName);
+        return federateNameSet == null ? new HashSet<>() : new HashSet<>(federateNameSet);
     }
 
     public Set<String> getFederateNameSoftPublishDirectSet() {
         return get_federate_name_soft_publish_direct_set(getInstanceHlaClassName());
     }
 
-    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishSetMap = new HashMap<>();
+    private static final Map<String, Set<String>> _hlaClassNameToFederateNameSoftPublishSetMap =
+      new CopyOnWriteHashMap<>();
 
     public static void add_federate_name_soft_publish(String hlaClassName, String federateName) {
         if (!_classNameHandleMap.containsKey(hlaClassName)) {
@@ -3223,10 +4072,11 @@ public class ObjectRoot implements ObjectRootInterface {
             return;
         }
 
-        if (!_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
-            _hlaClassNameToFederateNameSoftPublishSetMap.put(hlaClassName, new HashSet<>());
+        // LOCK THE MAP SO THAT THE SET CANNOT BE REMOVED BEFORE federateName IS ADDED TO IT
+        synchronized(_hlaClassNameToFederateNameSoftPublishSetMap) {
+            _hlaClassNameToFederateNameSoftPublishSetMap
+              .computeIfAbsent(hlaClassName, key -> new CopyOnWriteHashSet<>()).add(federateName);
         }
-        _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName).add(federateName);
     }
 
     public void addFederateNameSoftPublish(String federateName) {
@@ -3234,12 +4084,14 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     public static void remove_federate_name_soft_publish(String hlaClassName, String federateName) {
-        if (_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
-            Set<String> federateNameSoftPublishSet =
-              _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName);
-            federateNameSoftPublishSet.remove(federateName);
-            if (federateNameSoftPublishSet.isEmpty()) {
-                _hlaClassNameToFederateNameSoftPublishSetMap.remove(hlaClassName);
+        synchronized(_hlaClassNameToFederateNameSoftPublishSetMap) {
+            if (_hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName)) {
+                Set<String> federateNameSoftPublishSet =
+                  _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName);
+                federateNameSoftPublishSet.remove(federateName);
+                if (federateNameSoftPublishSet.isEmpty()) {
+                    _hlaClassNameToFederateNameSoftPublishSetMap.remove(hlaClassName);
+                }
             }
         }
     }
@@ -3249,8 +4101,8 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     public Set<String> get_federate_name_soft_publish_set(String hlaClassName) {
-        return _hlaClassNameToFederateNameSoftPublishSetMap.containsKey(hlaClassName) ?
-          new HashSet<>(_hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName)) : new HashSet<>();
+        Set<String> federateNameSet = _hlaClassNameToFederateNameSoftPublishSetMap.get(hlaClassName);
+        return federateNameSet == null ? new HashSet<>() : new HashSet<>(federateNameSet);
     }
 
     public Set<String> getFederateNameSoftPublishSet() {
@@ -3318,6 +4170,12 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     public static void readFederateDynamicMessageClasses(Set<String> dynamicHlaClassNameSet) {
+        synchronized(_registryWriteLock) {
+            read_federate_dynamic_message_classes(dynamicHlaClassNameSet);
+        }
+    }
+
+    private static void read_federate_dynamic_message_classes(Set<String> dynamicHlaClassNameSet) {
 
         if (federationJson == null) {
             logger.warn("readFederateDynamicMessageClasses:  no federation messaging loaded.");
@@ -3352,6 +4210,7 @@ public class ObjectRoot implements ObjectRootInterface {
             _hlaClassNameSet.add(hlaClassName);
 
             Set<ClassAndPropertyName> classAndPropertyNameSet = new HashSet<>();
+            Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
 
             JSONObject messagingPropertyDataMap = federationMessaging.getJSONObject(hlaClassName);
             for(String propertyName: messagingPropertyDataMap.keySet()) {
@@ -3362,10 +4221,13 @@ public class ObjectRoot implements ObjectRootInterface {
                 if (!typeDataMap.getBoolean("Hidden")) {
                     String propertyTypeString = typeDataMap.getString("ParameterType");
                     Object initialValue = _typeInitialValueMap.get(propertyTypeString);
-                    _classAndPropertyNameInitialValueMap.put(classAndPropertyName, initialValue);
+                    classAndPropertyNameInitialValueMap.put(classAndPropertyName, initialValue);
                 }
             }
 
+            // ONE putAll PER CLASS, AS EACH WRITE TO THE COPY-ON-WRITE MAP COPIES IT
+            _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
+
             _classNamePropertyNameSetMap.put(hlaClassName, classAndPropertyNameSet);
 
             _completeClassAndPropertyNameSet.addAll(classAndPropertyNameSet);
@@ -3409,14 +4271,21 @@ public class ObjectRoot implements ObjectRootInterface {
     }
 
     private static boolean loadDynamicHlaClass(String hlaClassName, RTIambassador rtiAmbassador) {
-        if (!_classNameHandleMap.containsKey(hlaClassName)) {
-            if (!_hlaClassNameSet.contains(hlaClassName)) {
-                readFederateDynamicMessageClass(hlaClassName);
+        if (_classNameHandleMap.containsKey(hlaClassName)) {
+            return true;
+        }
+
+        synchronized(_registryWriteLock) {
+            // CHECK AGAIN:  ANOTHER THREAD MAY HAVE LOADED THE CLASS WHILE THIS ONE WAITED FOR THE LOCK
+            if (!_classNameHandleMap.containsKey(hlaClassName)) {
                 if (!_hlaClassNameSet.contains(hlaClassName)) {
-                    return false;
+                    readFederateDynamicMessageClass(hlaClassName);
+                    if (!_hlaClassNameSet.contains(hlaClassName)) {
+                        return false;
+                    }
                 }
+                init(hlaClassName, rtiAmbassador);
             }
-            init(hlaClassName, rtiAmbassador);
         }
         return true;
     }
@@ -44,15 +44,21 @@ public interface ObjectRootInterface {
         private final String className;
         private final String propertyName;
 
+        // ClassAndPropertyName IS IMMUTABLE AND IS USED AS A KEY ON EVERY PROPERTY ACCESS,
+        // SO ITS HASH CODE IS COMPUTED ONCE HERE RATHER THAN ON EVERY hashCode() CALL
+        private final int hashCode;
+
         public ClassAndPropertyName(String className, String propertyName) {
             this.className = className;
             this.propertyName = propertyName;
+            this.hashCode = toString().hashCode();
         }
 
         public ClassAndPropertyName(String classAndPropertyNameString) {
             String[] classAndPropertyNameArray = classAndPropertyNameString.split(separatorChar);
             this.className = classAndPropertyNameArray[0];
             this.propertyName = classAndPropertyNameArray[1];
+            this.hashCode = toString().hashCode();
         }
 
         public String getClassName() {
@@ -65,7 +71,7 @@ public interface ObjectRootInterface {
 
         @Override
         public int hashCode() {
-            return toString().hashCode();
+            return hashCode;
         }
 
         @Override
@@ -98,7 +104,7 @@ public interface ObjectRootInterface {
     //---------------------------------
 
 
-    int getUniqueID();
+    long getUniqueID();
 
     /**
      * Returns the handle (RTI assigned) of this instance's object class .
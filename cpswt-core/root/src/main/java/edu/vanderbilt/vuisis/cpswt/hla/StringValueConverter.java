@@ -0,0 +1,423 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts the text value of an interaction parameter or object attribute, either a String given to
+ * setParameter/setAttribute or the ASCII bytes received from the RTI, to the type of the parameter or attribute.
+ * <p/>
+ * One converter is chosen per type (see get_string_value_converter) and stored per property when its
+ * class is initialized, so converting a value requires neither reflection nor exceptions.  Bytes are
+ * parsed in place, without first being copied into a String.
+ * <p/>
+ * The conversion rules are:
+ * <ul>
+ *     <li>integral types (Byte, Short, Integer, Long):  the value is parsed up to (but not including) its
+ *     first "." or "e", so that String-versions of floating-point values can be converted</li>
+ *     <li>floating-point types (Float, Double):  the value is parsed as a decimal floating-point number</li>
+ *     <li>Character:  the value is parsed as a Short and cast to char</li>
+ *     <li>Boolean:  a numeric value is true if it is non-zero, otherwise the value is true if it
+ *     is "true" (case-insensitive)</li>
+ * </ul>
+ * If the value cannot be converted, convert returns null.
+ */
+public enum StringValueConverter {
+
+    BOOLEAN {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            Object doubleValue = parse_decimal(text, bytes, offset, length, false);
+            if (doubleValue != null) {
+                return (Double)doubleValue != 0;
+            }
+            return is_true(text, bytes, offset, length);
+        }
+    },
+    BYTE {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            Long longValue = parse_integral(text, bytes, offset, length, true, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            return longValue == null ? null : (Object)longValue.byteValue();
+        }
+    },
+    CHARACTER {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            Long longValue = parse_integral(text, bytes, offset, length, false, Short.MIN_VALUE, Short.MAX_VALUE);
+            return longValue == null ? null : (Object)(char)longValue.shortValue();
+        }
+    },
+    SHORT {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            Long longValue = parse_integral(text, bytes, offset, length, true, Short.MIN_VALUE, Short.MAX_VALUE);
+            return longValue == null ? null : (Object)longValue.shortValue();
+        }
+    },
+    INTEGER {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            Long longValue = parse_integral(
+              text, bytes, offset, length, true, Integer.MIN_VALUE, Integer.MAX_VALUE
+            );
+            return longValue == null ? null : (Object)longValue.intValue();
+        }
+    },
+    LONG {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            return parse_integral(text, bytes, offset, length, true, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+    },
+    FLOAT {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            return parse_decimal(text, bytes, offset, length, true);
+        }
+    },
+    DOUBLE {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            return parse_decimal(text, bytes, offset, length, false);
+        }
+    },
+    NONE {
+        @Override
+        Object convert(CharSequence text, byte[] bytes, int offset, int length) {
+            return null;
+        }
+    };
+
+    //--------------------------------------------------------------------------------
+    // EXACTLY ONE OF "text" AND "bytes" IS NON-NULL.  IF "text" IS NON-NULL, "offset"
+    // IS 0 AND "length" IS ITS LENGTH.
+    //--------------------------------------------------------------------------------
+    abstract Object convert(CharSequence text, byte[] bytes, int offset, int length);
+
+    /**
+     * Converts a String value to the type of this converter.
+     *
+     * @param value the value to convert
+     * @return the converted value, or null if "value" cannot be converted
+     */
+    public Object convert(String value) {
+        return convert(value, null, 0, value.length());
+    }
+
+    /**
+     * Converts a value, given as ASCII text in a range of a byte array, to the type of this converter.
+     * The bytes are parsed in place.
+     *
+     * @param bytes array containing the value
+     * @param offset position of the value in "bytes"
+     * @param length length of the value
+     * @return the converted value, or null if the value cannot be converted
+     */
+    public Object convert(byte[] bytes, int offset, int length) {
+        return convert(null, bytes, offset, length);
+    }
+
+    /**
+     * Returns the converter for values of the given type.
+     *
+     * @param type the type of the parameter or attribute, e.g. Double.class
+     * @return the converter for "type", or NONE if String values are not converted to "type"
+     */
+    public static StringValueConverter get_string_value_converter(Class<?> type) {
+        if (type == Boolean.class) {
+            return BOOLEAN;
+        }
+        if (type == Byte.class) {
+            return BYTE;
+        }
+        if (type == Character.class) {
+            return CHARACTER;
+        }
+        if (type == Short.class) {
+            return SHORT;
+        }
+        if (type == Integer.class) {
+            return INTEGER;
+        }
+        if (type == Long.class) {
+            return LONG;
+        }
+        if (type == Float.class) {
+            return FLOAT;
+        }
+        if (type == Double.class) {
+            return DOUBLE;
+        }
+        return NONE;
+    }
+
+    private static char char_at(CharSequence text, byte[] bytes, int offset, int index) {
+        return text != null ? text.charAt(index) : (char)(bytes[offset + index] & 0xFF);
+    }
+
+    private static boolean is_digit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean is_true(CharSequence text, byte[] bytes, int offset, int length) {
+        if (length != 4) {
+            return false;
+        }
+        String trueString = "true";
+        for(int ix = 0 ; ix < 4 ; ++ix) {
+            if (Character.toLowerCase(char_at(text, bytes, offset, ix)) != trueString.charAt(ix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses an optionally-signed decimal integer.  If "truncate" is true, parsing stops at the first
+     * "." or "e" (in any case) that is not the first character of the value, and the rest of the value
+     * is ignored.
+     *
+     * @return the parsed value, or null if the value is not an integer or is not in [min, max]
+     */
+    private static Long parse_integral(
+            CharSequence text, byte[] bytes, int offset, int length, boolean truncate, long min, long max
+    ) {
+        int position = 0;
+
+        boolean negative = false;
+        if (position < length) {
+            char character = char_at(text, bytes, offset, position);
+            if (character == '-' || character == '+') {
+                negative = character == '-';
+                ++position;
+            }
+        }
+
+        // ACCUMULATE NEGATIVELY, AS IN Long.parseLong, SO THAT Long.MIN_VALUE CAN BE PARSED
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMinimum = limit / 10;
+        long result = 0;
+
+        int firstDigitPosition = position;
+        while(position < length) {
+            char character = char_at(text, bytes, offset, position);
+            if (!is_digit(character)) {
+                if (
+                        truncate && position > 0 &&
+                                (character == '.' || character == 'e' || character == 'E')
+                ) {
+                    break;
+                }
+                return null;
+            }
+
+            int digit = character - '0';
+            if (result < multiplyMinimum) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+            ++position;
+        }
+
+        if (position == firstDigitPosition) {
+            return null;
+        }
+
+        result = negative ? result : -result;
+        return result < min || result > max ? null : result;
+    }
+
+    //---------------------------------------------------------------------------------
+    // POWERS OF TEN THAT ARE EXACTLY REPRESENTABLE AS A double (UP TO 1e22) OR A float
+    // (UP TO 1e10).
+    //---------------------------------------------------------------------------------
+    private static final double[] _doublePowersOfTen = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final float[] _floatPowersOfTen = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+    private static final int MAX_EXACT_FLOAT_DIGITS = 7;
+
+    /**
+     * Parses a decimal floating-point number, i.e. an optional sign, digits with an optional ".",
+     * an optional exponent, and an optional "f" or "d" suffix, surrounded by optional whitespace, as
+     * accepted by Double.parseDouble and Float.parseFloat.
+     * <p/>
+     * If the significant digits of the number fit exactly in the type, and the power of ten by which
+     * they are to be scaled is also exact, a single (correctly rounded) multiplication or division
+     * yields the value.  Otherwise, the value is parsed with Double.parseDouble or Float.parseFloat.
+     *
+     * @return the parsed value, as a Float if "isFloat" is true and a Double otherwise, or null if the
+     * value is not a decimal floating-point number
+     */
+    private static Object parse_decimal(
+            CharSequence text, byte[] bytes, int offset, int length, boolean isFloat
+    ) {
+        int position = 0;
+        int end = length;
+
+        while(position < end && char_at(text, bytes, offset, position) <= ' ') {
+            ++position;
+        }
+        while(end > position && char_at(text, bytes, offset, end - 1) <= ' ') {
+            --end;
+        }
+
+        boolean negative = false;
+        if (position < end) {
+            char character = char_at(text, bytes, offset, position);
+            if (character == '-' || character == '+') {
+                negative = character == '-';
+                ++position;
+            }
+        }
+
+        long mantissa = 0;
+        int significantDigitCount = 0;
+        int digitCount = 0;
+        int decimalExponent = 0;
+        boolean inFraction = false;
+        while(position < end) {
+            char character = char_at(text, bytes, offset, position);
+            if (character == '.' && !inFraction) {
+                inFraction = true;
+                ++position;
+                continue;
+            }
+            if (!is_digit(character)) {
+                break;
+            }
+            ++digitCount;
+
+            int digit = character - '0';
+            if (significantDigitCount == 0 && digit == 0) {
+                // LEADING ZERO
+                decimalExponent -= inFraction ? 1 : 0;
+            } else if (significantDigitCount < 18) {
+                mantissa = mantissa * 10 + digit;
+                ++significantDigitCount;
+                decimalExponent -= inFraction ? 1 : 0;
+            } else {
+                // DIGIT THAT DOES NOT FIT IN mantissa -- ONLY ITS COUNT MATTERS, AS THE SLOW PATH IS USED
+                ++significantDigitCount;
+                decimalExponent += inFraction ? 0 : 1;
+            }
+            ++position;
+        }
+        if (digitCount == 0) {
+            return null;
+        }
+
+        if (position < end) {
+            char character = char_at(text, bytes, offset, position);
+            if (character == 'e' || character == 'E') {
+                ++position;
+
+                boolean negativeExponent = false;
+                if (position < end) {
+                    character = char_at(text, bytes, offset, position);
+                    if (character == '-' || character == '+') {
+                        negativeExponent = character == '-';
+                        ++position;
+                    }
+                }
+
+                int exponent = 0;
+                int exponentDigitCount = 0;
+                while(position < end && is_digit(character = char_at(text, bytes, offset, position))) {
+                    // ANY EXPONENT THIS LARGE USES THE SLOW PATH, SO STOP ACCUMULATING TO AVOID OVERFLOW
+                    if (exponent < 100000) {
+                        exponent = exponent * 10 + (character - '0');
+                    }
+                    ++position;
+                    ++exponentDigitCount;
+                }
+                if (exponentDigitCount == 0) {
+                    return null;
+                }
+                decimalExponent += negativeExponent ? -exponent : exponent;
+            }
+        }
+
+        if (position < end && "fFdD".indexOf(char_at(text, bytes, offset, position)) >= 0) {
+            ++position;
+        }
+
+        if (position != end) {
+            return null;
+        }
+
+        if (isFloat) {
+            if (mantissa == 0) {
+                return negative ? -0.0f : 0.0f;
+            }
+            if (
+                    significantDigitCount <= MAX_EXACT_FLOAT_DIGITS &&
+                            Math.abs(decimalExponent) < _floatPowersOfTen.length
+            ) {
+                float value = decimalExponent >= 0 ?
+                  (float)mantissa * _floatPowersOfTen[decimalExponent] :
+                  (float)mantissa / _floatPowersOfTen[-decimalExponent];
+                return negative ? -value : value;
+            }
+            return Float.parseFloat(to_string(text, bytes, offset, length));
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (
+                significantDigitCount <= MAX_EXACT_DOUBLE_DIGITS &&
+                        Math.abs(decimalExponent) < _doublePowersOfTen.length
+        ) {
+            double value = decimalExponent >= 0 ?
+              (double)mantissa * _doublePowersOfTen[decimalExponent] :
+              (double)mantissa / _doublePowersOfTen[-decimalExponent];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(to_string(text, bytes, offset, length));
+    }
+
+    private static String to_string(CharSequence text, byte[] bytes, int offset, int length) {
+        return text != null ? text.toString() : new String(bytes, offset, length, StandardCharsets.US_ASCII);
+    }
+}
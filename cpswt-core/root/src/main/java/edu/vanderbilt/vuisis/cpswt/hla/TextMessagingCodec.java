@@ -0,0 +1,81 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+/**
+ * The original CPSWT encoding of parameter and attribute values:  every value is sent as the
+ * bytes of its string representation, except that a boolean is sent as "1" or "0", and a char
+ * as the string representation of its numeric value.
+ * <p/>
+ * Decoding parses values of numeric, char and boolean parameters/attributes directly from the
+ * received bytes (see StringValueConverter).  Other values, and values that cannot be parsed, are
+ * decoded to the received String (without any trailing NUL character), which InteractionRoot/ObjectRoot
+ * then convert to the type of the parameter/attribute.
+ */
+public class TextMessagingCodec implements MessagingCodec {
+
+    public static final String NAME = "text";
+
+    public static final TextMessagingCodec INSTANCE = new TextMessagingCodec();
+
+    public String getName() {
+        return NAME;
+    }
+
+    public byte[] encode(Object value) {
+        String stringValue;
+        if (value instanceof Boolean) {
+            stringValue = (Boolean)value ? "1" : "0";
+        } else if (value instanceof Character) {
+            stringValue = String.valueOf((short) ((Character) value).charValue());
+        } else {
+            stringValue = value.toString();
+        }
+        return stringValue.getBytes();
+    }
+
+    public Object decode(byte[] bytes, int offset, int length, Class<?> type) {
+        if (length > 0 && bytes[offset + length - 1] == '\0') {
+            --length;
+        }
+
+        // PARSE NUMERIC (AND BOOLEAN) VALUES IN PLACE, WITHOUT AN INTERMEDIATE String
+        StringValueConverter stringValueConverter = StringValueConverter.get_string_value_converter(type);
+        if (stringValueConverter != StringValueConverter.NONE) {
+            Object value = stringValueConverter.convert(bytes, offset, length);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        return new String(bytes, offset, length);
+    }
+}
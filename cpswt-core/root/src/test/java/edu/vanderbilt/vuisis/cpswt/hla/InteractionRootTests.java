@@ -34,17 +34,22 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.Assert;
 
+import edu.vanderbilt.vuisis.cpswt.utils.UniqueIdGenerator;
+
 import java.io.StringReader;
+import java.util.Collections;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
 
 import static edu.vanderbilt.vuisis.cpswt.hla.InteractionRootInterface.ClassAndPropertyName;
 
 import static org.mockito.Mockito.*;
 
 import hla.rti.RTIambassador;
+import hla.rti.ReceivedInteraction;
 import org.mockito.invocation.InvocationOnMock;
 
 public class InteractionRootTests {
@@ -258,4 +263,322 @@ public class InteractionRootTests {
         }
         Assert.assertEquals(subscribedHlaClassNameSet, localSubscribedHlaClassNameSet);
     }
+
+    @Test
+    public void propertyIndexTest() {
+
+        InteractionRoot.PropertyIndex propertyIndex =
+                InteractionRoot.get_property_index("InteractionRoot.TestBase.TestDerived");
+        Assert.assertNotNull(propertyIndex);
+        Assert.assertEquals(7, propertyIndex.size());
+
+        // INHERITED PARAMETERS RESOLVE TO THE CLASS IN WHICH THEY ARE DEFINED
+        Assert.assertEquals(
+                new ClassAndPropertyName("InteractionRoot.TestBase", "field1"),
+                propertyIndex.getClassAndPropertyName("field1")
+        );
+        Assert.assertEquals(
+                new ClassAndPropertyName("InteractionRoot.TestBase.TestDerived", "field4"),
+                propertyIndex.getClassAndPropertyName("field4")
+        );
+        Assert.assertEquals(-1, propertyIndex.getSlot("noSuchField"));
+        Assert.assertNull(InteractionRoot.findProperty("InteractionRoot.TestBase", "field3"));
+
+        int slot = propertyIndex.getSlotForHandle(3);
+        Assert.assertEquals(propertyIndex.getSlot("field4"), slot);
+        Assert.assertEquals(3, propertyIndex.getHandle(slot));
+        Assert.assertEquals(-1, propertyIndex.getSlotForHandle(100));
+        Assert.assertEquals(4, InteractionRoot.get_parameter_handle("InteractionRoot.TestBase.TestDerived", "field5"));
+
+        InteractionRoot testDerived = new InteractionRoot("InteractionRoot.TestBase.TestDerived");
+        Assert.assertSame(propertyIndex, testDerived.getPropertyIndex());
+
+        testDerived.setParameter(3, 12L);
+        Assert.assertEquals(12L, testDerived.getParameter(3));
+        Assert.assertEquals(12L, testDerived.getParameter("field4"));
+        Assert.assertTrue(testDerived.hasParameter("field2"));
+        Assert.assertFalse(testDerived.hasParameter("noSuchField"));
+
+        InteractionRoot testDerivedCopy = new InteractionRoot(testDerived);
+        Assert.assertEquals(12L, testDerivedCopy.getParameter("field4"));
+    }
+
+    @Test
+    public void propertyValueMapTest() {
+
+        InteractionRoot testDerived = new InteractionRoot("InteractionRoot.TestBase.TestDerived");
+        Map<ClassAndPropertyName, Object> valueMap = testDerived.getClassAndPropertyNameValueMap();
+        Assert.assertTrue(valueMap instanceof InteractionRoot.PropertyValueMap);
+        Assert.assertEquals(7, valueMap.size());
+
+        testDerived.setParameter("field1", "original");
+        InteractionRoot testDerivedCopy = new InteractionRoot(testDerived);
+        testDerivedCopy.setParameter("field1", "copy");
+        Assert.assertEquals("original", testDerived.getParameter("field1"));
+        Assert.assertEquals("copy", testDerivedCopy.getParameter("field1"));
+
+        // THE MAP VIEW BEHAVES AS THE HashMap IT REPLACES
+        Map<ClassAndPropertyName, Object> expectedMap = new HashMap<>(valueMap);
+        Assert.assertEquals(expectedMap, valueMap);
+        Assert.assertEquals(expectedMap.hashCode(), valueMap.hashCode());
+
+        ClassAndPropertyName field2Key = new ClassAndPropertyName("InteractionRoot.TestBase", "field2");
+        for(Map.Entry<ClassAndPropertyName, Object> entry: valueMap.entrySet()) {
+            if (entry.getKey().equals(field2Key)) {
+                entry.setValue(42);
+            }
+        }
+        Assert.assertEquals(42, testDerived.getParameter("field2"));
+
+        Assert.assertEquals(42, valueMap.remove(field2Key));
+        Assert.assertFalse(valueMap.containsKey(field2Key));
+        Assert.assertEquals(6, valueMap.size());
+
+        try {
+            valueMap.put(new ClassAndPropertyName("InteractionRoot.OtherClass", "field3"), 1.0);
+            Assert.fail("put of a property not in the class should fail");
+        } catch (IllegalArgumentException e) { }
+    }
+
+    @Test
+    public void typedAccessorTest() {
+
+        InteractionRoot testDerived = new InteractionRoot("InteractionRoot.TestBase.TestDerived");
+
+        ClassAndPropertyName field2Key = new ClassAndPropertyName("InteractionRoot.TestBase", "field2");
+        ClassAndPropertyName field3Key = new ClassAndPropertyName("InteractionRoot.TestBase.TestDerived", "field3");
+        ClassAndPropertyName field7Key = new ClassAndPropertyName("InteractionRoot.TestBase.TestDerived", "field7");
+
+        testDerived.setInt(field2Key, 17);
+        testDerived.setBoolean(field3Key, true);
+        testDerived.setLong(3, 1L << 40);
+        testDerived.setDouble(4, 2.5);
+        testDerived.setChar(field7Key, 'Z');
+
+        Assert.assertEquals(17, testDerived.getInt(field2Key));
+        Assert.assertTrue(testDerived.getBoolean(field3Key));
+        Assert.assertEquals(1L << 40, testDerived.getLong(3));
+        Assert.assertEquals(2.5, testDerived.getDouble(4), 0);
+        Assert.assertEquals('Z', testDerived.getChar(field7Key));
+
+        // VALUES SET THROUGH THE TYPED ACCESSORS ARE SEEN, WITH THEIR DECLARED TYPES, THROUGH THE GENERIC API
+        Assert.assertEquals(17, testDerived.getParameter("field2"));
+        Assert.assertEquals(true, testDerived.getParameter("field3"));
+        Assert.assertEquals(1L << 40, testDerived.getParameter("field4"));
+        Assert.assertEquals(2.5, testDerived.getParameter("field5"));
+        Assert.assertEquals('Z', testDerived.getParameter("field7"));
+
+        // AND VICE-VERSA, WITH NUMERIC VALUES CONVERTED AS BY A CAST
+        testDerived.setParameter("field5", 7.75);
+        Assert.assertEquals(7.75, testDerived.getDouble(4), 0);
+        Assert.assertEquals(7, testDerived.getInt(4));
+    }
+
+    @Test
+    public void stringValueConversionTest() {
+
+        InteractionRoot testDerived = new InteractionRoot("InteractionRoot.TestBase.TestDerived");
+
+        // STRING-VERSIONS OF FLOATING-POINT VALUES ARE TRUNCATED FOR INTEGRAL PARAMETERS
+        testDerived.setParameter("field2", "42.9");
+        Assert.assertEquals(42, testDerived.getParameter("field2"));
+        testDerived.setParameter("field2", "-7e3");
+        Assert.assertEquals(-7, testDerived.getParameter("field2"));
+
+        // OUT-OF-RANGE AND NON-NUMERIC VALUES ARE REJECTED, LEAVING THE PARAMETER UNCHANGED
+        testDerived.setParameter("field6", "128");
+        Assert.assertEquals((byte)0, testDerived.getParameter("field6"));
+        testDerived.setParameter("field2", "forty-two");
+        Assert.assertEquals(-7, testDerived.getParameter("field2"));
+
+        testDerived.setParameter("field4", "-9223372036854775808");
+        Assert.assertEquals(Long.MIN_VALUE, testDerived.getParameter("field4"));
+
+        testDerived.setParameter("field5", "-1.5E2");
+        Assert.assertEquals(-150.0, testDerived.getParameter("field5"));
+
+        testDerived.setParameter("field3", "2.0");
+        Assert.assertEquals(true, testDerived.getParameter("field3"));
+        testDerived.setParameter("field3", "FALSE");
+        Assert.assertEquals(false, testDerived.getParameter("field3"));
+
+        testDerived.setParameter("field7", "65");
+        Assert.assertEquals('A', testDerived.getParameter("field7"));
+
+        testDerived.setParameter("field1", "Mixed Case");
+        Assert.assertEquals("Mixed Case", testDerived.getParameter("field1"));
+    }
+
+    private static ReceivedInteraction mock_received_interaction(int[] handles, String[] values) {
+        ReceivedInteraction receivedInteraction = mock(ReceivedInteraction.class);
+        try {
+            when(receivedInteraction.size()).thenReturn(handles.length);
+            when(receivedInteraction.getParameterHandle(anyInt())).thenAnswer(
+                    (InvocationOnMock invocationOnMock) -> handles[(int)invocationOnMock.getArgument(0)]
+            );
+            // THE REFERENCED ARRAY MAY BE LONGER THAN THE VALUE
+            when(receivedInteraction.getValueReference(anyInt())).thenAnswer(
+                    (InvocationOnMock invocationOnMock) ->
+                            (values[(int)invocationOnMock.getArgument(0)] + "    ").getBytes()
+            );
+            when(receivedInteraction.getValueLength(anyInt())).thenAnswer(
+                    (InvocationOnMock invocationOnMock) -> values[(int)invocationOnMock.getArgument(0)].length()
+            );
+        } catch (Exception e) { }
+        return receivedInteraction;
+    }
+
+    @Test
+    public void interactionPoolTest() {
+        int classHandle = InteractionRoot.get_class_handle("InteractionRoot.TestBase.TestDerived");
+
+        InteractionRoot.set_max_pool_size(4);
+        try {
+            InteractionRoot interaction1 = InteractionRoot.create_interaction(
+              classHandle, mock_received_interaction(new int[] {1, 4}, new String[] {"17", "2.5"})
+            );
+            Assert.assertEquals(17, interaction1.getParameter("field2"));
+            Assert.assertEquals(2.5, interaction1.getParameter("field5"));
+            interaction1.setParameter("field3", true);
+            interaction1.setTime(10);
+            long uniqueID1 = interaction1.getUniqueID();
+
+            interaction1.release();
+            Assert.assertEquals(1, InteractionRoot.get_pool_size("InteractionRoot.TestBase.TestDerived"));
+
+            // RELEASING AN INSTANCE TWICE DOES NOT PUT IT IN THE POOL TWICE
+            interaction1.release();
+            Assert.assertEquals(1, InteractionRoot.get_pool_size("InteractionRoot.TestBase.TestDerived"));
+
+            // THE RELEASED INSTANCE IS REUSED, WITH A NEW UNIQUE ID, AND WITH ONLY THE RECEIVED PARAMETER VALUES
+            InteractionRoot interaction2 = InteractionRoot.create_interaction(
+              classHandle, mock_received_interaction(new int[] {1}, new String[] {"5"})
+            );
+            Assert.assertSame(interaction1, interaction2);
+            Assert.assertNotEquals(uniqueID1, interaction2.getUniqueID());
+            Assert.assertEquals(0, InteractionRoot.get_pool_size("InteractionRoot.TestBase.TestDerived"));
+
+            Assert.assertEquals(5, interaction2.getParameter("field2"));
+            Assert.assertEquals(0.0, interaction2.getParameter("field5"));
+            Assert.assertEquals(false, interaction2.getParameter("field3"));
+            Assert.assertEquals(-1, interaction2.getTime(), 0);
+
+            // THE POOL OF A CLASS IS BOUNDED
+            for(int ix = 0 ; ix < 6 ; ++ix) {
+                new InteractionRoot("InteractionRoot.TestBase.TestDerived").release();
+            }
+            Assert.assertEquals(4, InteractionRoot.get_pool_size("InteractionRoot.TestBase.TestDerived"));
+
+        } finally {
+            InteractionRoot.set_max_pool_size(0);
+        }
+
+        // WITH POOLING DISABLED, release HAS NO EFFECT
+        new InteractionRoot("InteractionRoot.TestBase.TestDerived").release();
+        Assert.assertEquals(0, InteractionRoot.get_pool_size("InteractionRoot.TestBase.TestDerived"));
+    }
+
+    @Test
+    public void concurrentReleaseTest() throws InterruptedException {
+        final int numberOfThreads = 4;
+        final String hlaClassName = "InteractionRoot.TestBase.TestDerived";
+
+        InteractionRoot.set_max_pool_size(numberOfThreads);
+        try {
+            for(int ix = 0 ; ix < 50 ; ++ix) {
+                final InteractionRoot interactionRoot = new InteractionRoot(hlaClassName);
+                final CountDownLatch startLatch = new CountDownLatch(1);
+
+                Thread[] threads = new Thread[numberOfThreads];
+                for(int jx = 0 ; jx < numberOfThreads ; ++jx) {
+                    threads[jx] = new Thread(() -> {
+                        try {
+                            startLatch.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        interactionRoot.release();
+                    });
+                    threads[jx].start();
+                }
+                startLatch.countDown();
+                for(Thread thread: threads) {
+                    thread.join();
+                }
+
+                // ONLY ONE OF THE CONCURRENT release() CALLS PUTS THE INSTANCE IN THE POOL
+                Assert.assertEquals(1, InteractionRoot.get_pool_size(hlaClassName));
+                InteractionRoot.set_max_pool_size(numberOfThreads);
+            }
+        } finally {
+            InteractionRoot.set_max_pool_size(0);
+        }
+    }
+
+    @Test
+    public void uniqueIDTest() throws InterruptedException {
+        final int numberOfThreads = 4;
+        final int interactionsPerThread = 3 * UniqueIdGenerator.BLOCK_SIZE;
+
+        final Set<Long> uniqueIDSet = Collections.synchronizedSet(new HashSet<>());
+        final Set<String> errorSet = Collections.synchronizedSet(new HashSet<>());
+
+        Thread[] threads = new Thread[numberOfThreads];
+        for(int ix = 0 ; ix < numberOfThreads ; ++ix) {
+            threads[ix] = new Thread(() -> {
+                long previousUniqueID = -1;
+                for(int jx = 0 ; jx < interactionsPerThread ; ++jx) {
+                    long uniqueID = new InteractionRoot("InteractionRoot.TestBase").getUniqueID();
+                    if (uniqueID <= previousUniqueID) {
+                        errorSet.add("unique id " + uniqueID + " follows " + previousUniqueID);
+                    }
+                    previousUniqueID = uniqueID;
+                    uniqueIDSet.add(uniqueID);
+                }
+            });
+            threads[ix].start();
+        }
+        for(Thread thread: threads) {
+            thread.join();
+        }
+
+        // IDS INCREASE WITHIN EACH THREAD, AND ARE UNIQUE ACROSS THREADS
+        Assert.assertTrue(errorSet.toString(), errorSet.isEmpty());
+        Assert.assertEquals(numberOfThreads * interactionsPerThread, uniqueIDSet.size());
+    }
+
+    @Test
+    public void hlaClassDescriptorTest() {
+        InteractionRoot testDerived = new InteractionRoot("InteractionRoot.TestBase.TestDerived");
+
+        HlaClassDescriptor rootDescriptor = InteractionRoot.get_hla_class_descriptor("InteractionRoot");
+        HlaClassDescriptor testBaseDescriptor = InteractionRoot.get_hla_class_descriptor("InteractionRoot.TestBase");
+        HlaClassDescriptor testDerivedDescriptor = testDerived.getInstanceHlaClassDescriptor();
+
+        // DESCRIPTORS ARE INTERNED
+        Assert.assertSame(
+                testDerivedDescriptor, InteractionRoot.get_hla_class_descriptor("InteractionRoot.TestBase.TestDerived")
+        );
+        Assert.assertSame(testBaseDescriptor, testDerivedDescriptor.getSuperclassDescriptor());
+        Assert.assertSame(rootDescriptor, testDerivedDescriptor.getAncestorDescriptor(0));
+        Assert.assertEquals(2, testDerivedDescriptor.getDepth());
+        Assert.assertNull(rootDescriptor.getSuperclassDescriptor());
+
+        Assert.assertTrue(testDerived.isInstanceOfHlaClass(testDerivedDescriptor));
+        Assert.assertFalse(testDerived.isInstanceOfHlaClass(testBaseDescriptor));
+
+        Assert.assertTrue(testDerived.isInstanceHlaClassDerivedFromHlaClass(rootDescriptor));
+        Assert.assertTrue(testDerived.isInstanceHlaClassDerivedFromHlaClass(testBaseDescriptor));
+        Assert.assertTrue(testDerived.isInstanceHlaClassDerivedFromHlaClass(testDerivedDescriptor));
+        Assert.assertFalse(testBaseDescriptor.isDerivedFrom(testDerivedDescriptor));
+
+        // A CLASS WHOSE NAME ONLY SHARES A PREFIX IS NOT A SUPERCLASS
+        Assert.assertFalse(testDerived.isInstanceHlaClassDerivedFromHlaClass("InteractionRoot.Test"));
+        Assert.assertFalse(testDerived.isInstanceHlaClassDerivedFromHlaClass(
+                InteractionRoot.get_hla_class_descriptor("InteractionRoot.TestBase.TestDerived.TestMoreDerived")
+        ));
+        Assert.assertFalse(testDerived.isInstanceHlaClassDerivedFromHlaClass(
+                InteractionRoot.get_hla_class_descriptor("InteractionRoot.OtherBase")
+        ));
+    }
 }
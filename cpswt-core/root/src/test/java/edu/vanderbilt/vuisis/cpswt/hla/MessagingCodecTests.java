@@ -0,0 +1,118 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.hla;
+
+import org.junit.Test;
+import org.junit.Assert;
+
+public class MessagingCodecTests {
+
+    private static Object roundTrip(MessagingCodec messagingCodec, Object value) {
+        byte[] bytes = messagingCodec.encode(value);
+
+        // DECODE FROM THE MIDDLE OF A LARGER ARRAY TO CHECK THAT offset AND length ARE RESPECTED
+        byte[] paddedBytes = new byte[bytes.length + 4];
+        System.arraycopy(bytes, 0, paddedBytes, 2, bytes.length);
+        return messagingCodec.decode(paddedBytes, 2, bytes.length, value.getClass());
+    }
+
+    @Test
+    public void binaryCodecRoundTripTest() {
+        MessagingCodec messagingCodec = MessagingCodec.get_messaging_codec("binary");
+        Assert.assertSame(BinaryMessagingCodec.INSTANCE, messagingCodec);
+
+        Object[] values = {
+          true, false, (byte)-17, 'Q', (short)-1234, -123456789, 1L << 50, 2.5f, -3.14, Double.NaN,
+          "", "hello", "gr\u00fc\u00dfe \u4e16\u754c"
+        };
+        for(Object value: values) {
+            Assert.assertEquals(value, roundTrip(messagingCodec, value));
+        }
+
+        Assert.assertEquals(Double.BYTES, messagingCodec.encode(1.0).length);
+        Assert.assertEquals(1, messagingCodec.encode(true).length);
+
+        // MALFORMED (E.G. TEXT-ENCODED) INPUT IS REJECTED RATHER THAN MISREAD
+        byte[] textBytes = "1.5".getBytes();
+        Assert.assertNull(messagingCodec.decode(textBytes, 0, textBytes.length, Double.class));
+        Assert.assertNull(messagingCodec.decode(textBytes, 0, textBytes.length, String.class));
+    }
+
+    @Test
+    public void textCodecTest() {
+        MessagingCodec messagingCodec = MessagingCodec.get_messaging_codec("text");
+        Assert.assertSame(TextMessagingCodec.INSTANCE, messagingCodec);
+
+        Assert.assertEquals("1", new String(messagingCodec.encode(true)));
+        Assert.assertEquals("81", new String(messagingCodec.encode('Q')));
+        Assert.assertEquals("2.5", new String(messagingCodec.encode(2.5)));
+
+        byte[] bytes = "value\0".getBytes();
+        Assert.assertEquals("value", messagingCodec.decode(bytes, 0, bytes.length, String.class));
+
+        Assert.assertNull(MessagingCodec.get_messaging_codec("noSuchCodec"));
+    }
+
+    @Test
+    public void textCodecInPlaceDecodeTest() {
+        MessagingCodec messagingCodec = TextMessagingCodec.INSTANCE;
+
+        // NUMERIC AND BOOLEAN VALUES ARE PARSED DIRECTLY FROM THE BYTES TO THE TYPE OF THE PROPERTY
+        Object[] values = {true, false, (byte)-17, 'Q', (short)-1234, -123456789, 1L << 50, 2.5f, -3.14};
+        for(Object value: values) {
+            Assert.assertEquals(value, roundTrip(messagingCodec, value));
+        }
+
+        // PARSED DOUBLES ARE IDENTICAL TO THOSE OF Double.parseDouble, WHETHER OR NOT THEY CAN BE
+        // COMPUTED EXACTLY FROM THEIR DIGITS
+        String[] doubleStrings = {
+          "0", "-0.0", "0.1", "123.456", "1e22", "1e23", "-2.5E-3", "4.9e-324", "1.7976931348623157e308",
+          "3.141592653589793", "0.30000000000000004", "123456789012345678901234567890", " 7.5d ", "1e400"
+        };
+        for(String doubleString: doubleStrings) {
+            byte[] bytes = (doubleString + "\0").getBytes();
+            Assert.assertEquals(
+              doubleString,
+              Double.parseDouble(doubleString),
+              messagingCodec.decode(bytes, 0, bytes.length, Double.class)
+            );
+            Assert.assertEquals(
+              doubleString,
+              Float.parseFloat(doubleString),
+              messagingCodec.decode(bytes, 0, bytes.length, Float.class)
+            );
+        }
+
+        // VALUES THAT CANNOT BE PARSED ARE DECODED TO THEIR STRING
+        byte[] bytes = "1.2.3".getBytes();
+        Assert.assertEquals("1.2.3", messagingCodec.decode(bytes, 0, bytes.length, Double.class));
+    }
+}
@@ -283,4 +283,34 @@ public class ObjectRootTests {
         Assert.assertEquals('Q', testDerived.getAttribute("field7"));
     }
 
+    @Test
+    public void objectReflectorMergeTest() {
+        ClassAndPropertyName field1 = new ClassAndPropertyName("ObjectRoot.TestBase", "field1");
+        ClassAndPropertyName field2 = new ClassAndPropertyName("ObjectRoot.TestBase", "field2");
+        ClassAndPropertyName field3 = new ClassAndPropertyName("ObjectRoot.TestBase.TestDerived", "field3");
+
+        Map<ClassAndPropertyName, Object> firstValueMap = new HashMap<>();
+        firstValueMap.put(field1, "first");
+        firstValueMap.put(field2, 1);
+        ObjectRoot.ObjectReflector objectReflector = new ObjectRoot.ObjectReflector(100, firstValueMap);
+        objectReflector.setTime(2.0);
+
+        Map<ClassAndPropertyName, Object> secondValueMap = new HashMap<>();
+        secondValueMap.put(field2, 2);
+        secondValueMap.put(field3, true);
+        ObjectRoot.ObjectReflector laterObjectReflector = new ObjectRoot.ObjectReflector(100, secondValueMap);
+        laterObjectReflector.setTime(3.0);
+
+        objectReflector.merge(laterObjectReflector);
+
+        // THE MERGED REFLECTOR HAS THE LATEST VALUE OF EACH ATTRIBUTE, AND KEEPS ITS OWN TIME
+        Map<ClassAndPropertyName, Object> mergedValueMap = objectReflector.getClassAndPropertyNameValueMap();
+        Assert.assertEquals(3, mergedValueMap.size());
+        Assert.assertEquals("first", mergedValueMap.get(field1));
+        Assert.assertEquals(2, mergedValueMap.get(field2));
+        Assert.assertEquals(true, mergedValueMap.get(field3));
+        Assert.assertEquals(100, objectReflector.getObjectHandle());
+        Assert.assertEquals(2.0, objectReflector.getTime(), 0);
+    }
+
 }
@@ -39,6 +39,10 @@ val version: String by project
 val archivaHostId: String by project
 val archivaPort: String by project
 
+dependencies {
+    testImplementation(group="junit", name="junit", version="4.13.2")
+}
+
 publishing {
     publications {
         create<MavenPublication>("utils") {
@@ -0,0 +1,232 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.utils;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A Map whose contents are an immutable snapshot, published through a volatile reference.
+ * <p/>
+ * Reads (get, containsKey, iteration, ...) use the current snapshot without locking, and so may run
+ * concurrently with each other and with writes.  An iteration sees the snapshot that was current when
+ * it started, and never throws ConcurrentModificationException.
+ * <p/>
+ * Writes (put, remove, compute, merge, replace, ...) are serialized by locking the map:  each copies the
+ * current snapshot, modifies the copy, and publishes it as the new snapshot, so a write that reads the
+ * current value (e.g. compute or merge) is atomic.  A sequence of writes that must appear to be
+ * atomic to other writers can be made by locking the map, i.e. "synchronized(map) { ... }".  Views
+ * (entrySet, keySet, values) are read-only.
+ * <p/>
+ * This is intended for maps that are read far more often than they are written, such as class metadata
+ * that is written while classes are loaded and read on every message.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class CopyOnWriteHashMap<K, V> extends AbstractMap<K, V> {
+
+    private volatile Map<K, V> _snapshot = Collections.emptyMap();
+
+    public CopyOnWriteHashMap() { }
+
+    public CopyOnWriteHashMap(Map<? extends K, ? extends V> map) {
+        _snapshot = new HashMap<>(map);
+    }
+
+    /**
+     * Returns the current contents of this map, which will not change.
+     *
+     * @return an unmodifiable snapshot of this map
+     */
+    public Map<K, V> snapshot() {
+        return Collections.unmodifiableMap(_snapshot);
+    }
+
+    //-----------------------------
+    // READS -- USE _snapshot ONLY
+    //-----------------------------
+    @Override
+    public V get(Object key) {
+        return _snapshot.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return _snapshot.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return _snapshot.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return _snapshot.containsValue(value);
+    }
+
+    @Override
+    public int size() {
+        return _snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return _snapshot.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(_snapshot).entrySet();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(_snapshot.keySet());
+    }
+
+    //-------------------------------------
+    // WRITES -- COPY, MODIFY, AND PUBLISH
+    //-------------------------------------
+    @Override
+    public synchronized V put(K key, V value) {
+        Map<K, V> newSnapshot = new HashMap<>(_snapshot);
+        V previousValue = newSnapshot.put(key, value);
+        _snapshot = newSnapshot;
+        return previousValue;
+    }
+
+    @Override
+    public synchronized void putAll(Map<? extends K, ? extends V> map) {
+        Map<K, V> newSnapshot = new HashMap<>(_snapshot);
+        newSnapshot.putAll(map);
+        _snapshot = newSnapshot;
+    }
+
+    @Override
+    public synchronized V putIfAbsent(K key, V value) {
+        V currentValue = _snapshot.get(key);
+        return currentValue != null ? currentValue : put(key, value);
+    }
+
+    @Override
+    public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V currentValue = _snapshot.get(key);
+        if (currentValue != null) {
+            return currentValue;
+        }
+        V newValue = mappingFunction.apply(key);
+        if (newValue != null) {
+            put(key, newValue);
+        }
+        return newValue;
+    }
+
+    @Override
+    public synchronized V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (_snapshot.get(key) == null) {
+            return null;
+        }
+        Map<K, V> newSnapshot = new HashMap<>(_snapshot);
+        V newValue = newSnapshot.computeIfPresent(key, remappingFunction);
+        _snapshot = newSnapshot;
+        return newValue;
+    }
+
+    @Override
+    public synchronized V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Map<K, V> newSnapshot = new HashMap<>(_snapshot);
+        V newValue = newSnapshot.compute(key, remappingFunction);
+        _snapshot = newSnapshot;
+        return newValue;
+    }
+
+    @Override
+    public synchronized V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Map<K, V> newSnapshot = new HashMap<>(_snapshot);
+        V newValue = newSnapshot.merge(key, value, remappingFunction);
+        _snapshot = newSnapshot;
+        return newValue;
+    }
+
+    @Override
+    public synchronized V replace(K key, V value) {
+        return _snapshot.containsKey(key) ? put(key, value) : null;
+    }
+
+    @Override
+    public synchronized boolean replace(K key, V oldValue, V newValue) {
+        if (!_snapshot.containsKey(key) || !Objects.equals(_snapshot.get(key), oldValue)) {
+            return false;
+        }
+        put(key, newValue);
+        return true;
+    }
+
+    @Override
+    public synchronized void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        Map<K, V> newSnapshot = new HashMap<>(_snapshot);
+        newSnapshot.replaceAll(function);
+        _snapshot = newSnapshot;
+    }
+
+    @Override
+    public synchronized V remove(Object key) {
+        if (!_snapshot.containsKey(key)) {
+            return null;
+        }
+        Map<K, V> newSnapshot = new HashMap<>(_snapshot);
+        V previousValue = newSnapshot.remove(key);
+        _snapshot = newSnapshot;
+        return previousValue;
+    }
+
+    @Override
+    public synchronized boolean remove(Object key, Object value) {
+        if (!_snapshot.containsKey(key) || !Objects.equals(_snapshot.get(key), value)) {
+            return false;
+        }
+        remove(key);
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        _snapshot = Collections.emptyMap();
+    }
+}
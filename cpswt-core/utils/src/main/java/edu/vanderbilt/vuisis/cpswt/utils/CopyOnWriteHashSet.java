@@ -0,0 +1,151 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.utils;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A Set whose contents are an immutable snapshot, published through a volatile reference.
+ * Reads use the current snapshot without locking; writes are serialized by locking the set, and each
+ * copies the snapshot, modifies the copy, and publishes it.  Iterators are read-only.
+ * See {@link CopyOnWriteHashMap}.
+ * <p/>
+ * Unlike java.util.concurrent.CopyOnWriteArraySet, "contains" takes constant time.
+ *
+ * @param <E> the type of the elements
+ */
+public class CopyOnWriteHashSet<E> extends AbstractSet<E> {
+
+    private volatile Set<E> _snapshot = Collections.emptySet();
+
+    public CopyOnWriteHashSet() { }
+
+    public CopyOnWriteHashSet(Collection<? extends E> collection) {
+        _snapshot = new HashSet<>(collection);
+    }
+
+    /**
+     * Returns the current contents of this set, which will not change.
+     *
+     * @return an unmodifiable snapshot of this set
+     */
+    public Set<E> snapshot() {
+        return Collections.unmodifiableSet(_snapshot);
+    }
+
+    //-----------------------------
+    // READS -- USE _snapshot ONLY
+    //-----------------------------
+    @Override
+    public boolean contains(Object object) {
+        return _snapshot.contains(object);
+    }
+
+    @Override
+    public int size() {
+        return _snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return _snapshot.isEmpty();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return Collections.unmodifiableSet(_snapshot).iterator();
+    }
+
+    //-------------------------------------
+    // WRITES -- COPY, MODIFY, AND PUBLISH
+    //-------------------------------------
+    @Override
+    public synchronized boolean add(E element) {
+        if (_snapshot.contains(element)) {
+            return false;
+        }
+        Set<E> newSnapshot = new HashSet<>(_snapshot);
+        newSnapshot.add(element);
+        _snapshot = newSnapshot;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends E> collection) {
+        Set<E> newSnapshot = new HashSet<>(_snapshot);
+        boolean changed = newSnapshot.addAll(collection);
+        if (changed) {
+            _snapshot = newSnapshot;
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean remove(Object object) {
+        if (!_snapshot.contains(object)) {
+            return false;
+        }
+        Set<E> newSnapshot = new HashSet<>(_snapshot);
+        newSnapshot.remove(object);
+        _snapshot = newSnapshot;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean removeAll(Collection<?> collection) {
+        Set<E> newSnapshot = new HashSet<>(_snapshot);
+        boolean changed = newSnapshot.removeAll(collection);
+        if (changed) {
+            _snapshot = newSnapshot;
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean retainAll(Collection<?> collection) {
+        Set<E> newSnapshot = new HashSet<>(_snapshot);
+        boolean changed = newSnapshot.retainAll(collection);
+        if (changed) {
+            _snapshot = newSnapshot;
+        }
+        return changed;
+    }
+
+    @Override
+    public synchronized void clear() {
+        _snapshot = Collections.emptySet();
+    }
+}
@@ -34,6 +34,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -56,6 +57,60 @@ public class CpswtUtils {
         CpswtUtils.sleep(50);
     }
 
+    //-------------------------------------------------------------------------------------------------
+    // VIRTUAL THREADS:  CREATED BY REFLECTION, AS THEY ARE ONLY AVAILABLE ON JDK 21 AND LATER.  ON AN
+    // EARLIER JDK, _ofVirtualMethod IS null, AND newThread CREATES PLATFORM THREADS.
+    //-------------------------------------------------------------------------------------------------
+    private static final Method _ofVirtualMethod;
+    private static final Method _builderNameMethod;
+    private static final Method _builderUnstartedMethod;
+
+    static {
+        Method ofVirtualMethod = null;
+        Method builderNameMethod = null;
+        Method builderUnstartedMethod = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            builderNameMethod = builderClass.getMethod("name", String.class);
+            builderUnstartedMethod = builderClass.getMethod("unstarted", Runnable.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            // JDK WITHOUT VIRTUAL THREADS
+            ofVirtualMethod = null;
+        }
+        _ofVirtualMethod = ofVirtualMethod;
+        _builderNameMethod = builderNameMethod;
+        _builderUnstartedMethod = builderUnstartedMethod;
+    }
+
+    /**
+     * Returns true if the JDK supports virtual threads.
+     * @return true if the JDK supports virtual threads, false otherwise.
+     */
+    public static boolean virtualThreadsSupported() {
+        return _ofVirtualMethod != null;
+    }
+
+    /**
+     * Creates a new, unstarted thread.
+     * @param name The name of the thread.
+     * @param runnable What the thread runs.
+     * @param virtual If true, and the JDK supports virtual threads, the thread is a virtual thread.
+     *                Otherwise, it is a platform thread.
+     * @return The new thread.
+     */
+    public static Thread newThread(String name, Runnable runnable, boolean virtual) {
+        if (virtual && _ofVirtualMethod != null) {
+            try {
+                Object builder = _builderNameMethod.invoke(_ofVirtualMethod.invoke(null), name);
+                return (Thread)_builderUnstartedMethod.invoke(builder, runnable);
+            } catch (ReflectiveOperationException e) {
+                // FALL BACK TO A PLATFORM THREAD
+            }
+        }
+        return new Thread(runnable, name);
+    }
+
     /**
      * Returns the {@link File} object of a parameter config file.
      * @param filePath The path to the config file (relative or absolute)
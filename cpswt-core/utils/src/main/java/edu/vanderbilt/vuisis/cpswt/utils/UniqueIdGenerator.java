@@ -0,0 +1,70 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+
+package edu.vanderbilt.vuisis.cpswt.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates unique 64-bit ids from any number of threads without contention.
+ * <p/>
+ * Each thread reserves a block of BLOCK_SIZE consecutive ids with a single atomic operation on a
+ * shared counter, and then hands out the ids in its block from thread-local state.  As such, the ids
+ * that a given thread gets are strictly increasing, and no id is ever given out twice, but ids given
+ * out by different threads are not ordered by the time at which they were generated.
+ */
+public class UniqueIdGenerator {
+
+    public static final int BLOCK_SIZE = 1024;
+
+    private static class IdBlock {
+        private long _next = 0;
+        private long _limit = 0;
+    }
+
+    private final AtomicLong _nextBlockStart = new AtomicLong(0);
+
+    private final ThreadLocal<IdBlock> _threadIdBlock = ThreadLocal.withInitial(IdBlock::new);
+
+    /**
+     * Returns an id that has not been returned before by this generator, and that is greater than
+     * any id previously returned by this generator to the calling thread.
+     *
+     * @return the next unique id for the calling thread
+     */
+    public long next() {
+        IdBlock idBlock = _threadIdBlock.get();
+        if (idBlock._next == idBlock._limit) {
+            idBlock._next = _nextBlockStart.getAndAdd(BLOCK_SIZE);
+            idBlock._limit = idBlock._next + BLOCK_SIZE;
+        }
+        return idBlock._next++;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+package edu.vanderbilt.vuisis.cpswt.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class CopyOnWriteHashMapTests {
+
+    @Test
+    public void readWriteTest() {
+        CopyOnWriteHashMap<String, Integer> copyOnWriteHashMap = new CopyOnWriteHashMap<>();
+        Assert.assertTrue(copyOnWriteHashMap.isEmpty());
+
+        Assert.assertNull(copyOnWriteHashMap.put("one", 1));
+        Assert.assertEquals(1, (int)copyOnWriteHashMap.put("one", 11));
+        Assert.assertEquals(11, (int)copyOnWriteHashMap.get("one"));
+
+        Map<String, Integer> map = new HashMap<>();
+        map.put("two", 2);
+        map.put("three", 3);
+        copyOnWriteHashMap.putAll(map);
+        Assert.assertEquals(3, copyOnWriteHashMap.size());
+        Assert.assertTrue(copyOnWriteHashMap.containsKey("two"));
+        Assert.assertTrue(copyOnWriteHashMap.containsValue(3));
+        Assert.assertEquals(0, (int)copyOnWriteHashMap.getOrDefault("four", 0));
+
+        Assert.assertEquals(2, (int)copyOnWriteHashMap.putIfAbsent("two", 22));
+        Assert.assertNull(copyOnWriteHashMap.putIfAbsent("four", 4));
+        Assert.assertEquals(4, (int)copyOnWriteHashMap.get("four"));
+
+        Assert.assertEquals(4, (int)copyOnWriteHashMap.computeIfAbsent("four", key -> 44));
+        Assert.assertEquals(5, (int)copyOnWriteHashMap.computeIfAbsent("five", key -> 5));
+        Assert.assertNull(copyOnWriteHashMap.computeIfAbsent("six", key -> null));
+        Assert.assertFalse(copyOnWriteHashMap.containsKey("six"));
+
+        Assert.assertEquals(5, (int)copyOnWriteHashMap.remove("five"));
+        Assert.assertNull(copyOnWriteHashMap.remove("five"));
+        Assert.assertEquals(4, copyOnWriteHashMap.size());
+
+        Map<String, Integer> expectedMap = new HashMap<>();
+        expectedMap.put("one", 11);
+        expectedMap.put("two", 2);
+        expectedMap.put("three", 3);
+        expectedMap.put("four", 4);
+        Assert.assertEquals(expectedMap, copyOnWriteHashMap);
+        Assert.assertEquals(expectedMap, new CopyOnWriteHashMap<>(expectedMap));
+
+        copyOnWriteHashMap.clear();
+        Assert.assertTrue(copyOnWriteHashMap.isEmpty());
+    }
+
+    @Test
+    public void computeTest() {
+        CopyOnWriteHashMap<String, Integer> copyOnWriteHashMap = new CopyOnWriteHashMap<>();
+        copyOnWriteHashMap.put("one", 1);
+        copyOnWriteHashMap.put("two", 2);
+
+        Assert.assertEquals(11, (int)copyOnWriteHashMap.compute("one", (key, value) -> value + 10));
+        Assert.assertEquals(3, (int)copyOnWriteHashMap.compute("three", (key, value) -> value == null ? 3 : value));
+        Assert.assertNull(copyOnWriteHashMap.compute("three", (key, value) -> null));
+        Assert.assertFalse(copyOnWriteHashMap.containsKey("three"));
+
+        Assert.assertEquals(22, (int)copyOnWriteHashMap.computeIfPresent("two", (key, value) -> value * 11));
+        Assert.assertNull(copyOnWriteHashMap.computeIfPresent("four", (key, value) -> 4));
+        Assert.assertFalse(copyOnWriteHashMap.containsKey("four"));
+
+        Assert.assertEquals(4, (int)copyOnWriteHashMap.merge("four", 4, Integer::sum));
+        Assert.assertEquals(8, (int)copyOnWriteHashMap.merge("four", 4, Integer::sum));
+
+        Assert.assertEquals(8, (int)copyOnWriteHashMap.replace("four", 44));
+        Assert.assertNull(copyOnWriteHashMap.replace("five", 5));
+        Assert.assertFalse(copyOnWriteHashMap.containsKey("five"));
+        Assert.assertFalse(copyOnWriteHashMap.replace("four", 4, 444));
+        Assert.assertTrue(copyOnWriteHashMap.replace("four", 44, 4));
+
+        Assert.assertFalse(copyOnWriteHashMap.remove("four", 44));
+        Assert.assertTrue(copyOnWriteHashMap.remove("four", 4));
+
+        copyOnWriteHashMap.replaceAll((key, value) -> value + 1);
+
+        Map<String, Integer> expectedMap = new HashMap<>();
+        expectedMap.put("one", 12);
+        expectedMap.put("two", 23);
+        Assert.assertEquals(expectedMap, copyOnWriteHashMap);
+    }
+
+    @Test
+    public void snapshotTest() {
+        CopyOnWriteHashMap<String, Integer> copyOnWriteHashMap = new CopyOnWriteHashMap<>();
+        copyOnWriteHashMap.put("one", 1);
+        copyOnWriteHashMap.put("two", 2);
+
+        // A SNAPSHOT, AND AN ITERATION, ARE NOT CHANGED BY LATER WRITES, AND DO NOT THROW
+        // ConcurrentModificationException
+        Map<String, Integer> snapshot = copyOnWriteHashMap.snapshot();
+        List<String> keyList = new ArrayList<>();
+        for(Map.Entry<String, Integer> entry: copyOnWriteHashMap.entrySet()) {
+            keyList.add(entry.getKey());
+            copyOnWriteHashMap.put(entry.getKey() + "-copy", entry.getValue());
+        }
+        Assert.assertEquals(2, keyList.size());
+        Assert.assertEquals(2, snapshot.size());
+        Assert.assertEquals(4, copyOnWriteHashMap.size());
+
+        // VIEWS ARE READ-ONLY
+        Iterator<String> iterator = copyOnWriteHashMap.keySet().iterator();
+        iterator.next();
+        try {
+            iterator.remove();
+            Assert.fail("keySet iterator should be read-only");
+        } catch (UnsupportedOperationException e) { }
+        try {
+            copyOnWriteHashMap.entrySet().iterator().next().setValue(0);
+            Assert.fail("entrySet entries should be read-only");
+        } catch (UnsupportedOperationException e) { }
+        try {
+            snapshot.put("three", 3);
+            Assert.fail("snapshot should be read-only");
+        } catch (UnsupportedOperationException e) { }
+    }
+
+    @Test
+    public void concurrentWriteTest() throws InterruptedException {
+        final int numberOfThreads = 4;
+        final int numberOfPuts = 1000;
+
+        CopyOnWriteHashMap<Integer, Integer> copyOnWriteHashMap = new CopyOnWriteHashMap<>();
+        List<Thread> threadList = new ArrayList<>();
+        for(int ix = 0 ; ix < numberOfThreads ; ++ix) {
+            final int offset = ix * numberOfPuts;
+            Thread thread = new Thread(() -> {
+                for(int jx = 0 ; jx < numberOfPuts ; ++jx) {
+                    copyOnWriteHashMap.put(offset + jx, jx);
+                    // READS RUN CONCURRENTLY WITH THE WRITES OF THE OTHER THREADS
+                    Assert.assertEquals(jx, (int)copyOnWriteHashMap.get(offset + jx));
+                }
+            });
+            threadList.add(thread);
+            thread.start();
+        }
+        for(Thread thread: threadList) {
+            thread.join(10000);
+        }
+
+        // NO WRITE IS LOST
+        Assert.assertEquals(numberOfThreads * numberOfPuts, copyOnWriteHashMap.size());
+    }
+
+    @Test
+    public void concurrentMergeTest() throws InterruptedException {
+        final int numberOfThreads = 4;
+        final int numberOfMerges = 1000;
+
+        CopyOnWriteHashMap<String, Integer> copyOnWriteHashMap = new CopyOnWriteHashMap<>();
+        List<Thread> threadList = new ArrayList<>();
+        for(int ix = 0 ; ix < numberOfThreads ; ++ix) {
+            Thread thread = new Thread(() -> {
+                for(int jx = 0 ; jx < numberOfMerges ; ++jx) {
+                    copyOnWriteHashMap.merge("merge", 1, Integer::sum);
+                    copyOnWriteHashMap.compute("compute", (key, value) -> value == null ? 1 : value + 1);
+                }
+            });
+            threadList.add(thread);
+            thread.start();
+        }
+        for(Thread thread: threadList) {
+            thread.join(10000);
+        }
+
+        // EACH READ-MODIFY-WRITE IS ATOMIC, SO NO INCREMENT IS LOST
+        Assert.assertEquals(numberOfThreads * numberOfMerges, (int)copyOnWriteHashMap.get("merge"));
+        Assert.assertEquals(numberOfThreads * numberOfMerges, (int)copyOnWriteHashMap.get("compute"));
+    }
+}
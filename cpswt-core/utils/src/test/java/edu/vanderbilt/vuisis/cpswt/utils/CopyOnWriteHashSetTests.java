@@ -0,0 +1,127 @@
+/*
+ * Certain portions of this software are Copyright (C) 2006-present
+ * Vanderbilt University, Institute for Software Integrated Systems.
+ *
+ * Certain portions of this software are contributed as a public service by
+ * The National Institute of Standards and Technology (NIST) and are not
+ * subject to U.S. Copyright.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above Vanderbilt University copyright notice, NIST contribution
+ * notice and this permission and disclaimer notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE. THE AUTHORS OR COPYRIGHT HOLDERS SHALL NOT HAVE
+ * ANY OBLIGATION TO PROVIDE MAINTENANCE, SUPPORT, UPDATES, ENHANCEMENTS,
+ * OR MODIFICATIONS.
+ */
+package edu.vanderbilt.vuisis.cpswt.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+public class CopyOnWriteHashSetTests {
+
+    @Test
+    public void readWriteTest() {
+        CopyOnWriteHashSet<String> copyOnWriteHashSet = new CopyOnWriteHashSet<>();
+        Assert.assertTrue(copyOnWriteHashSet.isEmpty());
+
+        Assert.assertTrue(copyOnWriteHashSet.add("one"));
+        Assert.assertFalse(copyOnWriteHashSet.add("one"));
+        Assert.assertTrue(copyOnWriteHashSet.addAll(Arrays.asList("two", "three", "four")));
+        Assert.assertFalse(copyOnWriteHashSet.addAll(Arrays.asList("two", "three")));
+        Assert.assertEquals(4, copyOnWriteHashSet.size());
+        Assert.assertTrue(copyOnWriteHashSet.contains("three"));
+
+        Assert.assertTrue(copyOnWriteHashSet.remove("four"));
+        Assert.assertFalse(copyOnWriteHashSet.remove("four"));
+
+        Assert.assertTrue(copyOnWriteHashSet.removeAll(Arrays.asList("three", "five")));
+        Assert.assertFalse(copyOnWriteHashSet.removeAll(Arrays.asList("three", "five")));
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("one", "two")), copyOnWriteHashSet);
+
+        Assert.assertTrue(copyOnWriteHashSet.retainAll(Arrays.asList("two")));
+        Assert.assertFalse(copyOnWriteHashSet.retainAll(Arrays.asList("two")));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("two")), copyOnWriteHashSet);
+        Assert.assertEquals(copyOnWriteHashSet, new CopyOnWriteHashSet<>(Arrays.asList("two")));
+
+        copyOnWriteHashSet.clear();
+        Assert.assertTrue(copyOnWriteHashSet.isEmpty());
+    }
+
+    @Test
+    public void snapshotTest() {
+        CopyOnWriteHashSet<String> copyOnWriteHashSet = new CopyOnWriteHashSet<>(Arrays.asList("one", "two"));
+
+        // A SNAPSHOT, AND AN ITERATION, ARE NOT CHANGED BY LATER WRITES, AND DO NOT THROW
+        // ConcurrentModificationException
+        Set<String> snapshot = copyOnWriteHashSet.snapshot();
+        List<String> elementList = new ArrayList<>();
+        for(String element: copyOnWriteHashSet) {
+            elementList.add(element);
+            copyOnWriteHashSet.add(element + "-copy");
+        }
+        Assert.assertEquals(2, elementList.size());
+        Assert.assertEquals(2, snapshot.size());
+        Assert.assertEquals(4, copyOnWriteHashSet.size());
+
+        // ITERATORS AND SNAPSHOTS ARE READ-ONLY
+        Iterator<String> iterator = copyOnWriteHashSet.iterator();
+        iterator.next();
+        try {
+            iterator.remove();
+            Assert.fail("iterator should be read-only");
+        } catch (UnsupportedOperationException e) { }
+        try {
+            snapshot.add("three");
+            Assert.fail("snapshot should be read-only");
+        } catch (UnsupportedOperationException e) { }
+    }
+
+    @Test
+    public void concurrentWriteTest() throws InterruptedException {
+        final int numberOfThreads = 4;
+        final int numberOfAdds = 1000;
+
+        CopyOnWriteHashSet<Integer> copyOnWriteHashSet = new CopyOnWriteHashSet<>();
+        List<Thread> threadList = new ArrayList<>();
+        for(int ix = 0 ; ix < numberOfThreads ; ++ix) {
+            final int offset = ix * numberOfAdds;
+            Thread thread = new Thread(() -> {
+                for(int jx = 0 ; jx < numberOfAdds ; ++jx) {
+                    copyOnWriteHashSet.add(offset + jx);
+                    Assert.assertTrue(copyOnWriteHashSet.contains(offset + jx));
+                }
+            });
+            threadList.add(thread);
+            thread.start();
+        }
+        for(Thread thread: threadList) {
+            thread.join(10000);
+        }
+
+        // NO WRITE IS LOST
+        Assert.assertEquals(numberOfThreads * numberOfAdds, copyOnWriteHashSet.size());
+    }
+}
@@ -69,7 +69,7 @@ public class PingCounter extends PingCounterBase {
     private void checkReceivedSubscriptions() {
 
         ObjectReflector reflector;
-        while ((reflector = getNextObjectReflectorNoWait()) != null) {
+        while ((reflector = nextObjectReflectorNoWait()) != null) {
             reflector.reflect();
             ObjectRoot objectRoot = reflector.getObjectRoot();
 
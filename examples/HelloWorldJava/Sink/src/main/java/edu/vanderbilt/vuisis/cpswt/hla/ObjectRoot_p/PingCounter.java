@@ -31,6 +31,7 @@
 package edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot_p;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
@@ -185,10 +186,16 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
         // IN ObjectRoot
         _allClassNamePropertyNameSetMap.put(get_hla_class_name(), allClassAndPropertyNameSet);
 
+        // THE INITIAL VALUES ARE ADDED TO _classAndPropertyNameInitialValueMap DEFINED IN ObjectRoot WITH ONE
+        // putAll, AS EACH WRITE TO THAT COPY-ON-WRITE MAP COPIES IT
+        Map<ClassAndPropertyName, Object> classAndPropertyNameInitialValueMap = new HashMap<>();
+
         ClassAndPropertyName key;
 
         key = new ClassAndPropertyName(get_hla_class_name(), "pingCount");
-        _classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
+        classAndPropertyNameInitialValueMap.put(key, new Attribute<>(0));
+
+        _classAndPropertyNameInitialValueMap.putAll(classAndPropertyNameInitialValueMap);
 
         commonInit(get_hla_class_name());
 
@@ -443,16 +450,26 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
     //------------------------------
 
 
+    private static final ClassAndPropertyName _pingCount_key =
+      new ClassAndPropertyName(get_hla_class_name(), "pingCount");
+
     /**
      * Set the value of the "pingCount" parameter to "value" for this parameter.
      *
      * @param value the new value for the "pingCount" parameter
      */
+    public void set_pingCount(int value) {
+        setInt(_pingCount_key, value);
+    }
+
+    /**
+     * Set the value of the "pingCount" parameter to "value" for this parameter.  Kept for source compatibility with
+     * callers that pass a boxed value:  set_pingCount(int) does not box it.
+     *
+     * @param value the new value for the "pingCount" parameter
+     */
     public void set_pingCount(Integer value) {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "pingCount");
-        Attribute<Object> attribute = (Attribute<Object>)classAndPropertyNameValueMap.get(key);
-        attribute.setValue(value);
-        attribute.setTime(getTime());
+        set_pingCount(value.intValue());
     }
 
     /**
@@ -461,8 +478,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the value of the "pingCount" parameter
      */
     public int get_pingCount() {
-        ClassAndPropertyName key = new ClassAndPropertyName(get_hla_class_name(), "pingCount");
-        return (int)((Attribute<Object>)classAndPropertyNameValueMap.get(key)).getValue();
+        return getInt(_pingCount_key);
     }
 
     /**
@@ -471,9 +487,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
      * @return the current timestamp of the "pingCount" attribute
      */
     public double get_pingCount_time() {
-        return ((Attribute<Object>)classAndPropertyNameValueMap.get(
-          new ClassAndPropertyName(get_hla_class_name(), "pingCount")
-        )).getTime();
+        return ((Attribute<Object>)classAndPropertyNameValueMap.get(_pingCount_key)).getTime();
     }
 
     //----------------------------------
@@ -628,7 +642,7 @@ public class PingCounter extends edu.vanderbilt.vuisis.cpswt.hla.ObjectRoot {
     public PingCounter(PingCounter messaging_var) {
     
         // SHALLOW COPY
-        classAndPropertyNameValueMap = new HashMap<>(messaging_var.classAndPropertyNameValueMap);
+        classAndPropertyNameValueMap = copy_class_and_property_name_value_map(messaging_var.classAndPropertyNameValueMap);
 
         // DEEP(ER) COPY FOR OBJECTS
         for(ClassAndPropertyName key: classAndPropertyNameValueMap.keySet()) {
@@ -79,7 +79,7 @@ public class Sink extends SinkBase {
     private void checkReceivedSubscriptions() {
 
         InteractionRoot interactionRoot;
-        while ((interactionRoot = getNextInteractionNoWait()) != null) {
+        while ((interactionRoot = nextInteractionNoWait()) != null) {
         
             if (interactionRoot.isInstanceHlaClassDerivedFromHlaClass("InteractionRoot.C2WInteractionRoot.Ping")) {
 